@@ -0,0 +1,77 @@
+package likelion.bibly.domain.assignment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import likelion.bibly.domain.assignment.dto.CycleRange;
+import likelion.bibly.domain.assignment.entity.ReadingAssignment;
+
+/**
+ * 현재 회차 계산 벤치마크
+ * 모임원 8명 기준으로 재시작이 반복되어 배정 목록이 길어질 때의 비용을 측정합니다.
+ * 현재 시각은 전체 회차의 한가운데에 위치합니다.
+ * (비교 기준: 모든 배정을 훑는 이전 방식 / CycleSchedule은 배정 수와 무관)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CurrentCycleBenchmark {
+
+	private static final int MEMBER_COUNT = 8;
+	private static final int READING_PERIOD = 14;
+
+	// 라운드 수 (라운드당 8회차 x 8명 = 64건)
+	@Param({"1", "4", "16"})
+	private int rounds;
+
+	private List<ReadingAssignment> assignments;
+	private CycleSchedule schedule;
+
+	@Setup
+	public void setUp() {
+		int cycles = rounds * MEMBER_COUNT;
+		LocalDateTime firstStart = LocalDateTime.now().minusDays((long)READING_PERIOD * cycles / 2);
+
+		assignments = new ArrayList<>(cycles * MEMBER_COUNT);
+		for (int cycle = 1; cycle <= cycles; cycle++) {
+			LocalDateTime startDate = firstStart.plusDays((long)READING_PERIOD * (cycle - 1));
+			for (int member = 0; member < MEMBER_COUNT; member++) {
+				assignments.add(ReadingAssignment.builder()
+					.cycleNumber(cycle)
+					.startDate(startDate)
+					.endDate(startDate.plusDays(READING_PERIOD))
+					.build());
+			}
+		}
+
+		schedule = CycleSchedule.from(new CycleRange(1, cycles, firstStart,
+			firstStart.plusDays((long)READING_PERIOD * cycles)));
+	}
+
+	@Benchmark
+	public Integer scanAssignments() {
+		LocalDateTime now = LocalDateTime.now();
+
+		return assignments.stream()
+			.filter(a -> !now.isBefore(a.getStartDate()) && !now.isAfter(a.getEndDate()))
+			.map(ReadingAssignment::getCycleNumber)
+			.findFirst()
+			.orElse(1);
+	}
+
+	@Benchmark
+	public int cycleSchedule() {
+		return schedule.currentCycle(LocalDateTime.now());
+	}
+}
@@ -0,0 +1,140 @@
+package likelion.bibly.domain.book.repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import likelion.bibly.BiblyApplication;
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.group.entity.Group;
+import likelion.bibly.domain.group.repository.GroupRepository;
+import likelion.bibly.domain.member.entity.Member;
+import likelion.bibly.domain.member.enums.MemberRole;
+import likelion.bibly.domain.member.enums.MemberStatus;
+import likelion.bibly.domain.member.repository.MemberRepository;
+
+/**
+ * 목록/모임원 조회 요청당 할당량 비교 벤치마크 (-prof gc 의 gc.alloc.rate.norm 확인)
+ * entity*: 기존 방식 (엔티티 전체 로딩 + 스냅샷 생성 후 DTO 변환)
+ * projection*: 생성자 프로젝션 (DTO에 필요한 컬럼만 조회)
+ *
+ * H2 인메모리 DB로 애플리케이션 컨텍스트(웹 서버 제외)를 띄워 실제 리포지토리로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogQueryBenchmark {
+
+	private static final int BOOK_COUNT = 200;
+	private static final int MEMBER_COUNT = 8;
+
+	private ConfigurableApplicationContext context;
+	private BookRepository bookRepository;
+	private MemberRepository memberRepository;
+	private EntityManager entityManager;
+	private TransactionTemplate readOnlyTransaction;
+	private Long groupId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BiblyApplication.class)
+			.web(WebApplicationType.NONE)
+			.properties(
+				"spring.datasource.url=jdbc:h2:mem:catalog;DB_CLOSE_DELAY=-1",
+				"spring.datasource.username=sa",
+				"spring.datasource.password=",
+				"spring.jpa.hibernate.ddl-auto=create-drop",
+				"logging.level.root=WARN")
+			.run();
+		bookRepository = context.getBean(BookRepository.class);
+		memberRepository = context.getBean(MemberRepository.class);
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+			context.getBean(EntityManagerFactory.class));
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+
+		// 목록에 쓰이지 않는 설명 컬럼까지 채워 엔티티 로딩 비용을 실제와 비슷하게 맞춤
+		for (int i = 0; i < BOOK_COUNT; i++) {
+			bookRepository.save(Book.builder()
+				.title("Book " + i)
+				.author("Author " + i)
+				.genre("Fiction")
+				.publisher("Publisher")
+				.description("description ".repeat(150))
+				.coverUrl("https://example.com/covers/" + i + ".jpg")
+				.build());
+		}
+
+		Group group = context.getBean(GroupRepository.class).save(Group.builder()
+			.groupName("benchmark")
+			.readingPeriod(14)
+			.inviteCode("0000")
+			.build());
+		groupId = group.getGroupId();
+		for (int i = 0; i < MEMBER_COUNT; i++) {
+			memberRepository.save(Member.builder()
+				.group(group)
+				.userId("user-" + i)
+				.nickname("member" + i)
+				.color("COLOR" + i)
+				.role(i == 0 ? MemberRole.LEADER : MemberRole.MEMBER)
+				.build());
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<BookSimpleResponse> entityCatalog() {
+		// 기존 findTop20ByOrderByCreatedAtDesc()와 같은 쿼리 (엔티티 20개 로딩)
+		return readOnlyTransaction.execute(status -> entityManager
+			.createQuery("SELECT b FROM Book b ORDER BY b.createdAt DESC", Book.class)
+			.setMaxResults(20)
+			.getResultStream()
+			.map(BookSimpleResponse::new)
+			.toList());
+	}
+
+	@Benchmark
+	public List<BookSimpleResponse> projectionCatalog() {
+		return readOnlyTransaction.execute(status -> bookRepository.findNewBooks(Limit.of(20)));
+	}
+
+	@Benchmark
+	public List<String> entityRoster() {
+		return readOnlyTransaction.execute(status -> memberRepository
+			.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE).stream()
+			.map(member -> member.getNickname() + member.getColor() + (member.getSelectedBookId() != null))
+			.toList());
+	}
+
+	@Benchmark
+	public List<String> projectionRoster() {
+		return readOnlyTransaction.execute(status -> memberRepository
+			.findSummariesByGroupIdAndStatus(groupId, MemberStatus.ACTIVE).stream()
+			.map(member -> member.nickname() + member.color() + (member.selectedBookId() != null))
+			.toList());
+	}
+}
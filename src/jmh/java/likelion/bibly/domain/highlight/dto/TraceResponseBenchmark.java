@@ -0,0 +1,82 @@
+package likelion.bibly.domain.highlight.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import likelion.bibly.domain.bookshelf.dto.TraceItemResponse;
+import likelion.bibly.domain.comment.entity.Comment;
+import likelion.bibly.domain.comment.enums.AnnotationType;
+import likelion.bibly.domain.comment.enums.Visibility;
+import likelion.bibly.domain.highlight.entity.Highlight;
+import likelion.bibly.domain.member.entity.Member;
+import likelion.bibly.domain.session.entity.ReadingSession;
+
+/**
+ * 흔적(하이라이트 + 코멘트) 응답 DTO 변환 벤치마크
+ * 하이라이트 하나에 달린 코멘트 수에 따른 TraceItemResponse / HighlightResponse 생성 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceResponseBenchmark {
+
+	@Param({"0", "5", "50"})
+	private int commentCount;
+
+	private Highlight highlight;
+	private List<Comment> comments;
+
+	@Setup
+	public void setUp() {
+		Member member = Member.builder()
+			.userId("bench-user")
+			.nickname("벤치")
+			.color("RED")
+			.build();
+		ReadingSession session = ReadingSession.builder()
+			.member(member)
+			.build();
+
+		highlight = Highlight.builder()
+			.session(session)
+			.member(member)
+			.textSentence("It is a truth universally acknowledged, that a single man in possession of a good fortune")
+			.color("RED")
+			.highlightedPage(12)
+			.startOffset(40)
+			.endOffset(130)
+			.build();
+
+		comments = new ArrayList<>(commentCount);
+		for (int i = 0; i < commentCount; i++) {
+			comments.add(Comment.builder()
+				.highlight(highlight)
+				.member(member)
+				.session(session)
+				.content("코멘트 " + i)
+				.visibility(Visibility.PUBLIC)
+				.annotationType(AnnotationType.values()[i % AnnotationType.values().length])
+				.build());
+		}
+	}
+
+	@Benchmark
+	public TraceItemResponse traceItemResponse() {
+		return new TraceItemResponse(highlight, comments, false, 42);
+	}
+
+	@Benchmark
+	public HighlightResponse highlightResponse() {
+		return new HighlightResponse(highlight, comments);
+	}
+}
@@ -0,0 +1,37 @@
+package likelion.bibly.domain.member.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 사용 가능한 색상 계산 벤치마크 (초대 코드 검증 시 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberColorUtilBenchmark {
+
+	@Param({"0", "4", "7"})
+	private int usedCount;
+
+	private List<String> usedColors;
+
+	@Setup
+	public void setUp() {
+		usedColors = MemberColorUtil.getAllColors().subList(0, usedCount);
+	}
+
+	@Benchmark
+	public List<String> getAvailableColors() {
+		return MemberColorUtil.getAvailableColors(usedColors);
+	}
+}
@@ -0,0 +1,119 @@
+package likelion.bibly.domain.page.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 페이지 저장 시간 비교 벤치마크 (책 한 권 = 2,000페이지)
+ * rowByRow: 기존 pageRepository.save()와 같은 방식 (IDENTITY, 행마다 INSERT 후 생성 키 조회)
+ * batched: PageContentJdbcRepository.insertPages (JDBC 배치)
+ *
+ * 기본은 H2 인메모리 DB이며, 로컬 MySQL 컨테이너로 측정하려면
+ * -Dbibly.jmh.jdbc-url="jdbc:mysql://localhost:3306/bibly?rewriteBatchedStatements=true"
+ * -Dbibly.jmh.jdbc-user=... -Dbibly.jmh.jdbc-password=... 를 지정합니다.
+ * 저장소에는 측정 결과를 기록하지 않았습니다. 배치 저장이 보장하는 것은 INSERT 실행 횟수가
+ * 페이지 수가 아닌 배치 수라는 점이며, 이는 PageContentJdbcRepositoryTest에서 검증합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PageInsertBenchmark {
+
+	private static final String CREATE_TABLE_SQL = """
+		CREATE TABLE IF NOT EXISTS page_content (
+			id BIGINT AUTO_INCREMENT PRIMARY KEY,
+			book_id BIGINT NOT NULL,
+			page_number INT NOT NULL,
+			content TEXT NOT NULL,
+			compressed_content BLOB
+		)
+		""";
+
+	private static final String CREATE_DICTIONARY_TABLE_SQL = """
+		CREATE TABLE IF NOT EXISTS page_dictionary (
+			book_id BIGINT PRIMARY KEY,
+			dictionary BLOB NOT NULL
+		)
+		""";
+
+	private static final String INSERT_SQL =
+		"INSERT INTO page_content (book_id, page_number, content) VALUES (?, ?, ?)";
+
+	private static final long BOOK_ID = 1L;
+
+	@Param({"2000"})
+	private int pageCount;
+
+	private SingleConnectionDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private PageContentJdbcRepository pageContentJdbcRepository;
+	private String pageText;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		dataSource = new SingleConnectionDataSource(
+			System.getProperty("bibly.jmh.jdbc-url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"),
+			System.getProperty("bibly.jmh.jdbc-user", "sa"),
+			System.getProperty("bibly.jmh.jdbc-password", ""),
+			true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute(CREATE_TABLE_SQL);
+		jdbcTemplate.execute(CREATE_DICTIONARY_TABLE_SQL);
+		pageContentJdbcRepository = new PageContentJdbcRepository(jdbcTemplate, false);
+		pageText = "x".repeat(560);
+	}
+
+	@Setup(Level.Invocation)
+	public void clearPages() {
+		pageContentJdbcRepository.deleteByBookId(BOOK_ID);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.execute("DROP TABLE page_content");
+		jdbcTemplate.execute("DROP TABLE page_dictionary");
+		dataSource.destroy();
+	}
+
+	@Benchmark
+	public long rowByRow() throws SQLException {
+		long lastId = 0;
+		Connection connection = dataSource.getConnection();
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+			for (int pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+				statement.setLong(1, BOOK_ID);
+				statement.setInt(2, pageNumber);
+				statement.setString(3, pageText);
+				statement.executeUpdate();
+				try (ResultSet keys = statement.getGeneratedKeys()) {
+					keys.next();
+					lastId = keys.getLong(1);
+				}
+			}
+		}
+		return lastId;
+	}
+
+	@Benchmark
+	public int batched() {
+		return pageContentJdbcRepository.insertPages(BOOK_ID, Collections.nCopies(pageCount, pageText).iterator());
+	}
+}
@@ -0,0 +1,60 @@
+package likelion.bibly.global.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 본문 검색 역색인 벤치마크
+ * PaginationBenchmark와 같은 생성 텍스트(400KB) 한 권으로 색인 생성 시간과,
+ * 흔한 단어 / 드문 단어 / 두 단어 AND 검색 시간을 측정합니다.
+ * (비교 기준: page_content.content LIKE 검색은 책의 모든 행을 읽음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InvertedIndexBenchmark {
+
+	private static final String[] ENGLISH_WORDS = {
+		"the", "of", "and", "a", "to", "in", "he", "was", "that", "it",
+		"his", "her", "with", "for", "had", "you", "Elizabeth", "Darcy", "morning", "letter"
+	};
+
+	@Param({"the", "letter", "darcy letter"})
+	private String query;
+
+	private List<String> pages;
+	private InvertedIndex index;
+	private List<String> terms;
+
+	@Setup
+	public void setUp() {
+		pages = new ArrayList<>();
+		Iterator<String> splitter = PaginationUtil.iteratePages(PaginationBenchmark.generate(ENGLISH_WORDS, 400_000));
+		splitter.forEachRemaining(pages::add);
+		index = build();
+		terms = InvertedIndex.tokenize(query);
+	}
+
+	@Benchmark
+	public InvertedIndex build() {
+		InvertedIndex.Builder builder = InvertedIndex.builder();
+		pages.forEach(builder::addPage);
+		return builder.build();
+	}
+
+	@Benchmark
+	public InvertedIndex.SearchResult search() {
+		return index.search(terms, 20);
+	}
+}
@@ -0,0 +1,143 @@
+package likelion.bibly.global.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 페이지 압축 저장 비용/효과 벤치마크
+ * 사전 크기별로 페이지 하나의 압축/해제 시간과, 압축하지 않은 페이지(UTF-8 디코딩만)의 읽기 시간을 비교하고
+ * 시작 시 코퍼스 전체의 저장 크기(원문 UTF-8 바이트 vs 압축 데이터 + 사전)를 출력합니다.
+ *
+ * -Dbibly.jmh.corpus-dir=<디렉터리> 를 주면 디렉터리 아래의 원문 파일 전체를 코퍼스로 사용합니다.
+ * (Gutendex 디스크 캐시를 쓰려면 src/main/resources/books/blobs, JSON 파일은 건너뜀)
+ * 없으면 PaginationBenchmark와 같은 생성 텍스트(400KB) 한 권을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageCompressionBenchmark {
+
+	private static final String[] ENGLISH_WORDS = {
+		"the", "of", "and", "a", "to", "in", "he", "was", "that", "it",
+		"his", "her", "with", "for", "had", "you", "Elizabeth", "Darcy", "morning", "letter"
+	};
+
+	// PageContentJdbcRepository.DEFAULT_BATCH_SIZE: 사전은 첫 INSERT 배치에서 만들어짐
+	private static final int DICTIONARY_SAMPLE_PAGES = 500;
+
+	@Param({"0", "4096", "16384"})
+	private int dictionaryBytes;
+
+	private final List<BookPages> books = new ArrayList<>();
+	private int bookCursor;
+	private int pageCursor;
+
+	@Setup
+	public void setUp() throws IOException {
+		for (String text : loadCorpus()) {
+			List<String> pages = new ArrayList<>();
+			Iterator<String> splitter = PaginationUtil.iteratePages(text);
+			while (splitter.hasNext()) {
+				pages.add(splitter.next());
+			}
+
+			byte[] dictionary = PageCompression.buildDictionary(
+				pages.subList(0, Math.min(DICTIONARY_SAMPLE_PAGES, pages.size())), dictionaryBytes);
+			List<byte[]> raw = new ArrayList<>(pages.size());
+			List<byte[]> compressed = new ArrayList<>(pages.size());
+			for (String page : pages) {
+				raw.add(page.getBytes(StandardCharsets.UTF_8));
+				compressed.add(PageCompression.compress(page, dictionary));
+			}
+			books.add(new BookPages(pages, raw, compressed, dictionary));
+		}
+		printStorageReport();
+	}
+
+	@Benchmark
+	public String readRawPage() {
+		BookPages book = nextBook();
+		return new String(book.raw().get(pageCursor), StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String decompressPage() {
+		BookPages book = nextBook();
+		return PageCompression.decompress(book.compressed().get(pageCursor), book.dictionary());
+	}
+
+	@Benchmark
+	public byte[] compressPage() {
+		BookPages book = nextBook();
+		return PageCompression.compress(book.pages().get(pageCursor), book.dictionary());
+	}
+
+	/**
+	 * 책을 돌아가며 페이지를 하나씩 넘김 (같은 페이지만 반복하지 않도록)
+	 */
+	private BookPages nextBook() {
+		bookCursor = (bookCursor + 1) % books.size();
+		BookPages book = books.get(bookCursor);
+		pageCursor = (pageCursor + 7) % book.pages().size();
+		return book;
+	}
+
+	private void printStorageReport() {
+		long rawBytes = 0;
+		long compressedBytes = 0;
+		long dictionaryTotal = 0;
+		int pageCount = 0;
+		for (BookPages book : books) {
+			rawBytes += book.raw().stream().mapToLong(bytes -> bytes.length).sum();
+			compressedBytes += book.compressed().stream().mapToLong(bytes -> bytes.length).sum();
+			dictionaryTotal += book.dictionary().length;
+			pageCount += book.pages().size();
+		}
+		System.out.printf("%n[page-compression] 책 %d권, %d페이지, 사전 %dB: "
+				+ "원문 %,dB -> 압축 %,dB + 사전 %,dB (%.2f배)%n",
+			books.size(), pageCount, dictionaryBytes, rawBytes, compressedBytes, dictionaryTotal,
+			(double)rawBytes / (compressedBytes + dictionaryTotal));
+	}
+
+	private static List<String> loadCorpus() throws IOException {
+		String corpusDir = System.getProperty("bibly.jmh.corpus-dir");
+		if (corpusDir == null) {
+			return List.of(PaginationBenchmark.generate(ENGLISH_WORDS, 400_000));
+		}
+
+		List<String> texts = new ArrayList<>();
+		try (Stream<Path> files = Files.walk(Path.of(corpusDir))) {
+			for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+				// Latin-1 원문도 있으므로 잘못된 바이트는 대체 문자로 읽음
+				String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+				// 디스크 캐시의 목록 JSON은 건너뜀
+				if (!text.isBlank() && !text.stripLeading().startsWith("{")) {
+					texts.add(text);
+				}
+			}
+		}
+		if (texts.isEmpty()) {
+			throw new IllegalStateException("코퍼스 디렉터리에 원문이 없습니다: " + corpusDir);
+		}
+		return texts;
+	}
+
+	private record BookPages(List<String> pages, List<byte[]> raw, List<byte[]> compressed, byte[] dictionary) {
+	}
+}
@@ -0,0 +1,90 @@
+package likelion.bibly.global.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 원문 페이지 분할 벤치마크
+ * 구텐베르크 장편 소설 한 권(약 400KB) 분량의 영문 / 한글 원문을 분할합니다.
+ * -Dbibly.jmh.corpus=<파일 경로> 를 주면 생성된 텍스트 대신 실제 원문 파일을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaginationBenchmark {
+
+	private static final String[] ENGLISH_WORDS = {
+		"the", "of", "and", "a", "to", "in", "he", "was", "that", "it",
+		"his", "her", "with", "for", "had", "you", "Elizabeth", "Darcy", "morning", "letter"
+	};
+	private static final String[] KOREAN_WORDS = {
+		"그는", "그녀의", "아침", "편지를", "읽었다", "그리고", "조용히", "창밖을", "바라보며", "말했다"
+	};
+
+	@Param({"ASCII", "KOREAN"})
+	private String charset;
+
+	@Param({"400000"})
+	private int length;
+
+	private String text;
+
+	@Setup
+	public void setUp() throws IOException {
+		String corpus = System.getProperty("bibly.jmh.corpus");
+		if ("ASCII".equals(charset) && corpus != null) {
+			text = Files.readString(Path.of(corpus), StandardCharsets.UTF_8);
+			return;
+		}
+		text = generate("ASCII".equals(charset) ? ENGLISH_WORDS : KOREAN_WORDS, length);
+	}
+
+	@Benchmark
+	public List<String> splitTextByDualLimit() {
+		return PaginationUtil.splitTextByDualLimit(text);
+	}
+
+	@Benchmark
+	public void iteratePages(Blackhole blackhole) {
+		Iterator<String> pages = PaginationUtil.iteratePages(text);
+		while (pages.hasNext()) {
+			blackhole.consume(pages.next());
+		}
+	}
+
+	/**
+	 * 단어 + 문장부호 + 문단 개행으로 이루어진 원문 생성 (고정 시드)
+	 */
+	static String generate(String[] words, int length) {
+		Random random = new Random(42);
+		StringBuilder sb = new StringBuilder(length + 16);
+		int wordsInSentence = 0;
+		while (sb.length() < length) {
+			sb.append(words[random.nextInt(words.length)]);
+			wordsInSentence++;
+			if (wordsInSentence > 8 && random.nextInt(6) == 0) {
+				sb.append(random.nextInt(5) == 0 ? ".\r\n\r\n" : ". ");
+				wordsInSentence = 0;
+			} else {
+				sb.append(random.nextInt(10) == 0 ? ", " : " ");
+			}
+		}
+		return sb.substring(0, length);
+	}
+}
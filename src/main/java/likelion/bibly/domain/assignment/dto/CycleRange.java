@@ -0,0 +1,14 @@
+package likelion.bibly.domain.assignment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 배정의 회차 범위 집계 프로젝션 (배정이 없으면 모든 값이 null)
+ */
+public record CycleRange(
+    Integer firstCycle,
+    Integer lastCycle,
+    LocalDateTime firstStartDate,
+    LocalDateTime lastEndDate
+) {
+}
@@ -12,7 +12,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reading_assignment")
+@Table(name = "reading_assignment", indexes = {
+	// 현재/다음 회차 배정 조회 (모임 + 회차)
+	@Index(name = "idx_reading_assignment_group_cycle", columnList = "group_id, cycle_number"),
+	// 모임원의 이후 회차 배정 조회 (모임 + 모임원 + 회차)
+	@Index(name = "idx_reading_assignment_group_member_cycle", columnList = "group_id, member_id, cycle_number")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReadingAssignment {
@@ -0,0 +1,74 @@
+package likelion.bibly.domain.assignment.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * reading_assignment 대량 저장용 JDBC 리포지토리
+ * ReadingAssignment는 IDENTITY 전략이라 JPA save()로는 행마다 INSERT가 나가므로,
+ * 교환독서 시작/재시작 때 만드는 전체 회차 배정은 JdbcTemplate batchUpdate 한 번으로 저장합니다.
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 multi-row INSERT로 변환됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReadingAssignmentJdbcRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO reading_assignment (book_id, group_id, member_id, cycle_number, start_date, end_date, created_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String SHIFT_DATES_SQL =
+		"UPDATE reading_assignment SET start_date = TIMESTAMPADD(DAY, ?, start_date), "
+			+ "end_date = TIMESTAMPADD(DAY, ?, end_date) WHERE group_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 배정 행을 한 번의 배치로 저장
+	 *
+	 * @return 저장한 배정 수
+	 */
+	public int insertAll(List<AssignmentRow> assignments) {
+		if (assignments.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime createdAt = LocalDateTime.now();
+		List<Object[]> rows = new ArrayList<>(assignments.size());
+		for (AssignmentRow assignment : assignments) {
+			rows.add(new Object[] {assignment.bookId(), assignment.groupId(), assignment.memberId(),
+				assignment.cycleNumber(), assignment.startDate(), assignment.endDate(), createdAt});
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+		return rows.size();
+	}
+
+	/**
+	 * 모임의 모든 배정 기간을 days일만큼 옮김 (음수면 과거로, UPDATE 한 번)
+	 * 영속성 컨텍스트를 거치지 않으므로 이미 읽은 배정 엔티티에는 반영되지 않습니다.
+	 *
+	 * @return 옮긴 배정 수
+	 */
+	public int shiftDates(Long groupId, int days) {
+		return jdbcTemplate.update(SHIFT_DATES_SQL, days, days, groupId);
+	}
+
+	/**
+	 * 저장할 배정 한 행 (엔티티를 만들지 않으므로 영속성 컨텍스트에 쌓이지 않음)
+	 */
+	public record AssignmentRow(
+		Long groupId,
+		Long memberId,
+		Long bookId,
+		int cycleNumber,
+		LocalDateTime startDate,
+		LocalDateTime endDate
+	) {
+	}
+}
@@ -1,7 +1,11 @@
 package likelion.bibly.domain.assignment.repository;
 
+import likelion.bibly.domain.assignment.dto.CycleRange;
 import likelion.bibly.domain.assignment.entity.ReadingAssignment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +18,47 @@ public interface ReadingAssignmentRepository extends JpaRepository<ReadingAssign
 
     Optional<ReadingAssignment> findByGroup_GroupIdAndCycleNumberOrderByCreatedAtDesc(Long groupId, Integer cycleNumber);
 
+    /**
+     * 모임 배정의 회차 범위 집계 (현재 회차 계산용, 배정 행을 읽지 않음)
+     */
+    @Query("SELECT new likelion.bibly.domain.assignment.dto.CycleRange("
+            + "MIN(a.cycleNumber), MAX(a.cycleNumber), MIN(a.startDate), MAX(a.endDate)) "
+            + "FROM ReadingAssignment a WHERE a.group.groupId = :groupId")
+    CycleRange findCycleRange(@Param("groupId") Long groupId);
+
+    /**
+     * 한 회차의 모든 배정 (group_id, cycle_number 인덱스 조회)
+     */
+    @EntityGraph(attributePaths = {"member", "book"})
+    List<ReadingAssignment> findByGroup_GroupIdAndCycleNumber(Long groupId, Integer cycleNumber);
+
+    /**
+     * 한 회차에서 모임원 한 명의 배정
+     */
+    @EntityGraph(attributePaths = {"book"})
+    Optional<ReadingAssignment> findByGroup_GroupIdAndCycleNumberAndMember_MemberId(
+            Long groupId, Integer cycleNumber, Long memberId);
+
+    /**
+     * 모임원 한 명의 fromCycle 회차부터의 배정 (회차 순)
+     */
+    @Query("SELECT a FROM ReadingAssignment a JOIN FETCH a.book "
+            + "WHERE a.group.groupId = :groupId AND a.member.memberId = :memberId AND a.cycleNumber >= :fromCycle "
+            + "ORDER BY a.cycleNumber")
+    List<ReadingAssignment> findMemberAssignmentsFromCycle(@Param("groupId") Long groupId,
+            @Param("memberId") Long memberId, @Param("fromCycle") Integer fromCycle);
+
+    /**
+     * 모임에서 한 책의 모든 회차 배정 (한줄평 조회용)
+     */
+    @EntityGraph(attributePaths = {"member"})
+    List<ReadingAssignment> findByGroup_GroupIdAndBook_BookId(Long groupId, Long bookId);
+
+    /**
+     * 모임의 마지막 회차 배정 하나 (재시작 시 다음 회차 번호/시작일 계산용)
+     */
+    Optional<ReadingAssignment> findTopByGroup_GroupIdOrderByCycleNumberDesc(Long groupId);
+
     List<ReadingAssignment> findByMember_MemberId(Long memberId);
 
     void deleteByGroup_GroupId(Long groupId);
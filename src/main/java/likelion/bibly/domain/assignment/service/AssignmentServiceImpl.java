@@ -5,6 +5,8 @@ import likelion.bibly.domain.assignment.dto.response.CurrentAssignmentResponse;
 import likelion.bibly.domain.assignment.dto.response.CurrentReadingBookResponse;
 import likelion.bibly.domain.assignment.dto.response.NextReadingBookResponse;
 import likelion.bibly.domain.assignment.entity.ReadingAssignment;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentJdbcRepository;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentJdbcRepository.AssignmentRow;
 import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
 import likelion.bibly.domain.book.entity.Book;
 import likelion.bibly.domain.book.repository.BookRepository;
@@ -23,7 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,48 +40,12 @@ import java.util.stream.Collectors;
 public class AssignmentServiceImpl implements AssignmentService {
 
 	private final ReadingAssignmentRepository assignmentRepository;
+	private final ReadingAssignmentJdbcRepository assignmentJdbcRepository;
 	private final GroupRepository groupRepository;
 	private final MemberRepository memberRepository;
 	private final BookRepository bookRepository;
     private final ProgressRepository progressRepository;
-
-	/**
-	 * 시간 기준으로 현재 진행 중인 회차 계산
-	 * 현재 시간이 속한 회차의 번호를 반환합니다.
-	 * 모든 회차 시작 전이면 첫 회차, 모든 회차 종료 후면 마지막 회차를 반환합니다.
-	 *
-	 * @param assignments 모든 배정 목록
-	 * @return 현재 회차 번호
-	 */
-	private Integer getCurrentCycle(List<ReadingAssignment> assignments) {
-		LocalDateTime now = LocalDateTime.now();
-
-		return assignments.stream()
-			.filter(a -> !now.isBefore(a.getStartDate()) && !now.isAfter(a.getEndDate()))
-			.map(ReadingAssignment::getCycleNumber)
-			.findFirst()
-			.orElseGet(() -> {
-				// 현재 진행 중인 회차가 없을 때
-				LocalDateTime firstStartDate = assignments.stream()
-					.map(ReadingAssignment::getStartDate)
-					.min(LocalDateTime::compareTo)
-					.orElse(LocalDateTime.now());
-
-				if (now.isBefore(firstStartDate)) {
-					// 모든 회차 시작 전 → 첫 회차 반환
-					return assignments.stream()
-						.map(ReadingAssignment::getCycleNumber)
-						.min(Integer::compareTo)
-						.orElse(1);
-				} else {
-					// 모든 회차 종료 후 → 마지막 회차 반환
-					return assignments.stream()
-						.map(ReadingAssignment::getCycleNumber)
-						.max(Integer::compareTo)
-						.orElse(1);
-				}
-			});
-	}
+	private final CycleScheduleCache cycleScheduleCache;
 
 	/**
 	 * G.1.1 한줄평 등록
@@ -120,14 +89,10 @@ public class AssignmentServiceImpl implements AssignmentService {
 		Member member = memberRepository.findByGroup_GroupIdAndUserId(groupId, userId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-		List<ReadingAssignment> assignments = assignmentRepository.findByGroup_GroupId(groupId);
+		int currentCycle = cycleScheduleCache.currentCycle(groupId);
 
-		Integer currentCycle = getCurrentCycle(assignments);
-
-		ReadingAssignment currentAssignment = assignments.stream()
-			.filter(a -> a.getMember().getMemberId().equals(member.getMemberId()))
-			.filter(a -> a.getCycleNumber().equals(currentCycle))
-			.findFirst()
+		ReadingAssignment currentAssignment = assignmentRepository
+			.findByGroup_GroupIdAndCycleNumberAndMember_MemberId(groupId, currentCycle, member.getMemberId())
 			.orElseThrow(() -> new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND));
 
 		return AssignmentResponse.from(currentAssignment);
@@ -150,13 +115,7 @@ public class AssignmentServiceImpl implements AssignmentService {
 
 		List<Member> activeMembers = memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE);
 
-		List<ReadingAssignment> allAssignments = assignmentRepository.findByGroup_GroupId(groupId);
-
-		Integer currentCycle = getCurrentCycle(allAssignments);
-
-		List<ReadingAssignment> currentAssignments = allAssignments.stream()
-			.filter(a -> a.getCycleNumber().equals(currentCycle))
-			.toList();
+		int currentCycle = cycleScheduleCache.currentCycle(groupId);
 
 		List<CurrentAssignmentResponse.MemberAssignmentInfo> memberAssignments = activeMembers.stream()
 			.map(member -> {
@@ -204,17 +163,10 @@ public class AssignmentServiceImpl implements AssignmentService {
 	@Override
 	@Transactional
 	public void createInitialAssignments(Long groupId, Integer readingPeriod) {
-		List<Member> members = memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE).stream()
-			.sorted((m1, m2) -> m1.getMemberId().compareTo(m2.getMemberId()))
-			.collect(Collectors.toList());
-		int memberCount = members.size();
+		List<Member> members = findSortedActiveMembers(groupId);
 
-		// 각 회차의 시작일을 계산하며 모든 회차 생성
-		LocalDateTime currentStartDate = LocalDateTime.now();
-		for (int cycle = 1; cycle <= memberCount; cycle++) {
-			createCycleAssignments(groupId, readingPeriod, cycle, currentStartDate);
-			currentStartDate = currentStartDate.plusDays(readingPeriod);
-		}
+		createSchedule(groupId, members, readingPeriod, 1, LocalDateTime.now());
+		cycleScheduleCache.evict(groupId);
 	}
 
 	/**
@@ -227,77 +179,86 @@ public class AssignmentServiceImpl implements AssignmentService {
 	@Override
 	@Transactional
 	public void createAdditionalAssignments(Long groupId, Integer readingPeriod) {
-		List<ReadingAssignment> existingAssignments = assignmentRepository.findByGroup_GroupId(groupId);
-
-		// 기존 최대 회차 번호 찾기
-		Integer maxCycleNumber = existingAssignments.stream()
-			.map(ReadingAssignment::getCycleNumber)
-			.max(Integer::compareTo)
-			.orElse(0);
-
-		// 마지막 회차의 종료일 찾기 (다음 회차 시작일 계산용)
-		LocalDateTime nextStartDate = existingAssignments.stream()
-			.filter(a -> a.getCycleNumber().equals(maxCycleNumber))
-			.map(ReadingAssignment::getEndDate)
-			.findFirst()
-			.orElse(LocalDateTime.now());
+		// 기존 마지막 회차의 배정 하나 (최대 회차 번호와 다음 회차 시작일 계산용)
+		Optional<ReadingAssignment> lastAssignment =
+			assignmentRepository.findTopByGroup_GroupIdOrderByCycleNumberDesc(groupId);
+		int maxCycleNumber = lastAssignment.map(ReadingAssignment::getCycleNumber).orElse(0);
+		LocalDateTime nextStartDate = lastAssignment.map(ReadingAssignment::getEndDate).orElse(LocalDateTime.now());
+
+		// 현재 활성 모임원 수만큼 새로운 회차 생성 (예: 기존 1~4회차 → 5~8회차 추가)
+		List<Member> activeMembers = findSortedActiveMembers(groupId);
 
-		// 현재 활성 모임원 수만큼 새로운 회차 생성
-		List<Member> activeMembers = memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE).stream()
+		createSchedule(groupId, activeMembers, readingPeriod, maxCycleNumber + 1, nextStartDate);
+		cycleScheduleCache.evict(groupId);
+	}
+
+	private List<Member> findSortedActiveMembers(Long groupId) {
+		return memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE).stream()
 			.sorted((m1, m2) -> m1.getMemberId().compareTo(m2.getMemberId()))
 			.collect(Collectors.toList());
-		int memberCount = activeMembers.size();
-
-		// 다음 회차부터 생성 (예: 기존 1~4회차 → 5~8회차 추가)
-		LocalDateTime currentStartDate = nextStartDate;
-		for (int i = 1; i <= memberCount; i++) {
-			int cycleNumber = maxCycleNumber + i;
-			createCycleAssignments(groupId, readingPeriod, cycleNumber, currentStartDate);
-			currentStartDate = currentStartDate.plusDays(readingPeriod);
-		}
 	}
 
 	/**
-	 * 회차별 배정 생성 (공통 로직)
+	 * 모임원 수만큼의 회차 배정을 한 번에 생성 (공통 로직)
+	 * 모임과 선택된 책은 회차와 상관없이 한 번씩만 확인하고, 전체 순환표를 메모리에서 계산한 뒤
+	 * 한 번의 배치 INSERT로 저장하므로 실행되는 쿼리 수는 모임원 수와 무관합니다.
 	 *
 	 * @param groupId 모임 ID
+	 * @param members 회원 ID 순 활성 모임원
 	 * @param readingPeriod 독서 기간 (일)
-	 * @param cycleNumber 회차 번호
-	 * @param startDate 회차 시작일
+	 * @param firstCycle 첫 회차 번호
+	 * @param firstStartDate 첫 회차 시작일
 	 */
-	private void createCycleAssignments(Long groupId, Integer readingPeriod, Integer cycleNumber, LocalDateTime startDate) {
-		List<Member> members = memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE).stream()
-			.sorted((m1, m2) -> m1.getMemberId().compareTo(m2.getMemberId()))
-			.collect(Collectors.toList());
+	private void createSchedule(Long groupId, List<Member> members, Integer readingPeriod, int firstCycle,
+		LocalDateTime firstStartDate) {
+		if (members.isEmpty()) {
+			return;
+		}
 
-		Group group = groupRepository.findById(groupId)
-			.orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+		if (!groupRepository.existsById(groupId)) {
+			throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+		}
+
+		// 모임원이 선택한 책이 모두 있는지 한 번의 IN 조회로 확인
+		List<Long> selectedBookIds = members.stream()
+			.map(Member::getSelectedBookId)
+			.toList();
+		if (selectedBookIds.contains(null)) {
+			throw new BusinessException(ErrorCode.BOOK_NOT_FOUND);
+		}
+		Set<Long> existingBookIds = bookRepository.findAllById(Set.copyOf(selectedBookIds)).stream()
+			.map(Book::getBookId)
+			.collect(Collectors.toSet());
+		if (!existingBookIds.containsAll(selectedBookIds)) {
+			throw new BusinessException(ErrorCode.BOOK_NOT_FOUND);
+		}
+
+		assignmentJdbcRepository.insertAll(
+			buildRotation(groupId, members, readingPeriod, firstCycle, firstStartDate));
+	}
 
-		// 회차 종료일 설정
-		LocalDateTime endDate = startDate.plusDays(readingPeriod);
-
-		// 각 멤버에게 다른 멤버가 선택한 책 배정
-		// cycleNumber에 따라 순환 위치 조정
-		for (int i = 0; i < members.size(); i++) {
-			Member member = members.get(i);
-			int bookOwnerIndex = (i + cycleNumber) % members.size();
-			Member bookOwner = members.get(bookOwnerIndex);
-
-			Book book = bookRepository.findById(bookOwner.getSelectedBookId())
-				.orElseThrow(() -> new BusinessException(ErrorCode.BOOK_NOT_FOUND));
-
-			// 배정 생성
-			ReadingAssignment assignment = ReadingAssignment.builder()
-				.book(book)
-				.group(group)
-				.member(member)
-				.cycleNumber(cycleNumber)
-				.startDate(startDate)
-				.endDate(endDate)
-				.build();
-
-			assignmentRepository.save(assignment);
+	/**
+	 * 모임원 수만큼의 회차 순환표 계산
+	 * cycleNumber 회차에 i번째 모임원은 (i + cycleNumber) % 모임원 수 번째 모임원이 선택한 책을 읽습니다.
+	 *
+	 * @return 회차 순, 회차 안에서는 모임원 순 배정 (모임원 수 x 모임원 수)
+	 */
+	static List<AssignmentRow> buildRotation(Long groupId, List<Member> members, Integer readingPeriod,
+		int firstCycle, LocalDateTime firstStartDate) {
+		int memberCount = members.size();
+		List<AssignmentRow> rows = new ArrayList<>(memberCount * memberCount);
+
+		LocalDateTime startDate = firstStartDate;
+		for (int cycleNumber = firstCycle; cycleNumber < firstCycle + memberCount; cycleNumber++) {
+			LocalDateTime endDate = startDate.plusDays(readingPeriod);
+			for (int i = 0; i < memberCount; i++) {
+				Member bookOwner = members.get((i + cycleNumber) % memberCount);
+				rows.add(new AssignmentRow(groupId, members.get(i).getMemberId(), bookOwner.getSelectedBookId(),
+					cycleNumber, startDate, endDate));
+			}
+			startDate = endDate;
 		}
+		return rows;
 	}
 
 	/**
@@ -316,13 +277,13 @@ public class AssignmentServiceImpl implements AssignmentService {
 		Member member = memberRepository.findByGroup_GroupIdAndUserId(groupId, userId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-		List<ReadingAssignment> allAssignments = assignmentRepository.findByGroup_GroupId(groupId);
+		int currentCycle = cycleScheduleCache.currentCycle(groupId);
 
-		Integer currentCycle = getCurrentCycle(allAssignments);
+		// 현재 회차부터의 내 배정 (첫 번째가 현재 배정)
+		List<ReadingAssignment> myAssignments =
+			assignmentRepository.findMemberAssignmentsFromCycle(groupId, member.getMemberId(), currentCycle);
 
-		// 현재 배정 찾기
-		ReadingAssignment currentAssignment = allAssignments.stream()
-			.filter(a -> a.getMember().getMemberId().equals(member.getMemberId()))
+		ReadingAssignment currentAssignment = myAssignments.stream()
 			.filter(a -> a.getCycleNumber().equals(currentCycle))
 			.findFirst()
 			.orElseThrow(() -> new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND));
@@ -342,10 +303,8 @@ public class AssignmentServiceImpl implements AssignmentService {
 
 
         // ... (앞으로 읽을 책들 조회 로직) ...
-        List<CurrentReadingBookResponse.UpcomingBook> upcomingBooks = allAssignments.stream()
-                .filter(a -> a.getMember().getMemberId().equals(member.getMemberId()))
+        List<CurrentReadingBookResponse.UpcomingBook> upcomingBooks = myAssignments.stream()
                 .filter(a -> a.getCycleNumber() > currentCycle)
-                .sorted((a1, a2) -> a1.getCycleNumber().compareTo(a2.getCycleNumber()))
                 .map(a -> CurrentReadingBookResponse.UpcomingBook.builder()
                         .bookId(a.getBook().getBookId())
                         .coverImageUrl(a.getBook().getCoverUrl())
@@ -381,25 +340,24 @@ public class AssignmentServiceImpl implements AssignmentService {
 		Member member = memberRepository.findByGroup_GroupIdAndUserId(groupId, userId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-		List<ReadingAssignment> allAssignments = assignmentRepository.findByGroup_GroupId(groupId);
-
-		Integer currentCycle = getCurrentCycle(allAssignments);
+		int currentCycle = cycleScheduleCache.currentCycle(groupId);
 
-		Integer nextCycle = currentCycle + 1;
+		int nextCycle = currentCycle + 1;
 
 		// 다음 회차에서 내가 읽을 책 찾기
-		ReadingAssignment nextAssignment = allAssignments.stream()
-			.filter(a -> a.getMember().getMemberId().equals(member.getMemberId()))
-			.filter(a -> a.getCycleNumber().equals(nextCycle))
-			.findFirst()
+		ReadingAssignment nextAssignment = assignmentRepository
+			.findByGroup_GroupIdAndCycleNumberAndMember_MemberId(groupId, nextCycle, member.getMemberId())
 			.orElseThrow(() -> new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND));
 
 		Book nextBook = nextAssignment.getBook();
 
+		// 이 책의 모든 회차 배정 (현재 독자와 한줄평)
+		List<ReadingAssignment> bookAssignments =
+			assignmentRepository.findByGroup_GroupIdAndBook_BookId(groupId, nextBook.getBookId());
+
 		// 현재 회차에서 이 책을 읽고 있는 사람 찾기
-		ReadingAssignment currentReaderAssignment = allAssignments.stream()
+		ReadingAssignment currentReaderAssignment = bookAssignments.stream()
 			.filter(a -> a.getCycleNumber().equals(currentCycle))
-			.filter(a -> a.getBook().getBookId().equals(nextBook.getBookId()))
 			.findFirst()
 			.orElse(null);
 
@@ -408,8 +366,7 @@ public class AssignmentServiceImpl implements AssignmentService {
 			: "독서중인 모임원 없음";
 
 		// 이 책에 대한 모임원들의 한줄평 찾기 (모든 회차들에서)
-		List<NextReadingBookResponse.BookReview> reviews = allAssignments.stream()
-			.filter(a -> a.getBook().getBookId().equals(nextBook.getBookId()))
+		List<NextReadingBookResponse.BookReview> reviews = bookAssignments.stream()
 			.filter(a -> a.getReview() != null && !a.getReview().isEmpty())
 			.map(a -> NextReadingBookResponse.BookReview.builder()
 				.memberId(a.getMember().getMemberId())
@@ -0,0 +1,67 @@
+package likelion.bibly.domain.assignment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import likelion.bibly.domain.assignment.dto.CycleRange;
+
+/**
+ * 모임의 회차 일정 (배정 행 대신 쓰는 압축 표현)
+ *
+ * 배정은 시작/재시작 때 모임원 수만큼의 회차를 마지막 회차 종료일부터 같은 독서 기간으로 이어 붙여 만들고,
+ * 시간 점프도 모든 배정을 같은 만큼 옮기므로, 모든 라운드의 회차는 같은 길이로 빈틈없이 이어집니다.
+ * 따라서 첫 회차 번호/시작일, 회차 길이, 마지막 회차 번호만으로 임의 시각의 회차를 O(1)로 계산합니다.
+ *
+ * @param firstCycle 첫 회차 번호
+ * @param lastCycle 마지막 회차 번호
+ * @param firstStartDate 첫 회차 시작일
+ * @param cycleLength 회차 하나의 길이
+ */
+public record CycleSchedule(int firstCycle, int lastCycle, LocalDateTime firstStartDate, Duration cycleLength) {
+
+	/**
+	 * 회차 범위 집계로 일정 생성 (회차 길이 = 전체 기간 / 회차 수)
+	 */
+	public static CycleSchedule from(CycleRange range) {
+		int cycleCount = range.lastCycle() - range.firstCycle() + 1;
+		Duration cycleLength = Duration.between(range.firstStartDate(), range.lastEndDate()).dividedBy(cycleCount);
+		return new CycleSchedule(range.firstCycle(), range.lastCycle(), range.firstStartDate(), cycleLength);
+	}
+
+	/**
+	 * 마지막 회차 종료일
+	 */
+	public LocalDateTime endDate() {
+		return firstStartDate.plus(cycleLength.multipliedBy(lastCycle - firstCycle + 1L));
+	}
+
+	/**
+	 * 첫 회차가 시작되었는지
+	 */
+	public boolean isStarted(LocalDateTime now) {
+		return !now.isBefore(firstStartDate);
+	}
+
+	/**
+	 * 마지막 회차가 끝났는지 (종료일 당일까지는 진행 중)
+	 */
+	public boolean isFinished(LocalDateTime now) {
+		return now.isAfter(endDate());
+	}
+
+	/**
+	 * now가 속한 회차 번호
+	 * 모든 회차 시작 전이면 첫 회차, 모든 회차 종료 후면 마지막 회차를 반환합니다.
+	 */
+	public int currentCycle(LocalDateTime now) {
+		if (!isStarted(now)) {
+			return firstCycle;
+		}
+		if (cycleLength.isZero() || cycleLength.isNegative()) {
+			return lastCycle;
+		}
+
+		long elapsedCycles = Duration.between(firstStartDate, now).dividedBy(cycleLength);
+		return (int)Math.min(lastCycle, firstCycle + elapsedCycles);
+	}
+}
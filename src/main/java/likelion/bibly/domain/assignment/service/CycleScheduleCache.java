@@ -0,0 +1,130 @@
+package likelion.bibly.domain.assignment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import likelion.bibly.domain.assignment.dto.CycleRange;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
+
+/**
+ * 모임별 회차 일정 캐시
+ *
+ * 현재 회차를 구할 때마다 모임의 모든 배정(재시작한 라운드 포함)을 읽어 훑는 대신,
+ * 회차 범위를 집계 쿼리 한 번으로 읽어 CycleSchedule로 보관하고 현재 회차는 계산으로 구합니다.
+ * 마지막 회차가 끝난 일정과 ttl이 지난 일정은 다시 읽으므로, 다른 서버에서 재시작하거나
+ * 시간 점프로 배정을 옮겨도 ttl 안에 반영됩니다.
+ * 배정을 만들거나 옮기는 쪽은 evict로 이 서버의 캐시를 비우며, 제거는 트랜잭션이 커밋된 뒤에 일어납니다.
+ * 모임마다 세대 번호를 두어 제거 전에 시작한 조회 결과(커밋 전 일정)는 캐시에 넣지 않습니다.
+ */
+@Component
+public class CycleScheduleCache {
+
+	private final ReadingAssignmentRepository assignmentRepository;
+	private final long ttlNanos;
+
+	// 모임 ID -> 일정 (this로 동기화)
+	private final Map<Long, CachedSchedule> schedules = new HashMap<>();
+
+	// 모임 ID -> 세대 번호 (제거할 때마다 증가, this로 동기화)
+	private final Map<Long, Long> generations = new HashMap<>();
+
+	public CycleScheduleCache(
+		ReadingAssignmentRepository assignmentRepository,
+		@Value("${bibly.cycle-schedule-cache.ttl:1m}") Duration ttl) {
+		this.assignmentRepository = assignmentRepository;
+		this.ttlNanos = ttl.toNanos();
+	}
+
+	/**
+	 * 모임의 회차 일정 (배정이 없으면 empty)
+	 */
+	public Optional<CycleSchedule> find(Long groupId) {
+		long generation;
+		synchronized (this) {
+			CachedSchedule cached = schedules.get(groupId);
+			if (cached != null && !cached.isExpired(System.nanoTime(), ttlNanos)
+				&& !cached.schedule().isFinished(LocalDateTime.now())) {
+				return Optional.of(cached.schedule());
+			}
+			generation = generation(groupId);
+		}
+
+		Optional<CycleSchedule> schedule = load(groupId);
+		put(groupId, schedule.orElse(null), generation);
+		return schedule;
+	}
+
+	/**
+	 * 캐시를 거치지 않고 DB에서 회차 일정 조회 (배정을 바꾼 트랜잭션 안에서 바뀐 일정을 읽을 때 사용)
+	 */
+	public Optional<CycleSchedule> load(Long groupId) {
+		CycleRange range = assignmentRepository.findCycleRange(groupId);
+		if (range == null || range.firstCycle() == null) {
+			return Optional.empty();
+		}
+		return Optional.of(CycleSchedule.from(range));
+	}
+
+	/**
+	 * 시간 기준 현재 회차 번호 (배정이 없으면 1)
+	 */
+	public int currentCycle(Long groupId) {
+		return find(groupId)
+			.map(schedule -> schedule.currentCycle(LocalDateTime.now()))
+			.orElse(1);
+	}
+
+	/**
+	 * 모임의 배정이 바뀌었을 때 캐시 제거
+	 * 트랜잭션 안에서 호출하면 커밋된 뒤에 제거합니다. (커밋 전에 비우면 다른 요청이 이전 일정을 다시 넣을 수 있음)
+	 */
+	public void evict(Long groupId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictNow(groupId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictNow(groupId);
+			}
+		});
+	}
+
+	private synchronized void evictNow(Long groupId) {
+		generations.merge(groupId, 1L, Long::sum);
+		schedules.remove(groupId);
+	}
+
+	private synchronized long generation(Long groupId) {
+		return generations.getOrDefault(groupId, 0L);
+	}
+
+	private synchronized void put(Long groupId, CycleSchedule schedule, long generation) {
+		// 읽는 동안 배정이 바뀌었으면 이전 일정일 수 있으므로 저장하지 않음
+		if (generation != generation(groupId)) {
+			return;
+		}
+		if (schedule == null) {
+			schedules.remove(groupId);
+		} else {
+			schedules.put(groupId, new CachedSchedule(schedule, System.nanoTime()));
+		}
+	}
+
+	private record CachedSchedule(CycleSchedule schedule, long loadedAt) {
+
+		boolean isExpired(long now, long ttlNanos) {
+			return now - loadedAt >= ttlNanos;
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package likelion.bibly.domain.book.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,18 +11,32 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import likelion.bibly.domain.book.dto.request.BookSelectRequest;
 import likelion.bibly.domain.book.dto.response.BookDetailResponse;
+import likelion.bibly.domain.book.dto.response.BookGenreSearchResponse;
 import likelion.bibly.domain.book.dto.response.BookSelectResponse;
 import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.dto.response.PageContentResponse;
+import likelion.bibly.domain.book.dto.response.PagePositionResponse;
 import likelion.bibly.domain.book.service.BookService;
+import likelion.bibly.domain.page.service.VirtualPageService;
 import likelion.bibly.global.auth.AuthUser;
 import likelion.bibly.global.common.ApiResponse;
 import likelion.bibly.global.exception.ErrorResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "Book", description = "D. 책 고르기 API")
 @RestController
@@ -28,7 +44,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookController {
 
+	// ?v=가 현재 콘텐츠 버전과 같은 페이지 요청은 URL 자체가 버전이므로 불변 캐시
+	private static final Duration VERSIONED_MAX_AGE = Duration.ofDays(365);
+
 	private final BookService bookService;
+	private final ObjectMapper objectMapper;
+
+	// 콘텐츠 버전(ETag)이 있는 응답의 캐시 유지 시간 (만료 후에는 If-None-Match로 재검증)
+	@Value("${bibly.http-cache.page-max-age:1d}")
+	private Duration pageMaxAge = Duration.ofDays(1);
+
+	@Value("${bibly.http-cache.detail-max-age:1h}")
+	private Duration detailMaxAge = Duration.ofHours(1);
 
 	/**
 	 * D.1.1 새로 나온 책 목록 조회
@@ -93,6 +120,87 @@ public class BookController {
 		return ApiResponse.success(books);
 	}
 
+	/**
+	 * 책 제목/저자 자동 완성
+	 */
+	@Operation(
+		summary = "책 제목/저자 자동 완성",
+		description = """
+			입력 중인 검색어로 시작하는 단어가 제목이나 저자에 있는 책을 제안합니다.
+
+			**검색 규칙:**
+			- 대소문자와 악센트를 구분하지 않습니다 (예: "bronte" -> "Brontë")
+			- 제목/저자의 모든 단어 시작 위치에서 찾습니다 (예: "prej" -> "Pride and Prejudice")
+
+			**반환 정보:**
+			- 책 기본 정보 (책 ID, 제목, 저자, 표지 이미지)
+			- 인기도 순 최대 limit권 (최대 20권)
+			- 메모리 색인에서 응답하며, 새로 가져온 책은 가져오기가 끝난 뒤 반영됩니다
+			"""
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = BookSimpleResponse.class))
+		)
+	})
+	@GetMapping("/suggest")
+	public ApiResponse<List<BookSimpleResponse>> suggestBooks(
+		@Parameter(description = "입력 중인 검색어", example = "pride")
+		@RequestParam String prefix,
+		@Parameter(description = "최대 책 수 (최대 20)", example = "10")
+		@RequestParam(defaultValue = "10") int limit
+	) {
+		return ApiResponse.success(bookService.suggestBooks(prefix, limit));
+	}
+
+	/**
+	 * 장르로 책 목록 필터
+	 */
+	@Operation(
+		summary = "장르로 책 목록 필터",
+		description = """
+			장르(Gutendex 책장)로 책 목록을 거르고, 결과 안의 장르별 책 수를 함께 반환합니다.
+
+			**필터 규칙:**
+			- genre를 여러 번 지정할 수 있습니다 (예: genre=Fiction&genre=Science Fiction)
+			- match=all: 모든 장르에 속한 책 / match=any: 하나라도 속한 책
+			- 장르 이름은 대소문자를 구분하지 않으며 "Browsing: " 같은 책장 접두어는 무시합니다
+			- genre를 지정하지 않으면 전체 책
+
+			**반환 정보:**
+			- 조건에 맞는 전체 책 수
+			- 인기도 순 책 목록 (page, size로 페이지 지정, size 최대 100)
+			- 결과 안의 장르별 책 수 (다음 필터 선택용, 많은 순)
+			"""
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = BookGenreSearchResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "400",
+			description = "잘못된 match/page/size 값",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@GetMapping
+	public ApiResponse<BookGenreSearchResponse> getBooksByGenre(
+		@Parameter(description = "장르 (여러 번 지정 가능)", example = "Science Fiction")
+		@RequestParam(name = "genre", required = false) List<String> genres,
+		@Parameter(description = "all(모든 장르) 또는 any(하나라도)", example = "all")
+		@RequestParam(defaultValue = "all") String match,
+		@Parameter(description = "페이지 번호 (0부터)", example = "0")
+		@RequestParam(defaultValue = "0") int page,
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponse.success(bookService.getBooksByGenre(genres, match, page, size));
+	}
+
 	/**
 	 * D.2.1 책 상세 정보 조회
 	 */
@@ -111,6 +219,11 @@ public class BookController {
 			- 책 소개 (description)
 			- 표지 이미지 URL
 
+			- 콘텐츠 버전 (contentVersion, 페이지 조회 시 ?v= 로 사용)
+
+			**HTTP 캐시:**
+			- 콘텐츠 버전으로 만든 ETag를 반환하며, If-None-Match가 같으면 304를 반환합니다
+
 			**참고:**
 			- 선택 가능 여부는 '선택하기' 버튼 클릭 시점에 확인됩니다
 			"""
@@ -128,12 +241,27 @@ public class BookController {
 		)
 	})
 	@GetMapping("/{bookId}")
-	public ApiResponse<BookDetailResponse> getBookDetail(
+	public ResponseEntity<ApiResponse<BookDetailResponse>> getBookDetail(
 		@Parameter(description = "책 ID", example = "1")
-		@PathVariable Long bookId
+		@PathVariable Long bookId,
+		@Parameter(hidden = true) WebRequest webRequest
 	) {
+		Optional<String> eTag = bookService.getContentVersion(bookId).map(version -> "\"d-" + version + "\"");
+		CacheControl cacheControl = CacheControl.maxAge(detailMaxAge).mustRevalidate();
+
+		// 콘텐츠 버전이 같으면 상세 정보를 다시 만들지 않고 304 응답
+		if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).cacheControl(cacheControl).build();
+		}
+
 		BookDetailResponse response = bookService.getBookDetail(bookId);
-		return ApiResponse.success(response);
+		if (eTag.isEmpty()) {
+			return ResponseEntity.ok(ApiResponse.success(response));
+		}
+		return ResponseEntity.ok()
+			.eTag(eTag.get())
+			.cacheControl(cacheControl)
+			.body(ApiResponse.success(response));
 	}
 
 	/**
@@ -213,15 +341,172 @@ public class BookController {
             summary = "책 특정 페이지 내용 조회",
             description = """
 			프론트에서 페이지별로 책 내용을 로드 하기 위한 페이지 내용 조회 API입니다.
+
+			**HTTP 캐시:**
+			- 책의 콘텐츠 버전(원문 해시)을 ETag로 반환하며, If-None-Match가 같으면 304를 반환합니다
+			- v 파라미터에 책 상세 조회의 contentVersion을 넘기면 1년 불변(immutable) 캐시로 응답합니다
+			- 없는 페이지(B003)나 지원하지 않는 프로필(B004)은 If-None-Match와 관계없이 오류로 응답합니다
+
+			**페이지 크기 프로필:**
+			- profile 파라미터(예: tablet)를 주면 해당 프로필의 페이지 크기로 나눈 페이지를 반환합니다
+			- 생략하면 기본 프로필(564자 / 993바이트)입니다
 			"""
     )
     public ResponseEntity<String> getPageContent(
             @Parameter(description = "책 ID", example = "1")
             @PathVariable Long bookId,
-            @PathVariable Integer pageNumber) {
+            @PathVariable Integer pageNumber,
+            @Parameter(description = "콘텐츠 버전 (선택)")
+            @RequestParam(name = "v", required = false) String version,
+            @Parameter(description = "페이지 크기 프로필 (선택)", example = "tablet")
+            @RequestParam(name = "profile", required = false) String profile,
+            @Parameter(hidden = true) WebRequest webRequest) {
+
+        // 지원하지 않는 프로필(B004)이나 없는 페이지는 If-None-Match와 관계없이 오류로 응답하도록 먼저 확인
+        // (페이지는 보통 PageCache 메모리에서 바로 반환)
+        String resolvedProfile = bookService.resolvePageProfile(profile);
+        String content = bookService.getPageContent(bookId, pageNumber, resolvedProfile);
+
+        Optional<String> contentVersion = bookService.getContentVersion(bookId);
+        if (contentVersion.isEmpty()) {
+            // 콘텐츠 버전이 없는 이전 데이터는 캐시 헤더 없이 응답
+            return ResponseEntity.ok(content);
+        }
+
+        // 프로필마다 페이지 내용이 다르므로 ETag도 구분 (요청 문자열이 아닌 설정된 프로필 이름 사용)
+        String eTag = VirtualPageService.isDefaultProfile(resolvedProfile)
+                ? "\"" + contentVersion.get() + "\""
+                : "\"" + contentVersion.get() + "-" + resolvedProfile + "\"";
+        CacheControl cacheControl = contentVersion.get().equals(version)
+                ? CacheControl.maxAge(VERSIONED_MAX_AGE).immutable()
+                : CacheControl.maxAge(pageMaxAge).mustRevalidate();
+
+        // 같은 버전을 이미 가진 클라이언트에는 본문 없이 304 응답
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(content);
+    }
+
+    /**
+     *  페이지 크기 프로필 사이의 위치 변환 API
+     */
+    @GetMapping("/{bookId}/positions")
+    @Operation(
+            summary = "페이지 프로필 간 위치 변환",
+            description = """
+			한 페이지 크기 프로필의 페이지 내 위치(하이라이트 구간 등)를 다른 프로필의 위치로 변환합니다.
+
+			**동작:**
+			- 원문에서의 위치를 거쳐 변환하므로 같은 글자를 가리킵니다
+			- 하이라이트는 기본 프로필 기준으로 저장되므로, 다른 프로필로 읽을 때 from=default로 변환합니다
+			- 변환된 구간이 다음 페이지로 이어지면 endOffset은 페이지 길이보다 커집니다
+			"""
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "변환 성공",
+                    content = @Content(schema = @Schema(implementation = PagePositionResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "없는 페이지 또는 잘못된 위치 (B003), 지원하지 않는 프로필 (B004)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ApiResponse<PagePositionResponse> translatePosition(
+            @Parameter(description = "책 ID", example = "1")
+            @PathVariable Long bookId,
+            @Parameter(description = "페이지 번호", example = "12")
+            @RequestParam Integer page,
+            @Parameter(description = "페이지 내 시작 위치", example = "125")
+            @RequestParam Integer start,
+            @Parameter(description = "페이지 내 끝 위치 (생략하면 시작 위치)", example = "180")
+            @RequestParam(required = false) Integer end,
+            @Parameter(description = "원래 위치의 프로필", example = "default")
+            @RequestParam(defaultValue = "default") String from,
+            @Parameter(description = "변환할 프로필", example = "tablet")
+            @RequestParam String to) {
+
+        return ApiResponse.success(bookService.translatePosition(bookId, from, page, start, end, to));
+    }
+
+    /**
+     *  책 페이지 구간 내용 조회 API (스트리밍)
+     */
+    @GetMapping("/{bookId}/pages")
+    @Operation(
+            summary = "책 페이지 구간 내용 조회",
+            description = """
+			from ~ to 페이지(양 끝 포함)의 내용을 한 번의 요청으로 조회합니다.
+
+			**프로세스:**
+			1. 페이지 범위와 책 존재 여부를 확인합니다
+			2. 구간 전체를 한 번의 쿼리로 읽으면서 읽은 페이지부터 바로 응답에 씁니다
+
+			**검증 규칙:**
+			- from은 1 이상, to는 from 이상이어야 합니다
+			- 한 번에 최대 50페이지까지 조회할 수 있습니다 (bibly.page-range.max-pages)
+
+			**반환 정보:**
+			- data: 페이지 번호 순 목록 (pageNumber, content)
+			- 책의 마지막 페이지를 넘는 번호는 목록에서 빠집니다
+			"""
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PageContentResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 페이지 범위 (B003)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "책을 찾을 수 없음 (B001)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> getPageContents(
+            @Parameter(description = "책 ID", example = "1")
+            @PathVariable Long bookId,
+            @Parameter(description = "시작 페이지 번호", example = "1")
+            @RequestParam Integer from,
+            @Parameter(description = "끝 페이지 번호", example = "20")
+            @RequestParam Integer to) {
+
+        // 본문을 쓰기 시작한 뒤에는 오류 응답으로 바꿀 수 없으므로 먼저 검증
+        bookService.validatePageRange(bookId, from, to);
 
-        String content = bookService.getPageContent(bookId, pageNumber);
+        // ApiResponse와 같은 형태({"success":true,"data":[...],"timestamp":...})로 한 페이지씩 기록
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeArrayFieldStart("data");
+                bookService.streamPageContents(bookId, from, to, page -> {
+                    try {
+                        generator.writeObject(page);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeObjectField("timestamp", LocalDateTime.now());
+                generator.writeEndObject();
+            }
+        };
 
-        return ResponseEntity.ok(content);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
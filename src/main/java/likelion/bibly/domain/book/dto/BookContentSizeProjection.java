@@ -0,0 +1,11 @@
+package likelion.bibly.domain.book.dto;
+
+/**
+ * 원문 길이 조회용 프로젝션 (원문 자체는 읽지 않음)
+ * 재분할 작업이 책마다 필요한 메모리를 미리 가늠할 때 사용합니다.
+ */
+public record BookContentSizeProjection(
+    Long bookId,
+    Integer length
+) {
+}
@@ -0,0 +1,11 @@
+package likelion.bibly.domain.book.dto;
+
+/**
+ * 책별 콘텐츠 버전 (원문 해시 + 페이지 수, 검색 색인 파일 검증용)
+ */
+public record BookContentVersion(
+    Long bookId,
+    String contentHash,
+    Integer pageCount
+) {
+}
@@ -0,0 +1,13 @@
+package likelion.bibly.domain.book.dto;
+
+/**
+ * 장르 색인 생성용 프로젝션 (목록 응답에 필요한 컬럼 + 장르 문자열)
+ */
+public record BookGenreProjection(
+    Long bookId,
+    String title,
+    String author,
+    String coverUrl,
+    String genre
+) {
+}
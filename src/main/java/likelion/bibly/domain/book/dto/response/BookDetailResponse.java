@@ -20,6 +20,8 @@ public class BookDetailResponse {
     private String isbn;
     private String description;
     private String coverUrl;
+    // 콘텐츠 버전: 페이지 조회 시 ?v= 로 붙이면 불변 캐시로 응답
+    private String contentVersion;
 
     public BookDetailResponse(Book book) {
         this.bookId = book.getBookId();
@@ -32,5 +34,6 @@ public class BookDetailResponse {
         this.isbn = book.getIsbn();
         this.description = book.getDescription();
         this.coverUrl = book.getCoverUrl();
+        this.contentVersion = book.getContentHash();
     }
 }
@@ -0,0 +1,20 @@
+package likelion.bibly.domain.book.dto.response;
+
+import java.util.List;
+
+/**
+ * 장르 필터 책 목록 응답
+ *
+ * @param totalCount 필터에 일치하는 전체 책 수
+ * @param books 인기도 순 현재 페이지의 책
+ * @param genres 일치하는 책들의 장르별 책 수 (많은 순)
+ */
+public record BookGenreSearchResponse(
+        Integer totalCount,
+        List<BookSimpleResponse> books,
+        List<GenreCount> genres
+) {
+
+    public record GenreCount(String genre, Integer count) {
+    }
+}
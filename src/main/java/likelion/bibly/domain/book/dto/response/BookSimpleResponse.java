@@ -19,4 +19,12 @@ public class BookSimpleResponse {
         this.coverImageUrl = book.getCoverUrl();
         
     }
+
+    // JPQL 생성자 프로젝션용 (필요한 컬럼만 조회)
+    public BookSimpleResponse(Long bookId, String title, String author, String coverImageUrl) {
+        this.bookId = bookId;
+        this.title = title;
+        this.author = author;
+        this.coverImageUrl = coverImageUrl;
+    }
 }
@@ -0,0 +1,27 @@
+package likelion.bibly.domain.book.dto.response;
+
+import java.util.List;
+
+/**
+ * Gutendex 목록 페이지 하나를 가져온 결과 (가져오기 작업의 체크포인트 단위)
+ *
+ * @param nextPageUrl 다음 목록 페이지 URL, 마지막 페이지면 null
+ * @param processedCount 처리한 책 수 (가져옴 + 건너뜀 + 실패)
+ * @param importedCount 새로 저장한 책 수
+ * @param skippedCount 이미 가져와 있어 건너뛴 책 수
+ * @param errors 실패한 책의 오류 메시지
+ * @param lastGutenbergId 이 페이지에서 마지막으로 처리한 책의 Gutenberg ID, 처리한 책이 없으면 null
+ */
+public record CatalogPageResult(
+    String nextPageUrl,
+    int processedCount,
+    int importedCount,
+    int skippedCount,
+    List<String> errors,
+    Long lastGutenbergId
+) {
+
+    public int failedCount() {
+        return errors.size();
+    }
+}
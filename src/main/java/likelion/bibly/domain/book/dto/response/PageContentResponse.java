@@ -0,0 +1,10 @@
+package likelion.bibly.domain.book.dto.response;
+
+/**
+ * 페이지 구간 조회 응답 항목 (페이지 번호 + 내용)
+ */
+public record PageContentResponse(
+        Integer pageNumber,
+        String content
+) {
+}
@@ -0,0 +1,14 @@
+package likelion.bibly.domain.book.dto.response;
+
+/**
+ * 페이지 프로필 사이의 위치 변환 응답
+ * endOffset이 페이지 길이보다 크면 구간이 다음 페이지로 이어집니다.
+ */
+public record PagePositionResponse(
+        String profile,
+        Integer pageNumber,
+        Integer startOffset,
+        Integer endOffset,
+        Integer pageCount
+) {
+}
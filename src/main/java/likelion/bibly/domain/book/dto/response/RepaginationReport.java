@@ -0,0 +1,43 @@
+package likelion.bibly.domain.book.dto.response;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 일괄 재분할 작업 결과
+ *
+ * @param elapsed 작업 전체 소요 시간
+ * @param books 책별 처리 결과와 소요 시간
+ */
+public record RepaginationReport(
+    Duration elapsed,
+    List<BookResult> books
+) {
+
+    public enum Outcome {
+        REPAGINATED, SKIPPED, FAILED
+    }
+
+    /**
+     * @param bookId 책 ID
+     * @param outcome 처리 결과
+     * @param elapsed 책 한 권의 분할 + 저장 시간 (트랜잭션 포함)
+     */
+    public record BookResult(Long bookId, Outcome outcome, Duration elapsed) {
+    }
+
+    public long count(Outcome outcome) {
+        return books.stream().filter(book -> book.outcome() == outcome).count();
+    }
+
+    /**
+     * 오래 걸린 순으로 limit권
+     */
+    public List<BookResult> slowest(int limit) {
+        return books.stream()
+                .sorted(Comparator.comparing(BookResult::elapsed).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
@@ -1,5 +1,4 @@
 package likelion.bibly.domain.book.entity;
-import likelion.bibly.domain.page.entity.PageContent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -7,8 +6,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Table(name = "book")
@@ -48,8 +45,9 @@ public class Book {
     @Column(name = "cover_url", length = 500)
     private String coverUrl;
 
-    @Column(name = "content", columnDefinition = "LONGTEXT")
-    private String content;
+    // 가져오기 원본(Project Gutenberg)의 책 ID, 가져오기 재실행 시 이미 가져온 책을 건너뛰는 기준
+    @Column(name = "gutenberg_id", unique = true)
+    private Long gutenbergId;
 
     @Column(name = "popularity_score")
     private Integer popularityScore;
@@ -57,13 +55,14 @@ public class Book {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    @OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
-    private List<PageContent> pages = new ArrayList<>();
+    // 원문 + 페이지 분할 기준의 SHA-256 (페이지 재저장 시 갱신, HTTP ETag로 사용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     @Builder
     public Book(String title, String author, String genre, LocalDateTime publishedAt,
                 String publisher, String isbn, Integer pageCount, String description,
-                String coverUrl, String content) {
+                String coverUrl, Long gutenbergId) {
         this.title = title;
         this.author = author;
         this.genre = genre;
@@ -73,23 +72,18 @@ public class Book {
         this.pageCount = pageCount;
         this.description = description;
         this.coverUrl = coverUrl;
-        this.content = content;
+        this.gutenbergId = gutenbergId;
         this.popularityScore = 0;
         this.createdAt = LocalDateTime.now();
     }
 
-    public void increasePopularity() {
-        this.popularityScore++;
-    }
-
     // pageCount 세터 추가 (계산된 페이지 수 저장용)
     public void setPageCount(Integer pageCount) {
         this.pageCount = pageCount;
     }
 
-    // PageContent 연결을 위한 Setter
-    public void addPage(PageContent page) {
-        this.pages.add(page);
-        page.setBook(this);
+    // 페이지 재저장 시 콘텐츠 버전 갱신
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
     }
 }
@@ -0,0 +1,43 @@
+package likelion.bibly.domain.book.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 책 원문 (LONGTEXT)
+ * 목록/상세 조회 시 Book과 함께 읽히지 않도록 별도 테이블에 저장하고,
+ * 페이지 분할이 필요할 때만 book_id로 조회합니다.
+ */
+@Entity
+@Table(name = "book_content")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookContent {
+
+    // Book과 같은 PK (book_id) 공유
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id")
+    private Book book;
+
+    @Column(name = "content", nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    @Builder
+    public BookContent(Book book, String content) {
+        this.book = book;
+        this.content = content;
+    }
+
+    // 원문 재다운로드 시 갱신용
+    public void updateContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,18 @@
+package likelion.bibly.domain.book.repository;
+
+import likelion.bibly.domain.book.dto.BookContentSizeProjection;
+import likelion.bibly.domain.book.entity.BookContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BookContentRepository extends JpaRepository<BookContent, Long> {
+
+    // 원문이 있는 모든 책의 ID와 원문 길이(글자 수)
+    @Query("SELECT new likelion.bibly.domain.book.dto.BookContentSizeProjection(bc.bookId, LENGTH(bc.content)) "
+            + "FROM BookContent bc")
+    List<BookContentSizeProjection> findContentSizes();
+}
@@ -1,17 +1,54 @@
 package likelion.bibly.domain.book.repository;
 
+import likelion.bibly.domain.book.dto.BookContentVersion;
+import likelion.bibly.domain.book.dto.BookGenreProjection;
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
 import likelion.bibly.domain.book.entity.Book;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookRepository extends JpaRepository<Book, Long> {
 
-    // D.1.1 새로 나온 책 (최근 등록순)
-    List<Book> findTop20ByOrderByCreatedAtDesc();
+    // D.1.1 새로 나온 책 (최근 등록순, 목록에 필요한 컬럼만 DTO로 조회)
+    @Query("SELECT new likelion.bibly.domain.book.dto.response.BookSimpleResponse(b.bookId, b.title, b.author, b.coverUrl) "
+            + "FROM Book b ORDER BY b.createdAt DESC")
+    List<BookSimpleResponse> findNewBooks(Limit limit);
 
-    // D.1.2 인기 있는 책 (인기도 높은순)
-    List<Book> findTop20ByOrderByPopularityScoreDesc();
-}
\ No newline at end of file
+    // D.1.2 인기 있는 책 (인기도 높은순, 목록에 필요한 컬럼만 DTO로 조회)
+    @Query("SELECT new likelion.bibly.domain.book.dto.response.BookSimpleResponse(b.bookId, b.title, b.author, b.coverUrl) "
+            + "FROM Book b ORDER BY b.popularityScore DESC")
+    List<BookSimpleResponse> findPopularBooks(Limit limit);
+
+    // 장르 색인 생성용 전체 책 (인기도 높은순, 색인의 책 번호 순서가 됨)
+    @Query("SELECT new likelion.bibly.domain.book.dto.BookGenreProjection(b.bookId, b.title, b.author, b.coverUrl, b.genre) "
+            + "FROM Book b ORDER BY b.popularityScore DESC, b.bookId")
+    List<BookGenreProjection> findAllGenres();
+
+    // 가져오기 재실행 시 이미 가져온 책인지 확인 (Gutenberg ID 기준)
+    boolean existsByGutenbergId(Long gutenbergId);
+
+    // 콘텐츠 버전(ETag)만 조회 (책 엔티티 로딩 없이)
+    @Query("SELECT b.contentHash FROM Book b WHERE b.bookId = :bookId")
+    Optional<String> findContentHashByBookId(@Param("bookId") Long bookId);
+
+    // 페이지를 저장한 책의 콘텐츠 버전 (시작 시 검색 색인 파일이 최신인지 확인)
+    @Query("SELECT new likelion.bibly.domain.book.dto.BookContentVersion(b.bookId, b.contentHash, b.pageCount) "
+            + "FROM Book b WHERE b.pageCount IS NOT NULL")
+    List<BookContentVersion> findContentVersions();
+
+    // 페이지 수와 콘텐츠 버전만 갱신 (스트리밍 저장 후 엔티티 로딩 없이 짧은 트랜잭션으로 반영)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Book b SET b.pageCount = :pageCount, b.contentHash = :contentHash WHERE b.bookId = :bookId")
+    int updatePageCountAndContentHash(@Param("bookId") Long bookId, @Param("pageCount") Integer pageCount,
+                                      @Param("contentHash") String contentHash);
+}
@@ -0,0 +1,113 @@
+package likelion.bibly.domain.book.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Service;
+
+import likelion.bibly.domain.book.dto.BookGenreProjection;
+import likelion.bibly.domain.book.dto.response.BookGenreSearchResponse;
+import likelion.bibly.domain.book.dto.response.BookGenreSearchResponse.GenreCount;
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.repository.BookRepository;
+import likelion.bibly.global.util.FacetIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장르 필터/패싯
+ *
+ * book.genre는 Gutendex 책장 이름을 쉼표로 이어 붙인 문자열이라 SQL로 거르려면 LIKE '%...%'가 필요하므로,
+ * 장르를 사전으로 정규화하고 장르마다 책 번호 비트맵을 둔 FacetIndex를 메모리에 두고 조회합니다.
+ * 가져오기 파이프라인이 책을 추가하면 새 색인을 만든 뒤 참조를 통째로 교체합니다.
+ * 책 번호는 색인을 만들 때의 인기도 순이므로 결과도 인기도 순입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookGenreService {
+
+	// GutendexServiceImpl이 책장 이름을 이어 붙일 때 쓰는 구분자
+	private static final String GENRE_SEPARATOR = ",";
+
+	// 같은 책장의 두 가지 표기 ("Browsing: Fiction", "Category: Novels") -> 책장 이름만
+	private static final Pattern SHELF_PREFIX = Pattern.compile("^(Browsing|Category):\\s*",
+		Pattern.CASE_INSENSITIVE);
+
+	// 책장이 없는 책에 저장하는 값 (장르로 취급하지 않음)
+	private static final String UNKNOWN_GENRE = "Unknown";
+
+	private final BookRepository bookRepository;
+
+	// 마지막으로 만든 색인 (불변, 통째로 교체)
+	private volatile FacetIndex<BookGenreProjection> index;
+
+	/**
+	 * 장르로 책 목록 필터 + 장르별 책 수
+	 * @param genres 장르 (비어 있으면 전체 책)
+	 * @param matchAll true면 모든 장르에 속한 책, false면 하나라도 속한 책
+	 * @param page 페이지 번호 (0부터)
+	 * @param size 페이지 크기
+	 */
+	public BookGenreSearchResponse search(List<String> genres, boolean matchAll, int page, int size) {
+		FacetIndex<BookGenreProjection> current = index;
+		if (current == null) {
+			current = loadIndex();
+		}
+
+		List<String> normalized = genres.stream().map(BookGenreService::normalizeGenre).toList();
+		BitSet selection = current.filter(normalized, matchAll);
+		List<GenreCount> genreCounts = current.counts(selection).stream()
+			.map(count -> new GenreCount(count.name(), count.count()))
+			.toList();
+
+		int offset = (int)Math.min((long)page * size, Integer.MAX_VALUE);
+		List<BookSimpleResponse> books = current.items(selection, offset, size).stream()
+			.map(book -> new BookSimpleResponse(book.bookId(), book.title(), book.author(), book.coverUrl()))
+			.toList();
+		return new BookGenreSearchResponse(selection.cardinality(), books, genreCounts);
+	}
+
+	/**
+	 * 전체 책으로 색인을 다시 만들어 교체 (책이 추가되었을 때)
+	 */
+	public synchronized FacetIndex<BookGenreProjection> rebuild() {
+		FacetIndex<BookGenreProjection> rebuilt =
+			FacetIndex.build(bookRepository.findAllGenres(), book -> parseGenres(book.genre()));
+		index = rebuilt;
+		log.info("장르 색인 재생성: {}권", rebuilt.size());
+		return rebuilt;
+	}
+
+	/**
+	 * 색인이 아직 없을 때 한 번만 만듦 (잠금 안에서 다시 확인)
+	 */
+	private synchronized FacetIndex<BookGenreProjection> loadIndex() {
+		FacetIndex<BookGenreProjection> current = index;
+		return current != null ? current : rebuild();
+	}
+
+	/**
+	 * book.genre 문자열을 정규화한 장르 목록으로 분리
+	 */
+	static List<String> parseGenres(String genre) {
+		if (genre == null || genre.isBlank()) {
+			return List.of();
+		}
+
+		List<String> genres = new ArrayList<>();
+		for (String part : genre.split(GENRE_SEPARATOR)) {
+			String name = normalizeGenre(part);
+			if (!name.isEmpty() && !name.equalsIgnoreCase(UNKNOWN_GENRE)) {
+				genres.add(name);
+			}
+		}
+		return genres;
+	}
+
+	private static String normalizeGenre(String genre) {
+		return SHELF_PREFIX.matcher(genre.strip()).replaceFirst("").strip();
+	}
+}
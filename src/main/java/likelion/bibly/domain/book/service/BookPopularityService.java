@@ -0,0 +1,124 @@
+package likelion.bibly.domain.book.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 책 인기도 누적/반영 서비스
+ *
+ * 책 선택 트랜잭션에서 book 행을 직접 갱신하면 인기 있는 책의 행 잠금에 요청이 몰리므로,
+ * 증가분은 책 ID별 LongAdder에 모았다가 주기적으로(그리고 종료 시) 한 번에
+ * UPDATE book SET popularity_score = popularity_score + ? 로 반영합니다.
+ * 가산 UPDATE라 여러 서버가 동시에 반영해도 증가분이 유실되지 않습니다.
+ *
+ * 인기 있는 책 목록(상위 20권)은 반영 직후 다시 만들어 메모리에 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookPopularityService {
+
+	private static final int TOP_K = 20;
+
+	private static final String INCREASE_SQL =
+		"UPDATE book SET popularity_score = popularity_score + ? WHERE book_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final BookRepository bookRepository;
+
+	// 아직 DB에 반영하지 않은 책별 증가분
+	private final Map<Long, LongAdder> pendingScores = new ConcurrentHashMap<>();
+
+	// 마지막으로 만든 인기 있는 책 목록 (불변 리스트로 통째로 교체)
+	private volatile List<BookSimpleResponse> topBooks;
+
+	/**
+	 * 인기도 증가 (DB 반영은 다음 flush 때)
+	 * @param bookId 책 ID
+	 * @param amount 증가량
+	 */
+	public void increase(Long bookId, int amount) {
+		pendingScores.computeIfAbsent(bookId, id -> new LongAdder()).add(amount);
+	}
+
+	/**
+	 * D.1.2 인기 있는 책 목록 (메모리에 보관한 상위 20권)
+	 */
+	public List<BookSimpleResponse> getTopBooks() {
+		List<BookSimpleResponse> books = topBooks;
+		if (books == null) {
+			books = refreshTopBooks();
+		}
+		return books;
+	}
+
+	/**
+	 * 모아 둔 증가분을 DB에 반영하고 인기 있는 책 목록을 다시 생성
+	 */
+	@Scheduled(fixedDelayString = "${bibly.popularity.flush-interval:10s}")
+	public void flushAndRefresh() {
+		flush();
+		refreshTopBooks();
+	}
+
+	/**
+	 * 모아 둔 증가분을 배치 UPDATE로 반영
+	 * 반영에 실패한 증가분은 다시 쌓아 두고 다음 주기에 재시도합니다.
+	 *
+	 * @return 반영한 책 수
+	 */
+	public int flush() {
+		List<Object[]> batch = new ArrayList<>();
+		for (Map.Entry<Long, LongAdder> entry : pendingScores.entrySet()) {
+			// 항목을 지우지 않고 값만 비워야 동시에 들어온 증가분이 사라지지 않음
+			long delta = entry.getValue().sumThenReset();
+			if (delta != 0) {
+				batch.add(new Object[] {delta, entry.getKey()});
+			}
+		}
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		// 여러 서버가 같은 행들을 갱신할 때 잠금 순서를 맞춰 교착 상태 방지
+		batch.sort(Comparator.comparing(row -> (Long)row[1]));
+
+		try {
+			jdbcTemplate.batchUpdate(INCREASE_SQL, batch);
+		} catch (RuntimeException e) {
+			for (Object[] row : batch) {
+				increase((Long)row[1], Math.toIntExact((Long)row[0]));
+			}
+			log.warn("인기도 반영 실패, 다음 주기에 재시도: {}권", batch.size(), e);
+			return 0;
+		}
+		return batch.size();
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		int flushed = flush();
+		log.info("종료 전 인기도 반영: {}권", flushed);
+	}
+
+	private List<BookSimpleResponse> refreshTopBooks() {
+		List<BookSimpleResponse> books = List.copyOf(bookRepository.findPopularBooks(Limit.of(TOP_K)));
+		topBooks = books;
+		return books;
+	}
+}
@@ -0,0 +1,40 @@
+package likelion.bibly.domain.book.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import likelion.bibly.domain.book.dto.response.RepaginationReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작 시 전체 책 일괄 재분할 (원문을 새로 받지 않고 book_content의 원문으로 분할)
+ * bibly.repagination.run-on-startup=true 일 때만 실행되며, 원문이 바뀌지 않은 책은 건너뛰므로 여러 번 실행해도 안전합니다.
+ * force=true 이면 모든 책을 다시 분할합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bibly.repagination.run-on-startup", havingValue = "true")
+public class BookRepaginationRunner implements ApplicationRunner {
+
+	// 오래 걸린 책 로그 개수
+	private static final int SLOWEST_LOG_SIZE = 5;
+
+	private final BookRepaginationService bookRepaginationService;
+
+	@Value("${bibly.repagination.force:false}")
+	private boolean force;
+
+	@Override
+	public void run(ApplicationArguments args) throws InterruptedException {
+		RepaginationReport report = bookRepaginationService.repaginateAll(force);
+
+		for (RepaginationReport.BookResult book : report.slowest(SLOWEST_LOG_SIZE)) {
+			log.info("재분할 소요 시간: 책 ID {} {} ({}ms)", book.bookId(), book.outcome(), book.elapsed().toMillis());
+		}
+	}
+}
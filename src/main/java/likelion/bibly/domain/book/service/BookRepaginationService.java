@@ -0,0 +1,159 @@
+package likelion.bibly.domain.book.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import likelion.bibly.domain.book.dto.BookContentSizeProjection;
+import likelion.bibly.domain.book.dto.response.RepaginationReport;
+import likelion.bibly.domain.book.dto.response.RepaginationReport.BookResult;
+import likelion.bibly.domain.book.dto.response.RepaginationReport.Outcome;
+import likelion.bibly.domain.book.repository.BookContentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 책 일괄 재분할
+ *
+ * 책마다 가상 스레드에서 BookService를 호출하므로 책 한 권이 하나의 트랜잭션으로 분할/저장됩니다.
+ * 가상 스레드도 CPU 코어 수 크기의 ForkJoinPool 위에서 실행되므로 CPU 병렬성은 코어 수를 넘지 않고,
+ * 책마다 트랜잭션이 DB 커넥션을 하나씩 잡으므로 실제 상한은 커넥션 풀 크기(Hikari maximum-pool-size)입니다.
+ * 그래서 동시에 처리하는 책 수는 커넥션 풀 크기를 넘지 않게 하여, 초과분이 커넥션을 기다리다 시간 초과로 실패하지 않게 합니다.
+ * 원문 길이로 추정한 메모리 사용량의 합도 설정값을 넘지 않도록 제한합니다.
+ * 책별 소요 시간은 결과와 actuator metrics(bibly.repagination.book)로 확인할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class BookRepaginationService {
+
+	// 원문 한 글자당 메모리 추정치: 원문 String + JDBC 읽기 버퍼 + 해시 계산용 UTF-8 사본
+	private static final int BYTES_PER_CHAR_ESTIMATE = 4;
+
+	private final BookService bookService;
+	private final BookContentRepository bookContentRepository;
+	private final int concurrency;
+	private final int memoryBudgetKb;
+
+	private final Timer repaginatedTimer;
+	private final Timer skippedTimer;
+	private final Timer failedTimer;
+
+	public BookRepaginationService(
+		BookService bookService,
+		BookContentRepository bookContentRepository,
+		MeterRegistry meterRegistry,
+		@Value("${bibly.repagination.concurrency:0}") int concurrency,
+		@Value("${bibly.repagination.memory-budget:256MB}") DataSize memoryBudget,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+		this.bookService = bookService;
+		this.bookContentRepository = bookContentRepository;
+		// 0 이하면 CPU 코어 수만큼, 어느 쪽이든 커넥션 풀 크기까지
+		int requested = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+		this.concurrency = Math.max(1, Math.min(requested, connectionPoolSize));
+		if (this.concurrency < requested) {
+			log.info("재분할 동시 처리 수를 커넥션 풀 크기로 제한: {} -> {}", requested, this.concurrency);
+		}
+		this.memoryBudgetKb = (int)Math.max(memoryBudget.toKilobytes(), 1);
+
+		this.repaginatedTimer = Timer.builder("bibly.repagination.book").tag("result", "repaginated")
+			.description("책 한 권 재분할 시간").register(meterRegistry);
+		this.skippedTimer = Timer.builder("bibly.repagination.book").tag("result", "skipped")
+			.description("책 한 권 재분할 시간").register(meterRegistry);
+		this.failedTimer = Timer.builder("bibly.repagination.book").tag("result", "failed")
+			.description("책 한 권 재분할 시간").register(meterRegistry);
+	}
+
+	/**
+	 * 원문이 있는 모든 책을 다시 분할
+	 * @param force true면 콘텐츠 해시가 같아도 다시 분할
+	 * @return 책별 결과와 소요 시간
+	 */
+	public RepaginationReport repaginateAll(boolean force) throws InterruptedException {
+		// 긴 책부터 시작해야 마지막에 긴 책 하나만 남아 작업이 늘어지지 않음
+		List<BookContentSizeProjection> books = new ArrayList<>(bookContentRepository.findContentSizes());
+		books.sort(Comparator.comparing(BookContentSizeProjection::length,
+			Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
+
+		Semaphore workers = new Semaphore(concurrency);
+		Semaphore memoryBudget = new Semaphore(memoryBudgetKb);
+		Queue<BookResult> results = new ConcurrentLinkedQueue<>();
+		long startedAt = System.nanoTime();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (BookContentSizeProjection book : books) {
+				int memoryCost = estimateMemoryKb(book.length());
+				memoryBudget.acquire(memoryCost);
+				try {
+					workers.acquire();
+				} catch (InterruptedException e) {
+					memoryBudget.release(memoryCost);
+					throw e;
+				}
+
+				executor.submit(() -> {
+					try {
+						results.add(repaginate(book.bookId(), force));
+					} finally {
+						workers.release();
+						memoryBudget.release(memoryCost);
+					}
+				});
+			}
+		} // close(): 진행 중인 책이 모두 끝날 때까지 대기
+
+		RepaginationReport report = new RepaginationReport(
+			Duration.ofNanos(System.nanoTime() - startedAt), List.copyOf(results));
+		log.info("일괄 재분할 완료: {}권 중 재분할 {}, 건너뜀 {}, 실패 {} ({}ms)", books.size(),
+			report.count(Outcome.REPAGINATED), report.count(Outcome.SKIPPED), report.count(Outcome.FAILED),
+			report.elapsed().toMillis());
+		return report;
+	}
+
+	private BookResult repaginate(Long bookId, boolean force) {
+		long startedAt = System.nanoTime();
+		Outcome outcome;
+		try {
+			if (force) {
+				bookService.saveBookContentAsPages(bookId);
+				outcome = Outcome.REPAGINATED;
+			} else {
+				outcome = bookService.saveBookContentAsPagesIfChanged(bookId) ? Outcome.REPAGINATED : Outcome.SKIPPED;
+			}
+		} catch (RuntimeException e) {
+			log.warn("재분할 실패: 책 ID {} ({})", bookId, e.getMessage());
+			outcome = Outcome.FAILED;
+		}
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+		timer(outcome).record(elapsed);
+		log.debug("재분할: 책 ID {} {} ({}ms)", bookId, outcome, elapsed.toMillis());
+		return new BookResult(bookId, outcome, elapsed);
+	}
+
+	/**
+	 * 책 한 권이 차지할 메모리 예산 (KB), 예산보다 큰 책은 예산 전체를 차지하여 혼자 처리됨
+	 */
+	private int estimateMemoryKb(Integer length) {
+		long kb = (length == null ? 0L : (long)length) * BYTES_PER_CHAR_ESTIMATE / 1024;
+		return (int)Math.min(Math.max(kb, 1), memoryBudgetKb);
+	}
+
+	private Timer timer(Outcome outcome) {
+		return switch (outcome) {
+			case REPAGINATED -> repaginatedTimer;
+			case SKIPPED -> skippedTimer;
+			case FAILED -> failedTimer;
+		};
+	}
+}
@@ -1,10 +1,16 @@
 package likelion.bibly.domain.book.service;
 
+import java.io.Reader;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import likelion.bibly.domain.book.dto.response.BookDetailResponse;
+import likelion.bibly.domain.book.dto.response.BookGenreSearchResponse;
 import likelion.bibly.domain.book.dto.response.BookSelectResponse;
 import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.dto.response.PageContentResponse;
+import likelion.bibly.domain.book.dto.response.PagePositionResponse;
 
 /**
  * 책 관리 서비스 인터페이스
@@ -21,6 +27,24 @@ public interface BookService {
 	 */
 	List<BookSimpleResponse> getPopularBooks();
 
+	/**
+	 * 제목/저자 자동 완성
+	 * @param prefix 입력 중인 검색어
+	 * @param limit 최대 책 수
+	 * @return prefix로 시작하는 단어가 제목이나 저자에 있는 책 (인기도 순)
+	 */
+	List<BookSimpleResponse> suggestBooks(String prefix, int limit);
+
+	/**
+	 * 장르로 책 목록 필터 (장르별 책 수 포함)
+	 * @param genres 장르 (비어 있으면 전체 책)
+	 * @param match "all"이면 모든 장르에 속한 책(AND), "any"면 하나라도 속한 책(OR)
+	 * @param page 페이지 번호 (0부터)
+	 * @param size 페이지 크기
+	 * @return 인기도 순 책 목록과 장르별 책 수
+	 */
+	BookGenreSearchResponse getBooksByGenre(List<String> genres, String match, int page, int size);
+
 	/**
 	 * D.2.1 책 상세 정보 조회
 	 * @param bookId 조회할 책 ID
@@ -44,6 +68,23 @@ public interface BookService {
 	 */
 	void saveBookContentAsPages(Long bookId);
 
+	/**
+	 * 원문이나 분할 기준이 바뀐 책만 다시 분할하여 저장 (일괄 재분할용)
+	 * 저장된 콘텐츠 해시와 현재 원문의 해시가 같고 페이지가 이미 있으면 건너뜁니다.
+	 * @param bookId 원문을 분할할 책의 ID
+	 * @return 다시 분할했으면 true, 건너뛰었으면 false
+	 */
+	boolean saveBookContentAsPagesIfChanged(Long bookId);
+
+	/**
+	 * Reader로 들어오는 원문을 읽는 즉시 페이지로 분할하여 배치 단위로 저장 (다운로드 스트리밍 저장용)
+	 * 원문 전체를 메모리나 book_content에 두지 않으며, 페이지 수와 콘텐츠 버전도 함께 갱신합니다.
+	 * @param bookId 페이지를 저장할 책 ID
+	 * @param reader 원문 Reader (호출자가 닫음)
+	 * @return 저장한 페이지 수
+	 */
+	int savePagesFromStream(Long bookId, Reader reader);
+
 	/**
 	 * 특정 책의 특정 페이지 내용을 조회(프론트 조회용)
 	 * @param bookId 책 ID
@@ -51,4 +92,59 @@ public interface BookService {
 	 * @return 해당 페이지의 텍스트 내용
 	 */
 	String getPageContent(Long bookId, Integer pageNumber);
+
+	/**
+	 * 페이지 크기 프로필 기준 페이지 내용 조회 (기본 프로필이면 getPageContent와 같음)
+	 * 기본 프로필 외에는 저장된 페이지가 아닌 원문 오프셋 인덱스로 잘라 냅니다.
+	 * @param bookId 책 ID
+	 * @param pageNumber 프로필 기준 페이지 번호
+	 * @param profile 페이지 크기 프로필 (예: tablet)
+	 * @return 해당 페이지의 텍스트 내용
+	 */
+	String getPageContent(Long bookId, Integer pageNumber, String profile);
+
+	/**
+	 * 요청한 페이지 크기 프로필을 설정된 프로필 이름으로 확인 (생략하면 default)
+	 * @param profile 페이지 크기 프로필 (예: tablet)
+	 * @return 설정된 프로필 이름
+	 */
+	String resolvePageProfile(String profile);
+
+	/**
+	 * 한 프로필의 페이지 내 위치(하이라이트 구간 등)를 다른 프로필의 위치로 변환
+	 * @param bookId 책 ID
+	 * @param fromProfile 원래 위치의 프로필
+	 * @param pageNumber 원래 위치의 페이지 번호
+	 * @param startOffset 페이지 내 시작 위치
+	 * @param endOffset 페이지 내 끝 위치
+	 * @param toProfile 변환할 프로필
+	 * @return 변환된 위치와 변환할 프로필의 전체 페이지 수
+	 */
+	PagePositionResponse translatePosition(Long bookId, String fromProfile, Integer pageNumber,
+		Integer startOffset, Integer endOffset, String toProfile);
+
+	/**
+	 * 책의 콘텐츠 버전(원문 해시) 조회 (HTTP ETag 용)
+	 * @param bookId 책 ID
+	 * @return 콘텐츠 버전, 페이지가 저장되지 않았거나 이전 데이터라 없으면 empty
+	 */
+	Optional<String> getContentVersion(Long bookId);
+
+	/**
+	 * 페이지 구간 조회 전 검증 (책 존재 여부, 범위, 최대 페이지 수)
+	 * 스트리밍 응답은 본문을 쓰기 시작하면 오류 응답으로 바꿀 수 없으므로 미리 호출합니다.
+	 * @param bookId 책 ID
+	 * @param fromPage 시작 페이지 번호 (포함)
+	 * @param toPage 끝 페이지 번호 (포함)
+	 */
+	void validatePageRange(Long bookId, Integer fromPage, Integer toPage);
+
+	/**
+	 * 페이지 구간을 한 번의 쿼리로 읽으며 번호 순으로 하나씩 전달 (스트리밍 응답용)
+	 * @param bookId 책 ID
+	 * @param fromPage 시작 페이지 번호 (포함)
+	 * @param toPage 끝 페이지 번호 (포함)
+	 * @param consumer 페이지를 받을 콜백
+	 */
+	void streamPageContents(Long bookId, Integer fromPage, Integer toPage, Consumer<PageContentResponse> consumer);
 }
@@ -1,26 +1,47 @@
 package likelion.bibly.domain.book.service;
 
-import java.io.UnsupportedEncodingException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.persistence.EntityNotFoundException;
 import likelion.bibly.domain.book.dto.response.BookDetailResponse;
+import likelion.bibly.domain.book.dto.response.BookGenreSearchResponse;
 import likelion.bibly.domain.book.dto.response.BookSelectResponse;
 import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
 import likelion.bibly.domain.book.dto.response.MemberBookInfo;
+import likelion.bibly.domain.book.dto.response.PageContentResponse;
+import likelion.bibly.domain.book.dto.response.PagePositionResponse;
 import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.entity.BookContent;
+import likelion.bibly.domain.book.repository.BookContentRepository;
 import likelion.bibly.domain.book.repository.BookRepository;
 import likelion.bibly.domain.member.entity.Member;
 import likelion.bibly.domain.member.enums.MemberStatus;
 import likelion.bibly.domain.member.repository.MemberRepository;
-import likelion.bibly.domain.page.entity.PageContent;
-import likelion.bibly.domain.page.repository.PageRepository;
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import likelion.bibly.domain.page.service.MappedPageStore;
+import likelion.bibly.domain.page.service.PageCache;
+import likelion.bibly.domain.page.service.VirtualPageService;
+import likelion.bibly.domain.page.service.VirtualPageService.TextRange;
+import likelion.bibly.domain.search.service.SearchIndexStore;
 import likelion.bibly.global.exception.BusinessException;
 import likelion.bibly.global.exception.ErrorCode;
+import likelion.bibly.global.util.InvertedIndex;
 import likelion.bibly.global.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 
@@ -29,31 +50,78 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class BookServiceImpl implements BookService {
 
+    // 새로 나온 책 / 인기 있는 책 목록 크기
+    private static final int CATALOG_SIZE = 20;
+
+    // 자동 완성 한 번에 반환할 수 있는 최대 책 수
+    private static final int MAX_SUGGEST_SIZE = 20;
+
+    // 장르 필터 목록 한 페이지의 최대 책 수
+    private static final int MAX_GENRE_PAGE_SIZE = 100;
+
+    // 교환 책으로 선택될 때 증가하는 인기도 점수
+    private static final int SELECT_POPULARITY_SCORE = 5;
+
     private final BookRepository bookRepository;
+    private final BookContentRepository bookContentRepository;
     private final MemberRepository memberRepository;
-    private final PageRepository pageRepository;
-    private final PaginationUtil paginationUtil;
+    private final BookPopularityService bookPopularityService;
+    private final BookSuggestService bookSuggestService;
+    private final BookGenreService bookGenreService;
+    private final PageContentJdbcRepository pageContentJdbcRepository;
+    private final PageCache pageCache;
+    private final VirtualPageService virtualPageService;
+    private final SearchIndexStore searchIndexStore;
+    private final ObjectProvider<MappedPageStore> mappedPageStore;
+
+    // 페이지 구간 조회 한 번에 반환할 수 있는 최대 페이지 수
+    @Value("${bibly.page-range.max-pages:50}")
+    private int maxPagesPerRange = 50;
 
     /**
      * D.1.1 새로 나온 책 목록 조회
      */
     @Override
     public List<BookSimpleResponse> getNewBooks() {
-        List<Book> books = bookRepository.findTop20ByOrderByCreatedAtDesc();
-        return books.stream()
-                .map(BookSimpleResponse::new)
-                .collect(Collectors.toList());
+        return bookRepository.findNewBooks(Limit.of(CATALOG_SIZE));
     }
 
     /**
      * D.1.2 지금 많이 읽는 책 (인기 있는 책) 목록 조회
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<BookSimpleResponse> getPopularBooks() {
-        List<Book> books = bookRepository.findTop20ByOrderByPopularityScoreDesc();
-        return books.stream()
-                .map(BookSimpleResponse::new)
-                .collect(Collectors.toList());
+        // 주기적으로 다시 만드는 메모리 상위 목록에서 반환 (트랜잭션/커넥션 없이)
+        return bookPopularityService.getTopBooks();
+    }
+
+    /**
+     * 제목/저자 자동 완성
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BookSimpleResponse> suggestBooks(String prefix, int limit) {
+        // 메모리 접두어 색인에서 반환 (DB 조회 없음)
+        return bookSuggestService.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGEST_SIZE)));
+    }
+
+    /**
+     * 장르로 책 목록 필터 (장르별 책 수 포함)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookGenreSearchResponse getBooksByGenre(List<String> genres, String match, int page, int size) {
+        boolean matchAll = "all".equalsIgnoreCase(match);
+        if (!matchAll && !"any".equalsIgnoreCase(match)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (page < 0 || size < 1 || size > MAX_GENRE_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 메모리 장르 비트맵으로 필터/집계 (DB 조회 없음)
+        return bookGenreService.search(genres == null ? List.of() : genres, matchAll, page, size);
     }
 
     /**
@@ -103,10 +171,8 @@ public class BookServiceImpl implements BookService {
 
         member.selectBook(bookId);
 
-        // 책 인기도 5점 증가
-        for (int i = 0; i < 5; i++) {
-            book.increasePopularity(); // +1씩 5회
-        }
+        // 책 인기도 5점 증가 (book 행을 잠그지 않도록 메모리에 모았다가 주기적으로 반영, 선택이 커밋된 경우에만)
+        afterCommit(() -> bookPopularityService.increase(bookId, SELECT_POPULARITY_SCORE));
 
         List<MemberBookInfo> memberBookInfos = groupMembers.stream()
                 .map(m -> {
@@ -133,42 +199,161 @@ public class BookServiceImpl implements BookService {
         // 책 조회 및 원문 텍스트 확보
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("책을 찾을 수 없습니다: " + bookId));
+        String originalText = loadOriginalText(bookId);
+
+        savePages(bookId, book, originalText, PaginationUtil.contentHash(originalText));
+    }
+
+    /**
+     * 원문이나 분할 기준이 바뀐 책만 다시 분할하여 저장 (일괄 재분할용)
+     * @param bookId 원문을 분할할 책의 ID
+     * @return 다시 분할했으면 true, 콘텐츠 해시가 같아 건너뛰었으면 false
+     */
+    @Override
+    @Transactional
+    public boolean saveBookContentAsPagesIfChanged(Long bookId) {
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new EntityNotFoundException("책을 찾을 수 없습니다: " + bookId));
+        String originalText = loadOriginalText(bookId);
 
-        String originalText = book.getContent(); // 원문 필드명: content
+        String contentHash = PaginationUtil.contentHash(originalText);
+        if (contentHash.equals(book.getContentHash()) && book.getPageCount() != null) {
+            return false;
+        }
+
+        savePages(bookId, book, originalText, contentHash);
+        return true;
+    }
+
+    /**
+     * book_content 테이블의 원문 조회
+     */
+    private String loadOriginalText(Long bookId) {
+        // 원문은 book_content 테이블에 별도 저장됨
+        String originalText = bookContentRepository.findById(bookId)
+                .map(BookContent::getContent)
+                .orElse(null);
 
         if (originalText == null || originalText.isEmpty()) {
             // 원문이 없으면 분할할 수 없음.
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
+        return originalText;
+    }
+
+    private void savePages(Long bookId, Book book, String originalText, String contentHash) {
+        // 기존 페이지 내용 삭제 (페이지 업데이트나 재등록 시)
+        pageContentJdbcRepository.deleteByBookId(bookId);
+
+        // PaginationUtil의 Iterator로 한 페이지씩 분할하며 배치 INSERT로 저장 (본문 검색 색인도 함께 생성)
+        InvertedIndex.Builder searchIndex = InvertedIndex.builder();
+        int pageCount = pageContentJdbcRepository.insertPages(bookId,
+                searchIndex.indexing(PaginationUtil.iteratePages(originalText)));
+
+        // 커밋 후 파일 저장소 갱신, 캐시에 남은 이전 페이지와 프로필별 오프셋 인덱스 제거, 본문 검색 색인 교체
+        InvertedIndex index = searchIndex.build();
+        afterCommit(() -> refreshPageViews(bookId, contentHash,
+                store -> store.write(bookId, PaginationUtil.iteratePages(originalText)),
+                () -> searchIndexStore.put(bookId, contentHash, index)));
+
+        // pageCount, 콘텐츠 버전(ETag) 업데이트
+        book.setPageCount(pageCount);
+        book.updateContentHash(contentHash);
+    }
+
+    /**
+     * Reader로 들어오는 원문을 페이지로 분할하며 배치 INSERT로 저장
+     * 트랜잭션 없이 배치마다 바로 반영하므로 다운로드가 길어져도 트랜잭션과 커넥션을 붙잡지 않고,
+     * 메모리에는 읽기 버퍼와 INSERT 배치 분량의 페이지만 남습니다.
+     * 본문 검색 색인은 저장하는 동안 만들지 않고, 저장이 끝난 뒤 page_content에서 다시 읽어 만듭니다.
+     * 중간에 실패하면 저장된 일부 페이지를 지우고 예외를 그대로 던집니다.
+     * @param bookId 페이지를 저장할 책 ID
+     * @param reader 원문 Reader
+     * @return 저장한 페이지 수
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int savePagesFromStream(Long bookId, Reader reader) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new BusinessException(ErrorCode.BOOK_NOT_FOUND);
+        }
+
+        // 기존 페이지 내용 삭제 (재등록 시)
+        pageContentJdbcRepository.deleteByBookId(bookId);
 
-        List<String> pages;
+        // 페이지를 저장하는 동안 콘텐츠 버전(원문 해시)도 함께 계산
+        MessageDigest digest = PaginationUtil.newContentDigest();
+        Iterator<String> pages = PaginationUtil.iteratePages(reader);
+        int pageCount;
         try {
-            // PaginationUtil 호출하여 텍스트 분할
-            pages = paginationUtil.splitTextByDualLimit(originalText);
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException("텍스트 인코딩 중 오류가 발생했습니다.", e);
+            pageCount = pageContentJdbcRepository.insertPages(bookId, new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return pages.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    String page = pages.next();
+                    digest.update(page.getBytes(StandardCharsets.UTF_8));
+                    return page;
+                }
+            });
+        } catch (RuntimeException e) {
+            pageContentJdbcRepository.deleteByBookId(bookId);
+            searchIndexStore.remove(bookId);
+            throw e;
         }
 
-        // 기존 페이지 내용 삭제 (페이지 업데이트나 재등록 시...필요하면?)
-        pageRepository.deleteByBook(book);
+        if (pageCount == 0) {
+            // 원문이 비어 있으면 분할할 수 없음
+            searchIndexStore.remove(bookId);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
 
-        // 분할된 페이지 내용을 PageContent 테이블에 저장
-        int pageNumber = 1;
-        for (String pageText : pages) {
+        // pageCount, 콘텐츠 버전(ETag) 업데이트
+        String contentHash = PaginationUtil.formatContentHash(digest);
+        bookRepository.updatePageCountAndContentHash(bookId, pageCount, contentHash);
 
-            PageContent page = PageContent.builder()
-                    .pageNumber(pageNumber)
-                    .content(pageText)
-                    .build();
+        // 페이지가 모두 반영된 뒤 파일 저장소 생성, 캐시에 남은 이전 페이지와 프로필별 오프셋 인덱스 제거,
+        // 저장된 페이지로 본문 검색 색인 생성 (원문 전체 색인을 저장 중에 메모리에 쌓지 않도록)
+        afterCommit(() -> refreshPageViews(bookId, contentHash, store -> store.rebuild(bookId),
+                () -> searchIndexStore.rebuild(bookId, contentHash)));
+        return pageCount;
+    }
 
-            book.addPage(page);
+    /**
+     * 다시 저장한 페이지를 파일 저장소(사용 중일 때), 캐시, 메모리 색인에 반영
+     * 파일 갱신에 실패해도 캐시에 남은 이전 페이지는 제거하고 새 콘텐츠 버전(ETag)으로 바꿉니다.
+     */
+    private void refreshPageViews(Long bookId, String contentHash, Consumer<MappedPageStore> updateStore,
+                                  Runnable updateSearchIndex) {
+        try {
+            mappedPageStore.ifAvailable(updateStore);
+        } finally {
+            pageCache.evictBook(bookId);
+            pageCache.putContentVersion(bookId, contentHash);
+            virtualPageService.evictBook(bookId);
+            updateSearchIndex.run();
+        }
+    }
 
-            pageRepository.save(page);
-            pageNumber++;
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 바로 실행)
+     * 롤백되면 캐시, 파일 저장소, 검색 색인, 인기도가 DB와 어긋나므로 커밋이 확정된 뒤에만 반영합니다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
 
-        // pageCount 업데이트
-        book.setPageCount(pages.size());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -178,15 +363,100 @@ public class BookServiceImpl implements BookService {
      * @return 해당 페이지의 텍스트 내용
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String getPageContent(Long bookId, Integer pageNumber) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new EntityNotFoundException("책을 찾을 수 없습니다: " + bookId));
+        // 캐시 우선, 없으면 bibly.page-store.type 설정에 따라 DB 또는 파일 저장소에서 조회
+        // (캐시 적중 시 트랜잭션/커넥션 없이 반환, DB 조회는 PageContentReader가 자체 트랜잭션으로 수행)
+        return pageCache.get(bookId, pageNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_PAGE_RANGE));
+    }
+
+    /**
+     * 페이지 크기 프로필 기준 페이지 내용 조회
+     * @param bookId 책 ID
+     * @param pageNumber 프로필 기준 페이지 번호
+     * @param profile 페이지 크기 프로필
+     * @return 해당 페이지의 텍스트 내용
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getPageContent(Long bookId, Integer pageNumber, String profile) {
+        if (VirtualPageService.isDefaultProfile(profile)) {
+            return getPageContent(bookId, pageNumber);
+        }
 
-        PageContent pageContent = pageRepository.findByBookAndPageNumber(book, pageNumber)
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "페이지를 찾을 수 없습니다. 책 ID: " + bookId + ", 페이지 번호: " + pageNumber));
+        return virtualPageService.getPage(bookId, profile, pageNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_PAGE_RANGE));
+    }
 
-        return pageContent.getContent();
+    /**
+     * 페이지 크기 프로필 이름 확인 (지원하지 않는 프로필이면 B004)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String resolvePageProfile(String profile) {
+        return virtualPageService.resolveProfile(profile);
+    }
+
+    /**
+     * 프로필 사이의 페이지 내 위치 변환
+     */
+    @Override
+    public PagePositionResponse translatePosition(Long bookId, String fromProfile, Integer pageNumber,
+                                                  Integer startOffset, Integer endOffset, String toProfile) {
+        if (pageNumber == null || startOffset == null) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_RANGE);
+        }
+        int end = endOffset == null ? startOffset : endOffset;
+
+        TextRange range = virtualPageService.translate(bookId, fromProfile, pageNumber, startOffset, end, toProfile);
+        String profile = VirtualPageService.isDefaultProfile(toProfile) ? VirtualPageService.DEFAULT_PROFILE : toProfile;
+        return new PagePositionResponse(profile, range.pageNumber(), range.startOffset(), range.endOffset(),
+                virtualPageService.getPageCount(bookId, toProfile));
+    }
+
+    /**
+     * 책의 콘텐츠 버전(원문 해시) 조회
+     * 페이지 조회마다 호출되므로 PageCache에 둔 값을 트랜잭션 없이 반환하고, 없을 때만 DB에서 조회합니다.
+     * @param bookId 책 ID
+     * @return 콘텐츠 버전
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> getContentVersion(Long bookId) {
+        return pageCache.getContentVersion(bookId, () -> bookRepository.findContentHashByBookId(bookId));
+    }
+
+    /**
+     * 페이지 구간 조회 전 검증
+     * @param bookId 책 ID
+     * @param fromPage 시작 페이지 번호 (포함)
+     * @param toPage 끝 페이지 번호 (포함)
+     */
+    @Override
+    public void validatePageRange(Long bookId, Integer fromPage, Integer toPage) {
+        if (fromPage == null || toPage == null || fromPage < 1 || toPage < fromPage
+                || toPage - fromPage + 1 > maxPagesPerRange) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_RANGE);
+        }
+
+        if (!bookRepository.existsById(bookId)) {
+            throw new BusinessException(ErrorCode.BOOK_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 페이지 구간을 page_number BETWEEN 쿼리 하나로 읽어 순서대로 전달
+     * 페이지를 모두 모으지 않고 읽는 즉시 consumer로 넘기므로 응답 본문에 바로 쓸 수 있습니다.
+     * @param bookId 책 ID
+     * @param fromPage 시작 페이지 번호 (포함)
+     * @param toPage 끝 페이지 번호 (포함)
+     * @param consumer 페이지를 받을 콜백
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamPageContents(Long bookId, Integer fromPage, Integer toPage,
+                                   Consumer<PageContentResponse> consumer) {
+        pageContentJdbcRepository.streamContents(bookId, fromPage, toPage, consumer);
     }
 }
@@ -0,0 +1,62 @@
+package likelion.bibly.domain.book.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.repository.BookRepository;
+import likelion.bibly.global.util.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 책 제목/저자 자동 완성
+ *
+ * 전체 책의 제목과 저자로 만든 불변 접두어 색인을 메모리에 두고 조회하므로 제안 요청은 DB를 거치지 않습니다.
+ * 가져오기 파이프라인이 책을 추가하면 새 색인을 만든 뒤 참조를 통째로 교체하며,
+ * 교체 전까지는 이전 색인으로 응답합니다. 제안 순서는 색인을 만들 때의 인기도 순입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookSuggestService {
+
+	private final BookRepository bookRepository;
+
+	// 마지막으로 만든 색인 (불변, 통째로 교체)
+	private volatile PrefixIndex<BookSimpleResponse> index;
+
+	/**
+	 * prefix로 시작하는 단어가 제목이나 저자에 있는 책 (인기도 순 최대 limit권)
+	 */
+	public List<BookSimpleResponse> suggest(String prefix, int limit) {
+		PrefixIndex<BookSimpleResponse> current = index;
+		if (current == null) {
+			current = loadIndex();
+		}
+		return current.search(prefix, limit);
+	}
+
+	/**
+	 * 전체 책으로 색인을 다시 만들어 교체 (책이 추가되었을 때)
+	 */
+	public synchronized PrefixIndex<BookSimpleResponse> rebuild() {
+		List<BookSimpleResponse> books = bookRepository.findPopularBooks(Limit.unlimited());
+		PrefixIndex<BookSimpleResponse> rebuilt =
+			PrefixIndex.build(books, book -> Arrays.asList(book.getTitle(), book.getAuthor()));
+		index = rebuilt;
+		log.info("자동 완성 색인 재생성: {}권", rebuilt.size());
+		return rebuilt;
+	}
+
+	/**
+	 * 색인이 아직 없을 때 한 번만 만듦 (동시에 들어온 첫 요청들이 잠금을 기다린 뒤 다시 만들지 않도록 잠금 안에서 다시 확인)
+	 */
+	private synchronized PrefixIndex<BookSimpleResponse> loadIndex() {
+		PrefixIndex<BookSimpleResponse> current = index;
+		return current != null ? current : rebuild();
+	}
+}
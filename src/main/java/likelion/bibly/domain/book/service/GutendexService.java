@@ -1,5 +1,7 @@
 package likelion.bibly.domain.book.service;
 
+import likelion.bibly.domain.book.dto.response.CatalogPageResult;
+
 /**
  * Gutendex API 연동 서비스 인터페이스
  */
@@ -7,7 +9,24 @@ public interface GutendexService {
 
 	/**
 	 * Gutendex API에서 책 데이터를 가져와 DB에 저장
+	 * 원문 다운로드는 동시에 여러 권씩 진행하고, 책은 한 권씩 별도 트랜잭션으로 저장합니다.
+	 * 이미 가져온 책(Gutenberg ID 기준)은 건너뜁니다.
 	 * @param limit 저장할 최대 책의 개수
+	 * @return 저장한 책 수
+	 */
+	int fetchAndSaveBooksWithContent(int limit) throws Exception;
+
+	/**
+	 * 설정된 Gutendex 목록의 첫 페이지 URL
+	 */
+	String getCatalogStartUrl();
+
+	/**
+	 * 목록 페이지 하나를 조회해 최대 maxBooks권을 가져옴 (가져오기 작업의 체크포인트 단위)
+	 * 페이지 안의 책은 동시에 다운로드하며, 이미 가져온 책은 건너뛰고 실패한 책은 오류로 집계합니다.
+	 * @param pageUrl 목록 페이지 URL
+	 * @param maxBooks 이 페이지에서 처리할 최대 책 수
+	 * @return 처리 결과와 다음 목록 페이지 URL
 	 */
-	void fetchAndSaveBooksWithContent(int limit) throws Exception;
+	CatalogPageResult importCatalogPage(String pageUrl, int maxBooks) throws Exception;
 }
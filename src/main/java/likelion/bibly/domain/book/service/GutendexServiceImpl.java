@@ -1,139 +1,448 @@
 package likelion.bibly.domain.book.service;
 
-import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
+import likelion.bibly.domain.book.dto.response.CatalogPageResult;
 import likelion.bibly.domain.book.dto.response.GutendexResponse;
 import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.entity.BookContent;
+import likelion.bibly.domain.book.repository.BookContentRepository;
 import likelion.bibly.domain.book.repository.BookRepository;
-import lombok.RequiredArgsConstructor;
+import likelion.bibly.global.util.HostRateLimiter;
+import likelion.bibly.global.util.HttpDiskCache;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Gutendex 가져오기 파이프라인
+ *
+ * 1. 목록 단계: 가상 스레드 하나가 next 링크를 따라 목록 페이지를 미리 읽어 대기열에 책을 쌓음
+ * 2. 다운로드 단계: 책마다 가상 스레드에서 원문을 받되, 동시 다운로드 수와 호스트별 요청 빈도를 제한
+ * 3. 저장 단계: 책 한 권씩 짧은 트랜잭션으로 저장 (영속성 컨텍스트에 책이 쌓이지 않음)
+ * 이미 가져온 책(Gutenberg ID 기준)은 다운로드 전에 건너뜁니다.
+ *
+ * bibly.gutendex.ingest-mode
+ * - buffered(기본): 원문 전체를 String으로 받아 book_content에 저장하고 같은 트랜잭션에서 페이지로 분할
+ * - streaming: 책을 먼저 저장한 뒤 응답 본문을 읽는 즉시 페이지로 분할하여 저장 (book_content는 만들지 않음)
+ *
+ * bibly.gutendex.cache.directory를 지정하면 목록 JSON과 원문을 디스크에 캐시하고 조건부 요청으로 재검증하며,
+ * bibly.gutendex.cache.offline=true면 네트워크 없이 캐시만으로 가져옵니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class GutendexServiceImpl implements GutendexService {
 
-    private final BookRepository bookRepository;
-    private final RestTemplate restTemplate = createConfiguredRestTemplate();
-    private static final String BASE_URL = "https://gutendex.com/books?languages=en&sort=popular";
+    // 목록 단계가 끝났음을 알리는 표식
+    private static final GutendexResponse.BookDto END_OF_CATALOG = new GutendexResponse.BookDto();
 
+    private static final String STREAMING_INGEST_MODE = "streaming";
 
-    private static RestTemplate createConfiguredRestTemplate() {
-        RequestConfig config = RequestConfig.custom()
-                .setRedirectsEnabled(true)
-                .build();
+    private enum ImportOutcome {
+        IMPORTED, SKIPPED, FAILED
+    }
+
+    private final BookRepository bookRepository;
+    private final BookContentRepository bookContentRepository;
+    private final BookService bookService;
+    private final BookSuggestService bookSuggestService;
+    private final BookGenreService bookGenreService;
+    private final TransactionTemplate transactionTemplate;
+    private final RestTemplate restTemplate;
+    private final HostRateLimiter rateLimiter;
+    // 오프라인 캐시 모드면 네트워크 요청을 하지 않으므로 요청 빈도 제한도 건너뜀
+    private final boolean offline;
+    private final String baseUrl;
+    private final int downloadConcurrency;
+    private final int catalogBufferSize;
+    private final boolean streamingIngest;
+
+    public GutendexServiceImpl(
+            BookRepository bookRepository,
+            BookContentRepository bookContentRepository,
+            BookService bookService,
+            BookSuggestService bookSuggestService,
+            BookGenreService bookGenreService,
+            PlatformTransactionManager transactionManager,
+            @Value("${bibly.gutendex.base-url:https://gutendex.com/books?languages=en&sort=popular}") String baseUrl,
+            @Value("${bibly.gutendex.download-concurrency:4}") int downloadConcurrency,
+            @Value("${bibly.gutendex.requests-per-second-per-host:2}") double requestsPerSecondPerHost,
+            @Value("${bibly.gutendex.catalog-buffer-size:64}") int catalogBufferSize,
+            @Value("${bibly.gutendex.ingest-mode:buffered}") String ingestMode,
+            @Value("${bibly.gutendex.cache.directory:}") String cacheDirectory,
+            @Value("${bibly.gutendex.cache.offline:false}") boolean offline) {
+        this.bookRepository = bookRepository;
+        this.bookContentRepository = bookContentRepository;
+        this.bookService = bookService;
+        this.bookSuggestService = bookSuggestService;
+        this.bookGenreService = bookGenreService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        HttpDiskCache diskCache = cacheDirectory == null || cacheDirectory.isBlank()
+                ? null : new HttpDiskCache(Path.of(cacheDirectory), offline);
+        this.restTemplate = createConfiguredRestTemplate(diskCache);
+        this.offline = diskCache != null && diskCache.isOffline();
+        this.rateLimiter = new HostRateLimiter(requestsPerSecondPerHost);
+        this.baseUrl = baseUrl;
+        this.downloadConcurrency = downloadConcurrency;
+        this.catalogBufferSize = catalogBufferSize;
+        this.streamingIngest = STREAMING_INGEST_MODE.equalsIgnoreCase(ingestMode);
+    }
 
-        HttpClient httpClient = HttpClientBuilder.create()
-                .setDefaultRequestConfig(config)
+    private static RestTemplate createConfiguredRestTemplate(HttpDiskCache diskCache) {
+        // JDK HttpClient: 리다이렉트 자동 처리, 가상 스레드에서 블로킹 호출해도 캐리어 스레드를 점유하지 않음
+        HttpClient httpClient = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(5))
                 .build();
 
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofSeconds(15));
 
-        // 3. 타임아웃 설정 추가 (RestTemplate 레벨)
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(15000);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        if (diskCache != null) {
+            restTemplate.getInterceptors().add(diskCache);
+        }
+        return restTemplate;
+    }
 
-        return new RestTemplate(factory);
+    /**
+     * 호스트별 요청 빈도 제한 (오프라인 캐시 모드에서는 네트워크 요청이 없으므로 대기하지 않음)
+     */
+    private void acquireRequestSlot(String url) throws InterruptedException {
+        if (!offline) {
+            rateLimiter.acquire(URI.create(url));
+        }
     }
 
     /**
      * @param limit 저장할 최대 책의 개수
+     * @return 저장한 책 수
      */
     @Override
-    @Transactional
-    public void fetchAndSaveBooksWithContent(int limit) throws Exception {
-        String nextUrl = BASE_URL;
-        int savedCount = 0;
+    public int fetchAndSaveBooksWithContent(int limit) throws Exception {
+        BlockingQueue<GutendexResponse.BookDto> catalog = new ArrayBlockingQueue<>(catalogBufferSize);
+        AtomicReference<Exception> catalogFailure = new AtomicReference<>();
+        AtomicInteger savedCount = new AtomicInteger();
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+        Semaphore downloadPermits = new Semaphore(downloadConcurrency);
 
-        // 로컬 저장 폴더 준비
-        File dir = new File(System.getProperty("user.dir") + "/src/main/resources/books");
-        if (!dir.exists()) dir.mkdirs();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 1. 목록 단계
+            executor.submit(() -> fetchCatalog(limit, catalog, catalogFailure));
 
-        // 페이지네이션 루프 (limit 개수만큼 저장될 때까지 반복)
-        while (nextUrl != null && savedCount < limit) {
-            System.out.println("Fetching page: " + nextUrl);
-
-            GutendexResponse response = restTemplate.getForObject(nextUrl, GutendexResponse.class);
+            // 2~3. 다운로드/저장 단계 (동시 다운로드 수만큼만 작업을 띄움)
+            while (true) {
+                GutendexResponse.BookDto bookDto = catalog.take();
+                if (bookDto == END_OF_CATALOG) {
+                    break;
+                }
 
-            if (response == null || response.getResults() == null) {
-                break;
+                downloadPermits.acquire();
+                executor.submit(() -> {
+                    try {
+                        if (importBook(bookDto, errors) == ImportOutcome.IMPORTED) {
+                            savedCount.incrementAndGet();
+                        }
+                    } finally {
+                        downloadPermits.release();
+                    }
+                });
             }
+        } // close(): 진행 중인 다운로드/저장이 모두 끝날 때까지 대기
 
-            for (GutendexResponse.BookDto bookDto : response.getResults()) {
-                if (savedCount >= limit) break;
+        if (catalogFailure.get() != null && savedCount.get() == 0) {
+            throw catalogFailure.get();
+        }
 
-                String authors = bookDto.getAuthors().stream()
-                        .map(GutendexResponse.AuthorDto::getName)
-                        .collect(Collectors.joining(", "));
+        if (savedCount.get() > 0) {
+            refreshCatalogIndexes();
+        }
+
+        log.info("Gutendex 가져오기 완료: {}권 저장, {}권 실패", savedCount.get(), errors.size());
+        return savedCount.get();
+    }
+
+    @Override
+    public String getCatalogStartUrl() {
+        return baseUrl;
+    }
 
-                String summaries = String.join("\n", bookDto.getSubjects());
-                String bookshelves = String.join(", ", bookDto.getBookshelves());
-                if (bookshelves.isEmpty()) bookshelves = "Unknown";
+    /**
+     * 목록 페이지 하나를 조회해 페이지 안의 책을 동시에 가져옴
+     * 페이지의 모든 책이 끝난 뒤 반환하므로, 호출자는 반환 시점을 체크포인트로 삼을 수 있습니다.
+     */
+    @Override
+    public CatalogPageResult importCatalogPage(String pageUrl, int maxBooks) throws Exception {
+        log.info("Fetching page: {}", pageUrl);
+        acquireRequestSlot(pageUrl);
+        GutendexResponse response = restTemplate.getForObject(pageUrl, GutendexResponse.class);
 
-                // 저자 생년 기준으로 publishedAt 임의 설정
-                int birthYear = bookDto.getAuthors().isEmpty() || bookDto.getAuthors().get(0).getBirth_year() == null
-                        ? 1900 : bookDto.getAuthors().get(0).getBirth_year();
-                LocalDateTime publishedAt = LocalDateTime.of(birthYear, 1, 1, 0, 0);
+        if (response == null || response.getResults() == null) {
+            return new CatalogPageResult(null, 0, 0, 0, List.of(), null);
+        }
 
-                // text/plain 원문 URL 찾기 및 다운로드 (리다이렉트 자동 처리)
-                String contentUrl = findTextContentUrl(bookDto.getFormats());
-                String content = null;
+        List<GutendexResponse.BookDto> books =
+                response.getResults().subList(0, Math.min(maxBooks, response.getResults().size()));
+        AtomicInteger importedCount = new AtomicInteger();
+        AtomicInteger skippedCount = new AtomicInteger();
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+        Semaphore downloadPermits = new Semaphore(downloadConcurrency);
 
-                if (contentUrl != null) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (GutendexResponse.BookDto bookDto : books) {
+                downloadPermits.acquire();
+                executor.submit(() -> {
                     try {
-                        // Apache HttpClient가 리다이렉션을 따라가서 원문 텍스트를 가져옴
-                        content = restTemplate.getForObject(contentUrl, String.class);
-                    } catch (Exception e) {
-                        System.err.println("Content download failed for ID " + bookDto.getId() + ": " + e.getMessage());
-                        content = "Content download failed.";
+                        ImportOutcome outcome = importBook(bookDto, errors);
+                        if (outcome == ImportOutcome.IMPORTED) {
+                            importedCount.incrementAndGet();
+                        } else if (outcome == ImportOutcome.SKIPPED) {
+                            skippedCount.incrementAndGet();
+                        }
+                    } finally {
+                        downloadPermits.release();
                     }
-                }
+                });
+            }
+        } // close(): 페이지의 모든 책이 끝날 때까지 대기
 
-                Book book = Book.builder()
-                        .title(bookDto.getTitle())
-                        .author(authors)
-                        .genre(bookshelves)
-                        .publishedAt(publishedAt)
-                        .publisher("Gutenberg")
-                        .isbn(null)
-                        .pageCount(null)
-                        .description(summaries.substring(0, Math.min(summaries.length(), 255)))
-                        .coverUrl(null)
-                        .content(content)
-                        .build();
+        if (importedCount.get() > 0) {
+            refreshCatalogIndexes();
+        }
 
-                bookRepository.save(book);
-                savedCount++;
-            }
+        Long lastGutenbergId = books.isEmpty() ? null : books.get(books.size() - 1).getId();
+        return new CatalogPageResult(response.getNext(), books.size(), importedCount.get(), skippedCount.get(),
+                List.copyOf(errors), lastGutenbergId);
+    }
 
-            nextUrl = response.getNext(); // 다음 페이지로 이동
-            if (savedCount >= limit) break;
+    /**
+     * 추가된 책이 자동 완성과 장르 필터에 나오도록 메모리 색인 교체
+     */
+    private void refreshCatalogIndexes() {
+        bookSuggestService.rebuild();
+        bookGenreService.rebuild();
+    }
+
+    /**
+     * next 링크를 따라가며 limit권까지 대기열에 넣음 (대기열이 가득 차면 다운로드 단계를 기다림)
+     */
+    private void fetchCatalog(int limit, BlockingQueue<GutendexResponse.BookDto> catalog,
+                              AtomicReference<Exception> failure) {
+        String nextUrl = baseUrl;
+        int queued = 0;
+
+        try {
+            while (nextUrl != null && queued < limit) {
+                log.info("Fetching page: {}", nextUrl);
+                acquireRequestSlot(nextUrl);
+                GutendexResponse response = restTemplate.getForObject(nextUrl, GutendexResponse.class);
 
+                if (response == null || response.getResults() == null) {
+                    break;
+                }
+
+                for (GutendexResponse.BookDto bookDto : response.getResults()) {
+                    if (queued >= limit) break;
+                    catalog.put(bookDto);
+                    queued++;
+                }
+
+                nextUrl = response.getNext(); // 다음 페이지로 이동
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Gutendex 목록 조회 실패: {}", nextUrl, e);
+            failure.set(e);
+        } finally {
             try {
-                Thread.sleep(500);
+                catalog.put(END_OF_CATALOG);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                break;
             }
         }
+    }
 
-        System.out.println(savedCount + " books saved to DB");
-        System.out.println("Saved to: " + dir.getAbsolutePath());
+    /**
+     * 책 한 권 가져오기 (이미 가져온 책은 건너뜀)
+     * @param errors 실패한 책의 오류 메시지를 모을 대기열
+     * @return 처리 결과
+     */
+    private ImportOutcome importBook(GutendexResponse.BookDto bookDto, Queue<String> errors) {
+        if (bookDto.getId() != null && bookRepository.existsByGutenbergId(bookDto.getId())) {
+            return ImportOutcome.SKIPPED;
+        }
+
+        try {
+            if (streamingIngest) {
+                importBookStreaming(bookDto);
+            } else {
+                importBookBuffered(bookDto);
+            }
+            return ImportOutcome.IMPORTED;
+        } catch (RuntimeException e) {
+            log.error("책 저장 실패: Gutendex ID {}", bookDto.getId(), e);
+            errors.add("Gutendex ID " + bookDto.getId() + ": " + e.getMessage());
+            return ImportOutcome.FAILED;
+        }
+    }
+
+    /**
+     * 원문 다운로드 후 책 한 권을 별도 트랜잭션으로 저장하고 페이지로 분할
+     * 다운로드나 페이지 분할에 실패하면 책을 저장하지 않으므로 다음 가져오기에서 다시 시도됩니다.
+     */
+    private void importBookBuffered(GutendexResponse.BookDto bookDto) {
+        String content = downloadContent(bookDto);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Book book = bookRepository.save(toBook(bookDto));
+
+            // 원문은 목록 조회에 딸려 오지 않도록 book_content 테이블에 별도 저장
+            if (content != null) {
+                bookContentRepository.save(BookContent.builder()
+                        .book(book)
+                        .content(content)
+                        .build());
+            }
+
+            // 같은 트랜잭션에서 페이지, 검색 색인, 캐시까지 반영 (재분할 없이 바로 읽을 수 있도록)
+            if (content != null && !content.isEmpty()) {
+                bookService.saveBookContentAsPages(book.getBookId());
+            }
+        });
+    }
+
+    /**
+     * 책을 먼저 짧은 트랜잭션으로 저장한 뒤, 원문 응답 본문을 Reader로 읽으며 페이지로 바로 저장
+     * 원문 전체가 String으로 만들어지지 않으므로 책 한 권당 메모리는 페이지 배치 분량으로 제한됩니다.
+     * 원문 다운로드나 페이지 저장에 실패하면 (일부 페이지는 savePagesFromStream이 지움) 먼저 저장한 책도 지우고
+     * 예외를 던지므로, 실패한 책으로 집계되고 다음 가져오기에서 다시 시도됩니다.
+     */
+    private void importBookStreaming(GutendexResponse.BookDto bookDto) {
+        Book book = transactionTemplate.execute(status -> bookRepository.save(toBook(bookDto)));
+
+        String contentUrl = findTextContentUrl(bookDto.getFormats());
+        if (contentUrl == null) {
+            return;
+        }
+
+        try {
+            acquireRequestSlot(contentUrl);
+            restTemplate.execute(contentUrl, HttpMethod.GET, null, response -> {
+                // Content-Type의 charset으로 조금씩 디코딩 (없으면 UTF-8)
+                MediaType contentType = response.getHeaders().getContentType();
+                Charset charset = contentType != null && contentType.getCharset() != null
+                        ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+                try (Reader reader = new InputStreamReader(response.getBody(), charset)) {
+                    return bookService.savePagesFromStream(book.getBookId(), reader);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteBook(book);
+            throw new IllegalStateException("원문 다운로드 중단", e);
+        } catch (Exception e) {
+            deleteBook(book);
+            throw new IllegalStateException("원문 다운로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 원문을 받지 못한 책 삭제 (Gutenberg ID로 건너뛰지 않고 다시 가져오도록)
+     */
+    private void deleteBook(Book book) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> bookRepository.deleteById(book.getBookId()));
+        } catch (RuntimeException e) {
+            log.error("원문을 받지 못한 책 삭제 실패: 책 ID {}", book.getBookId(), e);
+        }
+    }
+
+    /**
+     * text/plain 원문 다운로드 (호스트별 요청 빈도 제한 적용)
+     * @return 원문, 원문 URL이 없으면 null
+     * @throws IllegalStateException 다운로드에 실패한 경우
+     */
+    private String downloadContent(GutendexResponse.BookDto bookDto) {
+        String contentUrl = findTextContentUrl(bookDto.getFormats());
+        if (contentUrl == null) {
+            return null;
+        }
+
+        try {
+            acquireRequestSlot(contentUrl);
+            return restTemplate.getForObject(contentUrl, String.class);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("원문 다운로드 중단", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("원문 다운로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private Book toBook(GutendexResponse.BookDto bookDto) {
+        String authors = bookDto.getAuthors().stream()
+                .map(GutendexResponse.AuthorDto::getName)
+                .collect(Collectors.joining(", "));
+
+        String summaries = String.join("\n", bookDto.getSubjects());
+        String bookshelves = String.join(", ", bookDto.getBookshelves());
+        if (bookshelves.isEmpty()) bookshelves = "Unknown";
+
+        // 저자 생년 기준으로 publishedAt 임의 설정
+        int birthYear = bookDto.getAuthors().isEmpty() || bookDto.getAuthors().get(0).getBirth_year() == null
+                ? 1900 : bookDto.getAuthors().get(0).getBirth_year();
+        LocalDateTime publishedAt = LocalDateTime.of(birthYear, 1, 1, 0, 0);
+
+        return Book.builder()
+                .title(bookDto.getTitle())
+                .author(authors)
+                .genre(bookshelves)
+                .publishedAt(publishedAt)
+                .publisher("Gutenberg")
+                .isbn(null)
+                .pageCount(null)
+                .description(summaries.substring(0, Math.min(summaries.length(), 255)))
+                .coverUrl(null)
+                .gutenbergId(bookDto.getId())
+                .build();
     }
 
     /**
      * Gutendex 포맷 맵에서 text/plain 파일을 찾는 유틸
      */
     private String findTextContentUrl(Map<String, String> formats) {
+        if (formats == null) {
+            return null;
+        }
         if (formats.containsKey("text/plain")) {
             return formats.get("text/plain");
         }
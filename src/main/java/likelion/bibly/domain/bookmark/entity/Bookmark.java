@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark", indexes = {
+        // 세션 내 모임원의 최근 북마크 조회 (정렬까지 인덱스로 처리)
+        @Index(name = "idx_bookmark_session_member_created", columnList = "session_id, member_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bookmark {
@@ -0,0 +1,11 @@
+package likelion.bibly.domain.group.dto;
+
+/**
+ * 모임 ID와 초대 코드만 조회하는 프로젝션 (스위퍼가 비운 코드를 초대 코드 풀에 반납할 때 사용)
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않습니다.
+ */
+public record GroupInviteCodeProjection(
+	Long groupId,
+	String inviteCode
+) {
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import likelion.bibly.domain.group.enums.GroupStatus;
 import lombok.AccessLevel;
@@ -17,7 +18,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "`group`")
+@Table(name = "`group`", indexes = {
+	// 만료된 초대 코드 회수
+	@Index(name = "idx_group_invite_code_expired_at", columnList = "invite_code_expired_at"),
+	// 오래된 대기 모임 정리
+	@Index(name = "idx_group_status_created_at", columnList = "status, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Group {
@@ -33,7 +39,8 @@ public class Group {
 	@Column(name = "reading_period", nullable = false)
 	private Integer readingPeriod;
 
-	@Column(name = "invite_code", length = 4, unique = true, nullable = false)
+	// 만료되면 null로 비우고 코드를 다른 모임이 재사용 (MySQL 유니크 인덱스는 NULL 중복 허용)
+	@Column(name = "invite_code", length = 4, unique = true)
 	private String inviteCode;
 
 	@Enumerated(EnumType.STRING)
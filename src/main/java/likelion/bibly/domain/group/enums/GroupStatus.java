@@ -3,5 +3,7 @@ package likelion.bibly.domain.group.enums;
 public enum GroupStatus {
 	WAITING,
 	IN_PROGRESS,
-	COMPLETED
+	COMPLETED,
+	// 오래도록 시작하지 않아 스위퍼가 정리한 모임
+	ARCHIVED
 }
@@ -1,14 +1,53 @@
 package likelion.bibly.domain.group.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import likelion.bibly.domain.group.dto.GroupInviteCodeProjection;
 import likelion.bibly.domain.group.entity.Group;
+import likelion.bibly.domain.group.enums.GroupStatus;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
 	Optional<Group> findByInviteCode(String inviteCode);
 	boolean existsByInviteCode(String inviteCode);
+
+	// 배정되어 있는 초대 코드 전체 (초대 코드 풀 초기화용)
+	@Query("SELECT g.inviteCode FROM Group g WHERE g.inviteCode IS NOT NULL")
+	List<String> findAllInviteCodes();
+
+	// 초대 코드가 만료되었지만 아직 비우지 않은 모임 (모임 ID 순으로 limit개)
+	@Query("SELECT new likelion.bibly.domain.group.dto.GroupInviteCodeProjection(g.groupId, g.inviteCode) "
+		+ "FROM Group g WHERE g.inviteCode IS NOT NULL AND g.inviteCodeExpiredAt < :now ORDER BY g.groupId")
+	List<GroupInviteCodeProjection> findExpiredInviteCodes(@Param("now") LocalDateTime now, Limit limit);
+
+	// Group.clearExpiredInviteCode와 같은 조건으로, 고른 때의 코드가 그대로인 모임만 비움 (다른 서버가 먼저 비운 행은 0)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Group g SET g.inviteCode = NULL "
+		+ "WHERE g.groupId = :groupId AND g.inviteCode = :inviteCode AND g.inviteCodeExpiredAt < :now")
+	int clearExpiredInviteCode(@Param("groupId") Long groupId, @Param("inviteCode") String inviteCode,
+		@Param("now") LocalDateTime now);
+
+	// cutoff 전에 만들어진 뒤 한 번도 시작하지 않은(배정이 없는) 모임 (모임 ID 순으로 limit개)
+	@Query("SELECT new likelion.bibly.domain.group.dto.GroupInviteCodeProjection(g.groupId, g.inviteCode) "
+		+ "FROM Group g WHERE g.status = :status AND g.createdAt < :cutoff "
+		+ "AND NOT EXISTS (SELECT 1 FROM ReadingAssignment a WHERE a.group = g) ORDER BY g.groupId")
+	List<GroupInviteCodeProjection> findStaleGroups(@Param("status") GroupStatus status,
+		@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+	// 아직 from 상태이고 초대 코드도 고른 때와 같은 모임만 to 상태로 바꾸고 초대 코드를 비움
+	// (그 사이 시작되었거나 다른 서버가 코드를 비운 모임은 0, 코드를 비운 모임은 다음 실행에서 다시 처리)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Group g SET g.status = :to, g.inviteCode = NULL WHERE g.groupId = :groupId AND g.status = :from "
+		+ "AND (g.inviteCode = :inviteCode OR (:inviteCode IS NULL AND g.inviteCode IS NULL))")
+	int changeStatusAndClearInviteCode(@Param("groupId") Long groupId, @Param("inviteCode") String inviteCode,
+		@Param("from") GroupStatus from, @Param("to") GroupStatus to);
 }
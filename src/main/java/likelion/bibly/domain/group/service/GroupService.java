@@ -25,7 +25,7 @@ public interface GroupService {
 	 * @param userId 사용자 ID (헤더에서 추출)
 	 * @param request 모임 생성 요청 (groupName, readingPeriod, nickname, color)
 	 * @return 생성된 모임 정보
-	 * @throws likelion.bibly.global.exception.BusinessException U001, M004, M005, C001, C002
+	 * @throws likelion.bibly.global.exception.BusinessException U001, M004, M005, C001, G010, G011
 	 */
 	GroupCreateResponse createGroup(String userId, GroupCreateRequest request);
 
@@ -35,7 +35,7 @@ public interface GroupService {
 	 *
 	 * @param inviteCode 4자리 숫자 초대 코드
 	 * @return 모임 정보, 모임원 목록, 사용 가능한 색상
-	 * @throws likelion.bibly.global.exception.BusinessException G002, G004
+	 * @throws likelion.bibly.global.exception.BusinessException G002, G003, G004
 	 */
 	InviteCodeValidateResponse validateInviteCode(String inviteCode);
 
@@ -4,17 +4,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import likelion.bibly.domain.assignment.entity.ReadingAssignment;
 import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
 import likelion.bibly.domain.assignment.service.AssignmentService;
+import likelion.bibly.domain.assignment.service.CycleSchedule;
+import likelion.bibly.domain.assignment.service.CycleScheduleCache;
 import likelion.bibly.domain.book.entity.Book;
 import likelion.bibly.domain.book.repository.BookRepository;
 import likelion.bibly.domain.group.dto.request.GroupCreateRequest;
@@ -27,9 +31,9 @@ import likelion.bibly.domain.group.dto.response.RestartStatusResponse;
 import likelion.bibly.domain.group.entity.Group;
 import likelion.bibly.domain.group.enums.GroupStatus;
 import likelion.bibly.domain.group.repository.GroupRepository;
-import likelion.bibly.domain.group.util.InviteCodeGenerator;
 import likelion.bibly.domain.member.dto.GroupJoinRequest;
 import likelion.bibly.domain.member.dto.GroupJoinResponse;
+import likelion.bibly.domain.member.dto.MemberSummaryProjection;
 import likelion.bibly.domain.member.entity.Member;
 import likelion.bibly.domain.member.enums.MemberRole;
 import likelion.bibly.domain.member.enums.MemberStatus;
@@ -58,6 +62,8 @@ public class GroupServiceImpl implements GroupService {
 	private final BookRepository bookRepository;
 	private final AssignmentService assignmentService;
 	private final ReadingAssignmentRepository assignmentRepository;
+	private final CycleScheduleCache cycleScheduleCache;
+	private final InviteCodeAllocator inviteCodeAllocator;
 
 	/**
 	 * 모임 생성
@@ -66,7 +72,7 @@ public class GroupServiceImpl implements GroupService {
 	 * @param userId 사용자 ID (헤더에서 추출)
 	 * @param request 모임 생성 요청 (groupName, readingPeriod, nickname, color)
 	 * @return 생성된 모임 정보
-	 * @throws BusinessException U001, M004, M005, C001, C002
+	 * @throws BusinessException U001, M004, M005, C001, G010, G011
 	 */
 	@Override
 	@Transactional
@@ -81,8 +87,8 @@ public class GroupServiceImpl implements GroupService {
 			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
 		}
 
-		// 초대 코드 생성 (중복되지 않을 때까지 생성)
-		String inviteCode = generateUniqueInviteCode();
+		// 초대 코드 할당 (메모리 풀에서 꺼내므로 DB 조회 없음, 모임 생성이 롤백되면 풀에 반납)
+		String inviteCode = inviteCodeAllocator.allocate();
 
 		// 그룹, 모임장 멤버 생성
 		Group group = Group.builder()
@@ -91,7 +97,14 @@ public class GroupServiceImpl implements GroupService {
 			.inviteCode(inviteCode)
 			.build();
 
-		Group savedGroup = groupRepository.save(group);
+		Group savedGroup;
+		try {
+			savedGroup = groupRepository.save(group);
+		} catch (DataIntegrityViolationException e) {
+			// 다른 서버가 같은 코드를 먼저 배정한 경우 (이 서버의 풀에서도 사용 중으로 남김)
+			inviteCodeAllocator.markUsed(inviteCode);
+			throw new BusinessException(ErrorCode.INVITE_CODE_CONFLICT);
+		}
 
 		Member leader = Member.builder()
 			.group(savedGroup)
@@ -118,7 +131,7 @@ public class GroupServiceImpl implements GroupService {
 	 *
 	 * @param inviteCode 4자리 숫자 초대 코드
 	 * @return 모임 정보, 모임원 목록, 사용 가능한 색상
-	 * @throws BusinessException G002, G004
+	 * @throws BusinessException G002, G003, G004
 	 */
 	@Override
 	public InviteCodeValidateResponse validateInviteCode(String inviteCode) {
@@ -126,27 +139,33 @@ public class GroupServiceImpl implements GroupService {
 		Group group = groupRepository.findByInviteCode(inviteCode)
 			.orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
 
+		// 만료되었지만 아직 스위퍼가 비우지 않은 코드
+		if (!group.isInviteCodeValid()) {
+			throw new BusinessException(ErrorCode.INVITE_CODE_EXPIRED);
+		}
+
+		// 모임원 요약 정보 조회 (닉네임/색상/선택한 책 컬럼만)
+		List<MemberSummaryProjection> members = memberRepository.findSummariesByGroupIdAndStatus(
+			group.getGroupId(), MemberStatus.ACTIVE);
+
 		// 현재 모임원 수 확인 및 모임원이 가득 찼는지 확인
-		long memberCount = memberRepository.countByGroup_GroupIdAndStatus(group.getGroupId(), MemberStatus.ACTIVE);
+		long memberCount = members.size();
 
 		if (memberCount >= MAX_MEMBERS) {
 			throw new BusinessException(ErrorCode.GROUP_FULL);
 		}
 
-		// 모임원 정보 조회
-		List<Member> members = memberRepository.findByGroup_GroupIdAndStatus(group.getGroupId(), MemberStatus.ACTIVE);
-
 		List<InviteCodeValidateResponse.MemberSummary> memberSummaries = members.stream()
 			.map(member -> InviteCodeValidateResponse.MemberSummary.builder()
-				.nickname(member.getNickname())
-				.color(member.getColor())
-				.hasSelectedBook(member.getSelectedBookId() != null)
+				.nickname(member.nickname())
+				.color(member.color())
+				.hasSelectedBook(member.selectedBookId() != null)
 				.build())
 			.collect(Collectors.toList());
 
 		// 사용 가능한 색상 목록
 		List<String> usedColors = members.stream()
-			.map(Member::getColor)
+			.map(MemberSummaryProjection::color)
 			.collect(Collectors.toList());
 		List<String> availableColors = MemberColorUtil.getAvailableColors(usedColors);
 
@@ -264,41 +283,15 @@ public class GroupServiceImpl implements GroupService {
 
 		List<Member> activeMembers = memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE);
 
-		List<likelion.bibly.domain.assignment.entity.ReadingAssignment> allAssignments =
-			assignmentRepository.findByGroup_GroupId(groupId);
-
-		// 시간 기준으로 현재 진행 중인 회차 계산
-		LocalDateTime now = LocalDateTime.now();
-		Integer currentCycle = allAssignments.stream()
-			.filter(a -> !now.isBefore(a.getStartDate()) && !now.isAfter(a.getEndDate()))
-			.map(likelion.bibly.domain.assignment.entity.ReadingAssignment::getCycleNumber)
-			.findFirst()
-			.orElseGet(() -> {
-				LocalDateTime firstStartDate = allAssignments.stream()
-					.map(likelion.bibly.domain.assignment.entity.ReadingAssignment::getStartDate)
-					.min(LocalDateTime::compareTo)
-					.orElse(LocalDateTime.now());
-
-				if (now.isBefore(firstStartDate)) {
-					return allAssignments.stream()
-						.map(likelion.bibly.domain.assignment.entity.ReadingAssignment::getCycleNumber)
-						.min(Integer::compareTo)
-						.orElse(1);
-				} else {
-					return allAssignments.stream()
-						.map(likelion.bibly.domain.assignment.entity.ReadingAssignment::getCycleNumber)
-						.max(Integer::compareTo)
-						.orElse(1);
-				}
-			});
+		// 시간 기준으로 현재 진행 중인 회차 계산 후 그 회차의 배정만 조회
+		int currentCycle = cycleScheduleCache.currentCycle(groupId);
 
-		List<likelion.bibly.domain.assignment.entity.ReadingAssignment> currentAssignments = allAssignments.stream()
-			.filter(a -> a.getCycleNumber().equals(currentCycle))
-			.collect(Collectors.toList());
+		List<ReadingAssignment> currentAssignments =
+			assignmentRepository.findByGroup_GroupIdAndCycleNumber(groupId, currentCycle);
 
 		List<CurrentReadingAssignmentResponse.MemberCurrentAssignment> memberAssignments = activeMembers.stream()
 			.map(member -> {
-				likelion.bibly.domain.assignment.entity.ReadingAssignment assignment = currentAssignments.stream()
+				ReadingAssignment assignment = currentAssignments.stream()
 					.filter(a -> a.getMember().getMemberId().equals(member.getMemberId()))
 					.findFirst()
 					.orElse(null);
@@ -406,10 +399,13 @@ public class GroupServiceImpl implements GroupService {
 	@Override
 	@Transactional
 	public GroupStartResponse startGroup(Long groupId, String userId) {
-		// 모임 조회 후 이미 시작된 모임인지 확인
+		// 모임 조회 후 보관되었거나 이미 시작된 모임인지 확인
 		Group group = groupRepository.findById(groupId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
+		if (group.getStatus() == GroupStatus.ARCHIVED) {
+			throw new BusinessException(ErrorCode.GROUP_ARCHIVED);
+		}
 		if (group.getStatus() != GroupStatus.WAITING) {
 			throw new BusinessException(ErrorCode.GROUP_ALREADY_STARTED);
 		}
@@ -461,9 +457,9 @@ public class GroupServiceImpl implements GroupService {
 			throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
 		}
 
-		List<ReadingAssignment> allAssignments = assignmentRepository.findByGroup_GroupId(groupId);
+		Optional<CycleSchedule> schedule = cycleScheduleCache.find(groupId);
 
-		if (allAssignments.isEmpty()) {
+		if (schedule.isEmpty()) {
 			return RestartStatusResponse.builder()
 				.groupId(group.getGroupId())
 				.groupName(group.getGroupName())
@@ -475,41 +471,26 @@ public class GroupServiceImpl implements GroupService {
 				.build();
 		}
 
-		Integer maxCycleNumber = allAssignments.stream()
-			.map(ReadingAssignment::getCycleNumber)
-			.max(Integer::compareTo)
-			.orElse(0);
+		int maxCycleNumber = schedule.get().lastCycle();
 
 		// 시간 기준 현재 회차 계산
 		LocalDateTime now = LocalDateTime.now();
 
-		// 현재 진행 중인 회차 찾기 (startDate <= now <= endDate)
-		Integer currentCycle = allAssignments.stream()
-			.filter(a -> !now.isBefore(a.getStartDate()) && !now.isAfter(a.getEndDate()))
-			.map(ReadingAssignment::getCycleNumber)
-			.findFirst()
-			.orElse(null);
-
+		int currentCycle;
 		boolean canRestart = false;
 		String message;
 
-		if (currentCycle == null) {
-			ReadingAssignment lastAssignment = allAssignments.stream()
-				.filter(a -> a.getCycleNumber().equals(maxCycleNumber))
-				.findFirst()
-				.orElse(null);
-
-			if (lastAssignment != null && now.isAfter(lastAssignment.getEndDate())) {
-				canRestart = true;
-				currentCycle = maxCycleNumber;
-				int currentRound = (maxCycleNumber - 1) / memberCount + 1;
-				message = String.format("%d라운드를 완료했습니다. 재시작이 가능합니다.", currentRound);
-			} else {
-				currentCycle = 1;
-				message = "아직 독서가 시작되지 않았습니다.";
-			}
+		if (schedule.get().isFinished(now)) {
+			canRestart = true;
+			currentCycle = maxCycleNumber;
+			int currentRound = (maxCycleNumber - 1) / memberCount + 1;
+			message = String.format("%d라운드를 완료했습니다. 재시작이 가능합니다.", currentRound);
+		} else if (!schedule.get().isStarted(now)) {
+			currentCycle = 1;
+			message = "아직 독서가 시작되지 않았습니다.";
 		} else {
-			if (currentCycle.equals(maxCycleNumber)) {
+			currentCycle = schedule.get().currentCycle(now);
+			if (currentCycle == maxCycleNumber) {
 				message = String.format("마지막 회차(%d회차)가 진행 중입니다. 기간이 지난 후 재시작이 가능합니다.", currentCycle);
 			} else {
 				message = String.format("현재 %d회차 진행 중입니다. %d회차까지 완료해야 재시작이 가능합니다.",
@@ -577,22 +558,6 @@ public class GroupServiceImpl implements GroupService {
 		return buildGroupStartResponse(group, groupId);
 	}
 
-	/**
-	 * 중복되지 않는 4자리 초대 코드 생성
-	 */
-	private String generateUniqueInviteCode() {
-		String inviteCode;
-		int attempts = 0;
-		do {
-			inviteCode = InviteCodeGenerator.generate();
-			attempts++;
-			if (attempts > 100) {
-				throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-			}
-		} while (groupRepository.existsByInviteCode(inviteCode));
-		return inviteCode;
-	}
-
 	/**
 	 * 책을 선택하지 않은 멤버에게 랜덤 책 배정 (중복 제외)
 	 */
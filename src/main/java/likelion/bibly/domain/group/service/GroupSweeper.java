@@ -0,0 +1,146 @@
+package likelion.bibly.domain.group.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import likelion.bibly.domain.group.dto.GroupInviteCodeProjection;
+import likelion.bibly.domain.group.enums.GroupStatus;
+import likelion.bibly.domain.group.repository.GroupRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 정리 스위퍼
+ * 주기적으로 만료된 초대 코드를 비우고, 오래도록 시작하지 않은 대기(WAITING) 모임을 ARCHIVED로 바꿉니다.
+ *
+ * 모임 ID 순으로 chunk-size개씩 고른 뒤 행마다 조건부 UPDATE로 처리하고, 묶음마다 트랜잭션을 따로 커밋해
+ * 행 잠금을 짧게 유지합니다. (JPQL UPDATE에는 LIMIT이 없어 ID를 먼저 고름)
+ * UPDATE가 조회 조건과 고른 때의 초대 코드를 다시 확인하므로 여러 서버가 동시에 실행해도 같은 행을 두 번 처리하지 않으며,
+ * 다른 서버가 먼저 처리한 묶음을 만나면(갱신 0건) 이번 실행을 마칩니다.
+ * 이 서버의 UPDATE가 실제로 비운 행의 초대 코드만 커밋 후 이 서버의 초대 코드 풀에 반납합니다.
+ * (다른 서버가 먼저 비운 코드는 이미 새 모임에 배정되었을 수 있음)
+ */
+@Slf4j
+@Component
+public class GroupSweeper {
+
+	private final GroupRepository groupRepository;
+	private final InviteCodeAllocator inviteCodeAllocator;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final Duration waitingGroupTtl;
+
+	private final DistributionSummary expiredInviteCodes;
+	private final DistributionSummary archivedGroups;
+	private final Timer sweepTimer;
+
+	public GroupSweeper(
+		GroupRepository groupRepository,
+		InviteCodeAllocator inviteCodeAllocator,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${bibly.group-sweeper.chunk-size:500}") int chunkSize,
+		@Value("${bibly.group-sweeper.waiting-group-ttl:30d}") Duration waitingGroupTtl) {
+		this.groupRepository = groupRepository;
+		this.inviteCodeAllocator = inviteCodeAllocator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.waitingGroupTtl = waitingGroupTtl;
+		this.expiredInviteCodes = DistributionSummary.builder("bibly.group.sweeper.rows").tag("type", "expired-invite-code")
+			.description("스위퍼 실행 한 번에 처리한 행 수").register(meterRegistry);
+		this.archivedGroups = DistributionSummary.builder("bibly.group.sweeper.rows").tag("type", "archived-group")
+			.description("스위퍼 실행 한 번에 처리한 행 수").register(meterRegistry);
+		this.sweepTimer = Timer.builder("bibly.group.sweeper.run")
+			.description("스위퍼 실행 시간").register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${bibly.group-sweeper.interval:10m}",
+		initialDelayString = "${bibly.group-sweeper.initial-delay:1m}")
+	public void sweep() {
+		long startedAt = System.nanoTime();
+		LocalDateTime now = LocalDateTime.now();
+
+		int expired = expireInviteCodes(now);
+		int archived = archiveStaleGroups(now.minus(waitingGroupTtl));
+
+		sweepTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		expiredInviteCodes.record(expired);
+		archivedGroups.record(archived);
+		if (expired > 0 || archived > 0) {
+			log.info("모임 정리: 만료된 초대 코드 {}개, 보관 처리한 대기 모임 {}개", expired, archived);
+		}
+	}
+
+	/**
+	 * 만료된 초대 코드 비우기
+	 *
+	 * @return 비운 코드 수
+	 */
+	int expireInviteCodes(LocalDateTime now) {
+		return sweepInChunks(
+			() -> groupRepository.findExpiredInviteCodes(now, Limit.of(chunkSize)),
+			row -> groupRepository.clearExpiredInviteCode(row.groupId(), row.inviteCode(), now));
+	}
+
+	/**
+	 * cutoff 전에 만들어진 뒤 시작하지 않은 대기 모임을 보관 처리 (초대 코드도 비움)
+	 *
+	 * @return 보관 처리한 모임 수
+	 */
+	int archiveStaleGroups(LocalDateTime cutoff) {
+		return sweepInChunks(
+			() -> groupRepository.findStaleGroups(GroupStatus.WAITING, cutoff, Limit.of(chunkSize)),
+			row -> groupRepository.changeStatusAndClearInviteCode(row.groupId(), row.inviteCode(),
+				GroupStatus.WAITING, GroupStatus.ARCHIVED));
+	}
+
+	private int sweepInChunks(Supplier<List<GroupInviteCodeProjection>> findChunk,
+		ToIntFunction<GroupInviteCodeProjection> update) {
+		int total = 0;
+		while (true) {
+			SweptChunk chunk = transactionTemplate.execute(status -> {
+				List<GroupInviteCodeProjection> rows = findChunk.get();
+				List<String> clearedCodes = new ArrayList<>();
+				int updated = 0;
+				for (GroupInviteCodeProjection row : rows) {
+					if (update.applyAsInt(row) > 0) {
+						updated++;
+						if (row.inviteCode() != null) {
+							clearedCodes.add(row.inviteCode());
+						}
+					}
+				}
+				return new SweptChunk(rows.size(), updated, clearedCodes);
+			});
+
+			if (!chunk.clearedCodes().isEmpty()) {
+				inviteCodeAllocator.release(chunk.clearedCodes());
+			}
+			total += chunk.updated();
+
+			if (chunk.selected() < chunkSize || chunk.updated() == 0) {
+				return total;
+			}
+		}
+	}
+
+	/**
+	 * 한 묶음에서 고른 행 수, 실제로 갱신된 행 수, 이 서버가 비운 초대 코드
+	 */
+	private record SweptChunk(int selected, int updated, List<String> clearedCodes) {
+	}
+}
@@ -0,0 +1,122 @@
+package likelion.bibly.domain.group.service;
+
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import likelion.bibly.domain.group.repository.GroupRepository;
+import likelion.bibly.domain.group.util.InviteCodePool;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 초대 코드 할당기
+ * 시작 시 DB에 배정된 코드를 읽어 빈 코드 풀을 만들어 두고, 모임 생성 때마다 DB 조회 없이 O(1)로 코드를 꺼내 줍니다.
+ * 만료된 코드는 GroupSweeper가 DB에서 비운 뒤 풀에 반납합니다.
+ * 트랜잭션 안에서 할당한 코드는 그 트랜잭션이 롤백되면 (멤버 저장 실패 등) 풀에 다시 반납합니다.
+ * 여러 서버가 각자 풀을 가지므로 같은 코드를 동시에 꺼낼 수 있으며, 이때는 invite_code 유니크 제약이 최종 판정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeAllocator {
+
+	private final GroupRepository groupRepository;
+
+	// this로 동기화
+	private InviteCodePool pool;
+
+	// 할당했지만 트랜잭션이 아직 끝나지 않은 코드 (this로 동기화)
+	private final Set<String> pending = new HashSet<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		rebuild();
+	}
+
+	/**
+	 * DB에 배정된 코드로 풀을 다시 만듦
+	 */
+	public synchronized void rebuild() {
+		pool = new InviteCodePool(groupRepository.findAllInviteCodes(), new SecureRandom());
+		log.info("초대 코드 풀 초기화: 사용 가능 {}개", pool.available());
+	}
+
+	/**
+	 * 빈 초대 코드 할당
+	 * 풀이 비었으면 다른 서버의 스위퍼가 비운 코드까지 반영하도록 DB에서 풀을 다시 만든 뒤 한 번 더 시도합니다.
+	 * 트랜잭션 안이면 롤백될 때 코드를 반납하도록 등록합니다.
+	 *
+	 * @throws BusinessException G010 (사용 가능한 코드 없음)
+	 */
+	public synchronized String allocate() {
+		Optional<String> code = pool().poll();
+		if (code.isEmpty()) {
+			rebuild();
+			code = pool.poll();
+		}
+		String allocated = code.orElseThrow(() -> new BusinessException(ErrorCode.INVITE_CODE_EXHAUSTED));
+		releaseOnRollback(allocated);
+		return allocated;
+	}
+
+	/**
+	 * DB에서 비운 코드를 풀에 반납
+	 */
+	public synchronized void release(Collection<String> codes) {
+		InviteCodePool current = pool();
+		codes.forEach(current::release);
+	}
+
+	/**
+	 * 다른 서버가 이미 쓴 코드로 표시 (유니크 제약 충돌 시, 롤백되어도 반납하지 않음)
+	 */
+	public synchronized void markUsed(String code) {
+		pending.remove(code);
+		pool().markUsed(code);
+	}
+
+	/**
+	 * 사용 가능한 코드 수
+	 */
+	public synchronized int available() {
+		return pool().available();
+	}
+
+	private void releaseOnRollback(String code) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		pending.add(code);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				completePending(code, status == STATUS_ROLLED_BACK);
+			}
+		});
+	}
+
+	private synchronized void completePending(String code, boolean rolledBack) {
+		if (pending.remove(code) && rolledBack) {
+			pool().release(code);
+		}
+	}
+
+	private InviteCodePool pool() {
+		if (pool == null) {
+			rebuild();
+		}
+		return pool;
+	}
+}
@@ -0,0 +1,134 @@
+package likelion.bibly.domain.group.util;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * 4자리 초대 코드(0000~9999) 공간의 빈 코드 목록
+ * 사용 중이 아닌 코드를 섞어서 원형 큐에 담아 두고 앞에서 꺼내 주며, 반납된 코드는 큐 뒤에 붙여
+ * 방금 만료된 코드가 곧바로 다른 모임에 재사용되지 않도록 합니다.
+ * 다른 서버가 먼저 쓴 코드는 markUsed로 표시만 해 두고 큐에서 꺼낼 때 건너뜁니다. (스레드 안전하지 않음)
+ */
+public class InviteCodePool {
+	public static final int CODE_LENGTH = 4;
+	public static final int CODE_SPACE = 10_000;
+
+	private final int[] queue = new int[CODE_SPACE];
+	private int head;
+	private int size;
+
+	// 사용 중인 코드 / 큐에 들어 있는 코드 (큐에 같은 코드가 두 번 들어가지 않도록)
+	private final BitSet used = new BitSet(CODE_SPACE);
+	private final BitSet queued = new BitSet(CODE_SPACE);
+
+	/**
+	 * @param usedCodes 이미 모임에 배정된 코드 (형식이 맞지 않는 코드는 무시)
+	 */
+	public InviteCodePool(Collection<String> usedCodes, Random random) {
+		for (String code : usedCodes) {
+			int value = parse(code);
+			if (value >= 0) {
+				used.set(value);
+			}
+		}
+
+		int[] free = new int[CODE_SPACE - used.cardinality()];
+		int count = 0;
+		for (int value = used.nextClearBit(0); value < CODE_SPACE; value = used.nextClearBit(value + 1)) {
+			free[count++] = value;
+		}
+		// Fisher-Yates 셔플
+		for (int i = free.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int temp = free[i];
+			free[i] = free[j];
+			free[j] = temp;
+		}
+		for (int value : free) {
+			enqueue(value);
+		}
+	}
+
+	/**
+	 * 빈 코드 하나를 꺼내 사용 중으로 표시 (건너뛴 항목까지 포함해 분할 상환 O(1))
+	 *
+	 * @return 남은 코드가 없으면 empty
+	 */
+	public Optional<String> poll() {
+		while (size > 0) {
+			int value = queue[head];
+			head = (head + 1) % CODE_SPACE;
+			size--;
+			queued.clear(value);
+			if (!used.get(value)) {
+				used.set(value);
+				return Optional.of(format(value));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 사용이 끝난 코드를 큐 뒤에 반납
+	 *
+	 * @return 사용 중이던 코드를 반납했으면 true
+	 */
+	public boolean release(String code) {
+		int value = parse(code);
+		if (value < 0 || !used.get(value)) {
+			return false;
+		}
+		used.clear(value);
+		if (!queued.get(value)) {
+			enqueue(value);
+		}
+		return true;
+	}
+
+	/**
+	 * 다른 곳에서 이미 쓰고 있는 코드로 표시 (큐에서 꺼낼 때 건너뜀)
+	 */
+	public void markUsed(String code) {
+		int value = parse(code);
+		if (value >= 0) {
+			used.set(value);
+		}
+	}
+
+	/**
+	 * 사용 가능한 코드 수
+	 */
+	public int available() {
+		return CODE_SPACE - used.cardinality();
+	}
+
+	private void enqueue(int value) {
+		queue[(head + size) % CODE_SPACE] = value;
+		size++;
+		queued.set(value);
+	}
+
+	static String format(int value) {
+		return String.format("%04d", value);
+	}
+
+	/**
+	 * @return 4자리 숫자가 아니면 -1
+	 */
+	static int parse(String code) {
+		if (code == null || code.length() != CODE_LENGTH) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = 0; i < CODE_LENGTH; i++) {
+			char c = code.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+}
@@ -24,5 +24,8 @@ public record HighlightCreateRequest(
         Integer startOffset,
 
         @Schema(description = "페이지 내 끝 오프셋 (문자열 인덱스)", example = "180")
-        Integer endOffset
+        Integer endOffset,
+
+        @Schema(description = "페이지 번호/오프셋의 페이지 크기 프로필 (생략하면 기본 프로필)", example = "tablet")
+        String profile
 ) {}
\ No newline at end of file
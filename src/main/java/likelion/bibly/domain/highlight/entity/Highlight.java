@@ -14,7 +14,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "highlight")
+@Table(name = "highlight", indexes = {
+        // 세션 내 모임원 하이라이트 조회
+        @Index(name = "idx_highlight_session_member", columnList = "session_id, member_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Highlight {
@@ -7,6 +7,8 @@ import likelion.bibly.domain.highlight.entity.Highlight;
 import likelion.bibly.domain.highlight.repository.HighlightRepository;
 import likelion.bibly.domain.member.entity.Member;
 import likelion.bibly.domain.member.repository.MemberRepository;
+import likelion.bibly.domain.page.service.VirtualPageService;
+import likelion.bibly.domain.page.service.VirtualPageService.TextRange;
 import likelion.bibly.domain.session.entity.ReadingSession;
 import likelion.bibly.domain.session.repository.ReadingSessionRepository;
 import likelion.bibly.global.exception.BusinessException;
@@ -27,6 +29,7 @@ public class HighlightService {
     private final ReadingSessionRepository readingSessionRepository;
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
+    private final VirtualPageService virtualPageService;
 
     /**
      * H.1 하이라이트 생성
@@ -47,15 +50,30 @@ public class HighlightService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
+        // 하이라이트 위치는 기본 프로필 기준으로 저장 (다른 프로필에서 만든 하이라이트는 변환)
+        Integer highlightedPage = request.highlightedPage();
+        Integer startOffset = request.startOffset();
+        Integer endOffset = request.endOffset();
+        if (!VirtualPageService.isDefaultProfile(request.profile())) {
+            if (highlightedPage == null) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            TextRange range = virtualPageService.translate(session.getBook().getBookId(), request.profile(),
+                    highlightedPage, startOffset, endOffset, VirtualPageService.DEFAULT_PROFILE);
+            highlightedPage = range.pageNumber();
+            startOffset = range.startOffset();
+            endOffset = range.endOffset();
+        }
+
         // Highlight 엔티티 생성
         Highlight highlight = Highlight.builder()
                 .session(session)
                 .member(member)
                 .textSentence(request.textSentence())
                 .color(request.color())
-                .highlightedPage(request.highlightedPage())
-                .startOffset(request.startOffset())
-                .endOffset(request.endOffset())
+                .highlightedPage(highlightedPage)
+                .startOffset(startOffset)
+                .endOffset(endOffset)
                 .build();
 
         // 저장 및 응답 반환
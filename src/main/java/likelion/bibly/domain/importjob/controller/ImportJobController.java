@@ -0,0 +1,129 @@
+package likelion.bibly.domain.importjob.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import likelion.bibly.domain.importjob.dto.request.ImportJobCreateRequest;
+import likelion.bibly.domain.importjob.dto.response.ImportJobResponse;
+import likelion.bibly.domain.importjob.service.ImportJobService;
+import likelion.bibly.global.common.ApiResponse;
+import likelion.bibly.global.exception.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Import", description = "책 가져오기 작업 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/v1/admin/imports")
+@RequiredArgsConstructor
+public class ImportJobController {
+
+	private final ImportJobService importJobService;
+
+	/**
+	 * 가져오기 작업 시작
+	 */
+	@Operation(
+		summary = "[관리자] 가져오기 작업 시작",
+		description = """
+			Gutendex에서 책 메타데이터와 원문을 가져오는 작업을 백그라운드로 시작합니다.
+
+			**동작:**
+			- 목록 페이지 하나를 끝낼 때마다 다음 페이지 URL과 진행 수를 체크포인트로 저장합니다
+			- 서버가 재시작되면 진행 중이던 작업은 마지막 체크포인트부터 이어서 실행됩니다
+			- 이미 가져온 책(Gutenberg ID 기준)은 건너뜁니다
+			- 가져오기 작업은 한 번에 하나만 실행할 수 있습니다
+			"""
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "202",
+			description = "가져오기 작업 시작",
+			content = @Content(schema = @Schema(implementation = ImportJobResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "409",
+			description = "이미 진행 중인 가져오기 작업이 있음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@PostMapping
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResponse<ImportJobResponse> startImport(
+		@Valid @RequestBody ImportJobCreateRequest request
+	) {
+		return ApiResponse.success(importJobService.startImport(request));
+	}
+
+	/**
+	 * 가져오기 작업 진행 상황 조회
+	 */
+	@Operation(
+		summary = "[관리자] 가져오기 작업 진행 상황 조회",
+		description = "처리/가져옴/건너뜀/실패 수, 분당 처리 책 수, 마지막 오류, 체크포인트(다음 목록 페이지)를 조회합니다."
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = ImportJobResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "404",
+			description = "가져오기 작업을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@GetMapping("/{importJobId}")
+	@ResponseStatus(HttpStatus.OK)
+	public ApiResponse<ImportJobResponse> getImportJob(
+		@Parameter(description = "가져오기 작업 ID", example = "1")
+		@PathVariable Long importJobId
+	) {
+		return ApiResponse.success(importJobService.getImportJob(importJobId));
+	}
+
+	/**
+	 * 실패한 가져오기 작업 재개
+	 */
+	@Operation(
+		summary = "[관리자] 실패한 가져오기 작업 재개",
+		description = "FAILED 상태의 작업을 마지막 체크포인트부터 다시 실행합니다."
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "202",
+			description = "가져오기 작업 재개",
+			content = @Content(schema = @Schema(implementation = ImportJobResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "400",
+			description = "실패한 작업이 아님",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "404",
+			description = "가져오기 작업을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@PostMapping("/{importJobId}/resume")
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResponse<ImportJobResponse> resumeImport(
+		@Parameter(description = "가져오기 작업 ID", example = "1")
+		@PathVariable Long importJobId
+	) {
+		return ApiResponse.success(importJobService.resumeImport(importJobId));
+	}
+}
@@ -0,0 +1,20 @@
+package likelion.bibly.domain.importjob.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "가져오기 작업 시작 요청")
+public record ImportJobCreateRequest(
+	@Schema(description = "처리할 책 수 (이미 가져온 책도 건너뛴 책으로 포함)", example = "40")
+	@NotNull(message = "처리할 책 수는 필수입니다.")
+	@Min(value = 1, message = "1권 이상이어야 합니다.")
+	@Max(value = 10000, message = "10000권 이하여야 합니다.")
+	Integer limit,
+
+	@Schema(description = "시작할 Gutendex 목록 URL (생략하면 설정된 목록의 첫 페이지)",
+		example = "https://gutendex.com/books?languages=en&sort=popular")
+	String startUrl
+) {
+}
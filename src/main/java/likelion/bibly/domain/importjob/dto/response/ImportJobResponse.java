@@ -0,0 +1,79 @@
+package likelion.bibly.domain.importjob.dto.response;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import likelion.bibly.domain.importjob.entity.ImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 가져오기 작업 진행 상황 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "가져오기 작업 진행 상황 응답")
+public class ImportJobResponse {
+
+	@Schema(description = "가져오기 작업 ID", example = "1")
+	private Long importJobId;
+
+	@Schema(description = "작업 상태 (RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+	private String status;
+
+	@Schema(description = "처리할 책 수", example = "40")
+	private Integer targetCount;
+
+	@Schema(description = "처리한 책 수 (가져옴 + 건너뜀 + 실패)", example = "32")
+	private Integer processedCount;
+
+	@Schema(description = "새로 가져온 책 수", example = "30")
+	private Integer importedCount;
+
+	@Schema(description = "이미 가져와 있어 건너뛴 책 수", example = "1")
+	private Integer skippedCount;
+
+	@Schema(description = "실패한 책 수", example = "1")
+	private Integer failedCount;
+
+	@Schema(description = "분당 처리 책 수", example = "12.5")
+	private Double booksPerMinute;
+
+	@Schema(description = "다음에 처리할 목록 페이지 URL (체크포인트)", example = "https://gutendex.com/books?page=2")
+	private String nextPageUrl;
+
+	@Schema(description = "마지막으로 처리한 책의 Gutenberg ID", example = "1342")
+	private Long lastGutenbergId;
+
+	@Schema(description = "마지막 오류 메시지")
+	private String lastError;
+
+	@Schema(description = "작업 생성 시간", example = "2025-01-19T15:30:00")
+	private LocalDateTime createdAt;
+
+	@Schema(description = "작업 종료 시간", example = "2025-01-19T15:33:00")
+	private LocalDateTime finishedAt;
+
+	public static ImportJobResponse from(ImportJob job, LocalDateTime now) {
+		Duration activeTime = job.getActiveTime(now);
+		double booksPerMinute = activeTime.isZero()
+			? 0.0 : job.getProcessedCount() * 60_000.0 / Math.max(activeTime.toMillis(), 1);
+
+		return ImportJobResponse.builder()
+			.importJobId(job.getImportJobId())
+			.status(job.getStatus().name())
+			.targetCount(job.getTargetCount())
+			.processedCount(job.getProcessedCount())
+			.importedCount(job.getImportedCount())
+			.skippedCount(job.getSkippedCount())
+			.failedCount(job.getFailedCount())
+			.booksPerMinute(Math.round(booksPerMinute * 10) / 10.0)
+			.nextPageUrl(job.getNextPageUrl())
+			.lastGutenbergId(job.getLastGutenbergId())
+			.lastError(job.getLastError())
+			.createdAt(job.getCreatedAt())
+			.finishedAt(job.getFinishedAt())
+			.build();
+	}
+}
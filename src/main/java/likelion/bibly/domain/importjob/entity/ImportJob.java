@@ -0,0 +1,189 @@
+package likelion.bibly.domain.importjob.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import likelion.bibly.domain.book.dto.response.CatalogPageResult;
+import likelion.bibly.domain.importjob.enums.ImportJobStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Gutendex 가져오기 작업
+ * 목록 페이지 하나를 끝낼 때마다 다음 페이지 URL과 진행 수를 체크포인트로 저장하므로,
+ * 서버가 재시작되거나 작업이 실패해도 마지막 체크포인트부터 이어서 실행할 수 있습니다.
+ */
+@Entity
+@Table(name = "import_job", indexes = {
+	// 상태별 작업 조회 (시작 시 중단된 작업 재개)
+	@Index(name = "idx_import_job_status", columnList = "status, import_job_id")
+}, uniqueConstraints = {
+	// 실행 중인 작업은 하나뿐 (RUNNING 작업만 running_slot = 1)
+	@UniqueConstraint(name = "uk_import_job_running_slot", columnNames = "running_slot")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImportJob {
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private static final int RUNNING_SLOT = 1;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "import_job_id")
+	private Long importJobId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	private ImportJobStatus status;
+
+	// RUNNING이면 1, 아니면 null (유니크 제약으로 동시에 두 작업이 실행되지 않도록 DB에서 보장)
+	@Column(name = "running_slot")
+	private Integer runningSlot;
+
+	// 처리할 책 수 (가져옴 + 건너뜀 + 실패)
+	@Column(name = "target_count", nullable = false)
+	private Integer targetCount;
+
+	// 체크포인트: 다음에 처리할 목록 페이지 URL (null이면 목록 끝)
+	@Column(name = "next_page_url", length = 1000)
+	private String nextPageUrl;
+
+	// 체크포인트: 마지막으로 처리한 책의 Gutenberg ID
+	@Column(name = "last_gutenberg_id")
+	private Long lastGutenbergId;
+
+	@Column(name = "processed_count", nullable = false)
+	private Integer processedCount;
+
+	@Column(name = "imported_count", nullable = false)
+	private Integer importedCount;
+
+	@Column(name = "skipped_count", nullable = false)
+	private Integer skippedCount;
+
+	@Column(name = "failed_count", nullable = false)
+	private Integer failedCount;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	// 실제로 실행된 시간 누적 (재시작 전 중단 시간은 제외, 처리 속도 계산용)
+	@Column(name = "active_millis", nullable = false)
+	private Long activeMillis;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	// 마지막으로 실행을 시작(재개)했거나 체크포인트를 저장한 시각
+	@Column(name = "checkpointed_at")
+	private LocalDateTime checkpointedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	@Builder
+	public ImportJob(Integer targetCount, String startUrl) {
+		this.status = ImportJobStatus.RUNNING;
+		this.runningSlot = RUNNING_SLOT;
+		this.targetCount = targetCount;
+		this.nextPageUrl = startUrl;
+		this.processedCount = 0;
+		this.importedCount = 0;
+		this.skippedCount = 0;
+		this.failedCount = 0;
+		this.activeMillis = 0L;
+		this.createdAt = LocalDateTime.now();
+		this.checkpointedAt = this.createdAt;
+	}
+
+	/**
+	 * 목록 페이지 하나의 처리 결과를 반영하고 다음 페이지로 체크포인트 이동
+	 */
+	public void checkpoint(CatalogPageResult result) {
+		this.processedCount += result.processedCount();
+		this.importedCount += result.importedCount();
+		this.skippedCount += result.skippedCount();
+		this.failedCount += result.failedCount();
+		this.nextPageUrl = result.nextPageUrl();
+		if (result.lastGutenbergId() != null) {
+			this.lastGutenbergId = result.lastGutenbergId();
+		}
+		if (!result.errors().isEmpty()) {
+			this.lastError = truncate(result.errors().get(result.errors().size() - 1));
+		}
+		accumulateActiveTime();
+	}
+
+	public void complete() {
+		accumulateActiveTime();
+		this.status = ImportJobStatus.COMPLETED;
+		this.runningSlot = null;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public void fail(String message) {
+		accumulateActiveTime();
+		this.status = ImportJobStatus.FAILED;
+		this.runningSlot = null;
+		this.lastError = truncate(message);
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 마지막 체크포인트부터 다시 실행 (중단되어 있던 시간은 실행 시간에서 제외)
+	 */
+	public void resume() {
+		this.status = ImportJobStatus.RUNNING;
+		this.runningSlot = RUNNING_SLOT;
+		this.checkpointedAt = LocalDateTime.now();
+		this.finishedAt = null;
+	}
+
+	public boolean hasNextPage() {
+		return nextPageUrl != null;
+	}
+
+	public int getRemainingCount() {
+		return Math.max(targetCount - processedCount, 0);
+	}
+
+	/**
+	 * 누적 실행 시간 (실행 중이면 마지막 체크포인트 이후 시간 포함)
+	 */
+	public Duration getActiveTime(LocalDateTime now) {
+		Duration active = Duration.ofMillis(activeMillis);
+		if (status == ImportJobStatus.RUNNING && checkpointedAt != null) {
+			active = active.plus(Duration.between(checkpointedAt, now));
+		}
+		return active;
+	}
+
+	private void accumulateActiveTime() {
+		LocalDateTime now = LocalDateTime.now();
+		if (checkpointedAt != null) {
+			this.activeMillis += Duration.between(checkpointedAt, now).toMillis();
+		}
+		this.checkpointedAt = now;
+	}
+
+	private static String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -0,0 +1,7 @@
+package likelion.bibly.domain.importjob.enums;
+
+public enum ImportJobStatus {
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
@@ -0,0 +1,25 @@
+package likelion.bibly.domain.importjob.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import likelion.bibly.domain.importjob.entity.ImportJob;
+import likelion.bibly.domain.importjob.enums.ImportJobStatus;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+	boolean existsByStatus(ImportJobStatus status);
+	List<ImportJob> findByStatusOrderByImportJobIdAsc(ImportJobStatus status);
+
+	// 같은 작업을 동시에 재개하지 않도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT j FROM ImportJob j WHERE j.importJobId = :importJobId")
+	Optional<ImportJob> findByIdForUpdate(@Param("importJobId") Long importJobId);
+}
@@ -0,0 +1,31 @@
+package likelion.bibly.domain.importjob.service;
+
+import likelion.bibly.domain.importjob.dto.request.ImportJobCreateRequest;
+import likelion.bibly.domain.importjob.dto.response.ImportJobResponse;
+
+/**
+ * Gutendex 가져오기 작업 서비스 인터페이스
+ */
+public interface ImportJobService {
+
+	/**
+	 * 가져오기 작업 생성 후 백그라운드에서 실행
+	 * @param request 처리할 책 수, 시작 목록 URL
+	 * @return 생성된 작업
+	 */
+	ImportJobResponse startImport(ImportJobCreateRequest request);
+
+	/**
+	 * 가져오기 작업 진행 상황 조회
+	 * @param importJobId 작업 ID
+	 * @return 진행 수, 처리 속도, 오류, 체크포인트
+	 */
+	ImportJobResponse getImportJob(Long importJobId);
+
+	/**
+	 * 실패한 가져오기 작업을 마지막 체크포인트부터 다시 실행
+	 * @param importJobId 작업 ID
+	 * @return 재개된 작업
+	 */
+	ImportJobResponse resumeImport(Long importJobId);
+}
@@ -0,0 +1,213 @@
+package likelion.bibly.domain.importjob.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import likelion.bibly.domain.book.dto.response.CatalogPageResult;
+import likelion.bibly.domain.book.service.GutendexService;
+import likelion.bibly.domain.importjob.dto.request.ImportJobCreateRequest;
+import likelion.bibly.domain.importjob.dto.response.ImportJobResponse;
+import likelion.bibly.domain.importjob.entity.ImportJob;
+import likelion.bibly.domain.importjob.enums.ImportJobStatus;
+import likelion.bibly.domain.importjob.repository.ImportJobRepository;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gutendex 가져오기 작업 실행기
+ *
+ * 작업은 전용 스레드 하나에서 한 번에 하나씩 실행되며, 목록 페이지 단위로 처리합니다.
+ * 페이지의 모든 책이 끝나면 다음 페이지 URL과 진행 수를 import_job에 저장(체크포인트)하고,
+ * 서버 종료로 중단된 작업(RUNNING 상태로 남은 작업)은 시작 시 마지막 체크포인트부터 이어서 실행합니다.
+ * 체크포인트 이후 일부만 처리된 페이지는 다시 처리되지만 이미 가져온 책은 Gutenberg ID로 건너뜁니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ImportJobServiceImpl implements ImportJobService {
+
+	private final ImportJobRepository importJobRepository;
+	private final GutendexService gutendexService;
+	private final Executor jobExecutor;
+
+	// 서버 시작 시 중단된 작업 자동 재개 여부
+	@Value("${bibly.import-job.resume-on-startup:true}")
+	private boolean resumeOnStartup = true;
+
+	@Autowired
+	public ImportJobServiceImpl(ImportJobRepository importJobRepository, GutendexService gutendexService) {
+		this(importJobRepository, gutendexService, newJobExecutor());
+	}
+
+	ImportJobServiceImpl(ImportJobRepository importJobRepository, GutendexService gutendexService,
+		Executor jobExecutor) {
+		this.importJobRepository = importJobRepository;
+		this.gutendexService = gutendexService;
+		this.jobExecutor = jobExecutor;
+	}
+
+	private static ExecutorService newJobExecutor() {
+		return Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "import-job");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 가져오기 작업 생성 후 백그라운드에서 실행
+	 */
+	@Override
+	@Transactional
+	public ImportJobResponse startImport(ImportJobCreateRequest request) {
+		// 빠른 확인 (동시에 들어온 요청은 saveRunning의 유니크 제약으로 막음)
+		if (importJobRepository.existsByStatus(ImportJobStatus.RUNNING)) {
+			throw new BusinessException(ErrorCode.IMPORT_JOB_ALREADY_RUNNING);
+		}
+
+		String startUrl = request.startUrl() == null || request.startUrl().isBlank()
+			? gutendexService.getCatalogStartUrl() : request.startUrl();
+		ImportJob job = saveRunning(ImportJob.builder()
+			.targetCount(request.limit())
+			.startUrl(startUrl)
+			.build());
+
+		submitAfterCommit(job.getImportJobId());
+		return ImportJobResponse.from(job, LocalDateTime.now());
+	}
+
+	/**
+	 * 가져오기 작업 진행 상황 조회
+	 */
+	@Override
+	public ImportJobResponse getImportJob(Long importJobId) {
+		ImportJob job = importJobRepository.findById(importJobId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+
+		return ImportJobResponse.from(job, LocalDateTime.now());
+	}
+
+	/**
+	 * 실패한 가져오기 작업을 마지막 체크포인트부터 다시 실행
+	 */
+	@Override
+	@Transactional
+	public ImportJobResponse resumeImport(Long importJobId) {
+		ImportJob job = importJobRepository.findByIdForUpdate(importJobId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+
+		if (job.getStatus() != ImportJobStatus.FAILED) {
+			throw new BusinessException(ErrorCode.IMPORT_JOB_NOT_RESUMABLE);
+		}
+		if (importJobRepository.existsByStatus(ImportJobStatus.RUNNING)) {
+			throw new BusinessException(ErrorCode.IMPORT_JOB_ALREADY_RUNNING);
+		}
+
+		job.resume();
+		saveRunning(job);
+		submitAfterCommit(importJobId);
+		return ImportJobResponse.from(job, LocalDateTime.now());
+	}
+
+	/**
+	 * RUNNING 작업을 바로 반영하여 유니크 제약(uk_import_job_running_slot)으로 실행 중인 작업이 하나뿐인지 확인
+	 * existsByStatus 확인만으로는 동시에 들어온 두 요청이 모두 통과할 수 있습니다.
+	 */
+	private ImportJob saveRunning(ImportJob job) {
+		try {
+			return importJobRepository.saveAndFlush(job);
+		} catch (DataIntegrityViolationException e) {
+			throw new BusinessException(ErrorCode.IMPORT_JOB_ALREADY_RUNNING);
+		}
+	}
+
+	/**
+	 * 서버 종료로 RUNNING 상태에서 멈춘 작업을 마지막 체크포인트부터 다시 실행
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void resumeInterruptedJobs() {
+		if (!resumeOnStartup) {
+			return;
+		}
+
+		for (ImportJob job : importJobRepository.findByStatusOrderByImportJobIdAsc(ImportJobStatus.RUNNING)) {
+			log.info("중단된 가져오기 작업 재개: 작업 ID {} ({}/{}권 처리됨)",
+				job.getImportJobId(), job.getProcessedCount(), job.getTargetCount());
+			job.resume();
+			submitAfterCommit(job.getImportJobId());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// 실행 중인 작업은 중단되어 RUNNING 상태로 남고, 다음 시작 시 체크포인트부터 재개됨
+		if (jobExecutor instanceof ExecutorService executorService) {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * 작업 저장이 커밋된 뒤 실행 (실행 스레드가 아직 커밋되지 않은 작업을 읽지 않도록)
+	 */
+	private void submitAfterCommit(Long importJobId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			jobExecutor.execute(() -> run(importJobId));
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				jobExecutor.execute(() -> run(importJobId));
+			}
+		});
+	}
+
+	/**
+	 * 목록 페이지 단위로 가져오고 페이지마다 체크포인트 저장
+	 * 체크포인트 저장은 repository save 한 번이라 트랜잭션을 길게 잡지 않습니다.
+	 */
+	void run(Long importJobId) {
+		ImportJob job = importJobRepository.findById(importJobId).orElse(null);
+		if (job == null || job.getStatus() != ImportJobStatus.RUNNING) {
+			return;
+		}
+
+		try {
+			while (job.hasNextPage() && job.getRemainingCount() > 0) {
+				CatalogPageResult result = gutendexService.importCatalogPage(
+					job.getNextPageUrl(), job.getRemainingCount());
+				job.checkpoint(result);
+				job = importJobRepository.save(job);
+			}
+
+			job.complete();
+			importJobRepository.save(job);
+			log.info("가져오기 작업 완료: 작업 ID {} (가져옴 {}, 건너뜀 {}, 실패 {})", importJobId,
+				job.getImportedCount(), job.getSkippedCount(), job.getFailedCount());
+		} catch (InterruptedException e) {
+			// 서버 종료: RUNNING 상태로 남겨 다음 시작 시 마지막 체크포인트부터 재개
+			Thread.currentThread().interrupt();
+			log.info("가져오기 작업 중단: 작업 ID {} (다음 목록 페이지 {})", importJobId, job.getNextPageUrl());
+		} catch (Exception e) {
+			log.error("가져오기 작업 실패: 작업 ID {} (목록 페이지 {})", importJobId, job.getNextPageUrl(), e);
+			job.fail(e.getMessage());
+			importJobRepository.save(job);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package likelion.bibly.domain.member.dto;
+
+/**
+ * 모임원 요약 조회용 프로젝션 (닉네임, 색상, 선택한 책 ID만 조회)
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않습니다.
+ */
+public record MemberSummaryProjection(
+	String nickname,
+	String color,
+	Long selectedBookId
+) {
+}
@@ -12,7 +12,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", uniqueConstraints = {
+	// 모임 내 사용자 조회 (탈퇴한 사용자도 같은 모임에 다시 가입할 수 없음)
+	@UniqueConstraint(name = "uk_member_group_user", columnNames = {"group_id", "user_id"})
+}, indexes = {
+	// 모임의 활성 모임원 조회/집계
+	@Index(name = "idx_member_group_status", columnList = "group_id, status"),
+	// 사용자가 가입한 모임 조회
+	@Index(name = "idx_member_user_status", columnList = "user_id, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
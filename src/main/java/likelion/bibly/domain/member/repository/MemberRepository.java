@@ -1,5 +1,6 @@
 package likelion.bibly.domain.member.repository;
 
+import likelion.bibly.domain.member.dto.MemberSummaryProjection;
 import likelion.bibly.domain.member.entity.Member;
 import likelion.bibly.domain.member.enums.MemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,4 +29,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	List<Member> findByUserIdAndStatusWithGroup(@Param("userId") String userId, @Param("status") MemberStatus status);
 
     List<Member> findAllByGroup_GroupId(Long groupId);
+
+	@Query("SELECT new likelion.bibly.domain.member.dto.MemberSummaryProjection(m.nickname, m.color, m.selectedBookId) "
+		+ "FROM Member m WHERE m.group.groupId = :groupId AND m.status = :status")
+	List<MemberSummaryProjection> findSummariesByGroupIdAndStatus(@Param("groupId") Long groupId,
+		@Param("status") MemberStatus status);
 }
\ No newline at end of file
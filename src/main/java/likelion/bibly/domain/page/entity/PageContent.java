@@ -9,14 +9,16 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "page_content")
+@Table(name = "page_content", uniqueConstraints = {
+        // 책 + 페이지 번호 조회 (책별 페이지 번호는 하나뿐)
+        @UniqueConstraint(name = "uk_page_content_book_page", columnNames = {"book_id", "page_number"})
+})
 public class PageContent {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id", nullable = false) // FK 컬럼 이름
     private Book book;
@@ -25,9 +27,14 @@ public class PageContent {
     @Column(name = "page_number", nullable = false)
     private Integer pageNumber;
 
-    // 페이지 내용
+    // 페이지 내용 (압축 저장 시 빈 문자열)
     @Lob
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 압축된 페이지 내용 (형식 버전 1바이트 + Deflate 데이터, 압축하지 않았으면 null)
+    @Lob
+    @Column(name = "compressed_content")
+    private byte[] compressedContent;
+
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package likelion.bibly.domain.page.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 책별 페이지 압축 사전 (bibly.page-store.compression=deflate)
+ * 저장/조회는 PageContentJdbcRepository가 페이지와 함께 JDBC로 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "page_dictionary")
+public class PageDictionary {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    // 같은 책 페이지에서 뽑은 Deflate preset dictionary
+    @Lob
+    @Column(name = "dictionary", nullable = false)
+    private byte[] dictionary;
+
+}
@@ -0,0 +1,248 @@
+package likelion.bibly.domain.page.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import likelion.bibly.domain.book.dto.response.PageContentResponse;
+import likelion.bibly.global.util.PageCompression;
+
+/**
+ * page_content 대량 저장/조회용 JDBC 리포지토리
+ * PageContent는 IDENTITY 전략이라 JPA save()로는 JDBC 배치가 동작하지 않으므로,
+ * 생성된 키를 돌려받을 필요가 없는 페이지 저장은 JdbcTemplate batchUpdate로 처리합니다.
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 multi-row INSERT로 변환됨)
+ * 엔티티를 만들지 않으므로 영속성 컨텍스트에 페이지가 쌓이지 않습니다.
+ *
+ * bibly.page-store.compression=deflate면 첫 INSERT 배치의 페이지로 책별 사전(page_dictionary)을 만들고
+ * 페이지를 압축하여 compressed_content에 저장합니다. (content는 빈 문자열)
+ * 조회는 compressed_content가 있으면 압축을 풀고 없으면 content를 그대로 돌려주므로
+ * 압축 설정을 바꿔도 기존 행을 그대로 읽을 수 있습니다.
+ */
+@Repository
+public class PageContentJdbcRepository {
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	private static final String COMPRESSION_DEFLATE = "deflate";
+
+	private static final String INSERT_SQL =
+		"INSERT INTO page_content (book_id, page_number, content, compressed_content) VALUES (?, ?, ?, ?)";
+
+	private static final String DELETE_SQL = "DELETE FROM page_content WHERE book_id = ?";
+
+	private static final String SELECT_ONE_SQL =
+		"SELECT content, compressed_content FROM page_content WHERE book_id = ? AND page_number = ?";
+
+	private static final String SELECT_RANGE_SQL =
+		"SELECT page_number, content, compressed_content FROM page_content "
+			+ "WHERE book_id = ? AND page_number BETWEEN ? AND ? ORDER BY page_number";
+
+	private static final String SELECT_ALL_SQL =
+		"SELECT content, compressed_content FROM page_content WHERE book_id = ? ORDER BY page_number";
+
+	private static final String SELECT_BOOK_IDS_SQL = "SELECT DISTINCT book_id FROM page_content ORDER BY book_id";
+
+	private static final String INSERT_DICTIONARY_SQL =
+		"INSERT INTO page_dictionary (book_id, dictionary) VALUES (?, ?)";
+
+	private static final String DELETE_DICTIONARY_SQL = "DELETE FROM page_dictionary WHERE book_id = ?";
+
+	private static final String SELECT_DICTIONARY_SQL = "SELECT dictionary FROM page_dictionary WHERE book_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean compressionEnabled;
+
+	// 압축 해제용 책 사전 (bookId -> 사전), 재분할 시 제거
+	private final Map<Long, Dictionary> dictionaries = new ConcurrentHashMap<>();
+
+	@Autowired
+	public PageContentJdbcRepository(
+		JdbcTemplate jdbcTemplate,
+		@Value("${bibly.page-store.compression:none}") String compression) {
+		this(jdbcTemplate, COMPRESSION_DEFLATE.equalsIgnoreCase(compression));
+	}
+
+	PageContentJdbcRepository(JdbcTemplate jdbcTemplate, boolean compressionEnabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.compressionEnabled = compressionEnabled;
+	}
+
+	/**
+	 * Iterator가 만들어 내는 페이지를 1페이지부터 순서대로 저장
+	 *
+	 * @param bookId 책 ID
+	 * @param pages 페이지 텍스트 Iterator
+	 * @return 저장한 페이지 수
+	 */
+	public int insertPages(Long bookId, Iterator<String> pages) {
+		return insertPages(bookId, pages, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * batchSize 페이지씩 묶어서 INSERT 배치 실행
+	 * 한 번에 메모리에 올라가는 페이지는 최대 batchSize개입니다.
+	 * 압축을 사용하면 첫 배치의 페이지로 책 사전을 만든 뒤 배치마다 압축하여 저장합니다.
+	 */
+	public int insertPages(Long bookId, Iterator<String> pages, int batchSize) {
+		List<String> batch = new ArrayList<>(batchSize);
+		byte[] dictionary = null;
+		int pageNumber = 0;
+
+		while (pages.hasNext()) {
+			batch.add(pages.next());
+
+			if (batch.size() == batchSize) {
+				if (compressionEnabled && dictionary == null) {
+					dictionary = saveDictionary(bookId, batch);
+				}
+				jdbcTemplate.batchUpdate(INSERT_SQL, toRows(bookId, pageNumber, batch, dictionary));
+				pageNumber += batch.size();
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			if (compressionEnabled && dictionary == null) {
+				dictionary = saveDictionary(bookId, batch);
+			}
+			jdbcTemplate.batchUpdate(INSERT_SQL, toRows(bookId, pageNumber, batch, dictionary));
+			pageNumber += batch.size();
+		}
+
+		return pageNumber;
+	}
+
+	private List<Object[]> toRows(Long bookId, int lastPageNumber, List<String> batch, byte[] dictionary) {
+		List<Object[]> rows = new ArrayList<>(batch.size());
+		int pageNumber = lastPageNumber;
+		for (String page : batch) {
+			pageNumber++;
+			if (dictionary == null) {
+				rows.add(new Object[] {bookId, pageNumber, page, null});
+			} else {
+				rows.add(new Object[] {bookId, pageNumber, "", PageCompression.compress(page, dictionary)});
+			}
+		}
+		return rows;
+	}
+
+	private byte[] saveDictionary(Long bookId, List<String> samplePages) {
+		byte[] dictionary = PageCompression.buildDictionary(samplePages, PageCompression.DEFAULT_DICTIONARY_BYTES);
+		jdbcTemplate.update(DELETE_DICTIONARY_SQL, bookId);
+		jdbcTemplate.update(INSERT_DICTIONARY_SQL, bookId, dictionary);
+		dictionaries.put(bookId, new Dictionary(dictionary));
+		return dictionary;
+	}
+
+	/**
+	 * 특정 책의 페이지 전체와 압축 사전을 삭제 (재분할 시 사용)
+	 *
+	 * @return 삭제된 페이지 수
+	 */
+	public int deleteByBookId(Long bookId) {
+		int deleted = jdbcTemplate.update(DELETE_SQL, bookId);
+		jdbcTemplate.update(DELETE_DICTIONARY_SQL, bookId);
+		dictionaries.remove(bookId);
+		return deleted;
+	}
+
+	/**
+	 * 페이지 하나의 텍스트 조회
+	 *
+	 * @return 페이지 텍스트, 없으면 null
+	 */
+	public String findContent(Long bookId, int pageNumber) {
+		List<String> contents = jdbcTemplate.query(SELECT_ONE_SQL,
+			(rs, rowNum) -> readContent(bookId, rs, 1),
+			bookId, pageNumber);
+		return contents.isEmpty() ? null : contents.get(0);
+	}
+
+	/**
+	 * fromPage ~ toPage(포함) 구간의 페이지 텍스트를 한 번의 쿼리로 조회 (미리 읽기용)
+	 *
+	 * @return 페이지 번호 -> 텍스트 (페이지 번호 순, 없는 페이지는 빠짐)
+	 */
+	public Map<Integer, String> findContents(Long bookId, int fromPage, int toPage) {
+		Map<Integer, String> contents = new LinkedHashMap<>();
+		streamContents(bookId, fromPage, toPage, page -> contents.put(page.pageNumber(), page.content()));
+		return contents;
+	}
+
+	/**
+	 * fromPage ~ toPage(포함) 구간의 페이지를 번호 순으로 읽는 즉시 consumer로 전달 (한 번의 BETWEEN 쿼리)
+	 * 구간은 호출하는 쪽에서 최대 페이지 수(bibly.page-range.max-pages)로 제한하므로 서버 커서 없이 한 번에 받아 옵니다.
+	 */
+	public void streamContents(Long bookId, int fromPage, int toPage, Consumer<PageContentResponse> consumer) {
+		jdbcTemplate.query(SELECT_RANGE_SQL,
+			rs -> {
+				consumer.accept(new PageContentResponse(rs.getInt(1), readContent(bookId, rs, 2)));
+			},
+			bookId, fromPage, toPage);
+	}
+
+	/**
+	 * 책의 모든 페이지를 번호 순으로 한 행씩 읽어 consumer로 전달 (책 전체를 메모리에 올리지 않음)
+	 */
+	public void forEachContent(Long bookId, Consumer<String> consumer) {
+		jdbcTemplate.query(SELECT_ALL_SQL,
+			rs -> {
+				consumer.accept(readContent(bookId, rs, 1));
+			},
+			bookId);
+	}
+
+	/**
+	 * 페이지가 저장된 책 ID 목록
+	 */
+	public List<Long> findBookIds() {
+		return jdbcTemplate.queryForList(SELECT_BOOK_IDS_SQL, Long.class);
+	}
+
+	/**
+	 * content, compressed_content 두 컬럼에서 페이지 텍스트 복원
+	 * compressed_content가 없으면 압축 전 형식(원문 그대로)으로 저장된 행입니다.
+	 */
+	private String readContent(Long bookId, ResultSet rs, int contentColumn) throws SQLException {
+		byte[] compressed = rs.getBytes(contentColumn + 1);
+		if (compressed == null) {
+			return rs.getString(contentColumn);
+		}
+		return PageCompression.decompress(compressed, dictionary(bookId, compressed).bytes());
+	}
+
+	/**
+	 * 압축 데이터에 기록된 사전 체크섬과 캐시된 사전이 다르면(다른 서버에서 재분할 등) 다시 읽음
+	 */
+	private Dictionary dictionary(Long bookId, byte[] compressed) {
+		long requiredId = PageCompression.requiredDictionaryId(compressed);
+		Dictionary cached = dictionaries.get(bookId);
+		if (cached != null && (requiredId < 0 || cached.id() == requiredId)) {
+			return cached;
+		}
+
+		List<byte[]> stored = jdbcTemplate.queryForList(SELECT_DICTIONARY_SQL, byte[].class, bookId);
+		Dictionary loaded = new Dictionary(stored.isEmpty() ? new byte[0] : stored.get(0));
+		dictionaries.put(bookId, loaded);
+		return loaded;
+	}
+
+	private record Dictionary(byte[] bytes, long id) {
+
+		Dictionary(byte[] bytes) {
+			this(bytes, PageCompression.dictionaryId(bytes));
+		}
+	}
+}
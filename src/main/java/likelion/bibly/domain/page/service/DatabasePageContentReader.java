@@ -0,0 +1,34 @@
+package likelion.bibly.domain.page.service;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * page_content 테이블에서 페이지를 조회하는 기본 백엔드 (bibly.page-store.type=db)
+ * 압축 저장된 페이지는 PageContentJdbcRepository가 풀어서 돌려줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "bibly.page-store.type", havingValue = "db", matchIfMissing = true)
+public class DatabasePageContentReader implements PageContentReader {
+
+	private final PageContentJdbcRepository pageContentJdbcRepository;
+
+	@Override
+	public Optional<String> read(Long bookId, Integer pageNumber) {
+		return Optional.ofNullable(pageContentJdbcRepository.findContent(bookId, pageNumber));
+	}
+
+	@Override
+	public Map<Integer, String> readRange(Long bookId, int fromPage, int toPage) {
+		return pageContentJdbcRepository.findContents(bookId, fromPage, toPage);
+	}
+}
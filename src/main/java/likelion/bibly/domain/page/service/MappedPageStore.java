@@ -0,0 +1,212 @@
+package likelion.bibly.domain.page.service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 기반 페이지 저장소 (bibly.page-store.type=file)
+ *
+ * 책 한 권당 두 개의 파일을 사용합니다.
+ * - {bookId}.pages : 모든 페이지의 UTF-8 바이트를 순서대로 이어 붙인 파일
+ * - {bookId}.idx   : 8바이트 고정 폭 오프셋 배열 (페이지 수 + 1개, n페이지 = [off[n-1], off[n]))
+ *
+ * 두 파일을 메모리 맵으로 열어 두고 오프셋으로 바로 잘라 읽으므로 페이지 조회 시 DB/JPA를 거치지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bibly.page-store.type", havingValue = "file")
+public class MappedPageStore implements PageContentReader {
+
+	private static final String DATA_SUFFIX = ".pages";
+	private static final String INDEX_SUFFIX = ".idx";
+	private static final int OFFSET_WIDTH = Long.BYTES;
+
+	private final Path directory;
+	private final PageContentJdbcRepository pageContentJdbcRepository;
+	private final boolean rebuildOnStartup;
+
+	// 열어 둔 책 파일 (bookId -> 메모리 맵)
+	private final Map<Long, MappedBook> mappedBooks = new ConcurrentHashMap<>();
+
+	public MappedPageStore(
+		@Value("${bibly.page-store.directory}") String directory,
+		@Value("${bibly.page-store.rebuild-on-startup:false}") boolean rebuildOnStartup,
+		PageContentJdbcRepository pageContentJdbcRepository) {
+		this.directory = Path.of(directory);
+		this.rebuildOnStartup = rebuildOnStartup;
+		this.pageContentJdbcRepository = pageContentJdbcRepository;
+	}
+
+	@Override
+	public Optional<String> read(Long bookId, Integer pageNumber) {
+		MappedBook book = mappedBooks.computeIfAbsent(bookId, this::open);
+		if (book == null || pageNumber == null || pageNumber < 1 || pageNumber > book.pageCount()) {
+			return Optional.empty();
+		}
+
+		int start = (int)book.index().getLong((pageNumber - 1) * OFFSET_WIDTH);
+		int end = (int)book.index().getLong(pageNumber * OFFSET_WIDTH);
+		return Optional.of(StandardCharsets.UTF_8.decode(book.data().slice(start, end - start)).toString());
+	}
+
+	/**
+	 * 책 한 권의 페이지를 파일로 저장 (임시 파일에 쓴 뒤 교체)
+	 *
+	 * @return 저장한 페이지 수
+	 */
+	public int write(Long bookId, Iterator<String> pages) {
+		try (BookFileWriter writer = new BookFileWriter(bookId)) {
+			while (pages.hasNext()) {
+				writer.append(pages.next());
+			}
+			return writer.commit();
+		} catch (IOException e) {
+			throw new UncheckedIOException("페이지 파일 저장 실패: " + bookId, e);
+		}
+	}
+
+	/**
+	 * page_content 테이블에 저장된 책의 페이지로 파일을 다시 생성
+	 * 페이지를 한 행씩 읽으며 바로 파일에 쓰므로 책 전체를 메모리에 올리지 않습니다.
+	 * 압축 저장된 페이지는 풀어서 파일에 씁니다.
+	 *
+	 * @return 저장한 페이지 수
+	 */
+	public int rebuild(Long bookId) {
+		try (BookFileWriter writer = new BookFileWriter(bookId)) {
+			pageContentJdbcRepository.forEachContent(bookId, page -> {
+				try {
+					writer.append(page);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			return writer.commit();
+		} catch (IOException e) {
+			throw new UncheckedIOException("페이지 파일 재생성 실패: " + bookId, e);
+		}
+	}
+
+	/**
+	 * page_content 테이블의 모든 책에 대해 파일 재생성
+	 */
+	public void rebuildAll() {
+		for (Long bookId : pageContentJdbcRepository.findBookIds()) {
+			int pageCount = rebuild(bookId);
+			log.info("페이지 파일 재생성: 책 ID {} ({}페이지)", bookId, pageCount);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			rebuildAll();
+		}
+	}
+
+	private MappedBook open(Long bookId) {
+		Path dataPath = directory.resolve(bookId + DATA_SUFFIX);
+		Path indexPath = directory.resolve(bookId + INDEX_SUFFIX);
+		if (!Files.exists(dataPath) || !Files.exists(indexPath)) {
+			return null;
+		}
+
+		try (FileChannel data = FileChannel.open(dataPath, StandardOpenOption.READ);
+			 FileChannel index = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+			// 채널을 닫아도 매핑은 유지됨
+			MappedByteBuffer dataBuffer = data.map(FileChannel.MapMode.READ_ONLY, 0, data.size());
+			MappedByteBuffer indexBuffer = index.map(FileChannel.MapMode.READ_ONLY, 0, index.size());
+			int pageCount = (int)(index.size() / OFFSET_WIDTH) - 1;
+
+			// 파일 교체 도중이라 데이터/인덱스 짝이 맞지 않으면 다음 조회 때 다시 연다
+			if (pageCount < 0 || indexBuffer.getLong(pageCount * OFFSET_WIDTH) != data.size()) {
+				return null;
+			}
+			return new MappedBook(dataBuffer, indexBuffer, pageCount);
+		} catch (IOException e) {
+			throw new UncheckedIOException("페이지 파일 열기 실패: " + bookId, e);
+		}
+	}
+
+	private record MappedBook(MappedByteBuffer data, MappedByteBuffer index, int pageCount) {
+	}
+
+	/**
+	 * 데이터/인덱스 파일을 임시 파일에 순차 기록하고 commit 시 원자적으로 교체
+	 */
+	private class BookFileWriter implements Closeable {
+
+		private final Long bookId;
+		private final Path tempData;
+		private final Path tempIndex;
+		private final OutputStream data;
+		private final DataOutputStream index;
+		private long offset;
+		private int pageCount;
+		private boolean committed;
+
+		BookFileWriter(Long bookId) throws IOException {
+			Files.createDirectories(directory);
+			this.bookId = bookId;
+			this.tempData = Files.createTempFile(directory, bookId + "-", DATA_SUFFIX + ".tmp");
+			this.tempIndex = Files.createTempFile(directory, bookId + "-", INDEX_SUFFIX + ".tmp");
+			this.data = new BufferedOutputStream(Files.newOutputStream(tempData));
+			this.index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempIndex)));
+			this.index.writeLong(0L);
+		}
+
+		void append(String page) throws IOException {
+			byte[] bytes = page.getBytes(StandardCharsets.UTF_8);
+			data.write(bytes);
+			offset += bytes.length;
+			index.writeLong(offset);
+			pageCount++;
+		}
+
+		int commit() throws IOException {
+			data.close();
+			index.close();
+			Files.move(tempData, directory.resolve(bookId + DATA_SUFFIX),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			Files.move(tempIndex, directory.resolve(bookId + INDEX_SUFFIX),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			mappedBooks.remove(bookId);
+			committed = true;
+			return pageCount;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!committed) {
+				data.close();
+				index.close();
+				Files.deleteIfExists(tempData);
+				Files.deleteIfExists(tempIndex);
+			}
+		}
+	}
+}
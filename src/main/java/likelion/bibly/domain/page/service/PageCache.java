@@ -0,0 +1,308 @@
+package likelion.bibly.domain.page.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 페이지 텍스트 LRU 캐시 (용량은 항목 수가 아닌 바이트 기준)
+ *
+ * 책 ID + 페이지 번호로 캐시하며, N페이지를 조회하면 같은 책의 N+1 ~ N+k 페이지를
+ * 한 번의 구간 조회로 백그라운드에서 미리 읽어 둡니다. (순차 넘김 대비)
+ * 책마다 세대 번호를 두어 evictBook 전에 시작한 조회/미리 읽기 결과는 캐시에 넣지 않습니다.
+ * 페이지 응답의 ETag로 쓰는 책의 콘텐츠 버전(원문 해시)도 같은 세대 번호로 함께 캐시합니다.
+ * 적중/실패/제거/미리 읽기 적중 수는 actuator metrics(bibly.page.cache.*)로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PageCache {
+
+	// 항목 하나당 키/엔트리/String 헤더 대략치
+	private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+	private final PageContentReader pageContentReader;
+	private final long maxBytes;
+	private final int readAhead;
+	private final Executor prefetchExecutor;
+
+	// accessOrder=true: 조회할 때마다 맨 뒤로 이동, 맨 앞이 가장 오래 안 쓴 항목
+	private final LinkedHashMap<PageKey, CachedPage> pages = new LinkedHashMap<>(256, 0.75f, true);
+	private long currentBytes;
+
+	// 책 ID -> 세대 번호 (evictBook마다 증가, this로 동기화)
+	private final Map<Long, Long> generations = new HashMap<>();
+
+	// 책 ID -> 콘텐츠 버전 (페이지가 저장된 책만, 책 수만큼만 늘어나므로 용량 제한 없음, this로 동기화)
+	private final Map<Long, String> contentVersions = new HashMap<>();
+
+	// 같은 구간을 중복으로 미리 읽지 않도록 진행 중인 구간 시작 페이지 기록
+	private final Set<PageKey> prefetching = ConcurrentHashMap.newKeySet();
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter evictions;
+	private final Counter prefetchLoaded;
+	private final Counter prefetchUsed;
+
+	@Autowired
+	public PageCache(
+		PageContentReader pageContentReader,
+		MeterRegistry meterRegistry,
+		@Value("${bibly.page-cache.max-size:64MB}") DataSize maxSize,
+		@Value("${bibly.page-cache.read-ahead:4}") int readAhead) {
+		this(pageContentReader, meterRegistry, maxSize, readAhead, newPrefetchExecutor());
+	}
+
+	PageCache(PageContentReader pageContentReader, MeterRegistry meterRegistry, DataSize maxSize, int readAhead,
+		Executor prefetchExecutor) {
+		this.pageContentReader = pageContentReader;
+		this.maxBytes = maxSize.toBytes();
+		this.readAhead = readAhead;
+		this.prefetchExecutor = prefetchExecutor;
+
+		this.hits = Counter.builder("bibly.page.cache.gets").tag("result", "hit").register(meterRegistry);
+		this.misses = Counter.builder("bibly.page.cache.gets").tag("result", "miss").register(meterRegistry);
+		this.evictions = Counter.builder("bibly.page.cache.evictions").register(meterRegistry);
+		this.prefetchLoaded = Counter.builder("bibly.page.cache.prefetch")
+			.description("미리 읽어 캐시에 넣은 페이지 수")
+			.tag("result", "loaded").register(meterRegistry);
+		this.prefetchUsed = Counter.builder("bibly.page.cache.prefetch")
+			.description("미리 읽은 페이지 중 실제로 조회된 페이지 수")
+			.tag("result", "used").register(meterRegistry);
+		Gauge.builder("bibly.page.cache.size", this, PageCache::size).register(meterRegistry);
+		Gauge.builder("bibly.page.cache.bytes", this, PageCache::bytes).baseUnit("bytes").register(meterRegistry);
+	}
+
+	/**
+	 * 페이지 조회 (캐시에 없으면 PageContentReader로 조회 후 저장)
+	 */
+	public Optional<String> get(Long bookId, Integer pageNumber) {
+		if (maxBytes <= 0) {
+			return pageContentReader.read(bookId, pageNumber);
+		}
+
+		PageKey key = new PageKey(bookId, pageNumber);
+		long generation = generation(bookId);
+		CachedPage cached = lookup(key);
+
+		Optional<String> content;
+		if (cached != null) {
+			hits.increment();
+			content = Optional.of(cached.content());
+		} else {
+			misses.increment();
+			content = pageContentReader.read(bookId, pageNumber);
+			content.ifPresent(text -> put(key, text, false, generation));
+		}
+
+		// 첫 조회(실패)부터 미리 읽어야 순차 넘김에서 다음 페이지가 적중함
+		if (content.isPresent()) {
+			prefetch(bookId, pageNumber, generation);
+		}
+		return content;
+	}
+
+	/**
+	 * 책의 콘텐츠 버전 조회 (메모리에 없으면 loader로 조회 후 저장)
+	 * 버전이 없는 책(페이지가 저장되지 않았거나 없는 책)은 저장하지 않습니다.
+	 */
+	public Optional<String> getContentVersion(Long bookId, Supplier<Optional<String>> loader) {
+		long generation;
+		synchronized (this) {
+			String cached = contentVersions.get(bookId);
+			if (cached != null) {
+				return Optional.of(cached);
+			}
+			generation = generation(bookId);
+		}
+
+		Optional<String> loaded = loader.get();
+		loaded.ifPresent(version -> putContentVersion(bookId, version, generation));
+		return loaded;
+	}
+
+	/**
+	 * 다시 저장한 페이지의 콘텐츠 버전 저장 (evictBook 뒤에 호출)
+	 */
+	public synchronized void putContentVersion(Long bookId, String contentVersion) {
+		if (contentVersion == null) {
+			contentVersions.remove(bookId);
+		} else {
+			contentVersions.put(bookId, contentVersion);
+		}
+	}
+
+	/**
+	 * 책의 페이지가 다시 저장되었을 때 해당 책의 캐시 항목 제거
+	 * 세대 번호를 올려, 이전 세대에서 시작해 아직 끝나지 않은 조회/미리 읽기가 이전 페이지를 다시 넣지 못하게 합니다.
+	 * 저장 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+	 */
+	public synchronized void evictBook(Long bookId) {
+		generations.merge(bookId, 1L, Long::sum);
+		contentVersions.remove(bookId);
+		Iterator<Map.Entry<PageKey, CachedPage>> iterator = pages.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<PageKey, CachedPage> entry = iterator.next();
+			if (entry.getKey().bookId().equals(bookId)) {
+				currentBytes -= entry.getValue().bytes();
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized int size() {
+		return pages.size();
+	}
+
+	public synchronized long bytes() {
+		return currentBytes;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (prefetchExecutor instanceof ExecutorService executorService) {
+			executorService.shutdownNow();
+		}
+	}
+
+	private synchronized CachedPage lookup(PageKey key) {
+		CachedPage cached = pages.get(key);
+		if (cached != null && cached.prefetched()) {
+			// 미리 읽은 페이지의 첫 적중만 집계
+			prefetchUsed.increment();
+			cached = new CachedPage(cached.content(), cached.bytes(), false);
+			pages.put(key, cached);
+		}
+		return cached;
+	}
+
+	private synchronized long generation(Long bookId) {
+		return generations.getOrDefault(bookId, 0L);
+	}
+
+	private synchronized void putContentVersion(Long bookId, String contentVersion, long generation) {
+		// 읽는 동안 페이지가 다시 저장되었으면 이전 버전일 수 있으므로 저장하지 않음
+		if (generation == generation(bookId)) {
+			contentVersions.put(bookId, contentVersion);
+		}
+	}
+
+	private synchronized boolean contains(PageKey key) {
+		return pages.containsKey(key);
+	}
+
+	/**
+	 * @return 캐시에 넣었으면 true
+	 */
+	private synchronized boolean put(PageKey key, String content, boolean prefetched, long generation) {
+		if (generation != generation(key.bookId())) {
+			// 읽는 동안 페이지가 다시 저장됨
+			return false;
+		}
+		long size = ENTRY_OVERHEAD_BYTES + (long)content.length() * Character.BYTES;
+		if (size > maxBytes) {
+			return false;
+		}
+		if (prefetched && pages.containsKey(key)) {
+			return false;
+		}
+
+		CachedPage previous = pages.put(key, new CachedPage(content, size, prefetched));
+		if (previous != null) {
+			currentBytes -= previous.bytes();
+		}
+		currentBytes += size;
+
+		Iterator<CachedPage> eldest = pages.values().iterator();
+		while (currentBytes > maxBytes && eldest.hasNext()) {
+			currentBytes -= eldest.next().bytes();
+			eldest.remove();
+			evictions.increment();
+		}
+		return true;
+	}
+
+	/**
+	 * pageNumber 다음 readAhead개 중 아직 캐시에 없는 구간을 비동기로 읽어 옴
+	 */
+	private void prefetch(Long bookId, Integer pageNumber, long generation) {
+		if (readAhead <= 0) {
+			return;
+		}
+
+		int from = pageNumber + 1;
+		int to = pageNumber + readAhead;
+		while (from <= to && contains(new PageKey(bookId, from))) {
+			from++;
+		}
+		if (from > to) {
+			return;
+		}
+
+		PageKey start = new PageKey(bookId, from);
+		if (!prefetching.add(start)) {
+			return;
+		}
+
+		int fromPage = from;
+		try {
+			prefetchExecutor.execute(() -> {
+				try {
+					pageContentReader.readRange(bookId, fromPage, to).forEach((number, text) -> {
+						if (put(new PageKey(bookId, number), text, true, generation)) {
+							prefetchLoaded.increment();
+						}
+					});
+				} catch (RuntimeException e) {
+					log.warn("페이지 미리 읽기 실패: 책 ID {}, {}~{}페이지", bookId, fromPage, to, e);
+				} finally {
+					prefetching.remove(start);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 대기열이 가득 차면 미리 읽기는 건너뜀 (다음 조회 때 다시 시도)
+			prefetching.remove(start);
+		}
+	}
+
+	private static ExecutorService newPrefetchExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(128),
+			runnable -> {
+				Thread thread = new Thread(runnable, "page-prefetch");
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private record PageKey(Long bookId, Integer pageNumber) {
+	}
+
+	private record CachedPage(String content, long bytes, boolean prefetched) {
+	}
+}
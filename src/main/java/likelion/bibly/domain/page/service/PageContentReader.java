@@ -0,0 +1,34 @@
+package likelion.bibly.domain.page.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 페이지 텍스트 조회 백엔드
+ * bibly.page-store.type 설정으로 DB(page_content 테이블) / 파일(메모리 맵) 중 하나가 등록됩니다.
+ */
+public interface PageContentReader {
+
+	/**
+	 * @param bookId 책 ID
+	 * @param pageNumber 페이지 번호 (1부터 시작)
+	 * @return 페이지 텍스트, 없으면 empty
+	 */
+	Optional<String> read(Long bookId, Integer pageNumber);
+
+	/**
+	 * fromPage ~ toPage(포함) 구간의 페이지를 한꺼번에 조회 (미리 읽기용)
+	 * 기본 구현은 한 페이지씩 조회하며, 구간 조회를 지원하는 백엔드는 재정의합니다.
+	 *
+	 * @return 페이지 번호 -> 텍스트 (페이지 번호 순, 없는 페이지는 빠짐)
+	 */
+	default Map<Integer, String> readRange(Long bookId, int fromPage, int toPage) {
+		Map<Integer, String> pages = new LinkedHashMap<>();
+		for (int pageNumber = fromPage; pageNumber <= toPage; pageNumber++) {
+			int current = pageNumber;
+			read(bookId, current).ifPresent(content -> pages.put(current, content));
+		}
+		return pages;
+	}
+}
@@ -0,0 +1,253 @@
+package likelion.bibly.domain.page.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import likelion.bibly.global.util.PageOffsetIndex;
+import likelion.bibly.global.util.PageOffsetIndex.TextPosition;
+import likelion.bibly.global.util.PaginationUtil;
+
+/**
+ * 페이지 크기 프로필별 가상 페이지
+ *
+ * page_content에는 기본 프로필(default, 564자 / 993바이트)로 나눈 페이지만 저장하고,
+ * 다른 프로필(예: tablet)은 책 원문에서 페이지 시작 위치만 계산한 오프셋 인덱스로 페이지를 잘라 냅니다.
+ * 원문은 기본 페이지를 순서대로 이어 붙여 복원하므로(페이지 분할은 글자를 버리지 않음) book_content가 없는 책도 지원하며,
+ * 원문과 프로필별 인덱스는 원문 크기 기준 LRU로 메모리에 둡니다.
+ * PageCache와 같이 책마다 세대 번호를 두어 evictBook 전에 읽기 시작한 원문은 캐시에 넣지 않습니다.
+ * 프로필 사이의 위치 변환(하이라이트 등)은 원문 위치를 거쳐 계산합니다.
+ */
+@Component
+public class VirtualPageService {
+
+	public static final String DEFAULT_PROFILE = "default";
+
+	// 항목 하나당 키/엔트리/String 헤더 대략치
+	private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+	private final PageContentJdbcRepository pageContentJdbcRepository;
+	private final Map<String, PageProfile> profiles;
+	private final long maxTextBytes;
+
+	// accessOrder=true: 조회할 때마다 맨 뒤로 이동, 맨 앞이 가장 오래 안 쓴 책
+	private final LinkedHashMap<Long, CachedBook> books = new LinkedHashMap<>(16, 0.75f, true);
+	private long currentBytes;
+
+	// 책 ID -> 세대 번호 (evictBook마다 증가, this로 동기화)
+	private final Map<Long, Long> generations = new HashMap<>();
+
+	public VirtualPageService(
+		PageContentJdbcRepository pageContentJdbcRepository,
+		@Value("${bibly.pagination.profiles:}") String[] profiles,
+		@Value("${bibly.pagination.text-cache.max-size:64MB}") DataSize maxTextSize) {
+		this.pageContentJdbcRepository = pageContentJdbcRepository;
+		this.profiles = parseProfiles(profiles);
+		this.maxTextBytes = maxTextSize.toBytes();
+	}
+
+	/**
+	 * 이름:최대 글자 수:최대 바이트 수 형식의 프로필 목록 해석 (기본 프로필은 항상 포함)
+	 */
+	private static Map<String, PageProfile> parseProfiles(String[] definitions) {
+		Map<String, PageProfile> profiles = new LinkedHashMap<>();
+		profiles.put(DEFAULT_PROFILE, new PageProfile(DEFAULT_PROFILE,
+			PaginationUtil.MAX_CHAR_PER_PAGE, PaginationUtil.MAX_BYTE_PER_PAGE));
+
+		for (String definition : definitions) {
+			if (definition.isBlank()) {
+				continue;
+			}
+			String[] parts = definition.trim().split(":");
+			if (parts.length != 3 || DEFAULT_PROFILE.equals(parts[0])) {
+				throw new IllegalArgumentException("페이지 프로필 형식이 잘못되었습니다: " + definition);
+			}
+			profiles.put(parts[0], new PageProfile(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+		}
+		return Collections.unmodifiableMap(profiles);
+	}
+
+	public static boolean isDefaultProfile(String profile) {
+		return profile == null || profile.isBlank() || DEFAULT_PROFILE.equals(profile);
+	}
+
+	public Set<String> getProfiles() {
+		return profiles.keySet();
+	}
+
+	/**
+	 * 요청한 프로필 이름을 설정된 프로필 이름으로 확인 (생략하면 default)
+	 *
+	 * @throws BusinessException 알 수 없는 프로필(B004)인 경우
+	 */
+	public String resolveProfile(String profile) {
+		return profile(profile).name();
+	}
+
+	/**
+	 * 프로필 기준 페이지 텍스트
+	 *
+	 * @return 페이지 텍스트, 책의 페이지가 없거나 범위를 벗어나면 empty
+	 */
+	public Optional<String> getPage(Long bookId, String profile, int pageNumber) {
+		PageProfile pageProfile = profile(profile);
+		CachedBook book = load(bookId);
+		if (book == null) {
+			return Optional.empty();
+		}
+
+		PageOffsetIndex index = book.index(pageProfile);
+		return index.hasPage(pageNumber) ? Optional.of(index.slice(book.text(), pageNumber)) : Optional.empty();
+	}
+
+	/**
+	 * 프로필 기준 페이지 수 (책의 페이지가 없으면 0)
+	 */
+	public int getPageCount(Long bookId, String profile) {
+		PageProfile pageProfile = profile(profile);
+		CachedBook book = load(bookId);
+		return book == null ? 0 : book.index(pageProfile).pageCount();
+	}
+
+	/**
+	 * fromProfile의 페이지 내 구간을 toProfile의 페이지 내 구간으로 변환
+	 * 시작 위치가 들어 있는 페이지를 기준으로 하며, 구간이 다음 페이지로 이어지면 끝 위치는 페이지 길이보다 커집니다.
+	 *
+	 * @throws BusinessException 알 수 없는 프로필(B004)이거나 없는 페이지(B003)인 경우
+	 */
+	public TextRange translate(Long bookId, String fromProfile, int pageNumber, int startOffset, int endOffset,
+		String toProfile) {
+		PageProfile from = profile(fromProfile);
+		PageProfile to = profile(toProfile);
+		CachedBook book = load(bookId);
+		if (book == null || !book.index(from).hasPage(pageNumber) || startOffset < 0 || endOffset < startOffset) {
+			throw new BusinessException(ErrorCode.INVALID_PAGE_RANGE);
+		}
+
+		PageOffsetIndex fromIndex = book.index(from);
+		PageOffsetIndex toIndex = book.index(to);
+		int startText = fromIndex.toTextOffset(pageNumber, startOffset);
+		int endText = fromIndex.toTextOffset(pageNumber, endOffset);
+
+		TextPosition start = toIndex.toPosition(startText);
+		return new TextRange(start.pageNumber(), start.offset(), endText - toIndex.start(start.pageNumber()));
+	}
+
+	/**
+	 * 책의 페이지가 다시 저장되었을 때 원문과 인덱스 제거
+	 * 세대 번호를 올려, 이전 세대에서 읽기 시작한 원문이 다시 캐시에 들어오지 못하게 합니다.
+	 */
+	public synchronized void evictBook(Long bookId) {
+		generations.merge(bookId, 1L, Long::sum);
+		CachedBook removed = books.remove(bookId);
+		if (removed != null) {
+			currentBytes -= removed.bytes();
+		}
+	}
+
+	public synchronized long bytes() {
+		return currentBytes;
+	}
+
+	private PageProfile profile(String name) {
+		if (isDefaultProfile(name)) {
+			return profiles.get(DEFAULT_PROFILE);
+		}
+		PageProfile profile = profiles.get(name);
+		if (profile == null) {
+			throw new BusinessException(ErrorCode.INVALID_PAGE_PROFILE);
+		}
+		return profile;
+	}
+
+	private CachedBook load(Long bookId) {
+		long generation;
+		synchronized (this) {
+			CachedBook cached = books.get(bookId);
+			if (cached != null) {
+				return cached;
+			}
+			generation = generation(bookId);
+		}
+
+		// 기본 페이지를 순서대로 이어 붙여 원문 복원 (DB 조회는 잠금 밖에서)
+		StringBuilder text = new StringBuilder();
+		pageContentJdbcRepository.forEachContent(bookId, text::append);
+		if (text.isEmpty()) {
+			return null;
+		}
+
+		CachedBook book = new CachedBook(text.toString());
+		put(bookId, book, generation);
+		return book;
+	}
+
+	private synchronized long generation(Long bookId) {
+		return generations.getOrDefault(bookId, 0L);
+	}
+
+	private synchronized void put(Long bookId, CachedBook book, long generation) {
+		if (generation != generation(bookId)) {
+			// 읽는 동안 페이지가 다시 저장됨
+			return;
+		}
+		if (book.bytes() > maxTextBytes) {
+			return;
+		}
+
+		CachedBook previous = books.put(bookId, book);
+		if (previous != null) {
+			currentBytes -= previous.bytes();
+		}
+		currentBytes += book.bytes();
+
+		Iterator<CachedBook> eldest = books.values().iterator();
+		while (currentBytes > maxTextBytes && eldest.hasNext()) {
+			currentBytes -= eldest.next().bytes();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * 페이지 크기 프로필 (PageSplitter와 같은 글자/바이트 이중 제한)
+	 */
+	public record PageProfile(String name, int maxCharPerPage, int maxBytePerPage) {
+	}
+
+	/**
+	 * 페이지 번호와 페이지 내 시작/끝 위치 (끝은 exclusive)
+	 */
+	public record TextRange(int pageNumber, int startOffset, int endOffset) {
+	}
+
+	/**
+	 * 복원한 원문과 프로필별 오프셋 인덱스 (인덱스는 처음 요청될 때 한 번 계산)
+	 */
+	private record CachedBook(String text, Map<String, PageOffsetIndex> indexes) {
+
+		CachedBook(String text) {
+			this(text, new ConcurrentHashMap<>());
+		}
+
+		PageOffsetIndex index(PageProfile profile) {
+			return indexes.computeIfAbsent(profile.name(),
+				name -> PageOffsetIndex.build(text, profile.maxCharPerPage(), profile.maxBytePerPage()));
+		}
+
+		long bytes() {
+			return ENTRY_OVERHEAD_BYTES + (long)text.length() * Character.BYTES;
+		}
+	}
+}
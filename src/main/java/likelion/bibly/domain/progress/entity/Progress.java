@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "progress")
+@Table(name = "progress", uniqueConstraints = {
+        // 모임원 + 책 진행도 조회 (조회 후 없으면 생성하므로 중복 생성도 막음)
+        @UniqueConstraint(name = "uk_progress_member_book", columnNames = {"member_id", "book_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Progress {
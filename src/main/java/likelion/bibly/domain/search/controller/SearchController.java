@@ -0,0 +1,114 @@
+package likelion.bibly.domain.search.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import likelion.bibly.domain.search.dto.response.BookSearchResponse;
+import likelion.bibly.domain.search.dto.response.CatalogSearchResponse;
+import likelion.bibly.domain.search.service.SearchService;
+import likelion.bibly.global.common.ApiResponse;
+import likelion.bibly.global.exception.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Search", description = "책 본문 검색 API")
+@RestController
+@RequestMapping("/api/v1/books")
+@RequiredArgsConstructor
+public class SearchController {
+
+	private final SearchService searchService;
+
+	/**
+	 * 책 한 권 본문 검색
+	 */
+	@Operation(
+		summary = "책 본문 검색",
+		description = """
+			책 본문에서 검색어가 나오는 페이지와 페이지 내 위치를 조회합니다.
+
+			**검색 규칙:**
+			- 글자/숫자가 이어진 단어 단위로 대소문자 구분 없이 찾습니다
+			- 여러 단어를 입력하면 모든 단어가 나오는 페이지만 반환합니다
+
+			**반환 정보:**
+			- matchedPageCount: 일치하는 전체 페이지 수
+			- pages: 앞쪽 페이지부터 최대 limit개 (pageNumber, matches[startOffset, endOffset])
+			- 페이지 경계에 걸친 단어는 시작한 페이지에 속하며, endOffset이 페이지 길이보다 클 수 있습니다
+			"""
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "200",
+			description = "검색 성공",
+			content = @Content(schema = @Schema(implementation = BookSearchResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "400",
+			description = "검색어가 비어 있음 (B005)",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "404",
+			description = "책을 찾을 수 없음 (B001)",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@GetMapping("/{bookId}/search")
+	public ApiResponse<BookSearchResponse> searchBook(
+		@Parameter(description = "책 ID", example = "1")
+		@PathVariable Long bookId,
+		@Parameter(description = "검색어", example = "elizabeth letter")
+		@RequestParam String q,
+		@Parameter(description = "반환할 최대 페이지 수 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int limit
+	) {
+		return ApiResponse.success(searchService.searchBook(bookId, q, limit));
+	}
+
+	/**
+	 * 전체 책 본문 검색
+	 */
+	@Operation(
+		summary = "전체 책 본문 검색",
+		description = """
+			모든 책의 본문에서 검색어를 찾아 일치하는 페이지가 많은 책 순으로 조회합니다.
+
+			**반환 정보:**
+			- 책 기본 정보 (책 ID, 제목, 저자, 표지 이미지)
+			- matchedPageCount: 책에서 일치하는 페이지 수
+			- pages: 앞쪽 일치 페이지 최대 3개와 페이지 내 위치
+			"""
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "200",
+			description = "검색 성공",
+			content = @Content(schema = @Schema(implementation = CatalogSearchResponse.class))
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "400",
+			description = "검색어가 비어 있음 (B005)",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+		)
+	})
+	@GetMapping("/search")
+	public ApiResponse<List<CatalogSearchResponse>> searchCatalog(
+		@Parameter(description = "검색어", example = "elizabeth")
+		@RequestParam String q,
+		@Parameter(description = "반환할 최대 책 수 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int limit
+	) {
+		return ApiResponse.success(searchService.searchCatalog(q, limit));
+	}
+}
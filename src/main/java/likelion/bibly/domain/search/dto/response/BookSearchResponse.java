@@ -0,0 +1,19 @@
+package likelion.bibly.domain.search.dto.response;
+
+import java.util.List;
+
+/**
+ * 책 한 권 본문 검색 응답
+ *
+ * @param bookId 책 ID
+ * @param query 검색어
+ * @param matchedPageCount 모든 검색 단어가 나오는 전체 페이지 수
+ * @param pages 앞쪽 페이지부터 최대 limit개
+ */
+public record BookSearchResponse(
+        Long bookId,
+        String query,
+        Integer matchedPageCount,
+        List<PageMatchResponse> pages
+) {
+}
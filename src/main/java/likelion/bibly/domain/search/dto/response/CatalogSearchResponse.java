@@ -0,0 +1,19 @@
+package likelion.bibly.domain.search.dto.response;
+
+import java.util.List;
+
+/**
+ * 전체 책 본문 검색 응답 항목 (일치하는 페이지가 많은 책 순)
+ *
+ * @param matchedPageCount 모든 검색 단어가 나오는 페이지 수
+ * @param pages 앞쪽 일치 페이지 몇 개 (미리 보기용)
+ */
+public record CatalogSearchResponse(
+        Long bookId,
+        String title,
+        String author,
+        String coverImageUrl,
+        Integer matchedPageCount,
+        List<PageMatchResponse> pages
+) {
+}
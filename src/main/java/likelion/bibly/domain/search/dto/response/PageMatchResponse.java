@@ -0,0 +1,26 @@
+package likelion.bibly.domain.search.dto.response;
+
+import java.util.List;
+
+import likelion.bibly.global.util.InvertedIndex;
+
+/**
+ * 검색어가 나온 페이지와 페이지 내 위치 (스니펫 하이라이트용)
+ *
+ * @param pageNumber 페이지 번호
+ * @param matches 검색 단어별 위치 (시작 위치 순, 끝은 exclusive)
+ */
+public record PageMatchResponse(
+        Integer pageNumber,
+        List<MatchRange> matches
+) {
+
+    public record MatchRange(Integer startOffset, Integer endOffset) {
+    }
+
+    public static PageMatchResponse from(InvertedIndex.PageMatch pageMatch) {
+        return new PageMatchResponse(pageMatch.pageNumber(), pageMatch.matches().stream()
+                .map(match -> new MatchRange(match.startOffset(), match.endOffset()))
+                .toList());
+    }
+}
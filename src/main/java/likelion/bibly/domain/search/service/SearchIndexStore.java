@@ -0,0 +1,203 @@
+package likelion.bibly.domain.search.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import likelion.bibly.domain.book.dto.BookContentVersion;
+import likelion.bibly.domain.book.repository.BookRepository;
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import likelion.bibly.global.util.InvertedIndex;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 책별 본문 역색인 저장소
+ *
+ * 색인은 페이지를 분할/저장할 때 함께 만들거나(스트림 저장은 저장이 끝난 뒤 page_content에서) 메모리에 두고,
+ * 책마다 사이드카 파일({bookId}.sidx)로도 저장합니다.
+ * 파일 머리에는 색인을 만든 원문의 콘텐츠 해시(Book.contentHash)를 기록합니다.
+ * 서버 시작 시 사이드카 파일을 읽어 들이고, 파일이 없거나 손상되었거나 책의 콘텐츠 해시/페이지 수와 맞지 않으면
+ * (파일 저장 후 DB 반영이 실패한 경우 등) page_content로부터 다시 만듭니다.
+ * 색인은 page_content에서 언제든 다시 만들 수 있으므로 파일 저장 실패는 경고만 남깁니다.
+ */
+@Slf4j
+@Component
+public class SearchIndexStore {
+
+	private static final String FILE_SUFFIX = ".sidx";
+	private static final int HEADER_MAGIC = 0x42534948; // "BSIH"
+
+	private final Path directory;
+	private final boolean buildMissingOnStartup;
+	private final PageContentJdbcRepository pageContentJdbcRepository;
+	private final BookRepository bookRepository;
+
+	private final Map<Long, InvertedIndex> indexes = new ConcurrentHashMap<>();
+
+	public SearchIndexStore(
+		@Value("${bibly.search.directory:./data/search-index}") String directory,
+		@Value("${bibly.search.build-missing-on-startup:true}") boolean buildMissingOnStartup,
+		PageContentJdbcRepository pageContentJdbcRepository,
+		BookRepository bookRepository) {
+		this.directory = Path.of(directory);
+		this.buildMissingOnStartup = buildMissingOnStartup;
+		this.pageContentJdbcRepository = pageContentJdbcRepository;
+		this.bookRepository = bookRepository;
+	}
+
+	public Optional<InvertedIndex> get(Long bookId) {
+		return Optional.ofNullable(indexes.get(bookId));
+	}
+
+	/**
+	 * 색인된 모든 책 (전체 검색용, 읽기 전용)
+	 */
+	public Map<Long, InvertedIndex> getAll() {
+		return Collections.unmodifiableMap(indexes);
+	}
+
+	/**
+	 * 새로 분할한 책의 색인으로 교체하고 사이드카 파일 저장 (페이지 저장 트랜잭션이 커밋된 뒤에 호출)
+	 *
+	 * @param contentHash 색인을 만든 원문의 콘텐츠 해시
+	 */
+	public void put(Long bookId, String contentHash, InvertedIndex index) {
+		indexes.put(bookId, index);
+		write(bookId, contentHash, index);
+	}
+
+	/**
+	 * 책의 페이지가 지워졌을 때 색인과 파일 제거
+	 */
+	public void remove(Long bookId) {
+		indexes.remove(bookId);
+		try {
+			Files.deleteIfExists(path(bookId));
+		} catch (IOException e) {
+			log.warn("검색 색인 파일 삭제 실패: 책 ID {}", bookId, e);
+		}
+	}
+
+	/**
+	 * page_content 테이블에 저장된 페이지로 색인을 다시 생성
+	 *
+	 * @return 색인한 페이지 수 (페이지가 없으면 0)
+	 */
+	public int rebuild(Long bookId) {
+		return rebuild(bookId, bookRepository.findContentHashByBookId(bookId).orElse(null));
+	}
+
+	/**
+	 * page_content 테이블에 저장된 페이지로 색인을 다시 생성 (콘텐츠 해시를 이미 아는 경우)
+	 * 페이지를 한 행씩 읽으며 색인하므로 원문 전체를 메모리에 올리지 않습니다.
+	 *
+	 * @param contentHash 저장된 페이지의 콘텐츠 해시
+	 * @return 색인한 페이지 수 (페이지가 없으면 0)
+	 */
+	public int rebuild(Long bookId, String contentHash) {
+		InvertedIndex.Builder builder = InvertedIndex.builder();
+		pageContentJdbcRepository.forEachContent(bookId, builder::addPage);
+		InvertedIndex index = builder.build();
+		if (index.pageCount() == 0) {
+			remove(bookId);
+		} else {
+			put(bookId, contentHash, index);
+		}
+		return index.pageCount();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		Map<Long, BookContentVersion> versions = bookRepository.findContentVersions().stream()
+			.collect(Collectors.toMap(BookContentVersion::bookId, Function.identity()));
+
+		int loaded = 0;
+		int built = 0;
+		for (Long bookId : pageContentJdbcRepository.findBookIds()) {
+			Optional<InvertedIndex> index = read(bookId, versions.get(bookId));
+			if (index.isPresent()) {
+				indexes.put(bookId, index.get());
+				loaded++;
+			} else if (buildMissingOnStartup) {
+				rebuild(bookId);
+				built++;
+			}
+		}
+		log.info("검색 색인 로드: 파일 {}권, 새로 생성 {}권", loaded, built);
+	}
+
+	/**
+	 * 사이드카 파일을 읽어 책의 현재 콘텐츠 버전과 맞으면 반환
+	 */
+	private Optional<InvertedIndex> read(Long bookId, BookContentVersion version) {
+		Path file = path(bookId);
+		if (!Files.exists(file)) {
+			return Optional.empty();
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != HEADER_MAGIC) {
+				throw new IOException("지원하지 않는 검색 색인 파일 형식");
+			}
+			String contentHash = in.readUTF();
+			InvertedIndex index = InvertedIndex.readFrom(in);
+
+			if (version == null || !Objects.equals(contentHash, Objects.toString(version.contentHash(), ""))
+				|| !Objects.equals(index.pageCount(), version.pageCount())) {
+				log.info("검색 색인 파일이 책의 현재 페이지와 맞지 않아 다시 생성합니다: 책 ID {}", bookId);
+				return Optional.empty();
+			}
+			return Optional.of(index);
+		} catch (IOException e) {
+			log.warn("검색 색인 파일을 읽을 수 없어 다시 생성합니다: 책 ID {}", bookId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 임시 파일에 쓴 뒤 원자적으로 교체
+	 */
+	private void write(Long bookId, String contentHash, InvertedIndex index) {
+		Path temp = null;
+		try {
+			Files.createDirectories(directory);
+			temp = Files.createTempFile(directory, bookId + "-", FILE_SUFFIX + ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(HEADER_MAGIC);
+				out.writeUTF(Objects.toString(contentHash, ""));
+				index.writeTo(out);
+			}
+			Files.move(temp, path(bookId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("검색 색인 파일 저장 실패: 책 ID {}", bookId, e);
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException ignored) {
+					// 남은 임시 파일은 다음 저장에 영향 없음
+				}
+			}
+		}
+	}
+
+	private Path path(Long bookId) {
+		return directory.resolve(bookId + FILE_SUFFIX);
+	}
+}
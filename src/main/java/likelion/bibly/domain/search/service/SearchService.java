@@ -0,0 +1,111 @@
+package likelion.bibly.domain.search.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.repository.BookRepository;
+import likelion.bibly.domain.search.dto.response.BookSearchResponse;
+import likelion.bibly.domain.search.dto.response.CatalogSearchResponse;
+import likelion.bibly.domain.search.dto.response.PageMatchResponse;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import likelion.bibly.global.util.InvertedIndex;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 책 본문 검색 (SearchIndexStore의 메모리 역색인 사용, DB에서는 전체 검색 결과의 책 정보만 조회)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    // 한 번에 반환할 수 있는 최대 페이지 수 / 책 수
+    static final int MAX_LIMIT = 100;
+
+    // 전체 검색에서 책마다 함께 반환할 일치 페이지 수
+    static final int PAGES_PER_BOOK = 3;
+
+    private final SearchIndexStore searchIndexStore;
+    private final BookRepository bookRepository;
+
+    /**
+     * 책 한 권 본문 검색
+     * @param bookId 책 ID
+     * @param query 검색어 (여러 단어면 모든 단어가 나오는 페이지)
+     * @param limit 위치까지 반환할 최대 페이지 수
+     */
+    public BookSearchResponse searchBook(Long bookId, String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (!bookRepository.existsById(bookId)) {
+            throw new BusinessException(ErrorCode.BOOK_NOT_FOUND);
+        }
+
+        // 아직 페이지로 분할되지 않은 책은 결과 없음
+        InvertedIndex.SearchResult result = searchIndexStore.get(bookId)
+                .map(index -> index.search(terms, clamp(limit)))
+                .orElse(new InvertedIndex.SearchResult(0, List.of()));
+
+        return new BookSearchResponse(bookId, query, result.matchedPageCount(),
+                result.pages().stream().map(PageMatchResponse::from).toList());
+    }
+
+    /**
+     * 전체 책 본문 검색 (일치하는 페이지가 많은 책 순)
+     * @param query 검색어
+     * @param limit 반환할 최대 책 수
+     */
+    public List<CatalogSearchResponse> searchCatalog(String query, int limit) {
+        List<String> terms = tokenize(query);
+
+        List<BookHit> hits = new ArrayList<>();
+        searchIndexStore.getAll().forEach((bookId, index) -> {
+            InvertedIndex.SearchResult result = index.search(terms, PAGES_PER_BOOK);
+            if (result.matchedPageCount() > 0) {
+                hits.add(new BookHit(bookId, result));
+            }
+        });
+        List<BookHit> topHits = hits.stream()
+                .sorted(Comparator.comparingInt((BookHit hit) -> hit.result().matchedPageCount()).reversed()
+                        .thenComparing(BookHit::bookId))
+                .limit(clamp(limit))
+                .toList();
+
+        // 상위 책의 정보만 한 번에 조회 (삭제된 책은 제외)
+        Map<Long, Book> books = bookRepository.findAllById(topHits.stream().map(BookHit::bookId).toList()).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+
+        return topHits.stream()
+                .filter(hit -> books.containsKey(hit.bookId()))
+                .map(hit -> {
+                    Book book = books.get(hit.bookId());
+                    return new CatalogSearchResponse(book.getBookId(), book.getTitle(), book.getAuthor(),
+                            book.getCoverUrl(), hit.result().matchedPageCount(),
+                            hit.result().pages().stream().map(PageMatchResponse::from).toList());
+                })
+                .toList();
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> terms = InvertedIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_SEARCH_QUERY);
+        }
+        return terms;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private record BookHit(Long bookId, InvertedIndex.SearchResult result) {
+    }
+}
@@ -13,7 +13,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reading_session")
+@Table(name = "reading_session", indexes = {
+        // 모임이 함께 읽은 책의 하이라이트 조회 (책 + 모임으로 세션을 찾아 조인)
+        @Index(name = "idx_reading_session_book_group", columnList = "book_id, group_id"),
+        // 모임의 진행 중인 세션 조회
+        @Index(name = "idx_reading_session_group_current", columnList = "group_id, is_current_session")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReadingSession {
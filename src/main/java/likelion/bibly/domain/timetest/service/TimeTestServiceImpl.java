@@ -6,8 +6,8 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import likelion.bibly.domain.assignment.entity.ReadingAssignment;
-import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentJdbcRepository;
+import likelion.bibly.domain.assignment.service.CycleScheduleCache;
 import likelion.bibly.domain.group.entity.Group;
 import likelion.bibly.domain.group.repository.GroupRepository;
 import likelion.bibly.domain.member.entity.Member;
@@ -24,7 +24,8 @@ public class TimeTestServiceImpl implements TimeTestService {
 
 	private final GroupRepository groupRepository;
 	private final MemberRepository memberRepository;
-	private final ReadingAssignmentRepository assignmentRepository;
+	private final ReadingAssignmentJdbcRepository assignmentJdbcRepository;
+	private final CycleScheduleCache cycleScheduleCache;
 
 	/**
 	 * 시간을 X일 앞으로 점프 (모든 배정을 X일 과거로 이동)
@@ -39,26 +40,19 @@ public class TimeTestServiceImpl implements TimeTestService {
 		Group group = groupRepository.findById(groupId)
 			.orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
-		List<ReadingAssignment> assignments = assignmentRepository.findByGroup_GroupId(groupId);
+		// 모든 배정의 시간을 days일 과거로 이동 (배정을 읽지 않고 UPDATE 한 번)
+		int shifted = assignmentJdbcRepository.shiftDates(groupId, -days);
 
-		if (assignments.isEmpty()) {
+		if (shifted == 0) {
 			throw new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND);
 		}
+		cycleScheduleCache.evict(groupId);
 
-		// 모든 배정의 시간을 days일 과거로 이동
-		for (ReadingAssignment assignment : assignments) {
-			LocalDateTime newStartDate = assignment.getStartDate().minusDays(days);
-			LocalDateTime newEndDate = assignment.getEndDate().minusDays(days);
-
-			assignment.updateDates(newStartDate, newEndDate);
-		}
-
-		// 현재 회차 계산
+		// 현재 회차 계산 (진행 중인 회차가 없으면 null), 캐시는 커밋 뒤에 비워지므로 옮긴 일정을 직접 읽음
 		LocalDateTime now = LocalDateTime.now();
-		Integer currentCycle = assignments.stream()
-			.filter(a -> !now.isBefore(a.getStartDate()) && !now.isAfter(a.getEndDate()))
-			.map(ReadingAssignment::getCycleNumber)
-			.findFirst()
+		Integer currentCycle = cycleScheduleCache.load(groupId)
+			.filter(schedule -> schedule.isStarted(now) && !schedule.isFinished(now))
+			.map(schedule -> schedule.currentCycle(now))
 			.orElse(null);
 
 		if (currentCycle == null) {
@@ -30,6 +30,9 @@ public enum ErrorCode {
 	GROUP_ALREADY_STARTED(HttpStatus.BAD_REQUEST, "G007", "이미 시작된 모임입니다."),
 	NOT_ALL_MEMBERS_SELECTED_BOOK(HttpStatus.BAD_REQUEST, "G008", "모든 모임원이 책을 선택해야 합니다."),
 	GROUP_CANNOT_RESTART(HttpStatus.BAD_REQUEST, "G009", "모든 회차를 완료해야 재시작이 가능합니다."),
+	INVITE_CODE_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "G010", "사용할 수 있는 초대 코드가 없습니다. 잠시 후 다시 시도해 주세요."),
+	INVITE_CODE_CONFLICT(HttpStatus.CONFLICT, "G011", "초대 코드가 다른 모임과 겹쳤습니다. 다시 시도해 주세요."),
+	GROUP_ARCHIVED(HttpStatus.BAD_REQUEST, "G012", "오랫동안 시작하지 않아 보관된 모임입니다. 새 모임을 만들어 주세요."),
 
 	// Member
 	MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "모임원을 찾을 수 없습니다."),
@@ -43,6 +46,14 @@ public enum ErrorCode {
 	// Book
 	BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "B001", "책을 찾을 수 없습니다."),
 	BOOK_ALREADY_SELECTED(HttpStatus.CONFLICT, "B002", "이미 모임원이 해당 책을 골랐습니다."),
+	INVALID_PAGE_RANGE(HttpStatus.BAD_REQUEST, "B003", "조회할 수 없는 페이지 범위입니다."),
+	INVALID_PAGE_PROFILE(HttpStatus.BAD_REQUEST, "B004", "지원하지 않는 페이지 프로필입니다."),
+	INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "B005", "검색어를 입력해 주세요."),
+
+	// Import
+	IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "I001", "가져오기 작업을 찾을 수 없습니다."),
+	IMPORT_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "I002", "이미 진행 중인 가져오기 작업이 있습니다."),
+	IMPORT_JOB_NOT_RESUMABLE(HttpStatus.BAD_REQUEST, "I003", "실패한 가져오기 작업만 이어서 실행할 수 있습니다."),
 
 	// Assignment
 	ASSIGNMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "A001", "배정을 찾을 수 없습니다."),
@@ -0,0 +1,148 @@
+package likelion.bibly.global.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 패싯 필터용 불변 비트맵 색인
+ *
+ * 항목은 순위 순으로 0부터 번호(ordinal)를 매기고, 패싯 값(장르 등)은 사전으로 정규화하여 값마다
+ * 해당 항목 번호의 BitSet을 둡니다. 여러 값 필터(AND/OR)와 값별 개수는 비트맵 연산으로 계산하며,
+ * 결과 항목은 번호 순(= 순위 순)으로 꺼냅니다.
+ * 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드가 동시에 조회할 수 있습니다.
+ */
+public final class FacetIndex<T> {
+
+    private final List<T> items;
+    // 패싯 번호 -> 표시 이름 / 정규화한 키 -> 패싯 번호
+    private final List<String> facetNames;
+    private final Map<String, Integer> facetIds;
+    private final BitSet[] bitmaps;
+
+    private FacetIndex(List<T> items, List<String> facetNames, Map<String, Integer> facetIds, BitSet[] bitmaps) {
+        this.items = items;
+        this.facetNames = facetNames;
+        this.facetIds = facetIds;
+        this.bitmaps = bitmaps;
+    }
+
+    /**
+     * @param items 순위 순 항목
+     * @param facets 항목의 패싯 값 (대소문자/공백만 다른 값은 같은 값, 표시 이름은 처음 나온 형태)
+     */
+    public static <T> FacetIndex<T> build(List<T> items, Function<T, Collection<String>> facets) {
+        List<String> facetNames = new ArrayList<>();
+        Map<String, Integer> facetIds = new HashMap<>();
+        List<BitSet> bitmaps = new ArrayList<>();
+
+        for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+            for (String facet : facets.apply(items.get(ordinal))) {
+                String name = collapseWhitespace(facet);
+                if (name.isEmpty()) {
+                    continue;
+                }
+                Integer facetId = facetIds.get(key(name));
+                if (facetId == null) {
+                    facetId = facetNames.size();
+                    facetIds.put(key(name), facetId);
+                    facetNames.add(name);
+                    bitmaps.add(new BitSet());
+                }
+                bitmaps.get(facetId).set(ordinal);
+            }
+        }
+        return new FacetIndex<>(List.copyOf(items), List.copyOf(facetNames), Map.copyOf(facetIds),
+            bitmaps.toArray(BitSet[]::new));
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 패싯 값으로 항목 필터
+     *
+     * @param facets 필터할 값 (비어 있으면 전체 항목)
+     * @param matchAll true면 모든 값을 가진 항목(AND), false면 하나라도 가진 항목(OR)
+     * @return 일치하는 항목 번호 (호출자가 바꿔도 되는 새 BitSet)
+     */
+    public BitSet filter(Collection<String> facets, boolean matchAll) {
+        BitSet result = new BitSet(items.size());
+        if (facets.isEmpty()) {
+            result.set(0, items.size());
+            return result;
+        }
+
+        boolean first = true;
+        for (String facet : facets) {
+            Integer facetId = facetIds.get(key(collapseWhitespace(facet)));
+            if (facetId == null) {
+                // 없는 값: AND면 결과 없음, OR면 무시
+                if (matchAll) {
+                    return new BitSet();
+                }
+                continue;
+            }
+
+            if (first || !matchAll) {
+                result.or(bitmaps[facetId]);
+            } else {
+                result.and(bitmaps[facetId]);
+            }
+            first = false;
+        }
+        return result;
+    }
+
+    /**
+     * selection 안에서 패싯 값별 항목 수 (0인 값은 제외, 많은 순)
+     */
+    public List<FacetCount> counts(BitSet selection) {
+        List<FacetCount> counts = new ArrayList<>();
+        BitSet intersection = new BitSet(items.size());
+        for (int facetId = 0; facetId < bitmaps.length; facetId++) {
+            intersection.clear();
+            intersection.or(bitmaps[facetId]);
+            intersection.and(selection);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.add(new FacetCount(facetNames.get(facetId), count));
+            }
+        }
+        counts.sort(Comparator.comparingInt(FacetCount::count).reversed().thenComparing(FacetCount::name));
+        return counts;
+    }
+
+    /**
+     * selection의 항목을 번호 순으로 offset번째부터 최대 limit개
+     */
+    public List<T> items(BitSet selection, int offset, int limit) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(limit, selection.cardinality() - offset)));
+        int skipped = 0;
+        for (int ordinal = selection.nextSetBit(0); ordinal >= 0 && ordinal < items.size() && result.size() < limit;
+             ordinal = selection.nextSetBit(ordinal + 1)) {
+            if (skipped++ >= offset) {
+                result.add(items.get(ordinal));
+            }
+        }
+        return result;
+    }
+
+    private static String collapseWhitespace(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record FacetCount(String name, int count) {
+    }
+}
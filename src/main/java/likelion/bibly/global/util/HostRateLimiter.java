@@ -0,0 +1,48 @@
+package likelion.bibly.global.util;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호스트별 요청 간격 제한기
+ * 같은 호스트로 가는 요청이 초당 requestsPerSecond번을 넘지 않도록 요청 시각을 일정 간격으로 배정하고,
+ * 배정된 시각까지 호출 스레드를 재웁니다. (가상 스레드에서 호출하는 것을 전제로 함)
+ */
+public class HostRateLimiter {
+
+    private final long intervalNanos;
+
+    // 호스트별 다음 요청 가능 시각 (System.nanoTime 기준)
+    private final Map<String, AtomicLong> nextSlots = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long)(TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    }
+
+    /**
+     * uri의 호스트로 요청을 보내도 되는 시각까지 대기
+     */
+    public void acquire(URI uri) throws InterruptedException {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase();
+        AtomicLong nextSlot = nextSlots.computeIfAbsent(host, key -> new AtomicLong(System.nanoTime()));
+
+        while (true) {
+            long now = System.nanoTime();
+            long reserved = nextSlot.get();
+            long slot = Math.max(now, reserved);
+            if (nextSlot.compareAndSet(reserved, slot + intervalNanos)) {
+                long waitNanos = slot - now;
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+                return;
+            }
+        }
+    }
+}
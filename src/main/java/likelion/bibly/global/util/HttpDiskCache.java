@@ -0,0 +1,277 @@
+package likelion.bibly.global.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * GET 응답 본문을 디스크에 저장하는 HTTP 캐시 (RestTemplate 인터셉터)
+ *
+ * 본문은 내용의 SHA-256을 파일 이름으로 blobs/ 아래에 저장하고(같은 내용은 한 번만 저장),
+ * URL별 항목(entries/)에는 본문 해시와 ETag/Last-Modified를 기록합니다.
+ * 캐시된 URL은 If-None-Match/If-Modified-Since 조건부 요청으로 재검증하여 304면 디스크의 본문을 돌려주고,
+ * offline 모드에서는 네트워크 없이 캐시만 사용합니다. (캐시에 없으면 IOException)
+ * 본문은 디스크에 먼저 쓴 뒤 파일에서 읽으므로 응답 전체를 메모리에 올리지 않습니다.
+ */
+public class HttpDiskCache implements ClientHttpRequestInterceptor {
+
+    private static final String URL = "url";
+    private static final String BODY = "body";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+    private static final String CONTENT_TYPE = "content-type";
+
+    private final Path entryDirectory;
+    private final Path blobDirectory;
+    private final boolean offline;
+
+    public HttpDiskCache(Path directory, boolean offline) {
+        this.entryDirectory = directory.resolve("entries");
+        this.blobDirectory = directory.resolve("blobs");
+        this.offline = offline;
+        try {
+            Files.createDirectories(entryDirectory);
+            Files.createDirectories(blobDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("HTTP 캐시 디렉터리 생성 실패: " + directory, e);
+        }
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        if (request.getMethod() != HttpMethod.GET) {
+            return execution.execute(request, body);
+        }
+
+        String url = request.getURI().toString();
+        Path entryFile = entryDirectory.resolve(sha256Hex(url) + ".properties");
+        Properties cached = readEntry(entryFile);
+
+        if (offline) {
+            if (cached == null) {
+                throw new IOException("오프라인 모드: 캐시에 없는 요청입니다. " + url);
+            }
+            return cachedResponse(cached);
+        }
+
+        // 캐시된 응답이 있으면 조건부 요청으로 재검증
+        if (cached != null) {
+            if (cached.getProperty(ETAG) != null) {
+                request.getHeaders().set(HttpHeaders.IF_NONE_MATCH, cached.getProperty(ETAG));
+            }
+            if (cached.getProperty(LAST_MODIFIED) != null) {
+                request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, cached.getProperty(LAST_MODIFIED));
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        int status = response.getStatusCode().value();
+
+        if (status == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            response.close();
+            return cachedResponse(cached);
+        }
+        if (status != HttpStatus.OK.value()) {
+            return response;
+        }
+
+        Properties entry = store(url, response);
+        writeEntry(entryFile, entry);
+        return cachedResponse(entry);
+    }
+
+    /**
+     * 응답 본문을 임시 파일로 내려받으며 해시를 계산한 뒤 blobs/<해시>로 옮김
+     */
+    private Properties store(String url, ClientHttpResponse response) throws IOException {
+        MessageDigest digest = newDigest();
+        HttpHeaders headers = response.getHeaders();
+        Path temp = Files.createTempFile(blobDirectory, "download", ".tmp");
+
+        try {
+            try (response;
+                 InputStream in = new DigestInputStream(response.getBody(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+
+            String bodyHash = HexFormat.of().formatHex(digest.digest());
+            moveIfAbsent(temp, blobPath(bodyHash));
+
+            Properties entry = new Properties();
+            entry.setProperty(URL, url);
+            entry.setProperty(BODY, bodyHash);
+            if (headers.getETag() != null) {
+                entry.setProperty(ETAG, headers.getETag());
+            }
+            if (headers.getFirst(HttpHeaders.LAST_MODIFIED) != null) {
+                entry.setProperty(LAST_MODIFIED, headers.getFirst(HttpHeaders.LAST_MODIFIED));
+            }
+            if (headers.getContentType() != null) {
+                entry.setProperty(CONTENT_TYPE, headers.getContentType().toString());
+            }
+            return entry;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Properties readEntry(Path entryFile) throws IOException {
+        if (!Files.exists(entryFile)) {
+            return null;
+        }
+
+        Properties entry = new Properties();
+        try (var reader = Files.newBufferedReader(entryFile, StandardCharsets.UTF_8)) {
+            entry.load(reader);
+        }
+
+        // 본문 파일이 지워졌으면 캐시에 없는 것으로 취급
+        String bodyHash = entry.getProperty(BODY);
+        return bodyHash != null && Files.exists(blobPath(bodyHash)) ? entry : null;
+    }
+
+    private void writeEntry(Path entryFile, Properties entry) throws IOException {
+        Path temp = Files.createTempFile(entryDirectory, "entry", ".tmp");
+        try {
+            try (var writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                entry.store(writer, null);
+            }
+            move(temp, entryFile);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private ClientHttpResponse cachedResponse(Properties entry) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        if (entry.getProperty(CONTENT_TYPE) != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.getProperty(CONTENT_TYPE));
+        }
+        if (entry.getProperty(ETAG) != null) {
+            headers.setETag(entry.getProperty(ETAG));
+        }
+        if (entry.getProperty(LAST_MODIFIED) != null) {
+            headers.set(HttpHeaders.LAST_MODIFIED, entry.getProperty(LAST_MODIFIED));
+        }
+
+        Path blob = blobPath(entry.getProperty(BODY));
+        headers.setContentLength(Files.size(blob));
+        return new CachedResponse(headers, blob);
+    }
+
+    // 한 디렉터리에 파일이 너무 많아지지 않도록 해시 앞 2자리로 나눔
+    private Path blobPath(String bodyHash) {
+        return blobDirectory.resolve(bodyHash.substring(0, 2)).resolve(bodyHash);
+    }
+
+    private static void moveIfAbsent(Path source, Path target) throws IOException {
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 본문을 다른 스레드가 먼저 저장함
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 디스크에 저장된 본문을 200 응답으로 돌려줌
+     */
+    private static class CachedResponse implements ClientHttpResponse {
+
+        private final HttpHeaders headers;
+        private final Path blob;
+        private InputStream body;
+
+        CachedResponse(HttpHeaders headers, Path blob) {
+            this.headers = headers;
+            this.blob = blob;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = Files.newInputStream(blob);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (body != null) {
+                try {
+                    body.close();
+                } catch (IOException ignored) {
+                    // 읽기 전용 파일 닫기 실패는 무시
+                }
+            }
+        }
+    }
+}
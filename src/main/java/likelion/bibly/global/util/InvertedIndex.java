@@ -0,0 +1,385 @@
+package likelion.bibly.global.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 책 한 권의 본문 역색인 (단어 -> 페이지 번호 + 페이지 내 위치 목록)
+ *
+ * 단어는 정렬된 배열에서 이진 탐색하고, 모든 단어의 위치 목록은 하나의 int[]에 이어 붙여 둡니다.
+ * 위치 하나는 (직전 위치와의 페이지 번호 차이, 페이지 내 위치) 두 값이며, 같은 페이지면 페이지 내 위치도
+ * 직전 위치와의 차이로 저장하므로 값 대부분이 작습니다. (파일에는 가변 길이 정수로 기록)
+ *
+ * 단어는 글자/숫자가 이어진 구간을 소문자로 바꾼 것이며, 페이지 경계에 걸친 단어는 시작한 페이지에 속합니다.
+ */
+public final class InvertedIndex {
+
+    // 이보다 긴 단어(URL, 인코딩된 데이터 등)는 색인하지 않음
+    public static final int MAX_TERM_LENGTH = 40;
+
+    private static final int MAGIC = 0x42534958; // "BSIX"
+    private static final int VERSION = 1;
+
+    private final int pageCount;
+    private final String[] terms;
+    // terms[i]의 위치 목록 = postings[postingStarts[i] ~ postingStarts[i + 1])
+    private final int[] postingStarts;
+    private final int[] postings;
+
+    private InvertedIndex(int pageCount, String[] terms, int[] postingStarts, int[] postings) {
+        this.pageCount = pageCount;
+        this.terms = terms;
+        this.postingStarts = postingStarts;
+        this.postings = postings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 검색어를 색인과 같은 규칙으로 단어로 나눔 (중복 제거, 입력 순서 유지)
+     */
+    public static List<String> tokenize(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null) {
+            return List.of();
+        }
+
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= query.length(); ) {
+            int codePoint = i < query.length() ? query.codePointAt(i) : ' ';
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                if (!token.isEmpty() && token.length() <= MAX_TERM_LENGTH) {
+                    terms.add(token.toString());
+                }
+                token.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return List.copyOf(terms);
+    }
+
+    public int pageCount() {
+        return pageCount;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * 모든 단어가 나오는 페이지 검색
+     *
+     * @param queryTerms tokenize로 나눈 검색 단어
+     * @param maxPages 위치까지 반환할 최대 페이지 수 (앞쪽 페이지부터)
+     * @return 일치하는 전체 페이지 수와 앞쪽 maxPages개 페이지의 단어 위치
+     */
+    public SearchResult search(List<String> queryTerms, int maxPages) {
+        if (queryTerms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        List<Postings> termPostings = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            int termIndex = Arrays.binarySearch(terms, term);
+            if (termIndex < 0) {
+                return SearchResult.EMPTY;
+            }
+            termPostings.add(decode(termIndex));
+        }
+
+        // 단어별 페이지 목록(오름차순)의 교집합
+        int[] pages = termPostings.get(0).distinctPages();
+        for (int i = 1; i < termPostings.size() && pages.length > 0; i++) {
+            pages = intersect(pages, termPostings.get(i).distinctPages());
+        }
+
+        int limit = Math.min(Math.max(maxPages, 0), pages.length);
+        List<PageMatch> pageMatches = new ArrayList<>(limit);
+        int[] cursors = new int[termPostings.size()];
+        for (int i = 0; i < limit; i++) {
+            int pageNumber = pages[i];
+            List<Match> matches = new ArrayList<>();
+            for (int t = 0; t < termPostings.size(); t++) {
+                Postings postings = termPostings.get(t);
+                int termLength = queryTerms.get(t).length();
+                int cursor = cursors[t];
+                while (cursor < postings.pages().length && postings.pages()[cursor] < pageNumber) {
+                    cursor++;
+                }
+                while (cursor < postings.pages().length && postings.pages()[cursor] == pageNumber) {
+                    int start = postings.offsets()[cursor++];
+                    matches.add(new Match(start, start + termLength));
+                }
+                cursors[t] = cursor;
+            }
+            matches.sort(Comparator.comparingInt(Match::startOffset));
+            pageMatches.add(new PageMatch(pageNumber, List.copyOf(matches)));
+        }
+        return new SearchResult(pages.length, List.copyOf(pageMatches));
+    }
+
+    /**
+     * 사이드카 파일 형식으로 기록 (위치 목록은 가변 길이 정수)
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(pageCount);
+        out.writeInt(terms.length);
+        out.writeInt(postings.length);
+        for (int i = 0; i < terms.length; i++) {
+            out.writeUTF(terms[i]);
+            writeVarInt(out, postingStarts[i + 1] - postingStarts[i]);
+        }
+        for (int value : postings) {
+            writeVarInt(out, value);
+        }
+    }
+
+    /**
+     * writeTo로 기록한 색인 읽기
+     *
+     * @throws IOException 형식이 다르거나 파일이 잘린 경우
+     */
+    public static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("검색 색인 파일 형식이 다릅니다.");
+        }
+        int pageCount = in.readInt();
+        int termCount = in.readInt();
+        int postingCount = in.readInt();
+        if (pageCount < 0 || termCount < 0 || postingCount < 0) {
+            throw new IOException("검색 색인 파일이 손상되었습니다.");
+        }
+
+        String[] terms = new String[termCount];
+        int[] postingStarts = new int[termCount + 1];
+        for (int i = 0; i < termCount; i++) {
+            terms[i] = in.readUTF();
+            postingStarts[i + 1] = postingStarts[i] + readVarInt(in);
+        }
+        if (postingStarts[termCount] != postingCount) {
+            throw new IOException("검색 색인 파일이 손상되었습니다.");
+        }
+
+        int[] postings = new int[postingCount];
+        for (int i = 0; i < postingCount; i++) {
+            postings[i] = readVarInt(in);
+        }
+        return new InvertedIndex(pageCount, terms, postingStarts, postings);
+    }
+
+    private Postings decode(int termIndex) {
+        int from = postingStarts[termIndex];
+        int count = (postingStarts[termIndex + 1] - from) / 2;
+        int[] pages = new int[count];
+        int[] offsets = new int[count];
+
+        int page = 0;
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            int pageDelta = postings[from + i * 2];
+            int offsetValue = postings[from + i * 2 + 1];
+            page += pageDelta;
+            offset = pageDelta == 0 ? offset + offsetValue : offsetValue;
+            pages[i] = page;
+            offsets[i] = offset;
+        }
+        return new Postings(pages, offsets);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("검색 색인 파일이 손상되었습니다.");
+    }
+
+    /**
+     * 페이지 내 단어 위치 (끝은 exclusive, 다음 페이지로 이어진 단어는 페이지 길이보다 클 수 있음)
+     */
+    public record Match(int startOffset, int endOffset) {
+    }
+
+    public record PageMatch(int pageNumber, List<Match> matches) {
+    }
+
+    /**
+     * @param matchedPageCount 모든 단어가 나오는 전체 페이지 수
+     * @param pages 앞쪽 페이지부터 최대 maxPages개
+     */
+    public record SearchResult(int matchedPageCount, List<PageMatch> pages) {
+
+        static final SearchResult EMPTY = new SearchResult(0, List.of());
+    }
+
+    private record Postings(int[] pages, int[] offsets) {
+
+        int[] distinctPages() {
+            int[] distinct = new int[pages.length];
+            int size = 0;
+            for (int page : pages) {
+                if (size == 0 || distinct[size - 1] != page) {
+                    distinct[size++] = page;
+                }
+            }
+            return Arrays.copyOf(distinct, size);
+        }
+    }
+
+    /**
+     * 페이지를 순서대로 받아 색인 생성 (페이지 분할과 함께 한 번만 훑음)
+     */
+    public static final class Builder {
+
+        private final Map<String, PostingBuffer> postings = new HashMap<>();
+        private final StringBuilder token = new StringBuilder();
+        private int tokenPage;
+        private int tokenOffset;
+        private int pageCount;
+
+        private Builder() {
+        }
+
+        public void addPage(String page) {
+            pageCount++;
+            for (int i = 0; i < page.length(); ) {
+                int codePoint = page.codePointAt(i);
+                if (Character.isLetterOrDigit(codePoint)) {
+                    if (token.isEmpty()) {
+                        tokenPage = pageCount;
+                        tokenOffset = i;
+                    }
+                    // 너무 긴 단어는 어차피 버리므로 더 쌓지 않음
+                    if (token.length() <= MAX_TERM_LENGTH) {
+                        token.appendCodePoint(Character.toLowerCase(codePoint));
+                    }
+                } else {
+                    flushToken();
+                }
+                i += Character.charCount(codePoint);
+            }
+            // 페이지 끝의 단어는 다음 페이지에서 이어질 수 있으므로 여기서 끝내지 않음
+        }
+
+        /**
+         * pages를 넘기면서 각 페이지를 색인에 추가하는 Iterator (배치 INSERT 등에 그대로 전달)
+         */
+        public Iterator<String> indexing(Iterator<String> pages) {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return pages.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    String page = pages.next();
+                    addPage(page);
+                    return page;
+                }
+            };
+        }
+
+        public InvertedIndex build() {
+            flushToken();
+
+            String[] terms = postings.keySet().toArray(String[]::new);
+            Arrays.sort(terms);
+            int[] postingStarts = new int[terms.length + 1];
+            for (int i = 0; i < terms.length; i++) {
+                postingStarts[i + 1] = postingStarts[i] + postings.get(terms[i]).size;
+            }
+
+            int[] merged = new int[postingStarts[terms.length]];
+            for (int i = 0; i < terms.length; i++) {
+                PostingBuffer buffer = postings.get(terms[i]);
+                System.arraycopy(buffer.values, 0, merged, postingStarts[i], buffer.size);
+            }
+            return new InvertedIndex(pageCount, terms, postingStarts, merged);
+        }
+
+        private void flushToken() {
+            if (token.isEmpty()) {
+                return;
+            }
+            if (token.length() <= MAX_TERM_LENGTH) {
+                postings.computeIfAbsent(token.toString(), term -> new PostingBuffer()).add(tokenPage, tokenOffset);
+            }
+            token.setLength(0);
+        }
+    }
+
+    /**
+     * 단어 하나의 위치 목록을 차이값으로 쌓는 버퍼
+     */
+    private static final class PostingBuffer {
+
+        private int[] values = new int[4];
+        private int size;
+        private int lastPage;
+        private int lastOffset;
+
+        void add(int page, int offset) {
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            // 페이지 번호는 1부터이므로 첫 위치의 페이지 차이는 항상 1 이상
+            if (page == lastPage) {
+                values[size++] = 0;
+                values[size++] = offset - lastOffset;
+            } else {
+                values[size++] = page - lastPage;
+                values[size++] = offset;
+            }
+            lastPage = page;
+            lastOffset = offset;
+        }
+    }
+}
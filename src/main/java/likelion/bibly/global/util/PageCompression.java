@@ -0,0 +1,155 @@
+package likelion.bibly.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 페이지 텍스트 압축/해제 (java.util.zip Deflater + 책별 공유 사전)
+ *
+ * 페이지 하나는 1KB 이하라 단독으로는 압축이 잘 되지 않으므로, 같은 책의 페이지에서 뽑은 사전을
+ * Deflater의 preset dictionary로 넣어 자주 나오는 단어/구절을 첫 페이지부터 참조하게 합니다.
+ * 압축 결과의 첫 바이트는 형식 버전이며, zlib 헤더에 사전의 Adler-32 체크섬(DICTID)이 들어가므로
+ * 어떤 사전으로 압축했는지 확인할 수 있습니다.
+ */
+public final class PageCompression {
+
+    // 형식 버전: 1 = zlib(Deflate) + 책별 사전
+    public static final byte FORMAT_DEFLATE_DICTIONARY = 1;
+
+    // Deflate 창(32KB) 안에 사전과 페이지(최대 1KB)가 함께 들어가야 함
+    public static final int DEFAULT_DICTIONARY_BYTES = 16 * 1024;
+
+    private static final int ZLIB_HEADER_BYTES = 2;
+    private static final int FDICT_FLAG = 0x20;
+
+    private PageCompression() {
+    }
+
+    /**
+     * 페이지들을 고르게 건너뛰며 뽑아 사전 생성
+     * Deflate는 가까운 데이터를 더 짧게 참조하므로 잘린 부분이 아닌 여러 위치의 페이지를 섞습니다.
+     *
+     * @param pages 사전을 만들 페이지 (보통 책의 첫 INSERT 배치)
+     * @param maxBytes 사전 최대 크기
+     * @return 사전 바이트 (페이지가 없으면 빈 배열)
+     */
+    public static byte[] buildDictionary(List<String> pages, int maxBytes) {
+        if (pages.isEmpty() || maxBytes <= 0) {
+            return new byte[0];
+        }
+
+        long totalBytes = 0;
+        for (String page : pages) {
+            totalBytes += page.length();
+        }
+        // 대략 maxBytes만큼 고르도록 간격 결정 (글자 수로 근사)
+        int step = (int)Math.max(1, totalBytes / maxBytes);
+
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(maxBytes);
+        for (int i = 0; i < pages.size() && dictionary.size() < maxBytes; i += step) {
+            byte[] bytes = pages.get(i).getBytes(StandardCharsets.UTF_8);
+            dictionary.write(bytes, 0, Math.min(bytes.length, maxBytes - dictionary.size()));
+        }
+        return dictionary.toByteArray();
+    }
+
+    /**
+     * 사전의 Adler-32 체크섬 (압축 데이터의 DICTID와 비교용)
+     */
+    public static long dictionaryId(byte[] dictionary) {
+        Adler32 adler = new Adler32();
+        adler.update(dictionary);
+        return adler.getValue();
+    }
+
+    /**
+     * 압축할 때 사용한 사전의 체크섬 (사전 없이 압축했으면 -1)
+     */
+    public static long requiredDictionaryId(byte[] data) {
+        checkFormat(data);
+        if (data.length < 1 + ZLIB_HEADER_BYTES + Integer.BYTES || (data[2] & FDICT_FLAG) == 0) {
+            return -1;
+        }
+        return ((data[3] & 0xFFL) << 24) | ((data[4] & 0xFFL) << 16) | ((data[5] & 0xFFL) << 8) | (data[6] & 0xFFL);
+    }
+
+    /**
+     * 페이지 텍스트 압축
+     *
+     * @param page 페이지 텍스트
+     * @param dictionary 책 사전 (빈 배열이면 사전 없이 압축)
+     * @return 형식 버전 1바이트 + zlib 데이터
+     */
+    public static byte[] compress(String page, byte[] dictionary) {
+        byte[] input = page.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            if (dictionary.length > 0) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            out.write(FORMAT_DEFLATE_DICTIONARY);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 압축된 페이지 복원
+     *
+     * @param data compress 결과
+     * @param dictionary 압축할 때 사용한 책 사전
+     * @return 페이지 텍스트
+     * @throws IllegalArgumentException 알 수 없는 형식이거나 데이터/사전이 맞지 않는 경우
+     */
+    public static String decompress(byte[] data, byte[] dictionary) {
+        checkFormat(data);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length > 0) {
+                    out.write(buffer, 0, length);
+                } else if (inflater.needsDictionary()) {
+                    // getAdler()는 int이므로 부호 없는 값으로 비교
+                    long requiredId = Integer.toUnsignedLong(inflater.getAdler());
+                    if (dictionary.length == 0 || requiredId != dictionaryId(dictionary)) {
+                        throw new IllegalArgumentException("압축에 사용한 사전과 다른 사전입니다.");
+                    }
+                    inflater.setDictionary(dictionary);
+                } else if (inflater.needsInput()) {
+                    throw new IllegalArgumentException("압축 데이터가 잘렸습니다.");
+                }
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축 데이터가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void checkFormat(byte[] data) {
+        if (data.length == 0 || data[0] != FORMAT_DEFLATE_DICTIONARY) {
+            throw new IllegalArgumentException("지원하지 않는 페이지 압축 형식입니다.");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package likelion.bibly.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 원문에서 페이지 경계만 기록한 오프셋 인덱스
+ *
+ * offsets[n-1] ~ offsets[n] 구간이 n페이지이며 (페이지 수 + 1개, 마지막 값은 원문 길이),
+ * 페이지 텍스트를 따로 저장하지 않고 원문에서 잘라 씁니다.
+ * 같은 원문에 대해 분할 기준(글자/바이트 제한)이 다른 인덱스끼리는 원문 위치를 거쳐 페이지 내 위치를 변환할 수 있습니다.
+ */
+public final class PageOffsetIndex {
+
+    private final int[] offsets;
+
+    private PageOffsetIndex(int[] offsets) {
+        this.offsets = offsets;
+    }
+
+    /**
+     * PageSplitter와 같은 규칙으로 원문을 한 번 훑어 페이지 시작 위치를 계산
+     */
+    public static PageOffsetIndex build(CharSequence text, int maxCharPerPage, int maxBytePerPage) {
+        if (maxCharPerPage < 2 || maxBytePerPage < 4) {
+            throw new IllegalArgumentException("페이지 제한이 너무 작습니다.");
+        }
+
+        // 페이지 수 상한: 글자 수 제한으로만 잘랐을 때 + 여유
+        int[] offsets = new int[text.length() / Math.max(1, maxCharPerPage / 4) + 2];
+        int pageCount = 0;
+        int position = 0;
+        while (position < text.length()) {
+            if (pageCount + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[pageCount++] = position;
+            position = PageSplitter.nextPageEnd(text, position, maxCharPerPage, maxBytePerPage);
+        }
+        offsets[pageCount] = text.length();
+        return new PageOffsetIndex(Arrays.copyOf(offsets, pageCount + 1));
+    }
+
+    public int pageCount() {
+        return offsets.length - 1;
+    }
+
+    public boolean hasPage(int pageNumber) {
+        return pageNumber >= 1 && pageNumber <= pageCount();
+    }
+
+    /**
+     * pageNumber 페이지의 원문 시작 위치
+     */
+    public int start(int pageNumber) {
+        checkPage(pageNumber);
+        return offsets[pageNumber - 1];
+    }
+
+    /**
+     * pageNumber 페이지의 원문 끝 위치 (exclusive)
+     */
+    public int end(int pageNumber) {
+        checkPage(pageNumber);
+        return offsets[pageNumber];
+    }
+
+    /**
+     * 원문에서 pageNumber 페이지를 잘라 반환
+     */
+    public String slice(CharSequence text, int pageNumber) {
+        return text.subSequence(start(pageNumber), end(pageNumber)).toString();
+    }
+
+    /**
+     * 페이지 내 위치 -> 원문 위치
+     * offset이 페이지 길이를 넘으면 다음 페이지로 이어지는 위치로 봅니다. (여러 페이지에 걸친 하이라이트의 끝 위치)
+     */
+    public int toTextOffset(int pageNumber, int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("페이지 내 위치는 0 이상이어야 합니다.");
+        }
+        return Math.min(start(pageNumber) + offset, offsets[offsets.length - 1]);
+    }
+
+    /**
+     * 원문 위치 -> 그 위치를 포함하는 페이지와 페이지 내 위치
+     * 원문 끝 위치는 마지막 페이지의 끝으로 변환합니다.
+     */
+    public TextPosition toPosition(int textOffset) {
+        if (pageCount() == 0) {
+            throw new IllegalStateException("페이지가 없습니다.");
+        }
+        int clamped = Math.max(0, Math.min(textOffset, offsets[offsets.length - 1]));
+
+        // clamped 이하인 가장 큰 시작 위치 (마지막 원소는 원문 길이이므로 검색에서 제외)
+        int index = Arrays.binarySearch(offsets, 0, offsets.length - 1, clamped);
+        int pageIndex = index >= 0 ? index : -index - 2;
+        return new TextPosition(pageIndex + 1, clamped - offsets[pageIndex]);
+    }
+
+    private void checkPage(int pageNumber) {
+        if (!hasPage(pageNumber)) {
+            throw new IndexOutOfBoundsException("페이지 번호가 범위를 벗어났습니다: " + pageNumber);
+        }
+    }
+
+    /**
+     * 페이지 번호(1부터)와 페이지 내 위치(문자열 인덱스)
+     */
+    public record TextPosition(int pageNumber, int offset) {
+    }
+}
@@ -0,0 +1,91 @@
+package likelion.bibly.global.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 글자 수 + UTF-8 바이트 수 이중 제한으로 원문을 페이지 단위로 잘라내는 Iterator
+ * 코드 포인트마다 바이트 수를 누적 계산하므로 원문 길이에 대해 선형 시간으로 동작합니다.
+ * 페이지는 next() 호출 시점에 하나씩 만들어집니다.
+ */
+public class PageSplitter implements Iterator<String> {
+
+    private final CharSequence text;
+    private final int maxCharPerPage;
+    private final int maxBytePerPage;
+
+    // 다음 페이지의 시작 인덱스
+    private int position;
+
+    public PageSplitter(CharSequence text, int maxCharPerPage, int maxBytePerPage) {
+        // 서로게이트 쌍(2글자, 4바이트) 하나는 항상 한 페이지에 들어갈 수 있어야 함
+        if (maxCharPerPage < 2 || maxBytePerPage < 4) {
+            throw new IllegalArgumentException("페이지 제한이 너무 작습니다.");
+        }
+        this.text = text;
+        this.maxCharPerPage = maxCharPerPage;
+        this.maxBytePerPage = maxBytePerPage;
+        this.position = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < text.length();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int start = position;
+        int end = nextPageEnd(text, start, maxCharPerPage, maxBytePerPage);
+        position = end;
+        return text.subSequence(start, end).toString();
+    }
+
+    /**
+     * start부터 두 제한을 모두 만족하는 가장 긴 구간의 끝 인덱스(exclusive)를 계산
+     * 글자 수는 기존 로직과 같이 UTF-16 char 단위로 셉니다.
+     * text는 start부터 최소 maxCharPerPage + 1글자 또는 원문 끝까지 담고 있어야 합니다. (서로게이트 쌍 판별용)
+     */
+    static int nextPageEnd(CharSequence text, int start, int maxCharPerPage, int maxBytePerPage) {
+        int length = text.length();
+        int end = start;
+        int charCount = 0;
+        int byteCount = 0;
+
+        while (end < length) {
+            char c = text.charAt(end);
+            int chars = 1;
+            int bytes;
+
+            if (c < 0x80) {
+                bytes = 1;
+            } else if (c < 0x800) {
+                bytes = 2;
+            } else if (Character.isHighSurrogate(c) && end + 1 < length
+                    && Character.isLowSurrogate(text.charAt(end + 1))) {
+                // 서로게이트 쌍은 쪼개지 않고 한 번에 4바이트로 처리
+                chars = 2;
+                bytes = 4;
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 없는 서로게이트는 String.getBytes가 '?'(1바이트)로 치환함
+                bytes = 1;
+            } else {
+                bytes = 3;
+            }
+
+            if (charCount + chars > maxCharPerPage || byteCount + bytes > maxBytePerPage) {
+                break;
+            }
+
+            charCount += chars;
+            byteCount += bytes;
+            end += chars;
+        }
+
+        return end;
+    }
+}
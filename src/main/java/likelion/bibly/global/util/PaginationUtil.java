@@ -2,60 +2,89 @@ package likelion.bibly.global.util;
 
 import org.springframework.stereotype.Component;
 
-import java.io.UnsupportedEncodingException;
-import java.util.ArrayList;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class PaginationUtil {
     // 최대 글자 수 제한(공백 포함)
-    private static final int MAX_CHAR_PER_PAGE = 564;
-    // 최대 바이트 수 제한
-    private static final int MAX_BYTE_PER_PAGE = 993;
-    // 인코딩 설정
-    private static final String ENCODING = "UTF-8";
-
-    public static List<String> splitTextByDualLimit(String originalText) throws UnsupportedEncodingException {
-        List<String> pages = new ArrayList<>();
-        int startIndex = 0;
-
-        while (startIndex < originalText.length()) {
-            int pageEndIndex = startIndex;
-
-            // 현재 페이지의 시작 글자부터 탐색
-            for (int i = startIndex; i < originalText.length(); i++) {
-
-                // 현재 글자 수 확인 (564자 제한)
-                int currentCharCount = i - startIndex + 1; // 1부터 시작하는 글자 수
-                if (currentCharCount > MAX_CHAR_PER_PAGE) {
-                    break;
-                }
-
-                // 현재까지의 텍스트를 추출하여 바이트 길이 확인 (993 바이트 제한)
-                String sub = originalText.substring(startIndex, i + 1);
-                int byteLength = sub.getBytes(ENCODING).length;
-
-                if (byteLength <= MAX_BYTE_PER_PAGE) {
-                    // 글자 수와 바이트 수 제한을 모두 만족함
-                    pageEndIndex = i + 1; // 다음 페이지 시작 인덱스로 임시 저장
-                } else {
-                    // 바이트 제한을 초과했으므로 루프 종료
-                    break;
-                }
-            }
-
-            // 한 페이지 분량의 텍스트 추출 및 저장
-            if (pageEndIndex > startIndex) {
-                String pageText = originalText.substring(startIndex, pageEndIndex);
-                pages.add(pageText);
-                startIndex = pageEndIndex; // 다음 페이지 시작점 업데이트
-            } else {
-                // 이 경우 인코딩 문제일 수 있음
-                System.err.println("오류: 첫 글자가 이미 최대 바이트 수를 초과합니다.");
-                break;
-            }
+    public static final int MAX_CHAR_PER_PAGE = 564;
+    // 최대 바이트 수 제한 (UTF-8 기준)
+    public static final int MAX_BYTE_PER_PAGE = 993;
+
+    /**
+     * 원문을 페이지 단위로 하나씩 잘라내는 Iterator 반환
+     * 전체 페이지 목록을 미리 만들지 않으므로 긴 원문도 페이지 하나 분량의 메모리로 처리할 수 있습니다.
+     */
+    public static Iterator<String> iteratePages(CharSequence originalText) {
+        return new PageSplitter(originalText, MAX_CHAR_PER_PAGE, MAX_BYTE_PER_PAGE);
+    }
+
+    /**
+     * Reader에서 원문을 조금씩 읽으며 페이지 단위로 잘라내는 Iterator 반환
+     * 다운로드 중인 원문처럼 전체를 String으로 만들지 않고 바로 분할할 때 사용합니다.
+     * iteratePages(CharSequence)와 같은 페이지를 만듭니다.
+     */
+    public static Iterator<String> iteratePages(Reader reader) {
+        return new ReaderPageSplitter(reader, MAX_CHAR_PER_PAGE, MAX_BYTE_PER_PAGE);
+    }
+
+    /**
+     * 원문을 페이지 단위 Stream으로 반환
+     */
+    public static Stream<String> streamPages(CharSequence originalText) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iteratePages(originalText),
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * 원문 전체를 페이지 목록으로 분할 (564자 / 993바이트 이중 제한)
+     */
+    public static List<String> splitTextByDualLimit(String originalText) {
+        return streamPages(originalText).toList();
+    }
+
+    /**
+     * 원문과 분할 기준(글자/바이트 제한)으로 만든 SHA-256 해시 (16진수 64자)
+     * 원문이나 분할 기준이 바뀌면 페이지 내용도 바뀌므로 콘텐츠 버전(ETag)으로 사용합니다.
+     */
+    public static String contentHash(String originalText) {
+        MessageDigest digest = newContentDigest();
+        digest.update(originalText.getBytes(StandardCharsets.UTF_8));
+        return formatContentHash(digest);
+    }
+
+    /**
+     * 분할 기준을 미리 반영한 콘텐츠 해시용 MessageDigest
+     * 원문을 나눠 받는 경우 조각(페이지)을 순서대로 UTF-8로 update한 뒤 formatContentHash로 마무리하면
+     * contentHash(원문 전체)와 같은 값이 됩니다. (페이지는 서로게이트 쌍을 나누지 않음)
+     */
+    public static MessageDigest newContentDigest() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((MAX_CHAR_PER_PAGE + ":" + MAX_BYTE_PER_PAGE + ":").getBytes(StandardCharsets.UTF_8));
+            return digest;
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
         }
+    }
 
-        return pages;
+    /**
+     * newContentDigest로 만든 MessageDigest를 콘텐츠 해시 문자열(16진수 64자)로 변환
+     */
+    public static String formatContentHash(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package likelion.bibly.global.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 자동 완성용 불변 접두어 색인 (정렬 배열)
+ *
+ * 항목마다 여러 문자열(제목, 저자 등)을 정규화하고, 각 단어에서 시작하는 접미어를 키로 만들어 정렬해 둡니다.
+ * ("pride and prejudice" -> "pride and prejudice", "and prejudice", "prejudice")
+ * 접두어 검색은 이진 탐색으로 키 구간을 찾고, 구간의 항목 중 순위가 높은(목록 앞쪽) 항목부터 반환합니다.
+ * 구간이 매우 넓은 짧은 접두어(1~2글자)는 만들 때 상위 항목을 미리 계산해 두고 바로 반환합니다.
+ * 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드가 동시에 조회할 수 있습니다.
+ *
+ * 정규화: NFD 분해 후 결합 문자(악센트) 제거, 소문자, 글자/숫자 외 문자는 공백 하나로 합침.
+ * (한글은 자모로 분해된 상태로 비교하며, 검색어도 같은 규칙으로 정규화합니다.)
+ */
+public final class PrefixIndex<T> {
+
+    // 상위 항목을 미리 계산해 둘 접두어 길이와 항목 수
+    public static final int SHORT_PREFIX_LENGTH = 2;
+    public static final int SHORT_PREFIX_TOP = 20;
+
+    // 순위 순 항목
+    private final List<T> entries;
+    // 정렬된 키와 키마다 항목 번호
+    private final String[] keys;
+    private final int[] entryIds;
+    // 짧은 접두어 -> 순위 순 상위 항목 번호
+    private final Map<String, int[]> shortPrefixTop;
+
+    private PrefixIndex(List<T> entries, String[] keys, int[] entryIds, Map<String, int[]> shortPrefixTop) {
+        this.entries = entries;
+        this.keys = keys;
+        this.entryIds = entryIds;
+        this.shortPrefixTop = shortPrefixTop;
+    }
+
+    /**
+     * @param entries 순위 순 항목 (앞쪽일수록 먼저 제안)
+     * @param texts 항목에서 색인할 문자열 (null은 건너뜀)
+     */
+    public static <T> PrefixIndex<T> build(List<T> entries, Function<T, Collection<String>> texts) {
+        List<Key> keys = new ArrayList<>();
+        for (int entryId = 0; entryId < entries.size(); entryId++) {
+            for (String text : texts.apply(entries.get(entryId))) {
+                String normalized = normalize(text);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                // 각 단어 시작 위치부터의 접미어
+                for (int start = 0; start >= 0; start = nextWordStart(normalized, start)) {
+                    keys.add(new Key(normalized.substring(start), entryId));
+                }
+            }
+        }
+        keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::entryId));
+
+        String[] sortedKeys = new String[keys.size()];
+        int[] entryIds = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            sortedKeys[i] = keys.get(i).text();
+            entryIds[i] = keys.get(i).entryId();
+        }
+        return new PrefixIndex<>(List.copyOf(entries), sortedKeys, entryIds, topOfShortPrefixes(sortedKeys, entryIds));
+    }
+
+    /**
+     * 길이 SHORT_PREFIX_LENGTH 이하의 모든 접두어에 대해 상위 항목 계산 (길이마다 키 배열을 한 번 훑음)
+     */
+    private static Map<String, int[]> topOfShortPrefixes(String[] keys, int[] entryIds) {
+        Map<String, int[]> top = new HashMap<>();
+        for (int length = 1; length <= SHORT_PREFIX_LENGTH; length++) {
+            int i = 0;
+            while (i < keys.length) {
+                if (keys[i].length() < length) {
+                    i++;
+                    continue;
+                }
+                // 같은 접두어의 키는 정렬 배열에서 연속
+                String prefix = keys[i].substring(0, length);
+                BitSet matched = new BitSet();
+                while (i < keys.length && keys[i].startsWith(prefix)) {
+                    matched.set(entryIds[i++]);
+                }
+                top.put(prefix, matched.stream().limit(SHORT_PREFIX_TOP).toArray());
+            }
+        }
+        return Map.copyOf(top);
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); ) {
+            int codePoint = decomposed.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            int type = Character.getType(codePoint);
+            if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (pendingSpace && !sb.isEmpty()) {
+                    sb.append(' ');
+                }
+                pendingSpace = false;
+                sb.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 정규화한 prefix로 시작하는 키가 있는 항목을 순위 순으로 최대 limit개
+     */
+    public List<T> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        if (normalized.length() <= SHORT_PREFIX_LENGTH && limit <= SHORT_PREFIX_TOP) {
+            int[] top = shortPrefixTop.getOrDefault(normalized, new int[0]);
+            List<T> result = new ArrayList<>(Math.min(limit, top.length));
+            for (int i = 0; i < top.length && result.size() < limit; i++) {
+                result.add(entries.get(top[i]));
+            }
+            return result;
+        }
+
+        int from = lowerBound(normalized);
+        BitSet matched = new BitSet(entries.size());
+        for (int i = from; i < keys.length && keys[i].startsWith(normalized); i++) {
+            matched.set(entryIds[i]);
+        }
+
+        List<T> result = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        for (int id = matched.nextSetBit(0); id >= 0 && result.size() < limit; id = matched.nextSetBit(id + 1)) {
+            result.add(entries.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * prefix 이상인 첫 키 위치
+     */
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // 같은 키가 여러 개면 맨 앞으로
+        while (index > 0 && keys[index - 1].equals(prefix)) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int nextWordStart(String normalized, int from) {
+        int space = normalized.indexOf(' ', from);
+        return space < 0 ? -1 : space + 1;
+    }
+
+    private record Key(String text, int entryId) {
+    }
+}
@@ -0,0 +1,72 @@
+package likelion.bibly.global.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reader에서 원문을 조금씩 읽으며 페이지 단위로 잘라내는 Iterator
+ * PageSplitter와 같은 규칙(글자 수 + UTF-8 바이트 수 이중 제한)으로 같은 페이지를 만들지만,
+ * 원문 전체 대신 한 페이지 + 읽기 버퍼 분량만 메모리에 둡니다.
+ * 읽기 중 발생한 IOException은 UncheckedIOException으로 전달됩니다.
+ */
+public class ReaderPageSplitter implements Iterator<String> {
+
+    private static final int READ_CHUNK_SIZE = 4096;
+
+    private final Reader reader;
+    private final int maxCharPerPage;
+    private final int maxBytePerPage;
+    private final char[] chunk = new char[READ_CHUNK_SIZE];
+
+    // 아직 페이지로 만들지 않은 글자
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean endOfInput;
+
+    public ReaderPageSplitter(Reader reader, int maxCharPerPage, int maxBytePerPage) {
+        if (maxCharPerPage < 2 || maxBytePerPage < 4) {
+            throw new IllegalArgumentException("페이지 제한이 너무 작습니다.");
+        }
+        this.reader = reader;
+        this.maxCharPerPage = maxCharPerPage;
+        this.maxBytePerPage = maxBytePerPage;
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return buffer.length() > 0;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int end = PageSplitter.nextPageEnd(buffer, 0, maxCharPerPage, maxBytePerPage);
+        String page = buffer.substring(0, end);
+        buffer.delete(0, end);
+        return page;
+    }
+
+    /**
+     * 한 페이지를 판단할 수 있을 만큼(최대 글자 수 + 서로게이트 확인용 1글자) 버퍼를 채움
+     */
+    private void fill() {
+        try {
+            while (!endOfInput && buffer.length() <= maxCharPerPage) {
+                int read = reader.read(chunk);
+                if (read < 0) {
+                    endOfInput = true;
+                } else {
+                    buffer.append(chunk, 0, read);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto: update로 만들어진 테이블, 이후 변경은 V2부터)
+-- 이미 테이블이 있는 DB는 spring.flyway.baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용합니다.
+
+CREATE TABLE `user` (
+    user_id      VARCHAR(40) NOT NULL,
+    status       VARCHAR(20) NOT NULL,
+    created_at   DATETIME(6),
+    withdrawn_at DATETIME(6),
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE navigator (
+    user_id     VARCHAR(40) NOT NULL,
+    current_tab VARCHAR(20),
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_navigator_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE book (
+    book_id          BIGINT NOT NULL AUTO_INCREMENT,
+    title            VARCHAR(255),
+    author           VARCHAR(255),
+    genre            VARCHAR(255),
+    published_at     DATETIME(6),
+    publisher        VARCHAR(100),
+    isbn             VARCHAR(30),
+    page_count       INT,
+    description      TEXT,
+    cover_url        VARCHAR(500),
+    content          LONGTEXT,
+    popularity_score INT,
+    created_at       DATETIME(6),
+    PRIMARY KEY (book_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE page_content (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    book_id     BIGINT NOT NULL,
+    page_number INT    NOT NULL,
+    content     TEXT   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_page_content_book FOREIGN KEY (book_id) REFERENCES book (book_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE `group` (
+    group_id               BIGINT     NOT NULL AUTO_INCREMENT,
+    group_name             VARCHAR(100),
+    reading_period         INT        NOT NULL,
+    invite_code            VARCHAR(4) NOT NULL,
+    status                 VARCHAR(20),
+    started_at             DATETIME(6),
+    created_at             DATETIME(6),
+    invite_code_expired_at DATETIME(6),
+    PRIMARY KEY (group_id),
+    CONSTRAINT uk_group_invite_code UNIQUE (invite_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE member (
+    member_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    group_id         BIGINT       NOT NULL,
+    user_id          VARCHAR(255) NOT NULL,
+    selected_book_id BIGINT,
+    nickname         VARCHAR(50)  NOT NULL,
+    role             VARCHAR(20),
+    status           VARCHAR(20),
+    color            VARCHAR(20)  NOT NULL,
+    joined_at        DATETIME(6),
+    withdrawn        DATETIME(6),
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_group FOREIGN KEY (group_id) REFERENCES `group` (group_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE add_group (
+    add_id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_by     BIGINT NOT NULL,
+    new_group_name VARCHAR(100),
+    created_at     DATETIME(6),
+    PRIMARY KEY (add_id),
+    CONSTRAINT fk_add_group_member FOREIGN KEY (created_by) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE invite (
+    invite_id       BIGINT NOT NULL AUTO_INCREMENT,
+    group_id        BIGINT NOT NULL,
+    invited_user_id BIGINT NOT NULL,
+    invited_at      DATETIME(6),
+    PRIMARY KEY (invite_id),
+    CONSTRAINT fk_invite_group FOREIGN KEY (group_id) REFERENCES `group` (group_id),
+    CONSTRAINT fk_invite_member FOREIGN KEY (invited_user_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reading_assignment (
+    assignment_id BIGINT      NOT NULL AUTO_INCREMENT,
+    book_id       BIGINT      NOT NULL,
+    group_id      BIGINT      NOT NULL,
+    member_id     BIGINT      NOT NULL,
+    cycle_number  INT         NOT NULL,
+    start_date    DATETIME(6) NOT NULL,
+    end_date      DATETIME(6) NOT NULL,
+    review        VARCHAR(40),
+    created_at    DATETIME(6),
+    PRIMARY KEY (assignment_id),
+    CONSTRAINT fk_reading_assignment_book FOREIGN KEY (book_id) REFERENCES book (book_id),
+    CONSTRAINT fk_reading_assignment_group FOREIGN KEY (group_id) REFERENCES `group` (group_id),
+    CONSTRAINT fk_reading_assignment_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookshelf (
+    shelf_id   BIGINT NOT NULL AUTO_INCREMENT,
+    group_id   BIGINT NOT NULL,
+    book_id    BIGINT NOT NULL,
+    shelf_type VARCHAR(20),
+    PRIMARY KEY (shelf_id),
+    CONSTRAINT fk_bookshelf_group FOREIGN KEY (group_id) REFERENCES `group` (group_id),
+    CONSTRAINT fk_bookshelf_book FOREIGN KEY (book_id) REFERENCES book (book_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE progress (
+    progress_id  BIGINT NOT NULL AUTO_INCREMENT,
+    book_id      BIGINT NOT NULL,
+    member_id    BIGINT NOT NULL,
+    current_page INT,
+    last_updated DATETIME(6),
+    progress     FLOAT,
+    PRIMARY KEY (progress_id),
+    CONSTRAINT fk_progress_book FOREIGN KEY (book_id) REFERENCES book (book_id),
+    CONSTRAINT fk_progress_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reading_session (
+    session_id         BIGINT NOT NULL AUTO_INCREMENT,
+    member_id          BIGINT NOT NULL,
+    book_id            BIGINT NOT NULL,
+    group_id           BIGINT NOT NULL,
+    progress           BIGINT NOT NULL,
+    mode               VARCHAR(20),
+    is_current_session VARCHAR(20),
+    bookmark_id        BIGINT,
+    started_at         DATETIME(6),
+    PRIMARY KEY (session_id),
+    CONSTRAINT uk_reading_session_bookmark UNIQUE (bookmark_id),
+    CONSTRAINT fk_reading_session_member FOREIGN KEY (member_id) REFERENCES member (member_id),
+    CONSTRAINT fk_reading_session_book FOREIGN KEY (book_id) REFERENCES book (book_id),
+    CONSTRAINT fk_reading_session_group FOREIGN KEY (group_id) REFERENCES `group` (group_id),
+    CONSTRAINT fk_reading_session_progress FOREIGN KEY (progress) REFERENCES progress (progress_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookmark (
+    bookmark_id    BIGINT NOT NULL AUTO_INCREMENT,
+    session_id     BIGINT NOT NULL,
+    member_id      BIGINT NOT NULL,
+    book_mark_page INT    NOT NULL,
+    created_at     DATETIME(6),
+    PRIMARY KEY (bookmark_id),
+    CONSTRAINT fk_bookmark_session FOREIGN KEY (session_id) REFERENCES reading_session (session_id),
+    CONSTRAINT fk_bookmark_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE reading_session
+    ADD CONSTRAINT fk_reading_session_bookmark FOREIGN KEY (bookmark_id) REFERENCES bookmark (bookmark_id);
+
+CREATE TABLE highlight (
+    highlight_id     BIGINT NOT NULL AUTO_INCREMENT,
+    session_id       BIGINT NOT NULL,
+    member_id        BIGINT NOT NULL,
+    text_sentence    TEXT,
+    color            VARCHAR(20),
+    created_at       DATETIME(6),
+    highlighted_page INT,
+    start_offset     INT,
+    end_offset       INT,
+    PRIMARY KEY (highlight_id),
+    CONSTRAINT fk_highlight_session FOREIGN KEY (session_id) REFERENCES reading_session (session_id),
+    CONSTRAINT fk_highlight_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comment (
+    comment_id        BIGINT NOT NULL AUTO_INCREMENT,
+    highlight_id      BIGINT NOT NULL,
+    member_id         BIGINT NOT NULL,
+    session_id        BIGINT NOT NULL,
+    content           TEXT,
+    created_at        DATETIME(6),
+    visibility        VARCHAR(20),
+    annotation_type   VARCHAR(20),
+    parent_comment_id BIGINT,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comment_highlight FOREIGN KEY (highlight_id) REFERENCES highlight (highlight_id),
+    CONSTRAINT fk_comment_member FOREIGN KEY (member_id) REFERENCES member (member_id),
+    CONSTRAINT fk_comment_session FOREIGN KEY (session_id) REFERENCES reading_session (session_id),
+    CONSTRAINT fk_comment_parent FOREIGN KEY (parent_comment_id) REFERENCES comment (comment_id)
+) ENGINE = InnoDB;
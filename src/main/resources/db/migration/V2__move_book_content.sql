@@ -0,0 +1,12 @@
+-- 책 원문을 book 테이블에서 분리 (목록 조회 때 LONGTEXT를 읽지 않도록)
+CREATE TABLE book_content (
+    book_id BIGINT   NOT NULL,
+    content LONGTEXT NOT NULL,
+    PRIMARY KEY (book_id),
+    CONSTRAINT fk_book_content_book FOREIGN KEY (book_id) REFERENCES book (book_id)
+) ENGINE = InnoDB;
+
+INSERT INTO book_content (book_id, content)
+SELECT book_id, content FROM book WHERE content IS NOT NULL;
+
+ALTER TABLE book DROP COLUMN content;
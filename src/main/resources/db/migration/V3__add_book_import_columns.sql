@@ -0,0 +1,25 @@
+-- Gutendex 가져오기에서 이미 가져온 책을 건너뛰기 위한 Gutenberg ID
+ALTER TABLE book ADD COLUMN gutenberg_id BIGINT;
+ALTER TABLE book ADD CONSTRAINT uk_book_gutenberg_id UNIQUE (gutenberg_id);
+
+-- 재페이지 작업에서 원문이 바뀌지 않은 책을 건너뛰기 위한 원문 해시 (SHA-256 hex)
+ALTER TABLE book ADD COLUMN content_hash VARCHAR(64);
+
+-- 이어서 실행할 수 있는 Gutendex 가져오기 작업
+CREATE TABLE import_job (
+    import_job_id     BIGINT      NOT NULL AUTO_INCREMENT,
+    status            VARCHAR(20) NOT NULL,
+    target_count      INT         NOT NULL,
+    next_page_url     VARCHAR(1000),
+    last_gutenberg_id BIGINT,
+    processed_count   INT         NOT NULL,
+    imported_count    INT         NOT NULL,
+    skipped_count     INT         NOT NULL,
+    failed_count      INT         NOT NULL,
+    last_error        VARCHAR(1000),
+    active_millis     BIGINT      NOT NULL,
+    created_at        DATETIME(6),
+    checkpointed_at   DATETIME(6),
+    finished_at       DATETIME(6),
+    PRIMARY KEY (import_job_id)
+) ENGINE = InnoDB;
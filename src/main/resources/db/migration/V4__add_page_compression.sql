@@ -0,0 +1,9 @@
+-- 페이지 압축 저장 (bibly.page-store.compression=deflate일 때 content는 빈 문자열로 두고 이 컬럼을 채움)
+ALTER TABLE page_content ADD COLUMN compressed_content LONGBLOB;
+
+-- 책별 Deflate 사전
+CREATE TABLE page_dictionary (
+    book_id    BIGINT   NOT NULL,
+    dictionary LONGBLOB NOT NULL,
+    PRIMARY KEY (book_id)
+) ENGINE = InnoDB;
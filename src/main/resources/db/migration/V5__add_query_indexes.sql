@@ -0,0 +1,38 @@
+-- 자주 쓰는 조회(finder)에 맞춘 복합 인덱스와 유니크 제약
+-- 엔티티의 @Table(indexes/uniqueConstraints)와 이름을 맞춰 ddl-auto가 같은 인덱스를 다시 만들지 않게 합니다.
+-- 유니크 제약은 기존 중복 행이 있으면 실패하므로, 적용 전 아래 조회로 중복이 없는지 확인할 것
+--   SELECT book_id, page_number FROM page_content GROUP BY book_id, page_number HAVING COUNT(*) > 1;
+--   SELECT member_id, book_id FROM progress GROUP BY member_id, book_id HAVING COUNT(*) > 1;
+--   SELECT group_id, user_id FROM member GROUP BY group_id, user_id HAVING COUNT(*) > 1;
+
+-- findByGroup_GroupIdAndUserId (모임당 사용자 한 명, 탈퇴 후 재가입도 막고 있음)
+ALTER TABLE member ADD CONSTRAINT uk_member_group_user UNIQUE (group_id, user_id);
+-- findByGroup_GroupIdAndStatus, countByGroup_GroupIdAndStatus, findSummariesByGroupIdAndStatus
+CREATE INDEX idx_member_group_status ON member (group_id, status);
+-- findByUserIdAndStatus, countByUserIdAndStatus, findActiveMemberIdsByUserId
+CREATE INDEX idx_member_user_status ON member (user_id, status);
+
+-- findByBookAndPageNumber, PageContentJdbcRepository 단건/구간 조회 (book_id 단독 조회도 선두 컬럼으로 처리)
+ALTER TABLE page_content ADD CONSTRAINT uk_page_content_book_page UNIQUE (book_id, page_number);
+
+-- findByMemberAndBook, findByMember_MemberIdAndBook_BookId (조회 후 없으면 생성)
+ALTER TABLE progress ADD CONSTRAINT uk_progress_member_book UNIQUE (member_id, book_id);
+
+-- findBySession_Book_BookIdAndSession_Group_GroupId (reading_session에서 책 + 모임으로 세션을 찾은 뒤 session_id로 조인)
+CREATE INDEX idx_reading_session_book_group ON reading_session (book_id, group_id);
+-- findByGroupAndIsCurrentSession
+CREATE INDEX idx_reading_session_group_current ON reading_session (group_id, is_current_session);
+
+-- findBySessionAndMember
+CREATE INDEX idx_highlight_session_member ON highlight (session_id, member_id);
+
+-- findTopByReadingsessionAndMemberOrderByCreatedAtDesc (정렬까지 인덱스로 처리)
+CREATE INDEX idx_bookmark_session_member_created ON bookmark (session_id, member_id, created_at);
+
+-- findByGroup_GroupIdAndCycleNumber, findCycleRange
+CREATE INDEX idx_reading_assignment_group_cycle ON reading_assignment (group_id, cycle_number);
+-- findMemberAssignmentsFromCycle, findByGroup_GroupIdAndCycleNumberAndMember_MemberId
+CREATE INDEX idx_reading_assignment_group_member_cycle ON reading_assignment (group_id, member_id, cycle_number);
+
+-- findByStatusOrderByImportJobIdAsc, existsByStatus
+CREATE INDEX idx_import_job_status ON import_job (status, import_job_id);
@@ -0,0 +1,5 @@
+-- 만료된 초대 코드는 NULL로 비우고 다른 모임에 다시 배정 (Group.clearExpiredInviteCode)
+ALTER TABLE `group` MODIFY invite_code VARCHAR(4) NULL;
+
+-- 만료된 초대 코드 회수 조회 (findByInviteCodeIsNotNullAndInviteCodeExpiredAtBefore)
+CREATE INDEX idx_group_invite_code_expired_at ON `group` (invite_code_expired_at);
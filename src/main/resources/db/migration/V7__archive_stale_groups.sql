@@ -0,0 +1,5 @@
+-- 모임 상태에 ARCHIVED 추가 (ddl-auto로 만든 DB는 status가 ENUM 타입일 수 있으므로 VARCHAR로 통일)
+ALTER TABLE `group` MODIFY status VARCHAR(20);
+
+-- 오래된 대기 모임 정리 조회 (GroupRepository.findStaleGroups)
+CREATE INDEX idx_group_status_created_at ON `group` (status, created_at);
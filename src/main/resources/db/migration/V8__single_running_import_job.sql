@@ -0,0 +1,11 @@
+-- 실행 중(RUNNING)인 가져오기 작업을 DB에서 하나로 제한 (ImportJob.runningSlot)
+-- RUNNING 작업만 1, 나머지는 NULL이며, 유니크 인덱스는 NULL을 여러 개 허용하므로 두 번째 RUNNING 작업 저장이 실패합니다.
+ALTER TABLE import_job ADD COLUMN running_slot INT;
+
+-- 이미 RUNNING 작업이 여러 개면 가장 먼저 만든 작업만 남기고 나머지는 실패로 바꿈 (수동으로 resume 가능)
+UPDATE import_job SET running_slot = 1
+WHERE import_job_id = (SELECT id FROM (SELECT MIN(import_job_id) AS id FROM import_job WHERE status = 'RUNNING') AS running);
+UPDATE import_job SET status = 'FAILED', last_error = '동시에 실행 중인 다른 가져오기 작업이 있어 중단됨'
+WHERE status = 'RUNNING' AND running_slot IS NULL;
+
+ALTER TABLE import_job ADD CONSTRAINT uk_import_job_running_slot UNIQUE (running_slot);
@@ -0,0 +1,136 @@
+package likelion.bibly;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션 테스트
+ * 테스트 프로필은 Flyway를 끄고 엔티티로 스키마를 만들므로, 여기서 H2(MySQL 모드)에 마이그레이션을 직접 적용해 봅니다.
+ * 운영 DB처럼 기준 스키마(V1)로 이미 만들어진 DB가 baseline 후 V2부터 끝까지 적용되는지 확인합니다.
+ */
+class FlywayMigrationTest {
+
+    private static final String BASELINE_SCHEMA = "db/migration/V1__baseline_schema.sql";
+    private static final List<String> SERIES_VERSIONS = List.of("2", "3", "4", "5", "6", "7", "8");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("기준 스키마로 만들어진 기존 DB는 V1을 건너뛰고 V2부터 적용하며 책 원문을 book_content로 옮김")
+    void migrateFromBaselineSchemaTest() {
+        // Given - Flyway 도입 전 ddl-auto로 만들어진 DB (이력 테이블 없음)
+        new ResourceDatabasePopulator(new ClassPathResource(BASELINE_SCHEMA)).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO book (book_id, title, content) VALUES (1, '원문 있는 책', '본문')");
+        jdbcTemplate.update("INSERT INTO book (book_id, title) VALUES (2, '원문 없는 책')");
+        jdbcTemplate.update("INSERT INTO `group` (group_id, group_name, reading_period, invite_code, status)"
+                + " VALUES (1, '모임', 7, '1234', 'WAITING')");
+
+        // When
+        MigrateResult result = flyway().migrate();
+
+        // Then
+        assertThat(result.migrations).extracting(migration -> migration.version)
+                .containsExactlyElementsOf(SERIES_VERSIONS);
+        assertThat(jdbcTemplate.queryForList("SELECT book_id FROM book_content", Long.class))
+                .containsExactly(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM book_content WHERE book_id = 1", String.class))
+                .isEqualTo("본문");
+        assertThat(columnExists("book", "content")).isFalse();
+        assertThat(columnExists("book", "gutenberg_id")).isTrue();
+        assertThat(columnExists("book", "content_hash")).isTrue();
+        assertThat(columnExists("page_content", "compressed_content")).isTrue();
+        assertThat(indexExists("idx_import_job_status")).isTrue();
+        assertThat(jdbcTemplate.update(
+                "UPDATE `group` SET invite_code = NULL, status = 'ARCHIVED' WHERE group_id = 1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 DB는 V1부터 끝까지 적용")
+    void migrateEmptyDatabaseTest() {
+        // When
+        MigrateResult result = flyway().migrate();
+
+        // Then
+        assertThat(result.migrations).extracting(migration -> migration.version)
+                .startsWith("1")
+                .endsWith(SERIES_VERSIONS.get(SERIES_VERSIONS.size() - 1));
+        assertThat(indexExists("uk_book_gutenberg_id")).isTrue();
+        assertThat(indexExists("idx_group_status_created_at")).isTrue();
+        assertThat(indexExists("uk_import_job_running_slot")).isTrue();
+    }
+
+    @Test
+    @DisplayName("RUNNING 가져오기 작업은 하나만 남기고, 이후 두 번째 RUNNING 작업은 유니크 제약으로 막음")
+    void singleRunningImportJobTest() {
+        // Given - 동시에 시작되어 RUNNING 작업이 두 개 남은 기존 DB
+        flyway("7").migrate();
+        insertImportJob(1, "RUNNING");
+        insertImportJob(2, "RUNNING");
+        insertImportJob(3, "COMPLETED");
+
+        // When
+        flyway().migrate();
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM import_job ORDER BY import_job_id", String.class))
+                .containsExactly("RUNNING", "FAILED", "COMPLETED");
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE import_job SET status = 'RUNNING', running_slot = 1 WHERE import_job_id = 2"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void insertImportJob(long id, String status) {
+        jdbcTemplate.update("INSERT INTO import_job (import_job_id, status, target_count, processed_count,"
+                + " imported_count, skipped_count, failed_count, active_millis) VALUES (?, ?, 10, 0, 0, 0, 0, 0)",
+                id, status);
+    }
+
+    // application.yml의 spring.flyway 설정과 같음
+    private Flyway flyway() {
+        return flyway("latest");
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target(target)
+                .load();
+    }
+
+    private boolean columnExists(String table, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? AND COLUMN_NAME = ?",
+                Integer.class, table, column) > 0;
+    }
+
+    private boolean indexExists(String index) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME LIKE ?",
+                Integer.class, index + "%") > 0;
+    }
+}
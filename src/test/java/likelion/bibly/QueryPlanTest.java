@@ -0,0 +1,200 @@
+package likelion.bibly;
+
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.bookmark.repository.BookmarkRepository;
+import likelion.bibly.domain.highlight.repository.HighlightRepository;
+import likelion.bibly.domain.importjob.enums.ImportJobStatus;
+import likelion.bibly.domain.importjob.repository.ImportJobRepository;
+import likelion.bibly.domain.member.entity.Member;
+import likelion.bibly.domain.member.enums.MemberStatus;
+import likelion.bibly.domain.member.repository.MemberRepository;
+import likelion.bibly.domain.progress.repository.ProgressRepository;
+import likelion.bibly.domain.session.entity.ReadingSession;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 자주 쓰는 조회 쿼리 실행 계획 테스트
+ * Hibernate가 실제로 만든 SQL을 H2 EXPLAIN으로 확인하여, 각 조회가 전용 인덱스를 타고 테이블 전체 스캔을 하지 않는지 검증합니다.
+ * (인덱스 이름은 엔티티 @Table 및 db/migration의 V5 마이그레이션과 같음)
+ */
+@DataJpaTest
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "likelion.bibly.QueryPlanTest$SqlCapture")
+class QueryPlanTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private HighlightRepository highlightRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private ReadingAssignmentRepository assignmentRepository;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("모임의 상태별 모임원 조회는 (group_id, status) 인덱스 사용")
+    void findMembersByGroupAndStatusTest() {
+        assertThat(explain(() -> memberRepository.findByGroup_GroupIdAndStatus(1L, MemberStatus.ACTIVE)))
+                .satisfies(usesIndex("idx_member_group_status"));
+    }
+
+    @Test
+    @DisplayName("모임 내 사용자 조회는 (group_id, user_id) 유니크 인덱스 사용")
+    void findMemberByGroupAndUserTest() {
+        assertThat(explain(() -> memberRepository.findByGroup_GroupIdAndUserId(1L, "user")))
+                .satisfies(usesIndex("uk_member_group_user"));
+    }
+
+    @Test
+    @DisplayName("사용자가 가입한 모임원 조회는 (user_id, status) 인덱스 사용")
+    void findMembersByUserAndStatusTest() {
+        assertThat(explain(() -> memberRepository.findByUserIdAndStatus("user", MemberStatus.ACTIVE)))
+                .satisfies(usesIndex("idx_member_user_status"));
+    }
+
+    @Test
+    @DisplayName("책 + 페이지 번호 조회는 (book_id, page_number) 유니크 인덱스 사용")
+    void findPageByBookAndPageNumberTest() {
+        // PageContentJdbcRepository.findContent와 같은 SQL (JdbcTemplate 조회라 Hibernate SQL로 잡히지 않음)
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT content, compressed_content FROM page_content WHERE book_id = ? AND page_number = ?",
+                String.class, 1L, 1);
+
+        assertThat(plan).satisfies(usesIndex("uk_page_content_book_page"));
+    }
+
+    @Test
+    @DisplayName("모임원 + 책 진행도 조회는 (member_id, book_id) 유니크 인덱스 사용")
+    void findProgressByMemberAndBookTest() {
+        Member member = reference(Member.class);
+        Book book = reference(Book.class);
+
+        assertThat(explain(() -> progressRepository.findByMemberAndBook(member, book)))
+                .satisfies(usesIndex("uk_progress_member_book"));
+    }
+
+    @Test
+    @DisplayName("책 + 모임 하이라이트 조회는 (book_id, group_id) 세션 인덱스 사용")
+    void findHighlightsByBookAndGroupTest() {
+        assertThat(explain(() -> highlightRepository.findBySession_Book_BookIdAndSession_Group_GroupId(1L, 1L)))
+                .satisfies(usesIndex("idx_reading_session_book_group"));
+    }
+
+    @Test
+    @DisplayName("세션 내 최근 북마크 조회는 (session_id, member_id, created_at) 인덱스 사용")
+    void findLatestBookmarkTest() {
+        ReadingSession session = reference(ReadingSession.class);
+        Member member = reference(Member.class);
+
+        assertThat(explain(() -> bookmarkRepository.findTopByReadingsessionAndMemberOrderByCreatedAtDesc(session, member)))
+                .satisfies(usesIndex("idx_bookmark_session_member_created"));
+    }
+
+    @Test
+    @DisplayName("회차별 배정 조회는 (group_id, cycle_number) 인덱스 사용")
+    void findAssignmentsByCycleTest() {
+        assertThat(explain(() -> assignmentRepository.findByGroup_GroupIdAndCycleNumber(1L, 1)))
+                .satisfies(usesIndex("idx_reading_assignment_group_cycle"));
+    }
+
+    @Test
+    @DisplayName("모임원의 이후 회차 배정 조회는 (group_id, member_id, cycle_number) 인덱스 사용")
+    void findMemberAssignmentsFromCycleTest() {
+        assertThat(explain(() -> assignmentRepository.findMemberAssignmentsFromCycle(1L, 1L, 1)))
+                .satisfies(usesIndex("idx_reading_assignment_group_member_cycle"));
+    }
+
+    @Test
+    @DisplayName("상태별 가져오기 작업 조회는 (status, import_job_id) 인덱스 사용")
+    void findImportJobsByStatusTest() {
+        assertThat(explain(() -> importJobRepository.findByStatusOrderByImportJobIdAsc(ImportJobStatus.RUNNING)))
+                .satisfies(usesIndex("idx_import_job_status"));
+    }
+
+    /**
+     * 조회 없이 ID만 가진 엔티티 참조 (finder 파라미터 바인딩용)
+     */
+    private <T> T reference(Class<T> entityClass) {
+        return entityManager.getEntityManager().getReference(entityClass, 1L);
+    }
+
+    /**
+     * finder가 실행한 SQL 한 건의 H2 실행 계획 (바인딩 파라미터는 모두 1로 채움)
+     */
+    private String explain(Runnable finder) {
+        finder.run();
+        List<String> statements = SqlCapture.statements();
+        assertThat(statements).hasSize(1);
+
+        String sql = statements.get(0);
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        Arrays.fill(parameters, 1L);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private static Consumer<String> usesIndex(String indexName) {
+        // H2는 전체 스캔을 "/* PUBLIC.TABLE.tableScan */"로, 인덱스 조회를 "/* PUBLIC.INDEX_NAME: ... */"로 표시
+        return plan -> assertThat(plan)
+                .containsIgnoringCase(indexName)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록하는 StatementInspector
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
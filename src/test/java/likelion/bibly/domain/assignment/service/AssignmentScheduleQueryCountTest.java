@@ -0,0 +1,181 @@
+package likelion.bibly.domain.assignment.service;
+
+import likelion.bibly.domain.assignment.entity.ReadingAssignment;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentJdbcRepository;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.group.entity.Group;
+import likelion.bibly.domain.member.entity.Member;
+import likelion.bibly.domain.member.enums.MemberRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 회차 배정 생성 쿼리 수 테스트
+ * JDBC 커넥션에서 만든 Statement 수(배치 INSERT는 1개)가 모임원 수와 무관한지 검증합니다.
+ */
+@DataJpaTest
+@Import({AssignmentServiceImpl.class, ReadingAssignmentJdbcRepository.class, CycleScheduleCache.class,
+        AssignmentScheduleQueryCountTest.StatementCounter.class})
+class AssignmentScheduleQueryCountTest {
+
+    private static final int READING_PERIOD = 14;
+
+    @Autowired
+    private AssignmentServiceImpl assignmentService;
+
+    @Autowired
+    private ReadingAssignmentRepository assignmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private int inviteCodeSequence;
+
+    @Test
+    @DisplayName("초기 배정 생성의 쿼리 수는 모임원 수와 무관")
+    void createInitialAssignmentsStatementCountTest() {
+        // Given
+        Long smallGroupId = createGroup(2);
+        Long largeGroupId = createGroup(8);
+
+        // When
+        int smallStatements =
+                countStatements(() -> assignmentService.createInitialAssignments(smallGroupId, READING_PERIOD));
+        int largeStatements =
+                countStatements(() -> assignmentService.createInitialAssignments(largeGroupId, READING_PERIOD));
+
+        // Then
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(assignmentRepository.findByGroup_GroupId(smallGroupId)).hasSize(2 * 2);
+        assertThat(assignmentRepository.findByGroup_GroupId(largeGroupId)).hasSize(8 * 8);
+    }
+
+    @Test
+    @DisplayName("재시작 추가 배정 생성의 쿼리 수는 모임원 수와 무관하고 다음 회차부터 이어서 생성")
+    void createAdditionalAssignmentsStatementCountTest() {
+        // Given
+        Long smallGroupId = createGroup(2);
+        Long largeGroupId = createGroup(8);
+        assignmentService.createInitialAssignments(smallGroupId, READING_PERIOD);
+        assignmentService.createInitialAssignments(largeGroupId, READING_PERIOD);
+        entityManager.clear();
+
+        // When
+        int smallStatements =
+                countStatements(() -> assignmentService.createAdditionalAssignments(smallGroupId, READING_PERIOD));
+        int largeStatements =
+                countStatements(() -> assignmentService.createAdditionalAssignments(largeGroupId, READING_PERIOD));
+
+        // Then
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(assignmentRepository.findByGroup_GroupId(largeGroupId))
+                .hasSize(2 * 8 * 8)
+                .extracting(ReadingAssignment::getCycleNumber)
+                .containsAll(Set.of(1, 8, 9, 16));
+    }
+
+    /**
+     * 책을 선택한 모임원 memberCount명의 모임 생성
+     */
+    private Long createGroup(int memberCount) {
+        Group group = entityManager.persist(Group.builder()
+                .groupName("테스트 모임")
+                .readingPeriod(READING_PERIOD)
+                .inviteCode(String.format("%04d", inviteCodeSequence++))
+                .build());
+
+        for (int i = 0; i < memberCount; i++) {
+            Book book = entityManager.persist(Book.builder()
+                    .title("책" + i)
+                    .author("저자" + i)
+                    .build());
+            Member member = entityManager.persist(Member.builder()
+                    .group(group)
+                    .userId("user" + i)
+                    .nickname("멤버" + i)
+                    .color("RED")
+                    .role(i == 0 ? MemberRole.LEADER : MemberRole.MEMBER)
+                    .build());
+            member.selectBook(book.getBookId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return group.getGroupId();
+    }
+
+    private int countStatements(Runnable action) {
+        StatementCounter.COUNT.set(0);
+        action.run();
+        return StatementCounter.COUNT.get();
+    }
+
+    /**
+     * DataSource가 내주는 커넥션에서 만든 Statement 수를 세는 설정
+     */
+    @TestConfiguration
+    static class StatementCounter {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        private static final Set<String> STATEMENT_METHODS =
+                Set.of("prepareStatement", "prepareCall", "createStatement");
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return counting(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if (STATEMENT_METHODS.contains(method.getName())) {
+                            COUNT.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
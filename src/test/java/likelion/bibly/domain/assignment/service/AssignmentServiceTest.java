@@ -5,6 +5,8 @@ import likelion.bibly.domain.assignment.dto.response.CurrentAssignmentResponse;
 import likelion.bibly.domain.assignment.dto.response.CurrentReadingBookResponse;
 import likelion.bibly.domain.assignment.dto.response.NextReadingBookResponse;
 import likelion.bibly.domain.assignment.entity.ReadingAssignment;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentJdbcRepository;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentJdbcRepository.AssignmentRow;
 import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
 import likelion.bibly.domain.book.entity.Book;
 import likelion.bibly.domain.book.repository.BookRepository;
@@ -21,13 +23,16 @@ import likelion.bibly.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,6 +51,9 @@ class AssignmentServiceTest {
     @Mock
     private ReadingAssignmentRepository assignmentRepository;
 
+    @Mock
+    private ReadingAssignmentJdbcRepository assignmentJdbcRepository;
+
     @Mock
     private GroupRepository groupRepository;
 
@@ -58,6 +66,9 @@ class AssignmentServiceTest {
     @Mock
     private ProgressRepository progressRepository;
 
+    @Mock
+    private CycleScheduleCache cycleScheduleCache;
+
     @Test
     @DisplayName("한줄평 등록 성공 테스트")
     void writeReviewSuccessTest() {
@@ -84,6 +95,7 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member, "memberId", 10L);
 
         ReadingAssignment assignment = ReadingAssignment.builder()
                 .book(book)
@@ -169,6 +181,7 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member, "memberId", 10L);
 
         Book book = Book.builder()
                 .title("현재 읽는 책")
@@ -188,8 +201,9 @@ class AssignmentServiceTest {
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
         given(memberRepository.findByGroup_GroupIdAndUserId(groupId, userId))
                 .willReturn(Optional.of(member));
-        given(assignmentRepository.findByGroup_GroupId(groupId))
-                .willReturn(List.of(assignment));
+        given(cycleScheduleCache.currentCycle(groupId)).willReturn(1);
+        given(assignmentRepository.findByGroup_GroupIdAndCycleNumberAndMember_MemberId(groupId, 1, 10L))
+                .willReturn(Optional.of(assignment));
 
         // When
         AssignmentResponse response = assignmentService.getCurrentAssignment(userId, groupId);
@@ -221,12 +235,14 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member, "memberId", 10L);
 
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
         given(memberRepository.findByGroup_GroupIdAndUserId(groupId, userId))
                 .willReturn(Optional.of(member));
-        given(assignmentRepository.findByGroup_GroupId(groupId))
-                .willReturn(List.of()); // 배정 없음
+        given(cycleScheduleCache.currentCycle(groupId)).willReturn(1);
+        given(assignmentRepository.findByGroup_GroupIdAndCycleNumberAndMember_MemberId(groupId, 1, 10L))
+                .willReturn(Optional.empty()); // 배정 없음
 
         // When & Then
         assertThatThrownBy(() -> assignmentService.getCurrentAssignment(userId, groupId))
@@ -267,30 +283,10 @@ class AssignmentServiceTest {
         Book book1 = Book.builder().title("책1").author("저자1").build();
         Book book2 = Book.builder().title("책2").author("저자2").build();
 
-        LocalDateTime now = LocalDateTime.now();
-        ReadingAssignment assignment1 = ReadingAssignment.builder()
-                .book(book1)
-                .group(group)
-                .member(member1)
-                .cycleNumber(1)
-                .startDate(now.minusDays(1))
-                .endDate(now.plusDays(13))
-                .build();
-
-        ReadingAssignment assignment2 = ReadingAssignment.builder()
-                .book(book2)
-                .group(group)
-                .member(member2)
-                .cycleNumber(1)
-                .startDate(now.minusDays(1))
-                .endDate(now.plusDays(13))
-                .build();
-
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
         given(memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE))
                 .willReturn(List.of(member1, member2));
-        given(assignmentRepository.findByGroup_GroupId(groupId))
-                .willReturn(List.of(assignment1, assignment2));
+        given(cycleScheduleCache.currentCycle(groupId)).willReturn(1);
         given(bookRepository.findById(1L)).willReturn(Optional.of(book1));
         given(bookRepository.findById(2L)).willReturn(Optional.of(book2));
 
@@ -325,6 +321,7 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.LEADER)
                 .build();
+        ReflectionTestUtils.setField(member1, "memberId", 10L);
         member1.selectBook(1L);
 
         Member member2 = Member.builder()
@@ -334,23 +331,36 @@ class AssignmentServiceTest {
                 .color("BLUE")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member2, "memberId", 20L);
         member2.selectBook(2L);
 
         Book book1 = Book.builder().title("책1").author("저자1").build();
         Book book2 = Book.builder().title("책2").author("저자2").build();
+        ReflectionTestUtils.setField(book1, "bookId", 1L);
+        ReflectionTestUtils.setField(book2, "bookId", 2L);
 
         given(memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE))
                 .willReturn(List.of(member1, member2));
-        given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
-        given(bookRepository.findById(1L)).willReturn(Optional.of(book1));
-        given(bookRepository.findById(2L)).willReturn(Optional.of(book2));
+        given(groupRepository.existsById(groupId)).willReturn(true);
+        given(bookRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(book1, book2));
 
         // When
         assignmentService.createInitialAssignments(groupId, readingPeriod);
 
         // Then
         verify(memberRepository).findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE);
-        verify(assignmentRepository, times(4)).save(any(ReadingAssignment.class)); // 2명 * 2회차
+        verify(bookRepository).findAllById(Set.of(1L, 2L));
+        verify(assignmentRepository, never()).save(any(ReadingAssignment.class));
+
+        // 2명 * 2회차를 한 번에 저장, 각 회차에 서로의 책을 교환
+        ArgumentCaptor<List<AssignmentRow>> rows = ArgumentCaptor.captor();
+        verify(assignmentJdbcRepository).insertAll(rows.capture());
+        assertThat(rows.getValue())
+                .extracting(AssignmentRow::cycleNumber, AssignmentRow::memberId, AssignmentRow::bookId)
+                .containsExactly(
+                        tuple(1, 10L, 2L), tuple(1, 20L, 1L),
+                        tuple(2, 10L, 1L), tuple(2, 20L, 2L));
+        assertThat(rows.getValue().get(2).startDate()).isEqualTo(rows.getValue().get(0).endDate());
     }
 
     @Test
@@ -373,6 +383,7 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.LEADER)
                 .build();
+        ReflectionTestUtils.setField(member1, "memberId", 10L);
         member1.selectBook(1L);
 
         Member member2 = Member.builder()
@@ -382,10 +393,13 @@ class AssignmentServiceTest {
                 .color("BLUE")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member2, "memberId", 20L);
         member2.selectBook(2L);
 
         Book book1 = Book.builder().title("책1").author("저자1").build();
         Book book2 = Book.builder().title("책2").author("저자2").build();
+        ReflectionTestUtils.setField(book1, "bookId", 1L);
+        ReflectionTestUtils.setField(book2, "bookId", 2L);
 
         LocalDateTime baseDate = LocalDateTime.now();
         ReadingAssignment existingAssignment = ReadingAssignment.builder()
@@ -397,20 +411,73 @@ class AssignmentServiceTest {
                 .endDate(baseDate)
                 .build();
 
-        given(assignmentRepository.findByGroup_GroupId(groupId))
-                .willReturn(List.of(existingAssignment));
+        given(assignmentRepository.findTopByGroup_GroupIdOrderByCycleNumberDesc(groupId))
+                .willReturn(Optional.of(existingAssignment));
         given(memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE))
                 .willReturn(List.of(member1, member2));
-        given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
-        given(bookRepository.findById(1L)).willReturn(Optional.of(book1));
-        given(bookRepository.findById(2L)).willReturn(Optional.of(book2));
+        given(groupRepository.existsById(groupId)).willReturn(true);
+        given(bookRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(book1, book2));
 
         // When
         assignmentService.createAdditionalAssignments(groupId, readingPeriod);
 
         // Then
-        verify(assignmentRepository).findByGroup_GroupId(groupId);
-        verify(assignmentRepository, times(4)).save(any(ReadingAssignment.class)); // 2명 * 2회차
+        verify(assignmentRepository).findTopByGroup_GroupIdOrderByCycleNumberDesc(groupId);
+
+        // 기존 2회차 다음인 3~4회차를 마지막 회차 종료일부터 생성
+        ArgumentCaptor<List<AssignmentRow>> rows = ArgumentCaptor.captor();
+        verify(assignmentJdbcRepository).insertAll(rows.capture());
+        assertThat(rows.getValue()).hasSize(4)
+                .extracting(AssignmentRow::cycleNumber)
+                .containsExactly(3, 3, 4, 4);
+        assertThat(rows.getValue().get(0).startDate()).isEqualTo(baseDate);
+    }
+
+    @Test
+    @DisplayName("초기 배정 생성 실패 - 선택한 책 없음")
+    void createInitialAssignmentsFailBookNotFoundTest() {
+        // Given
+        Long groupId = 1L;
+
+        Group group = Group.builder()
+                .groupName("테스트 모임")
+                .readingPeriod(14)
+                .inviteCode("1234")
+                .build();
+
+        Member member1 = Member.builder()
+                .group(group)
+                .userId("user1")
+                .nickname("멤버1")
+                .color("RED")
+                .role(MemberRole.LEADER)
+                .build();
+        ReflectionTestUtils.setField(member1, "memberId", 10L);
+        member1.selectBook(1L);
+
+        Member member2 = Member.builder()
+                .group(group)
+                .userId("user2")
+                .nickname("멤버2")
+                .color("BLUE")
+                .role(MemberRole.MEMBER)
+                .build();
+        ReflectionTestUtils.setField(member2, "memberId", 20L);
+        member2.selectBook(2L);
+
+        Book book1 = Book.builder().title("책1").author("저자1").build();
+        ReflectionTestUtils.setField(book1, "bookId", 1L);
+
+        given(memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE))
+                .willReturn(List.of(member1, member2));
+        given(groupRepository.existsById(groupId)).willReturn(true);
+        given(bookRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(book1));
+
+        // When & Then
+        assertThatThrownBy(() -> assignmentService.createInitialAssignments(groupId, 14))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOOK_NOT_FOUND);
+        verifyNoInteractions(assignmentJdbcRepository);
     }
 
     @Test
@@ -433,6 +500,7 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member, "memberId", 10L);
 
         Book book = Book.builder()
                 .title("현재 읽는 책")
@@ -460,7 +528,8 @@ class AssignmentServiceTest {
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
         given(memberRepository.findByGroup_GroupIdAndUserId(groupId, userId))
                 .willReturn(Optional.of(member));
-        given(assignmentRepository.findByGroup_GroupId(groupId))
+        given(cycleScheduleCache.currentCycle(groupId)).willReturn(1);
+        given(assignmentRepository.findMemberAssignmentsFromCycle(groupId, 10L, 1))
                 .willReturn(List.of(currentAssignment));
         given(progressRepository.findByMemberAndBook(member, book))
                 .willReturn(Optional.of(progress));
@@ -496,11 +565,16 @@ class AssignmentServiceTest {
                 .color("RED")
                 .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(member, "memberId", 10L);
 
-        Book currentBook = Book.builder()
-                .title("현재 책")
-                .author("저자1")
+        Member reader = Member.builder()
+                .group(group)
+                .userId("reader")
+                .nickname("지금읽는사람")
+                .color("BLUE")
+                .role(MemberRole.MEMBER)
                 .build();
+        ReflectionTestUtils.setField(reader, "memberId", 20L);
 
         Book nextBook = Book.builder()
                 .title("다음 책")
@@ -508,16 +582,19 @@ class AssignmentServiceTest {
                 .genre("Fiction")
                 .description("다음 책 설명")
                 .build();
+        ReflectionTestUtils.setField(nextBook, "bookId", 2L);
 
         LocalDateTime now = LocalDateTime.now();
-        ReadingAssignment currentAssignment = ReadingAssignment.builder()
-                .book(currentBook)
+        // 현재 회차에 다른 모임원이 다음 책을 읽는 중
+        ReadingAssignment readerAssignment = ReadingAssignment.builder()
+                .book(nextBook)
                 .group(group)
-                .member(member)
+                .member(reader)
                 .cycleNumber(1)
                 .startDate(now.minusDays(1))
                 .endDate(now.plusDays(13))
                 .build();
+        readerAssignment.writeReview("재밌어요");
 
         ReadingAssignment nextAssignment = ReadingAssignment.builder()
                 .book(nextBook)
@@ -531,8 +608,11 @@ class AssignmentServiceTest {
         given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
         given(memberRepository.findByGroup_GroupIdAndUserId(groupId, userId))
                 .willReturn(Optional.of(member));
-        given(assignmentRepository.findByGroup_GroupId(groupId))
-                .willReturn(List.of(currentAssignment, nextAssignment));
+        given(cycleScheduleCache.currentCycle(groupId)).willReturn(1);
+        given(assignmentRepository.findByGroup_GroupIdAndCycleNumberAndMember_MemberId(groupId, 2, 10L))
+                .willReturn(Optional.of(nextAssignment));
+        given(assignmentRepository.findByGroup_GroupIdAndBook_BookId(groupId, 2L))
+                .willReturn(List.of(readerAssignment, nextAssignment));
 
         // When
         NextReadingBookResponse response = assignmentService.getNextReadingBook(userId, groupId);
@@ -542,6 +622,8 @@ class AssignmentServiceTest {
         assertThat(response.getBookTitle()).isEqualTo("다음 책");
         assertThat(response.getAuthor()).isEqualTo("저자2");
         assertThat(response.getGenre()).isEqualTo("Fiction");
+        assertThat(response.getCurrentReaderNickname()).isEqualTo("지금읽는사람");
+        assertThat(response.getReviews()).hasSize(1);
         verify(groupRepository).findById(groupId);
     }
 }
@@ -0,0 +1,117 @@
+package likelion.bibly.domain.assignment.service;
+
+import likelion.bibly.domain.assignment.dto.CycleRange;
+import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * CycleScheduleCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CycleScheduleCacheTest {
+
+    private static final Long GROUP_ID = 1L;
+
+    // 진행 중인 4회차 일정 (회차당 14일)
+    private static final LocalDateTime START = LocalDateTime.now().minusDays(3);
+    private static final CycleRange RANGE = new CycleRange(1, 4, START, START.plusDays(14 * 4));
+    private static final CycleRange SHIFTED_RANGE =
+            new CycleRange(1, 4, START.minusDays(14), START.plusDays(14 * 3));
+
+    @Mock
+    private ReadingAssignmentRepository assignmentRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 일정은 ttl 동안 캐시에서 조회")
+    void cachedUntilTtlTest() {
+        // Given
+        CycleScheduleCache cache = new CycleScheduleCache(assignmentRepository, Duration.ofMinutes(1));
+        given(assignmentRepository.findCycleRange(GROUP_ID)).willReturn(RANGE);
+
+        // When
+        cache.find(GROUP_ID);
+        int currentCycle = cache.currentCycle(GROUP_ID);
+
+        // Then
+        assertThat(currentCycle).isEqualTo(1);
+        verify(assignmentRepository, times(1)).findCycleRange(GROUP_ID);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 일정은 다시 읽어 다른 서버에서 옮긴 배정을 반영")
+    void expiredScheduleIsReloadedTest() {
+        // Given
+        CycleScheduleCache cache = new CycleScheduleCache(assignmentRepository, Duration.ZERO);
+        given(assignmentRepository.findCycleRange(GROUP_ID)).willReturn(RANGE, SHIFTED_RANGE);
+
+        // When
+        int before = cache.currentCycle(GROUP_ID);
+        int after = cache.currentCycle(GROUP_ID);
+
+        // Then
+        assertThat(before).isEqualTo(1);
+        assertThat(after).isEqualTo(2);
+        verify(assignmentRepository, times(2)).findCycleRange(GROUP_ID);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 evict는 커밋된 뒤에 캐시를 비움")
+    void evictAfterCommitTest() {
+        // Given
+        CycleScheduleCache cache = new CycleScheduleCache(assignmentRepository, Duration.ofMinutes(1));
+        given(assignmentRepository.findCycleRange(GROUP_ID)).willReturn(RANGE, SHIFTED_RANGE);
+        cache.find(GROUP_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evict(GROUP_ID);
+        int beforeCommit = cache.currentCycle(GROUP_ID);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        int afterCommit = cache.currentCycle(GROUP_ID);
+
+        // Then
+        assertThat(beforeCommit).isEqualTo(1);
+        assertThat(afterCommit).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽는 동안 evict된 일정은 캐시에 넣지 않음")
+    void staleScheduleIsNotCachedTest() {
+        // Given
+        CycleScheduleCache cache = new CycleScheduleCache(assignmentRepository, Duration.ofMinutes(1));
+        given(assignmentRepository.findCycleRange(GROUP_ID)).willAnswer(invocation -> {
+            // 커밋 전 일정을 읽은 직후 다른 트랜잭션이 커밋되어 캐시를 비움
+            cache.evict(GROUP_ID);
+            return RANGE;
+        }).willReturn(SHIFTED_RANGE);
+
+        // When
+        int stale = cache.currentCycle(GROUP_ID);
+        int reloaded = cache.currentCycle(GROUP_ID);
+
+        // Then
+        assertThat(stale).isEqualTo(1);
+        assertThat(reloaded).isEqualTo(2);
+        verify(assignmentRepository, times(2)).findCycleRange(GROUP_ID);
+    }
+}
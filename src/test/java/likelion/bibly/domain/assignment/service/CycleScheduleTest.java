@@ -0,0 +1,50 @@
+package likelion.bibly.domain.assignment.service;
+
+import likelion.bibly.domain.assignment.dto.CycleRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CycleSchedule 단위 테스트
+ */
+class CycleScheduleTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    // 2라운드 (4명 x 2) = 8회차, 회차당 14일
+    private static final CycleSchedule SCHEDULE =
+            CycleSchedule.from(new CycleRange(1, 8, START, START.plusDays(14 * 8)));
+
+    @Test
+    @DisplayName("회차 범위 집계에서 회차 길이와 종료일 계산")
+    void fromRangeTest() {
+        assertThat(SCHEDULE.cycleLength()).isEqualTo(Duration.ofDays(14));
+        assertThat(SCHEDULE.endDate()).isEqualTo(START.plusDays(112));
+    }
+
+    @Test
+    @DisplayName("시각이 속한 회차를 계산 (재시작한 라운드 포함)")
+    void currentCycleTest() {
+        assertThat(SCHEDULE.currentCycle(START)).isEqualTo(1);
+        assertThat(SCHEDULE.currentCycle(START.plusDays(13))).isEqualTo(1);
+        assertThat(SCHEDULE.currentCycle(START.plusDays(14))).isEqualTo(2);
+        assertThat(SCHEDULE.currentCycle(START.plusDays(14 * 5 + 3))).isEqualTo(6);
+        assertThat(SCHEDULE.currentCycle(START.plusDays(112))).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("모든 회차 시작 전이면 첫 회차, 종료 후면 마지막 회차")
+    void outOfRangeTest() {
+        assertThat(SCHEDULE.currentCycle(START.minusDays(1))).isEqualTo(1);
+        assertThat(SCHEDULE.isStarted(START.minusDays(1))).isFalse();
+
+        assertThat(SCHEDULE.currentCycle(START.plusDays(200))).isEqualTo(8);
+        assertThat(SCHEDULE.isFinished(START.plusDays(112))).isFalse();
+        assertThat(SCHEDULE.isFinished(START.plusDays(112).plusSeconds(1))).isTrue();
+    }
+}
@@ -41,26 +41,6 @@ class BookTest {
         assertThat(book.getCreatedAt()).isNotNull();
     }
 
-    @Test
-    @DisplayName("Book 인기도 증가 테스트")
-    void increasePopularityTest() {
-        // Given
-        Book book = Book.builder()
-                .title("Popular Book")
-                .author("Popular Author")
-                .genre("Fiction")
-                .pageCount(200)
-                .build();
-
-        // When
-        book.increasePopularity();
-        book.increasePopularity();
-        book.increasePopularity();
-
-        // Then
-        assertThat(book.getPopularityScore()).isEqualTo(3);
-    }
-
     @Test
     @DisplayName("Book 생성 시 기본값 검증")
     void bookDefaultValuesTest() {
@@ -87,7 +67,6 @@ class BookTest {
         String isbn = "1234567890";
         String description = "Test Description";
         String coverUrl = "http://example.com/cover.jpg";
-        String content = "Test Content";
 
         // When
         Book book = Book.builder()
@@ -100,7 +79,6 @@ class BookTest {
                 .pageCount(400)
                 .description(description)
                 .coverUrl(coverUrl)
-                .content(content)
                 .build();
 
         // Then
@@ -113,36 +91,10 @@ class BookTest {
         assertThat(book.getPageCount()).isEqualTo(400);
         assertThat(book.getDescription()).isEqualTo(description);
         assertThat(book.getCoverUrl()).isEqualTo(coverUrl);
-        assertThat(book.getContent()).isEqualTo(content);
         assertThat(book.getPopularityScore()).isEqualTo(0);
         assertThat(book.getCreatedAt()).isNotNull();
     }
 
-    @Test
-    @DisplayName("Book 인기도 순차적 증가 검증")
-    void popularityIncrementalTest() {
-        // Given
-        Book book = Book.builder()
-                .title("Incremental Book")
-                .author("Incremental Author")
-                .genre("Fiction")
-                .pageCount(300)
-                .build();
-
-        // Then - 초기 인기도 0
-        assertThat(book.getPopularityScore()).isEqualTo(0);
-
-        // When & Then - 순차적 증가
-        book.increasePopularity();
-        assertThat(book.getPopularityScore()).isEqualTo(1);
-
-        book.increasePopularity();
-        assertThat(book.getPopularityScore()).isEqualTo(2);
-
-        book.increasePopularity();
-        assertThat(book.getPopularityScore()).isEqualTo(3);
-    }
-
     @Test
     @DisplayName("여러 Book 엔티티 생성 테스트")
     void multipleBooksTest() {
@@ -182,26 +134,6 @@ class BookTest {
         assertThat(book3.getCreatedAt()).isNotNull();
     }
 
-    @Test
-    @DisplayName("Book 인기도 대량 증가 테스트")
-    void massivePopularityIncreaseTest() {
-        // Given
-        Book book = Book.builder()
-                .title("Very Popular Book")
-                .author("Popular Author")
-                .genre("Fiction")
-                .pageCount(500)
-                .build();
-
-        // When - 10번 증가
-        for (int i = 0; i < 10; i++) {
-            book.increasePopularity();
-        }
-
-        // Then
-        assertThat(book.getPopularityScore()).isEqualTo(10);
-    }
-
     @Test
     @DisplayName("Book 필수 속성만으로 생성 테스트")
     void createBookWithMinimalPropertiesTest() {
@@ -0,0 +1,133 @@
+package likelion.bibly.domain.book.repository;
+
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.entity.BookContent;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BookRepository 조회 쿼리 테스트
+ * 목록/상세 조회가 원문(content) 컬럼을 읽지 않는지 실행된 SQL로 검증합니다.
+ */
+@DataJpaTest
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "likelion.bibly.domain.book.repository.BookRepositoryTest$SqlCapture")
+class BookRepositoryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookContentRepository bookContentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        Book book = bookRepository.save(Book.builder()
+                .title("Pride and Prejudice")
+                .author("Jane Austen")
+                .build());
+        bookContentRepository.save(BookContent.builder()
+                .book(book)
+                .content("It is a truth universally acknowledged...")
+                .build());
+        bookId = book.getBookId();
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("책 목록/상세 조회 쿼리는 원문 컬럼을 조회하지 않음")
+    void catalogQueriesNeverSelectContentTest() {
+        // When
+        bookRepository.findNewBooks(Limit.of(20));
+        bookRepository.findPopularBooks(Limit.of(20));
+        bookRepository.findAllById(List.of(bookId));
+        bookRepository.findAll();
+        entityManager.clear();
+        bookRepository.findById(bookId);
+
+        // Then
+        assertThat(SqlCapture.statements()).isNotEmpty();
+        assertThat(SqlCapture.statements())
+                .allSatisfy(sql -> assertThat(sql.toLowerCase())
+                        // content_hash(콘텐츠 버전) 컬럼은 제외
+                        .doesNotContainPattern("\\bcontent\\b")
+                        .doesNotContain("book_content"));
+    }
+
+    @Test
+    @DisplayName("목록 조회는 DTO에 필요한 컬럼만 조회하고 엔티티를 영속성 컨텍스트에 올리지 않음")
+    void catalogQueriesUseProjectionTest() {
+        // When
+        List<BookSimpleResponse> newBooks = bookRepository.findNewBooks(Limit.of(20));
+        List<BookSimpleResponse> popularBooks = bookRepository.findPopularBooks(Limit.of(20));
+
+        // Then
+        assertThat(newBooks).extracting(BookSimpleResponse::getTitle).containsExactly("Pride and Prejudice");
+        assertThat(popularBooks).extracting(BookSimpleResponse::getBookId).containsExactly(bookId);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount())
+                .isZero();
+        assertThat(SqlCapture.statements())
+                .hasSize(2)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase())
+                        .contains("cover_url")
+                        .doesNotContain("description")
+                        .doesNotContain("publisher"));
+    }
+
+    @Test
+    @DisplayName("원문은 BookContentRepository로 조회할 때만 로드")
+    void contentLoadedOnlyOnDemandTest() {
+        // When
+        BookContent bookContent = bookContentRepository.findById(bookId).orElseThrow();
+
+        // Then
+        assertThat(bookContent.getContent()).startsWith("It is a truth");
+        assertThat(SqlCapture.statements())
+                .anySatisfy(sql -> assertThat(sql.toLowerCase()).contains("book_content"));
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록하는 StatementInspector
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
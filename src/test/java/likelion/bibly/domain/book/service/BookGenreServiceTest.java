@@ -0,0 +1,65 @@
+package likelion.bibly.domain.book.service;
+
+import likelion.bibly.domain.book.dto.BookGenreProjection;
+import likelion.bibly.domain.book.dto.response.BookGenreSearchResponse;
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BookGenreService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BookGenreServiceTest {
+
+    @InjectMocks
+    private BookGenreService bookGenreService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("책장 접두어를 떼고 Unknown은 장르에서 제외")
+    void parseGenresTest() {
+        assertThat(BookGenreService.parseGenres("Browsing: Fiction, Category: Novels,Gothic Fiction"))
+                .containsExactly("Fiction", "Novels", "Gothic Fiction");
+        assertThat(BookGenreService.parseGenres("Unknown")).isEmpty();
+        assertThat(BookGenreService.parseGenres(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장르로 거른 책과 결과 안의 장르별 책 수를 반환하고 색인은 한 번만 만듦")
+    void searchTest() {
+        // Given - 인기도 순
+        given(bookRepository.findAllGenres()).willReturn(List.of(
+                new BookGenreProjection(1L, "Frankenstein", "Shelley, Mary", null,
+                        "Browsing: Science Fiction, Gothic Fiction"),
+                new BookGenreProjection(2L, "Dracula", "Stoker, Bram", null, "Gothic Fiction,Horror"),
+                new BookGenreProjection(3L, "Emma", "Austen, Jane", null, "Unknown")));
+
+        // When
+        BookGenreSearchResponse gothic = bookGenreService.search(List.of("gothic fiction"), true, 0, 1);
+        BookGenreSearchResponse any = bookGenreService.search(
+                List.of("Category: Horror", "Science Fiction"), false, 0, 10);
+
+        // Then
+        assertThat(gothic.totalCount()).isEqualTo(2);
+        assertThat(gothic.books()).extracting(BookSimpleResponse::getTitle).containsExactly("Frankenstein");
+        assertThat(gothic.genres()).containsExactly(
+                new BookGenreSearchResponse.GenreCount("Gothic Fiction", 2),
+                new BookGenreSearchResponse.GenreCount("Horror", 1),
+                new BookGenreSearchResponse.GenreCount("Science Fiction", 1));
+        assertThat(any.books()).extracting(BookSimpleResponse::getBookId).containsExactly(1L, 2L);
+        verify(bookRepository, times(1)).findAllGenres();
+    }
+}
@@ -0,0 +1,146 @@
+package likelion.bibly.domain.book.service;
+
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BookPopularityService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BookPopularityServiceTest {
+
+    @InjectMocks
+    private BookPopularityService bookPopularityService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("책별 증가분을 합쳐 책 ID 순으로 한 번에 반영")
+    void flushAggregatesByBookTest() {
+        // Given
+        bookPopularityService.increase(2L, 5);
+        bookPopularityService.increase(1L, 5);
+        bookPopularityService.increase(2L, 5);
+
+        // When
+        int flushed = bookPopularityService.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        List<Object[]> batch = captureBatch();
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0)).containsExactly(5L, 1L);
+        assertThat(batch.get(1)).containsExactly(10L, 2L);
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 UPDATE를 실행하지 않음")
+    void flushWithoutPendingScoresTest() {
+        // Given
+        bookPopularityService.increase(1L, 5);
+        bookPopularityService.flush();
+        clearInvocations(jdbcTemplate);
+
+        // When
+        int flushed = bookPopularityService.flush();
+
+        // Then
+        assertThat(flushed).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 flush에서 재시도")
+    void failedFlushIsRetriedTest() {
+        // Given
+        bookPopularityService.increase(1L, 5);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[] {1});
+
+        // When
+        int first = bookPopularityService.flush();
+        bookPopularityService.increase(1L, 5);
+        int second = bookPopularityService.flush();
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getAllValues().get(1).get(0)).containsExactly(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("동시에 증가시켜도 증가분이 유실되지 않음")
+    void concurrentIncreaseTest() throws InterruptedException {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    bookPopularityService.increase(1L, 5);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        bookPopularityService.flush();
+
+        // Then
+        assertThat(captureBatch().get(0)).containsExactly(40_000L, 1L);
+    }
+
+    @Test
+    @DisplayName("인기 있는 책 목록은 주기적으로 다시 만들고 그 사이에는 메모리에서 반환")
+    void topBooksAreServedFromMemoryTest() {
+        // Given
+        List<BookSimpleResponse> ranking = new ArrayList<>(List.of(
+                new BookSimpleResponse(1L, "인기책1", "저자1", null)));
+        given(bookRepository.findPopularBooks(Limit.of(20))).willReturn(ranking);
+
+        // When
+        List<BookSimpleResponse> first = bookPopularityService.getTopBooks();
+        List<BookSimpleResponse> second = bookPopularityService.getTopBooks();
+        bookPopularityService.flushAndRefresh();
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first).extracting(BookSimpleResponse::getTitle).containsExactly("인기책1");
+        verify(bookRepository, times(2)).findPopularBooks(Limit.of(20));
+    }
+}
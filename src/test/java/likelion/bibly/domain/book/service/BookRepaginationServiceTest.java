@@ -0,0 +1,157 @@
+package likelion.bibly.domain.book.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import likelion.bibly.domain.book.dto.BookContentSizeProjection;
+import likelion.bibly.domain.book.dto.response.RepaginationReport;
+import likelion.bibly.domain.book.dto.response.RepaginationReport.Outcome;
+import likelion.bibly.domain.book.repository.BookContentRepository;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BookRepaginationService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BookRepaginationServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private BookContentRepository bookContentRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BookRepaginationService newService(int concurrency, DataSize memoryBudget) {
+        return newService(concurrency, memoryBudget, 10);
+    }
+
+    private BookRepaginationService newService(int concurrency, DataSize memoryBudget, int connectionPoolSize) {
+        return new BookRepaginationService(bookService, bookContentRepository, meterRegistry,
+                concurrency, memoryBudget, connectionPoolSize);
+    }
+
+    @Test
+    @DisplayName("책마다 재분할/건너뜀/실패 결과와 소요 시간을 기록")
+    void repaginateAllReportsPerBookTest() throws Exception {
+        // Given
+        given(bookContentRepository.findContentSizes()).willReturn(List.of(
+                new BookContentSizeProjection(1L, 1_000),
+                new BookContentSizeProjection(2L, 2_000),
+                new BookContentSizeProjection(3L, 3_000)));
+        given(bookService.saveBookContentAsPagesIfChanged(1L)).willReturn(true);
+        given(bookService.saveBookContentAsPagesIfChanged(2L)).willReturn(false);
+        given(bookService.saveBookContentAsPagesIfChanged(3L))
+                .willThrow(new BusinessException(ErrorCode.INVALID_INPUT_VALUE));
+
+        // When
+        RepaginationReport report = newService(2, DataSize.ofMegabytes(1)).repaginateAll(false);
+
+        // Then
+        assertThat(report.books()).hasSize(3);
+        assertThat(report.count(Outcome.REPAGINATED)).isEqualTo(1);
+        assertThat(report.count(Outcome.SKIPPED)).isEqualTo(1);
+        assertThat(report.count(Outcome.FAILED)).isEqualTo(1);
+        assertThat(report.books()).allSatisfy(book -> assertThat(book.elapsed()).isNotNegative());
+        assertThat(meterRegistry.get("bibly.repagination.book").tag("result", "skipped").timer().count())
+                .isEqualTo(1);
+        verify(bookService, never()).saveBookContentAsPages(any());
+    }
+
+    @Test
+    @DisplayName("force면 콘텐츠 해시와 관계없이 모두 다시 분할")
+    void forceRepaginatesEveryBookTest() throws Exception {
+        // Given
+        given(bookContentRepository.findContentSizes()).willReturn(List.of(
+                new BookContentSizeProjection(1L, 1_000),
+                new BookContentSizeProjection(2L, 2_000)));
+
+        // When
+        RepaginationReport report = newService(2, DataSize.ofMegabytes(1)).repaginateAll(true);
+
+        // Then
+        assertThat(report.count(Outcome.REPAGINATED)).isEqualTo(2);
+        verify(bookService).saveBookContentAsPages(1L);
+        verify(bookService).saveBookContentAsPages(2L);
+        verify(bookService, never()).saveBookContentAsPagesIfChanged(any());
+    }
+
+    @Test
+    @DisplayName("동시 처리 수가 남아도 메모리 예산을 넘는 만큼은 동시에 처리하지 않음")
+    void memoryBudgetBoundsInFlightBooksTest() throws Exception {
+        // Given: 책 한 권당 4KB(1024자 * 4바이트) 추정, 예산 8KB -> 최대 2권
+        given(bookContentRepository.findContentSizes()).willReturn(LongStream.rangeClosed(1, 8)
+                .mapToObj(id -> new BookContentSizeProjection(id, 1024))
+                .toList());
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        given(bookService.saveBookContentAsPagesIfChanged(anyLong())).willAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            active.decrementAndGet();
+            return true;
+        });
+
+        // When
+        RepaginationReport report = newService(8, DataSize.ofKilobytes(8)).repaginateAll(false);
+
+        // Then
+        assertThat(report.count(Outcome.REPAGINATED)).isEqualTo(8);
+        assertThat(maxActive.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("설정한 동시 처리 수가 커넥션 풀보다 크면 커넥션 풀 크기까지만 동시에 처리")
+    void concurrencyIsCappedAtConnectionPoolSizeTest() throws Exception {
+        // Given
+        given(bookContentRepository.findContentSizes()).willReturn(LongStream.rangeClosed(1, 8)
+                .mapToObj(id -> new BookContentSizeProjection(id, 1024))
+                .toList());
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        given(bookService.saveBookContentAsPagesIfChanged(anyLong())).willAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            active.decrementAndGet();
+            return true;
+        });
+
+        // When
+        RepaginationReport report = newService(8, DataSize.ofMegabytes(1), 2).repaginateAll(false);
+
+        // Then
+        assertThat(report.count(Outcome.REPAGINATED)).isEqualTo(8);
+        assertThat(maxActive.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("예산보다 큰 책도 예산 전체를 차지하여 혼자 처리")
+    void bookLargerThanBudgetStillRunsTest() throws Exception {
+        // Given
+        given(bookContentRepository.findContentSizes()).willReturn(List.of(
+                new BookContentSizeProjection(1L, 10_000_000)));
+        given(bookService.saveBookContentAsPagesIfChanged(1L)).willReturn(true);
+
+        // When
+        RepaginationReport report = newService(4, DataSize.ofKilobytes(8)).repaginateAll(false);
+
+        // Then
+        assertThat(report.count(Outcome.REPAGINATED)).isEqualTo(1);
+    }
+}
@@ -3,15 +3,21 @@ package likelion.bibly.domain.book.service;
 import likelion.bibly.domain.book.dto.response.BookDetailResponse;
 import likelion.bibly.domain.book.dto.response.BookSelectResponse;
 import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.dto.response.PageContentResponse;
 import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.entity.BookContent;
+import likelion.bibly.domain.book.repository.BookContentRepository;
 import likelion.bibly.domain.book.repository.BookRepository;
 import likelion.bibly.domain.group.entity.Group;
 import likelion.bibly.domain.member.entity.Member;
 import likelion.bibly.domain.member.enums.MemberRole;
 import likelion.bibly.domain.member.enums.MemberStatus;
 import likelion.bibly.domain.member.repository.MemberRepository;
-import likelion.bibly.domain.page.entity.PageContent;
-import likelion.bibly.domain.page.repository.PageRepository;
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import likelion.bibly.domain.page.service.MappedPageStore;
+import likelion.bibly.domain.page.service.PageCache;
+import likelion.bibly.domain.page.service.VirtualPageService;
+import likelion.bibly.domain.search.service.SearchIndexStore;
 import likelion.bibly.global.exception.BusinessException;
 import likelion.bibly.global.exception.ErrorCode;
 import likelion.bibly.global.util.PaginationUtil;
@@ -21,9 +27,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,26 +61,47 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookContentRepository bookContentRepository;
+
     @Mock
     private MemberRepository memberRepository;
 
     @Mock
-    private PageRepository pageRepository;
+    private BookPopularityService bookPopularityService;
+
+    @Mock
+    private BookSuggestService bookSuggestService;
+
+    @Mock
+    private BookGenreService bookGenreService;
+
+    @Mock
+    private PageContentJdbcRepository pageContentJdbcRepository;
+
+    @Mock
+    private PageCache pageCache;
 
     @Mock
-    private PaginationUtil paginationUtil;
+    private ObjectProvider<MappedPageStore> mappedPageStore;
+
+    @Mock
+    private VirtualPageService virtualPageService;
+
+    @Mock
+    private SearchIndexStore searchIndexStore;
 
     @Test
     @DisplayName("새로 나온 책 목록 조회 성공 테스트")
     void getNewBooksSuccessTest() {
         // Given
-        List<Book> books = List.of(
-                Book.builder().title("책1").author("저자1").build(),
-                Book.builder().title("책2").author("저자2").build(),
-                Book.builder().title("책3").author("저자3").build()
+        List<BookSimpleResponse> books = List.of(
+                new BookSimpleResponse(3L, "책1", "저자1", null),
+                new BookSimpleResponse(2L, "책2", "저자2", null),
+                new BookSimpleResponse(1L, "책3", "저자3", null)
         );
 
-        given(bookRepository.findTop20ByOrderByCreatedAtDesc()).willReturn(books);
+        given(bookRepository.findNewBooks(any(Limit.class))).willReturn(books);
 
         // When
         List<BookSimpleResponse> response = bookService.getNewBooks();
@@ -69,23 +109,20 @@ class BookServiceTest {
         // Then
         assertThat(response).hasSize(3);
         assertThat(response.get(0).getTitle()).isEqualTo("책1");
-        verify(bookRepository).findTop20ByOrderByCreatedAtDesc();
+        verify(bookRepository).findNewBooks(Limit.of(20));
+        verify(bookRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("인기 있는 책 목록 조회 성공 테스트")
     void getPopularBooksSuccessTest() {
         // Given
-        Book popularBook1 = Book.builder().title("인기책1").author("저자1").build();
-        popularBook1.increasePopularity();
-        popularBook1.increasePopularity();
-
-        Book popularBook2 = Book.builder().title("인기책2").author("저자2").build();
-        popularBook2.increasePopularity();
-
-        List<Book> books = List.of(popularBook1, popularBook2);
+        List<BookSimpleResponse> books = List.of(
+                new BookSimpleResponse(1L, "인기책1", "저자1", null),
+                new BookSimpleResponse(2L, "인기책2", "저자2", null)
+        );
 
-        given(bookRepository.findTop20ByOrderByPopularityScoreDesc()).willReturn(books);
+        given(bookPopularityService.getTopBooks()).willReturn(books);
 
         // When
         List<BookSimpleResponse> response = bookService.getPopularBooks();
@@ -93,7 +130,8 @@ class BookServiceTest {
         // Then
         assertThat(response).hasSize(2);
         assertThat(response.get(0).getTitle()).isEqualTo("인기책1");
-        verify(bookRepository).findTop20ByOrderByPopularityScoreDesc();
+        verify(bookPopularityService).getTopBooks();
+        verify(bookRepository, never()).findPopularBooks(any());
     }
 
     @Test
@@ -174,7 +212,7 @@ class BookServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getSelectedBookTitle()).isEqualTo("선택 테스트 책");
         assertThat(member.getSelectedBookId()).isEqualTo(bookId);
-        assertThat(book.getPopularityScore()).isEqualTo(5); // 5점 증가
+        verify(bookPopularityService).increase(bookId, 5); // 5점 증가
         verify(bookRepository).findById(bookId);
     }
 
@@ -269,56 +307,295 @@ class BookServiceTest {
     void saveBookContentAsPagesSuccessTest() throws Exception {
         // Given
         Long bookId = 1L;
-        String content = "테스트 책 내용입니다. 이것은 페이지로 분할될 내용입니다.";
+        // 한글(3바이트) 700자 -> 993바이트 제한으로 331자 + 331자 + 38자, 3페이지
+        String content = "가".repeat(700);
         Book book = Book.builder()
                 .title("페이지 테스트 책")
                 .author("테스트 저자")
+                .build();
+        BookContent bookContent = BookContent.builder()
+                .book(book)
                 .content(content)
                 .build();
 
-        List<String> pages = List.of("페이지1 내용", "페이지2 내용", "페이지3 내용");
-
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(paginationUtil.splitTextByDualLimit(content)).willReturn(pages);
+        given(bookContentRepository.findById(bookId)).willReturn(Optional.of(bookContent));
+
+        List<String> savedPages = new ArrayList<>();
+        given(pageContentJdbcRepository.insertPages(eq(bookId), any())).willAnswer(invocation -> {
+            Iterator<String> pages = invocation.getArgument(1);
+            pages.forEachRemaining(savedPages::add);
+            return savedPages.size();
+        });
 
         // When
         bookService.saveBookContentAsPages(bookId);
 
         // Then
         assertThat(book.getPageCount()).isEqualTo(3);
+        assertThat(book.getContentHash()).isEqualTo(PaginationUtil.contentHash(content));
+        assertThat(savedPages).extracting(String::length).containsExactly(331, 331, 38);
         verify(bookRepository).findById(bookId);
-        verify(paginationUtil).splitTextByDualLimit(content);
-        verify(pageRepository).deleteByBook(book);
-        verify(pageRepository, times(3)).save(any(PageContent.class));
+        verify(bookContentRepository).findById(bookId);
+        verify(pageContentJdbcRepository).deleteByBookId(bookId);
+        verify(pageContentJdbcRepository).insertPages(eq(bookId), any());
+        verify(pageCache).evictBook(bookId);
+        verify(pageCache).putContentVersion(bookId, PaginationUtil.contentHash(content));
+        verify(searchIndexStore).put(eq(bookId), eq(PaginationUtil.contentHash(content)),
+                argThat(index -> index.pageCount() == 3));
     }
 
     @Test
-    @DisplayName("페이지 내용 조회 성공 테스트")
-    void getPageContentSuccessTest() {
+    @DisplayName("콘텐츠 해시가 같으면 다시 분할하지 않음")
+    void saveBookContentAsPagesIfChangedSkipTest() {
         // Given
         Long bookId = 1L;
-        Integer pageNumber = 1;
+        String content = "가".repeat(700);
         Book book = Book.builder()
-                .title("페이지 조회 테스트 책")
-                .author("테스트 저자")
+                .title("페이지 테스트 책")
+                .pageCount(3)
+                .build();
+        book.updateContentHash(PaginationUtil.contentHash(content));
+        BookContent bookContent = BookContent.builder()
+                .book(book)
+                .content(content)
+                .build();
+
+        given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
+        given(bookContentRepository.findById(bookId)).willReturn(Optional.of(bookContent));
+
+        // When
+        boolean repaginated = bookService.saveBookContentAsPagesIfChanged(bookId);
+
+        // Then
+        assertThat(repaginated).isFalse();
+        verifyNoInteractions(pageContentJdbcRepository, pageCache);
+    }
+
+    @Test
+    @DisplayName("원문이 바뀌어 콘텐츠 해시가 다르면 다시 분할")
+    void saveBookContentAsPagesIfChangedTest() {
+        // Given
+        Long bookId = 1L;
+        String content = "가".repeat(700);
+        Book book = Book.builder()
+                .title("페이지 테스트 책")
+                .pageCount(1)
                 .build();
+        book.updateContentHash(PaginationUtil.contentHash("이전 원문"));
+        BookContent bookContent = BookContent.builder()
+                .book(book)
+                .content(content)
+                .build();
+
+        given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
+        given(bookContentRepository.findById(bookId)).willReturn(Optional.of(bookContent));
+        given(pageContentJdbcRepository.insertPages(eq(bookId), any())).willReturn(3);
+
+        // When
+        boolean repaginated = bookService.saveBookContentAsPagesIfChanged(bookId);
 
-        PageContent pageContent = PageContent.builder()
-                .pageNumber(pageNumber)
-                .content("페이지 1 내용입니다.")
+        // Then
+        assertThat(repaginated).isTrue();
+        assertThat(book.getPageCount()).isEqualTo(3);
+        assertThat(book.getContentHash()).isEqualTo(PaginationUtil.contentHash(content));
+        verify(pageContentJdbcRepository).deleteByBookId(bookId);
+        verify(pageCache).evictBook(bookId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 다시 분할하면 캐시/파일/검색 색인은 커밋 후에 반영")
+    void saveBookContentAsPagesAppliesSideEffectsAfterCommitTest() {
+        // Given
+        Long bookId = 1L;
+        String content = "가".repeat(700);
+        Book book = Book.builder()
+                .title("페이지 테스트 책")
+                .build();
+        BookContent bookContent = BookContent.builder()
+                .book(book)
+                .content(content)
                 .build();
 
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(pageRepository.findByBookAndPageNumber(book, pageNumber))
-                .willReturn(Optional.of(pageContent));
+        given(bookContentRepository.findById(bookId)).willReturn(Optional.of(bookContent));
+        given(pageContentJdbcRepository.insertPages(eq(bookId), any())).willReturn(3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            bookService.saveBookContentAsPages(bookId);
+
+            // Then - 커밋 전에는 반영하지 않음 (롤백되면 그대로)
+            verifyNoInteractions(pageCache, virtualPageService, searchIndexStore, mappedPageStore);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(mappedPageStore).ifAvailable(any());
+            verify(pageCache).evictBook(bookId);
+            verify(virtualPageService).evictBook(bookId);
+            verify(searchIndexStore).put(eq(bookId), eq(PaginationUtil.contentHash(content)), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("스트림 원문 페이지 저장 성공 테스트")
+    void savePagesFromStreamSuccessTest() {
+        // Given
+        Long bookId = 1L;
+        String content = "가".repeat(700);
+
+        given(bookRepository.existsById(bookId)).willReturn(true);
+        List<String> savedPages = new ArrayList<>();
+        given(pageContentJdbcRepository.insertPages(eq(bookId), any())).willAnswer(invocation -> {
+            Iterator<String> pages = invocation.getArgument(1);
+            pages.forEachRemaining(savedPages::add);
+            return savedPages.size();
+        });
+
+        // When
+        int pageCount = bookService.savePagesFromStream(bookId, new StringReader(content));
+
+        // Then
+        assertThat(pageCount).isEqualTo(3);
+        assertThat(savedPages).extracting(String::length).containsExactly(331, 331, 38);
+        verify(pageContentJdbcRepository).deleteByBookId(bookId);
+        verify(pageCache).evictBook(bookId);
+        // 본문 검색 색인은 저장 중에 만들지 않고 저장된 페이지로 다시 만듦
+        verify(searchIndexStore).rebuild(bookId, PaginationUtil.contentHash(content));
+        verify(searchIndexStore, never()).put(any(), any(), any());
+        verify(bookRepository).updatePageCountAndContentHash(bookId, 3, PaginationUtil.contentHash(content));
+        verify(bookContentRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("스트림 원문 저장 중 실패하면 일부 저장된 페이지를 지우고 예외 전달")
+    void savePagesFromStreamFailureTest() {
+        // Given
+        Long bookId = 1L;
+        given(bookRepository.existsById(bookId)).willReturn(true);
+        given(pageContentJdbcRepository.insertPages(eq(bookId), any()))
+                .willThrow(new UncheckedIOException(new IOException("연결 끊김")));
+
+        // When & Then
+        assertThatThrownBy(() -> bookService.savePagesFromStream(bookId, new StringReader("본문")))
+                .isInstanceOf(UncheckedIOException.class);
+        verify(pageContentJdbcRepository, times(2)).deleteByBookId(bookId);
+        verify(searchIndexStore).remove(bookId);
+        verify(bookRepository, never()).updatePageCountAndContentHash(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("페이지 내용 조회 성공 테스트")
+    void getPageContentSuccessTest() {
+        // Given
+        Long bookId = 1L;
+        Integer pageNumber = 1;
+
+        given(pageCache.get(bookId, pageNumber))
+                .willReturn(Optional.of("페이지 1 내용입니다."));
 
         // When
         String content = bookService.getPageContent(bookId, pageNumber);
 
         // Then
         assertThat(content).isEqualTo("페이지 1 내용입니다.");
-        verify(bookRepository).findById(bookId);
-        verify(pageRepository).findByBookAndPageNumber(book, pageNumber);
+        verify(pageCache).get(bookId, pageNumber);
+        verify(bookRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("페이지 내용 조회 실패 - 존재하지 않는 페이지")
+    void getPageContentFailNotFoundTest() {
+        // Given
+        given(pageCache.get(1L, 999)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> bookService.getPageContent(1L, 999))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_RANGE);
+    }
+
+    @Test
+    @DisplayName("페이지 내용 조회 - 기본 외 프로필은 저장된 페이지가 아닌 가상 페이지로 조회")
+    void getPageContentWithProfileTest() {
+        // Given
+        given(virtualPageService.getPage(1L, "tablet", 2)).willReturn(Optional.of("태블릿 2페이지"));
+
+        // When
+        String content = bookService.getPageContent(1L, 2, "tablet");
+
+        // Then
+        assertThat(content).isEqualTo("태블릿 2페이지");
+        verify(pageCache, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("콘텐츠 버전 조회 - PageCache에 없을 때만 책 엔티티 없이 해시만 조회")
+    void getContentVersionTest() {
+        // Given
+        given(bookRepository.findContentHashByBookId(1L)).willReturn(Optional.of("abc123"));
+        given(pageCache.getContentVersion(eq(1L), any())).willAnswer(invocation -> {
+            Supplier<Optional<String>> loader = invocation.getArgument(1);
+            return loader.get();
+        });
+
+        // When
+        Optional<String> version = bookService.getContentVersion(1L);
+
+        // Then
+        assertThat(version).contains("abc123");
+        verify(bookRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("페이지 구간 조회 - 한 번의 구간 쿼리 결과를 순서대로 전달")
+    void streamPageContentsTest() {
+        // Given
+        willAnswer(invocation -> {
+            Consumer<PageContentResponse> consumer = invocation.getArgument(3);
+            Stream.of(new PageContentResponse(3, "페이지 3"),
+                    new PageContentResponse(4, "페이지 4"),
+                    new PageContentResponse(5, "페이지 5")).forEach(consumer);
+            return null;
+        }).given(pageContentJdbcRepository).streamContents(eq(1L), eq(3), eq(5), any());
+
+        // When
+        List<PageContentResponse> received = new ArrayList<>();
+        bookService.streamPageContents(1L, 3, 5, received::add);
+
+        // Then
+        assertThat(received).extracting(PageContentResponse::pageNumber).containsExactly(3, 4, 5);
+        verify(pageContentJdbcRepository).streamContents(eq(1L), eq(3), eq(5), any());
+    }
+
+    @Test
+    @DisplayName("페이지 구간 검증 - 잘못된 범위 또는 최대 페이지 수 초과")
+    void validatePageRangeFailInvalidRangeTest() {
+        // When & Then
+        assertThatThrownBy(() -> bookService.validatePageRange(1L, 0, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_RANGE);
+        assertThatThrownBy(() -> bookService.validatePageRange(1L, 10, 9))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_RANGE);
+        assertThatThrownBy(() -> bookService.validatePageRange(1L, 1, 51))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_RANGE);
+        verify(bookRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("페이지 구간 검증 - 존재하지 않는 책")
+    void validatePageRangeFailBookNotFoundTest() {
+        // Given
+        given(bookRepository.existsById(999L)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> bookService.validatePageRange(999L, 1, 50))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BOOK_NOT_FOUND);
     }
 
     @Test
@@ -355,11 +632,59 @@ class BookServiceTest {
                 .willReturn(List.of(member));
 
         // When
-        int initialPopularity = book.getPopularityScore();
         bookService.selectBook(bookId, userId, groupId);
-        int finalPopularity = book.getPopularityScore();
 
-        // Then
-        assertThat(finalPopularity).isEqualTo(initialPopularity + 5);
+        // Then - book 행은 직접 갱신하지 않고 증가분만 누적
+        assertThat(book.getPopularityScore()).isZero();
+        verify(bookPopularityService).increase(bookId, 5);
+    }
+
+    @Test
+    @DisplayName("책 선택 트랜잭션이 커밋된 뒤에만 인기도 증가")
+    void popularityIncreaseAfterCommitTest() {
+        // Given
+        Long bookId = 1L;
+        String userId = "test-user";
+        Long groupId = 1L;
+
+        Book book = Book.builder()
+                .title("인기도 테스트 책")
+                .author("테스트 저자")
+                .build();
+
+        Group group = Group.builder()
+                .groupName("테스트 모임")
+                .readingPeriod(14)
+                .inviteCode("1234")
+                .build();
+
+        Member member = Member.builder()
+                .group(group)
+                .userId(userId)
+                .nickname("테스터")
+                .color("RED")
+                .role(MemberRole.MEMBER)
+                .build();
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+
+        given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
+        given(memberRepository.findByGroup_GroupIdAndUserId(groupId, userId))
+                .willReturn(Optional.of(member));
+        given(memberRepository.findByGroup_GroupIdAndStatus(groupId, MemberStatus.ACTIVE))
+                .willReturn(List.of(member));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            bookService.selectBook(bookId, userId, groupId);
+
+            // Then - 롤백되면 증가하지 않도록 커밋 전에는 누적하지 않음
+            verifyNoInteractions(bookPopularityService);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(bookPopularityService).increase(bookId, 5);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 }
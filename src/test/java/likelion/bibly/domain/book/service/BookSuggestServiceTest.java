@@ -0,0 +1,100 @@
+package likelion.bibly.domain.book.service;
+
+import likelion.bibly.domain.book.dto.response.BookSimpleResponse;
+import likelion.bibly.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BookSuggestService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BookSuggestServiceTest {
+
+    @InjectMocks
+    private BookSuggestService bookSuggestService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("첫 요청에 색인을 만들고 이후 요청은 DB를 거치지 않음")
+    void suggestWithoutDatabaseTest() {
+        // Given
+        given(bookRepository.findPopularBooks(Limit.unlimited())).willReturn(List.of(
+                new BookSimpleResponse(1L, "Pride and Prejudice", "Austen, Jane", null),
+                new BookSimpleResponse(2L, "Persuasion", "Austen, Jane", null)));
+
+        // When
+        List<BookSimpleResponse> first = bookSuggestService.suggest("pr", 10);
+        List<BookSimpleResponse> second = bookSuggestService.suggest("austen", 10);
+
+        // Then
+        assertThat(first).extracting(BookSimpleResponse::getBookId).containsExactly(1L);
+        assertThat(second).extracting(BookSimpleResponse::getBookId).containsExactly(1L, 2L);
+        verify(bookRepository, times(1)).findPopularBooks(Limit.unlimited());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 첫 요청들은 색인을 한 번만 만듦")
+    void concurrentFirstSuggestBuildsOnceTest() throws Exception {
+        // Given - 색인을 만드는 동안 다른 요청이 잠금에서 기다리도록 조회를 늦춤
+        given(bookRepository.findPopularBooks(Limit.unlimited())).willAnswer(invocation -> {
+            Thread.sleep(50);
+            return List.of(new BookSimpleResponse(1L, "Emma", "Austen, Jane", null));
+        });
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<List<BookSimpleResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookSuggestService.suggest("em", 10);
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<List<BookSimpleResponse>> result : results) {
+                assertThat(result.get()).extracting(BookSimpleResponse::getBookId).containsExactly(1L);
+            }
+        }
+        verify(bookRepository, times(1)).findPopularBooks(Limit.unlimited());
+    }
+
+    @Test
+    @DisplayName("책이 추가되어 다시 만들면 새 색인으로 교체")
+    void rebuildTest() {
+        // Given
+        given(bookRepository.findPopularBooks(Limit.unlimited()))
+                .willReturn(List.of(new BookSimpleResponse(1L, "Emma", "Austen, Jane", null)))
+                .willReturn(List.of(
+                        new BookSimpleResponse(1L, "Emma", "Austen, Jane", null),
+                        new BookSimpleResponse(2L, "Dracula", "Stoker, Bram", null)));
+        assertThat(bookSuggestService.suggest("drac", 10)).isEmpty();
+
+        // When
+        bookSuggestService.rebuild();
+
+        // Then
+        assertThat(bookSuggestService.suggest("drac", 10))
+                .extracting(BookSimpleResponse::getTitle).containsExactly("Dracula");
+    }
+}
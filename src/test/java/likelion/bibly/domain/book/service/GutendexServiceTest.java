@@ -0,0 +1,404 @@
+package likelion.bibly.domain.book.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import likelion.bibly.domain.book.dto.response.CatalogPageResult;
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.entity.BookContent;
+import likelion.bibly.domain.book.repository.BookContentRepository;
+import likelion.bibly.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * GutendexService 가져오기 파이프라인 테스트
+ * 로컬 스텁 HTTP 서버가 Gutendex 목록 JSON과 원문 텍스트를 돌려줍니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class GutendexServiceTest {
+
+    private static final int BOOKS_PER_PAGE = 3;
+    private static final int PAGE_COUNT = 3;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookContentRepository bookContentRepository;
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private BookSuggestService bookSuggestService;
+
+    @Mock
+    private BookGenreService bookGenreService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HttpServer server;
+    private String baseUrl;
+
+    // 원문 다운로드 동시 실행 수 측정용
+    private final AtomicInteger activeDownloads = new AtomicInteger();
+    private final AtomicInteger maxActiveDownloads = new AtomicInteger();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    // 원문 다운로드가 500으로 실패하는 책 ID
+    private final Set<String> failingTexts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        server.createContext("/books", this::serveCatalog);
+        server.createContext("/files/", this::serveText);
+        // Gutenberg처럼 원문 URL이 실제 파일로 리다이렉트되는 경우
+        server.createContext("/ebooks/", exchange -> {
+            String id = exchange.getRequestURI().getPath().substring("/ebooks/".length());
+            exchange.getResponseHeaders().add("Location", baseUrl + "/files/" + id);
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void serveCatalog(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        int page = query != null && query.startsWith("page=") ? Integer.parseInt(query.substring(5)) : 1;
+        requestCounts.computeIfAbsent("catalog", key -> new AtomicInteger()).incrementAndGet();
+
+        String results = IntStream.rangeClosed(1, BOOKS_PER_PAGE)
+                .map(i -> (page - 1) * BOOKS_PER_PAGE + i)
+                .mapToObj(id -> """
+                        {"id": %d, "title": "Book %d",
+                         "authors": [{"name": "Author %d", "birth_year": 1800, "death_year": 1870}],
+                         "subjects": ["Fiction"], "bookshelves": [],
+                         "formats": {"text/plain; charset=us-ascii": "%s/%s/%d.txt"},
+                         "download_count": 100}
+                        """.formatted(id, id, id, baseUrl, id % 2 == 0 ? "ebooks" : "files", id))
+                .collect(Collectors.joining(","));
+        String next = page < PAGE_COUNT ? "\"" + baseUrl + "/books?page=" + (page + 1) + "\"" : "null";
+        String json = """
+                {"count": %d, "next": %s, "previous": null, "results": [%s]}
+                """.formatted(BOOKS_PER_PAGE * PAGE_COUNT, next, results);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        respond(exchange, json);
+    }
+
+    private void serveText(HttpExchange exchange) throws IOException {
+        int active = activeDownloads.incrementAndGet();
+        maxActiveDownloads.accumulateAndGet(active, Math::max);
+        try {
+            Thread.sleep(50);
+            String id = exchange.getRequestURI().getPath().substring("/files/".length()).replace(".txt", "");
+            requestCounts.computeIfAbsent("files/" + id, key -> new AtomicInteger()).incrementAndGet();
+            if (failingTexts.contains(id)) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+            respond(exchange, "Text of book " + id);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeDownloads.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private GutendexServiceImpl newService(int concurrency) {
+        return newService(concurrency, "buffered");
+    }
+
+    private GutendexServiceImpl newService(int concurrency, String ingestMode) {
+        return new GutendexServiceImpl(bookRepository, bookContentRepository, bookService, bookSuggestService,
+                bookGenreService, transactionManager, baseUrl + "/books?page=1", concurrency, 1000, 4, ingestMode, null, false);
+    }
+
+    private GutendexServiceImpl newCachedService(Path cacheDirectory, boolean offline) {
+        return new GutendexServiceImpl(bookRepository, bookContentRepository, bookService, bookSuggestService,
+                bookGenreService, transactionManager, baseUrl + "/books?page=1", 2, 1000, 4, "buffered", cacheDirectory.toString(), offline);
+    }
+
+    @Test
+    @DisplayName("목록 페이지를 따라가며 limit권을 원문과 함께 한 권씩 별도 트랜잭션으로 저장")
+    void importBooksTest() throws Exception {
+        // Given
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int saved = newService(2).fetchAndSaveBooksWithContent(7);
+
+        // Then
+        assertThat(saved).isEqualTo(7);
+        verify(bookRepository, times(7)).save(any(Book.class));
+        verify(transactionManager, times(7)).commit(any());
+
+        ArgumentCaptor<BookContent> contents = ArgumentCaptor.forClass(BookContent.class);
+        verify(bookContentRepository, times(7)).save(contents.capture());
+        assertThat(contents.getAllValues())
+                .extracting(BookContent::getContent)
+                .containsExactlyInAnyOrder(IntStream.rangeClosed(1, 7)
+                        .mapToObj(id -> "Text of book " + id)
+                        .toArray(String[]::new));
+
+        // 원문을 저장한 트랜잭션에서 페이지까지 분할
+        verify(bookService, times(7)).saveBookContentAsPages(any());
+
+        // 3권씩 3페이지 중 7권이면 3페이지까지만 조회
+        assertThat(requestCounts.get("catalog").get()).isEqualTo(3);
+        // 가져오기가 끝나면 자동 완성 색인을 한 번 교체
+        verify(bookSuggestService).rebuild();
+        verify(bookGenreService).rebuild();
+    }
+
+    @Test
+    @DisplayName("streaming 모드는 책을 먼저 저장하고 원문을 book_content 없이 Reader로 페이지 저장에 넘김")
+    void streamingIngestTest() throws Exception {
+        // Given
+        AtomicLong ids = new AtomicLong();
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            ReflectionTestUtils.setField(book, "bookId", ids.incrementAndGet());
+            return book;
+        });
+        Map<Long, String> streamedTexts = new ConcurrentHashMap<>();
+        given(bookService.savePagesFromStream(anyLong(), any(Reader.class))).willAnswer(invocation -> {
+            Reader reader = invocation.getArgument(1);
+            StringWriter text = new StringWriter();
+            reader.transferTo(text);
+            streamedTexts.put(invocation.getArgument(0), text.toString());
+            return 1;
+        });
+
+        // When
+        int saved = newService(2, "streaming").fetchAndSaveBooksWithContent(4);
+
+        // Then
+        assertThat(saved).isEqualTo(4);
+        verify(transactionManager, times(4)).commit(any());
+        verify(bookContentRepository, never()).save(any());
+        assertThat(streamedTexts).hasSize(4);
+        assertThat(streamedTexts.values()).containsExactlyInAnyOrder(
+                "Text of book 1", "Text of book 2", "Text of book 3", "Text of book 4");
+    }
+
+    @Test
+    @DisplayName("이미 가져온 책(Gutenberg ID)은 원문을 받지 않고 건너뜀")
+    void alreadyImportedBookIsSkippedTest() throws Exception {
+        // Given
+        given(bookRepository.existsByGutenbergId(anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(0).equals(2L));
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int saved = newService(2).fetchAndSaveBooksWithContent(3);
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        ArgumentCaptor<Book> books = ArgumentCaptor.forClass(Book.class);
+        verify(bookRepository, times(2)).save(books.capture());
+        assertThat(books.getAllValues()).extracting(Book::getGutenbergId).containsExactlyInAnyOrder(1L, 3L);
+        // 2번 책은 /ebooks 리다이렉트 경로이므로 /files 요청 자체가 없어야 함
+        assertThat(requestCounts).doesNotContainKey("files/2");
+    }
+
+    @Test
+    @DisplayName("목록 페이지 하나를 가져오고 다음 페이지 URL과 처리 결과를 반환")
+    void importCatalogPageTest() throws Exception {
+        // Given: 2페이지는 4, 5, 6번 책
+        given(bookRepository.existsByGutenbergId(anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(0).equals(4L));
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CatalogPageResult result = newService(2).importCatalogPage(baseUrl + "/books?page=2", 2);
+
+        // Then
+        assertThat(result.nextPageUrl()).isEqualTo(baseUrl + "/books?page=3");
+        assertThat(result.processedCount()).isEqualTo(2);
+        assertThat(result.importedCount()).isEqualTo(1);
+        assertThat(result.skippedCount()).isEqualTo(1);
+        assertThat(result.failedCount()).isZero();
+        assertThat(result.lastGutenbergId()).isEqualTo(5L);
+        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(bookSuggestService).rebuild();
+        verify(bookGenreService).rebuild();
+    }
+
+    @Test
+    @DisplayName("디스크 캐시에 받아 둔 목록과 원문으로 오프라인에서도 같은 책을 가져옴")
+    void offlineImportFromDiskCacheTest(@TempDir Path cacheDirectory) throws Exception {
+        // Given: 온라인으로 한 번 가져와 캐시를 채움
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+        newCachedService(cacheDirectory, false).fetchAndSaveBooksWithContent(4);
+        server.stop(0);
+        clearInvocations(bookContentRepository);
+
+        // When
+        int saved = newCachedService(cacheDirectory, true).fetchAndSaveBooksWithContent(4);
+
+        // Then
+        assertThat(saved).isEqualTo(4);
+        ArgumentCaptor<BookContent> contents = ArgumentCaptor.forClass(BookContent.class);
+        verify(bookContentRepository, times(4)).save(contents.capture());
+        assertThat(contents.getAllValues())
+                .extracting(BookContent::getContent)
+                .containsExactlyInAnyOrder("Text of book 1", "Text of book 2", "Text of book 3", "Text of book 4");
+    }
+
+    @Test
+    @DisplayName("원문 동시 다운로드 수는 설정값을 넘지 않음")
+    void downloadConcurrencyIsBoundedTest() throws Exception {
+        // Given
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        newService(2).fetchAndSaveBooksWithContent(9);
+
+        // Then
+        assertThat(maxActiveDownloads.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 책은 건너뛰고 나머지는 저장")
+    void failedBookIsSkippedTest() throws Exception {
+        // Given
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            if (book.getTitle().equals("Book 2")) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return book;
+        });
+
+        // When
+        int saved = newService(3).fetchAndSaveBooksWithContent(3);
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("페이지 분할에 실패한 책은 원문과 함께 롤백하고 실패로 집계")
+    void paginationFailureRollsBackBookTest() throws Exception {
+        // Given
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            ReflectionTestUtils.setField(book, "bookId", book.getGutenbergId());
+            return book;
+        });
+        willThrow(new IllegalStateException("페이지 저장 실패")).given(bookService).saveBookContentAsPages(2L);
+
+        // When
+        int saved = newService(3).fetchAndSaveBooksWithContent(3);
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("원문 다운로드에 실패한 책은 저장하지 않고 실패로 집계")
+    void downloadFailureIsNotPersistedTest() throws Exception {
+        // Given: 2페이지는 4, 5, 6번 책이고 5번 원문 다운로드가 실패
+        failingTexts.add("5");
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        CatalogPageResult result = newService(2).importCatalogPage(baseUrl + "/books?page=2", 3);
+
+        // Then
+        assertThat(result.importedCount()).isEqualTo(2);
+        assertThat(result.skippedCount()).isZero();
+        assertThat(result.failedCount()).isEqualTo(1);
+        ArgumentCaptor<Book> books = ArgumentCaptor.forClass(Book.class);
+        verify(bookRepository, times(2)).save(books.capture());
+        assertThat(books.getAllValues()).extracting(Book::getGutenbergId).containsExactlyInAnyOrder(4L, 6L);
+    }
+
+    @Test
+    @DisplayName("streaming 모드에서 원문 다운로드에 실패하면 먼저 저장한 책을 지우고 실패로 집계")
+    void streamingDownloadFailureDeletesBookTest() throws Exception {
+        // Given: 1번 원문 다운로드가 실패 (책 ID는 Gutenberg ID와 같게 부여)
+        failingTexts.add("1");
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> {
+            Book book = invocation.getArgument(0);
+            ReflectionTestUtils.setField(book, "bookId", book.getGutenbergId());
+            return book;
+        });
+        given(bookService.savePagesFromStream(anyLong(), any(Reader.class))).willReturn(1);
+
+        // When
+        int saved = newService(2, "streaming").fetchAndSaveBooksWithContent(3);
+
+        // Then
+        assertThat(saved).isEqualTo(2);
+        verify(bookRepository).deleteById(1L);
+        verify(bookRepository, never()).deleteById(3L);
+        verify(bookService, never()).savePagesFromStream(eq(1L), any(Reader.class));
+    }
+
+    @Test
+    @DisplayName("목록 조회 자체가 실패하면 예외")
+    void catalogFailureTest() {
+        // Given
+        GutendexServiceImpl service = new GutendexServiceImpl(bookRepository, bookContentRepository, bookService,
+                bookSuggestService, bookGenreService, transactionManager, baseUrl + "/missing", 2, 1000, 4, "buffered",
+                null, false);
+
+        // When & Then
+        assertThatThrownBy(() -> service.fetchAndSaveBooksWithContent(3))
+                .isInstanceOf(Exception.class);
+        verifyNoInteractions(bookRepository, bookSuggestService, bookGenreService);
+    }
+}
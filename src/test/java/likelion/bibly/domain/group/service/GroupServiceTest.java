@@ -1,6 +1,7 @@
 package likelion.bibly.domain.group.service;
 
 import likelion.bibly.domain.assignment.repository.ReadingAssignmentRepository;
+import likelion.bibly.domain.assignment.service.CycleScheduleCache;
 import likelion.bibly.domain.assignment.service.AssignmentService;
 import likelion.bibly.domain.book.entity.Book;
 import likelion.bibly.domain.book.repository.BookRepository;
@@ -12,6 +13,7 @@ import likelion.bibly.domain.group.enums.GroupStatus;
 import likelion.bibly.domain.group.repository.GroupRepository;
 import likelion.bibly.domain.member.dto.GroupJoinRequest;
 import likelion.bibly.domain.member.dto.GroupJoinResponse;
+import likelion.bibly.domain.member.dto.MemberSummaryProjection;
 import likelion.bibly.domain.member.entity.Member;
 import likelion.bibly.domain.member.enums.MemberRole;
 import likelion.bibly.domain.member.enums.MemberStatus;
@@ -27,7 +29,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +68,12 @@ class GroupServiceTest {
     @Mock
     private ReadingAssignmentRepository assignmentRepository;
 
+    @Mock
+    private CycleScheduleCache cycleScheduleCache;
+
+    @Mock
+    private InviteCodeAllocator inviteCodeAllocator;
+
     @Test
     @DisplayName("모임 생성 성공 테스트")
     void createGroupSuccessTest() {
@@ -87,7 +98,7 @@ class GroupServiceTest {
 
         given(userRepository.findByUserIdAndStatus(userId, UserStatus.ACTIVE))
                 .willReturn(Optional.of(user));
-        given(groupRepository.existsByInviteCode(anyString())).willReturn(false);
+        given(inviteCodeAllocator.allocate()).willReturn("1234");
         given(groupRepository.save(any(Group.class))).willReturn(savedGroup);
         given(memberRepository.save(any(Member.class))).willReturn(savedLeader);
 
@@ -98,11 +109,34 @@ class GroupServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getGroupName()).isEqualTo("테스트 모임");
         assertThat(response.getReadingPeriod()).isEqualTo(14);
+        assertThat(response.getInviteCode()).isEqualTo("1234");
         verify(userRepository).findByUserIdAndStatus(userId, UserStatus.ACTIVE);
-        verify(groupRepository).save(any(Group.class));
+        verify(groupRepository).save(argThat(group -> "1234".equals(group.getInviteCode())));
+        verify(groupRepository, never()).existsByInviteCode(anyString());
         verify(memberRepository).save(any(Member.class));
     }
 
+    @Test
+    @DisplayName("모임 생성 실패 - 다른 서버가 같은 초대 코드를 먼저 배정")
+    void createGroupFailInviteCodeConflictTest() {
+        // Given
+        String userId = "test-user-id";
+        GroupCreateRequest request = new GroupCreateRequest("테스트 모임", 14, "테스터", "RED");
+
+        given(userRepository.findByUserIdAndStatus(userId, UserStatus.ACTIVE))
+                .willReturn(Optional.of(User.builder().userId(userId).build()));
+        given(inviteCodeAllocator.allocate()).willReturn("1234");
+        given(groupRepository.save(any(Group.class)))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry '1234'"));
+
+        // When & Then
+        assertThatThrownBy(() -> groupService.createGroup(userId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVITE_CODE_CONFLICT);
+        verify(inviteCodeAllocator).markUsed("1234");
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
     @Test
     @DisplayName("모임 생성 실패 - 사용자 없음")
     void createGroupFailUserNotFoundTest() {
@@ -130,20 +164,12 @@ class GroupServiceTest {
                 .inviteCode(inviteCode)
                 .build();
 
-        List<Member> members = List.of(
-                Member.builder()
-                        .group(group)
-                        .userId("user1")
-                        .nickname("멤버1")
-                        .color("RED")
-                        .role(MemberRole.LEADER)
-                        .build()
+        List<MemberSummaryProjection> members = List.of(
+                new MemberSummaryProjection("멤버1", "RED", 10L)
         );
 
         given(groupRepository.findByInviteCode(inviteCode)).willReturn(Optional.of(group));
-        given(memberRepository.countByGroup_GroupIdAndStatus(anyLong(), eq(MemberStatus.ACTIVE)))
-                .willReturn(1L);
-        given(memberRepository.findByGroup_GroupIdAndStatus(anyLong(), eq(MemberStatus.ACTIVE)))
+        given(memberRepository.findSummariesByGroupIdAndStatus(any(), eq(MemberStatus.ACTIVE)))
                 .willReturn(members);
 
         // When
@@ -153,7 +179,31 @@ class GroupServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getGroupName()).isEqualTo("검증 테스트 모임");
         assertThat(response.getMemberCount()).isEqualTo(1);
+        assertThat(response.getMembers().get(0).getNickname()).isEqualTo("멤버1");
+        assertThat(response.getMembers().get(0).getHasSelectedBook()).isTrue();
+        assertThat(response.getAvailableColors()).doesNotContain("RED");
         verify(groupRepository).findByInviteCode(inviteCode);
+        verify(memberRepository, never()).findByGroup_GroupIdAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("초대 코드 검증 실패 - 만료되었지만 아직 비우지 않은 코드")
+    void validateInviteCodeFailExpiredCodeTest() {
+        // Given
+        String inviteCode = "1234";
+        Group group = Group.builder()
+                .groupName("만료 모임")
+                .readingPeriod(14)
+                .inviteCode(inviteCode)
+                .build();
+        ReflectionTestUtils.setField(group, "inviteCodeExpiredAt", LocalDateTime.now().minusDays(1));
+        given(groupRepository.findByInviteCode(inviteCode)).willReturn(Optional.of(group));
+
+        // When & Then
+        assertThatThrownBy(() -> groupService.validateInviteCode(inviteCode))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVITE_CODE_EXPIRED);
+        verify(memberRepository, never()).findSummariesByGroupIdAndStatus(any(), any());
     }
 
     @Test
@@ -377,4 +427,27 @@ class GroupServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GROUP_ALREADY_STARTED);
     }
+
+    @Test
+    @DisplayName("모임 시작 실패 - 스위퍼가 보관한 모임")
+    void startGroupFailArchivedTest() {
+        // Given
+        Long groupId = 1L;
+        String userId = "leader-user";
+
+        Group group = Group.builder()
+                .groupName("보관된 모임")
+                .readingPeriod(14)
+                .inviteCode("1234")
+                .build();
+        ReflectionTestUtils.setField(group, "status", GroupStatus.ARCHIVED); // 스위퍼의 일괄 UPDATE로만 바뀜
+
+        given(groupRepository.findById(groupId)).willReturn(Optional.of(group));
+
+        // When & Then
+        assertThatThrownBy(() -> groupService.startGroup(groupId, userId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.GROUP_ARCHIVED);
+        verify(memberRepository, never()).findByGroup_GroupIdAndUserId(any(), any());
+    }
 }
@@ -0,0 +1,152 @@
+package likelion.bibly.domain.group.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import likelion.bibly.domain.group.dto.GroupInviteCodeProjection;
+import likelion.bibly.domain.group.enums.GroupStatus;
+import likelion.bibly.domain.group.repository.GroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * GroupSweeper 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class GroupSweeperTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Mock
+    private InviteCodeAllocator inviteCodeAllocator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GroupSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new GroupSweeper(groupRepository, inviteCodeAllocator, transactionManager, meterRegistry,
+                CHUNK_SIZE, Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("만료된 초대 코드를 묶음 단위로 비우고 묶음마다 커밋 후 풀에 반납")
+    void expireInviteCodesInChunksTest() {
+        // Given - 2 + 1개
+        LocalDateTime now = LocalDateTime.now();
+        given(groupRepository.findExpiredInviteCodes(eq(now), any(Limit.class))).willReturn(
+                List.of(new GroupInviteCodeProjection(1L, "0001"), new GroupInviteCodeProjection(2L, "0002")),
+                List.of(new GroupInviteCodeProjection(3L, "0003")));
+        given(groupRepository.clearExpiredInviteCode(anyLong(), anyString(), eq(now))).willReturn(1);
+
+        // When
+        int expired = sweeper.expireInviteCodes(now);
+
+        // Then
+        assertThat(expired).isEqualTo(3);
+        verify(groupRepository).clearExpiredInviteCode(1L, "0001", now);
+        verify(groupRepository).clearExpiredInviteCode(2L, "0002", now);
+        verify(groupRepository).clearExpiredInviteCode(3L, "0003", now);
+        verify(inviteCodeAllocator).release(List.of("0001", "0002"));
+        verify(inviteCodeAllocator).release(List.of("0003"));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 비운 행의 코드는 반납하지 않고 이 서버가 비운 코드만 반납")
+    void expireInviteCodesReleasesOnlyClearedRowsTest() {
+        // Given - 2번 모임은 다른 서버가 먼저 비워 코드가 이미 새 모임에 배정되었을 수 있음
+        LocalDateTime now = LocalDateTime.now();
+        given(groupRepository.findExpiredInviteCodes(eq(now), any(Limit.class))).willReturn(
+                List.of(new GroupInviteCodeProjection(1L, "0001"), new GroupInviteCodeProjection(2L, "0002")),
+                List.of());
+        given(groupRepository.clearExpiredInviteCode(1L, "0001", now)).willReturn(1);
+        given(groupRepository.clearExpiredInviteCode(2L, "0002", now)).willReturn(0);
+
+        // When
+        int expired = sweeper.expireInviteCodes(now);
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        verify(inviteCodeAllocator).release(List.of("0001"));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 처리한 묶음(갱신 0건)을 만나면 반납하지 않고 종료")
+    void expireInviteCodesStopsWhenAnotherNodeSweptTest() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        given(groupRepository.findExpiredInviteCodes(eq(now), any(Limit.class))).willReturn(
+                List.of(new GroupInviteCodeProjection(1L, "0001"), new GroupInviteCodeProjection(2L, "0002")));
+        given(groupRepository.clearExpiredInviteCode(anyLong(), anyString(), eq(now))).willReturn(0);
+
+        // When
+        int expired = sweeper.expireInviteCodes(now);
+
+        // Then
+        assertThat(expired).isZero();
+        verify(groupRepository, times(1)).findExpiredInviteCodes(eq(now), any(Limit.class));
+        verify(inviteCodeAllocator, never()).release(anyList());
+    }
+
+    @Test
+    @DisplayName("오래된 대기 모임은 WAITING이고 초대 코드가 그대로인 경우에만 ARCHIVED로 바꾸고 초대 코드를 반납")
+    void archiveStaleGroupsTest() {
+        // Given - 초대 코드가 이미 비워진 모임 포함
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        given(groupRepository.findStaleGroups(eq(GroupStatus.WAITING), eq(cutoff), any(Limit.class))).willReturn(
+                List.of(new GroupInviteCodeProjection(1L, null), new GroupInviteCodeProjection(2L, "0002")),
+                List.of());
+        given(groupRepository.changeStatusAndClearInviteCode(1L, null, GroupStatus.WAITING, GroupStatus.ARCHIVED))
+                .willReturn(1);
+        given(groupRepository.changeStatusAndClearInviteCode(2L, "0002", GroupStatus.WAITING, GroupStatus.ARCHIVED))
+                .willReturn(1);
+
+        // When
+        int archived = sweeper.archiveStaleGroups(cutoff);
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        verify(inviteCodeAllocator).release(List.of("0002"));
+    }
+
+    @Test
+    @DisplayName("실행마다 처리한 행 수를 종류별 메트릭으로 기록")
+    void sweepRecordsMetricsTest() {
+        // Given
+        given(groupRepository.findExpiredInviteCodes(any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of(new GroupInviteCodeProjection(1L, "0001")));
+        given(groupRepository.clearExpiredInviteCode(anyLong(), anyString(), any(LocalDateTime.class))).willReturn(1);
+        given(groupRepository.findStaleGroups(eq(GroupStatus.WAITING), any(LocalDateTime.class), any(Limit.class)))
+                .willReturn(List.of());
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        assertThat(meterRegistry.get("bibly.group.sweeper.rows").tag("type", "expired-invite-code")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("bibly.group.sweeper.rows").tag("type", "archived-group")
+                .summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("bibly.group.sweeper.run").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,157 @@
+package likelion.bibly.domain.group.service;
+
+import likelion.bibly.domain.group.repository.GroupRepository;
+import likelion.bibly.domain.group.util.InviteCodePool;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * InviteCodeAllocator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class InviteCodeAllocatorTest {
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    private InviteCodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new InviteCodeAllocator(groupRepository);
+    }
+
+    @Test
+    @DisplayName("DB에 배정된 코드는 할당하지 않고 할당마다 DB를 조회하지 않음")
+    void allocateSkipsAssignedCodesTest() {
+        // Given
+        given(groupRepository.findAllInviteCodes()).willReturn(List.of("1234"));
+        allocator.rebuild();
+
+        // When
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            codes.add(allocator.allocate());
+        }
+
+        // Then
+        assertThat(codes).doesNotHaveDuplicates().doesNotContain("1234");
+        assertThat(allocator.available()).isEqualTo(InviteCodePool.CODE_SPACE - 101);
+        verify(groupRepository, times(1)).findAllInviteCodes();
+        verify(groupRepository, never()).existsByInviteCode(anyString());
+    }
+
+    @Test
+    @DisplayName("스위퍼가 반납한 코드를 다시 할당")
+    void allocateReleasedCodeTest() {
+        // Given - 모든 코드가 배정된 상태
+        given(groupRepository.findAllInviteCodes()).willReturn(allCodes());
+        allocator.rebuild();
+
+        // When
+        allocator.release(List.of("0042"));
+
+        // Then
+        assertThat(allocator.allocate()).isEqualTo("0042");
+    }
+
+    @Test
+    @DisplayName("풀이 비면 DB에서 다시 만들어 다른 서버가 비운 코드를 할당")
+    void allocateRebuildsWhenExhaustedTest() {
+        // Given - 처음에는 모든 코드가 배정되어 있고, 다른 서버가 0042를 비움
+        List<String> remaining = allCodes();
+        remaining.remove("0042");
+        given(groupRepository.findAllInviteCodes()).willReturn(allCodes(), remaining);
+        allocator.rebuild();
+
+        // When
+        String code = allocator.allocate();
+
+        // Then
+        assertThat(code).isEqualTo("0042");
+        verify(groupRepository, times(2)).findAllInviteCodes();
+    }
+
+    @Test
+    @DisplayName("할당한 트랜잭션이 롤백되면 코드를 풀에 반납하고, 커밋되면 반납하지 않음")
+    void releaseOnRollbackTest() {
+        // Given
+        given(groupRepository.findAllInviteCodes()).willReturn(List.of());
+        allocator.rebuild();
+
+        // When & Then
+        assertThat(completeAfterAllocate(TransactionSynchronization.STATUS_ROLLED_BACK, false))
+                .isEqualTo(InviteCodePool.CODE_SPACE);
+        assertThat(completeAfterAllocate(TransactionSynchronization.STATUS_COMMITTED, false))
+                .isEqualTo(InviteCodePool.CODE_SPACE - 1);
+    }
+
+    @Test
+    @DisplayName("다른 서버와 충돌해 사용 중으로 표시한 코드는 롤백되어도 반납하지 않음")
+    void conflictedCodeIsNotReleasedOnRollbackTest() {
+        // Given
+        given(groupRepository.findAllInviteCodes()).willReturn(List.of());
+        allocator.rebuild();
+
+        // When
+        int available = completeAfterAllocate(TransactionSynchronization.STATUS_ROLLED_BACK, true);
+
+        // Then
+        assertThat(available).isEqualTo(InviteCodePool.CODE_SPACE - 1);
+    }
+
+    /**
+     * 트랜잭션 안에서 코드를 하나 할당한 뒤 status로 끝냄
+     *
+     * @return 트랜잭션이 끝난 뒤 사용 가능한 코드 수
+     */
+    private int completeAfterAllocate(int status, boolean conflicted) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String code = allocator.allocate();
+            if (conflicted) {
+                allocator.markUsed(code);
+            }
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        return allocator.available();
+    }
+
+    @Test
+    @DisplayName("DB에서 다시 만들어도 빈 코드가 없으면 G010 예외")
+    void allocateFailWhenExhaustedTest() {
+        // Given
+        given(groupRepository.findAllInviteCodes()).willReturn(allCodes());
+
+        // When & Then
+        assertThatThrownBy(() -> allocator.allocate())
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVITE_CODE_EXHAUSTED);
+    }
+
+    private static List<String> allCodes() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < InviteCodePool.CODE_SPACE; i++) {
+            codes.add(String.format("%04d", i));
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,114 @@
+package likelion.bibly.domain.group.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InviteCodePool 단위 테스트
+ */
+class InviteCodePoolTest {
+
+    @Test
+    @DisplayName("이미 배정된 코드를 제외한 코드 공간 전체를 중복 없이 할당하고 모두 쓰면 empty")
+    void pollExhaustsFreeCodesTest() {
+        // Given
+        InviteCodePool pool = new InviteCodePool(List.of("0000", "1234", "9999"), new Random(42));
+
+        // When
+        Set<String> allocated = new HashSet<>();
+        Optional<String> code;
+        while ((code = pool.poll()).isPresent()) {
+            assertThat(allocated.add(code.get())).isTrue();
+        }
+
+        // Then
+        assertThat(allocated)
+                .hasSize(InviteCodePool.CODE_SPACE - 3)
+                .doesNotContain("0000", "1234", "9999")
+                .contains("0001", "9998")
+                .allSatisfy(c -> assertThat(c).matches("\\d{4}"));
+        assertThat(pool.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("코드는 섞인 순서로 할당")
+    void pollShuffledTest() {
+        // Given
+        InviteCodePool pool = new InviteCodePool(List.of(), new Random(42));
+
+        // When
+        List<String> first = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            first.add(pool.poll().orElseThrow());
+        }
+
+        // Then
+        assertThat(first).isNotEqualTo(List.of("0000", "0001", "0002", "0003", "0004",
+                "0005", "0006", "0007", "0008", "0009"));
+    }
+
+    @Test
+    @DisplayName("반납한 코드는 큐 맨 뒤에서 다시 할당")
+    void releaseAppendsToQueueTest() {
+        // Given - 코드가 두 개만 남은 풀
+        List<String> used = new ArrayList<>();
+        for (int i = 2; i < InviteCodePool.CODE_SPACE; i++) {
+            used.add(InviteCodePool.format(i));
+        }
+        InviteCodePool pool = new InviteCodePool(used, new Random(42));
+        String first = pool.poll().orElseThrow();
+
+        // When
+        boolean released = pool.release(first);
+
+        // Then - 남아 있던 코드가 먼저, 반납한 코드가 나중에 할당
+        assertThat(released).isTrue();
+        String second = pool.poll().orElseThrow();
+        assertThat(second).isNotEqualTo(first);
+        assertThat(pool.poll()).contains(first);
+        assertThat(pool.poll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용 중이 아니거나 형식이 맞지 않는 코드는 반납되지 않음")
+    void releaseIgnoresFreeOrInvalidCodesTest() {
+        // Given
+        InviteCodePool pool = new InviteCodePool(List.of("1234"), new Random(42));
+
+        // When & Then
+        assertThat(pool.release("5678")).isFalse();
+        assertThat(pool.release("12a4")).isFalse();
+        assertThat(pool.release(null)).isFalse();
+        assertThat(pool.release("1234")).isTrue();
+        assertThat(pool.release("1234")).isFalse();
+        assertThat(pool.available()).isEqualTo(InviteCodePool.CODE_SPACE);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 사용 중으로 표시한 코드는 할당하지 않음")
+    void markUsedSkipsCodeTest() {
+        // Given - 코드가 두 개만 남은 풀
+        List<String> used = new ArrayList<>();
+        for (int i = 2; i < InviteCodePool.CODE_SPACE; i++) {
+            used.add(InviteCodePool.format(i));
+        }
+        InviteCodePool pool = new InviteCodePool(used, new Random(42));
+
+        // When
+        pool.markUsed("0000");
+
+        // Then
+        assertThat(pool.available()).isEqualTo(1);
+        assertThat(pool.poll()).contains("0001");
+        assertThat(pool.poll()).isEmpty();
+    }
+}
@@ -0,0 +1,220 @@
+package likelion.bibly.domain.importjob.service;
+
+import likelion.bibly.domain.book.dto.response.CatalogPageResult;
+import likelion.bibly.domain.book.service.GutendexService;
+import likelion.bibly.domain.importjob.dto.request.ImportJobCreateRequest;
+import likelion.bibly.domain.importjob.dto.response.ImportJobResponse;
+import likelion.bibly.domain.importjob.entity.ImportJob;
+import likelion.bibly.domain.importjob.enums.ImportJobStatus;
+import likelion.bibly.domain.importjob.repository.ImportJobRepository;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ImportJobService 단위 테스트
+ * 작업 실행기를 호출 스레드에서 바로 실행하도록 바꿔 체크포인트 흐름을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+
+    private static final Long JOB_ID = 1L;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private GutendexService gutendexService;
+
+    private ImportJobServiceImpl importJobService;
+
+    // 저장소에 저장된 작업 (save/findById 가 같은 객체를 주고받음)
+    private final AtomicReference<ImportJob> storedJob = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobServiceImpl(importJobRepository, gutendexService, Runnable::run);
+
+        Answer<ImportJob> store = invocation -> {
+            ImportJob job = invocation.getArgument(0);
+            if (job.getImportJobId() == null) {
+                ReflectionTestUtils.setField(job, "importJobId", JOB_ID);
+            }
+            storedJob.set(job);
+            return job;
+        };
+        lenient().when(importJobRepository.save(any(ImportJob.class))).thenAnswer(store);
+        lenient().when(importJobRepository.saveAndFlush(any(ImportJob.class))).thenAnswer(store);
+        lenient().when(importJobRepository.findById(JOB_ID))
+                .thenAnswer(invocation -> Optional.ofNullable(storedJob.get()));
+        lenient().when(importJobRepository.findByIdForUpdate(JOB_ID))
+                .thenAnswer(invocation -> Optional.ofNullable(storedJob.get()));
+        lenient().when(gutendexService.getCatalogStartUrl()).thenReturn("page1");
+    }
+
+    private static CatalogPageResult page(String nextPageUrl, int imported, int skipped, List<String> errors,
+                                          Long lastGutenbergId) {
+        return new CatalogPageResult(nextPageUrl, imported + skipped + errors.size(), imported, skipped, errors,
+                lastGutenbergId);
+    }
+
+    @Test
+    @DisplayName("목록 페이지마다 체크포인트를 저장하며 처리할 책 수만큼 가져오고 완료")
+    void startImportTest() throws Exception {
+        // Given
+        given(gutendexService.importCatalogPage("page1", 5)).willReturn(page("page2", 3, 0, List.of(), 3L));
+        given(gutendexService.importCatalogPage("page2", 2))
+                .willReturn(page("page3", 1, 0, List.of("Gutendex ID 5: DB 오류"), 5L));
+
+        // When
+        ImportJobResponse response = importJobService.startImport(new ImportJobCreateRequest(5, null));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getProcessedCount()).isEqualTo(5);
+        assertThat(response.getImportedCount()).isEqualTo(4);
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getLastError()).isEqualTo("Gutendex ID 5: DB 오류");
+        assertThat(response.getNextPageUrl()).isEqualTo("page3");
+        assertThat(response.getLastGutenbergId()).isEqualTo(5L);
+        verify(gutendexService, never()).importCatalogPage(eq("page3"), anyInt());
+        // 생성 1번 + 페이지 체크포인트 2번 + 완료 1번
+        verify(importJobRepository, times(1)).saveAndFlush(any(ImportJob.class));
+        verify(importJobRepository, times(3)).save(any(ImportJob.class));
+    }
+
+    @Test
+    @DisplayName("다른 가져오기 작업이 진행 중이면 시작할 수 없음")
+    void startImportWhileRunningTest() {
+        // Given
+        given(importJobRepository.existsByStatus(ImportJobStatus.RUNNING)).willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> importJobService.startImport(new ImportJobCreateRequest(5, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMPORT_JOB_ALREADY_RUNNING);
+        verify(importJobRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("동시에 시작해 확인을 함께 통과해도 RUNNING 유니크 제약에 걸린 작업은 실행하지 않음")
+    void concurrentStartImportIsRejectedByConstraintTest() throws Exception {
+        // Given - 다른 요청이 먼저 RUNNING 작업을 저장함
+        given(importJobRepository.saveAndFlush(any(ImportJob.class)))
+                .willThrow(new DataIntegrityViolationException("uk_import_job_running_slot"));
+
+        // When & Then
+        assertThatThrownBy(() -> importJobService.startImport(new ImportJobCreateRequest(5, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMPORT_JOB_ALREADY_RUNNING);
+        verify(gutendexService, never()).importCatalogPage(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("RUNNING 작업만 running_slot을 차지하고 완료/실패하면 비움")
+    void runningSlotFollowsStatusTest() {
+        // Given
+        ImportJob job = ImportJob.builder().targetCount(1).startUrl("page1").build();
+
+        // When & Then
+        assertThat(job.getRunningSlot()).isEqualTo(1);
+        job.fail("오류");
+        assertThat(job.getRunningSlot()).isNull();
+        job.resume();
+        assertThat(job.getRunningSlot()).isEqualTo(1);
+        job.complete();
+        assertThat(job.getRunningSlot()).isNull();
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 마지막 체크포인트(다음 목록 페이지)부터 다시 실행")
+    void resumeFailedImportFromCheckpointTest() throws Exception {
+        // Given: 2페이지 조회 중 네트워크 오류
+        given(gutendexService.importCatalogPage("page1", 5)).willReturn(page("page2", 3, 0, List.of(), 3L));
+        given(gutendexService.importCatalogPage("page2", 2))
+                .willThrow(new ResourceAccessException("connection reset"))
+                .willReturn(page(null, 0, 2, List.of(), 5L));
+
+        ImportJobResponse failed = importJobService.startImport(new ImportJobCreateRequest(5, null));
+
+        // When
+        ImportJobResponse resumed = importJobService.resumeImport(JOB_ID);
+
+        // Then
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getProcessedCount()).isEqualTo(3);
+        assertThat(failed.getNextPageUrl()).isEqualTo("page2");
+        assertThat(failed.getLastError()).isEqualTo("connection reset");
+
+        assertThat(resumed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(resumed.getProcessedCount()).isEqualTo(5);
+        assertThat(resumed.getSkippedCount()).isEqualTo(2);
+        verify(gutendexService, times(1)).importCatalogPage("page1", 5);
+    }
+
+    @Test
+    @DisplayName("서버 종료로 중단된 작업은 RUNNING으로 남고 시작 시 체크포인트부터 재개")
+    void interruptedImportResumesOnStartupTest() throws Exception {
+        // Given: 2페이지 처리 중 종료(인터럽트)
+        given(gutendexService.importCatalogPage("page1", 5)).willReturn(page("page2", 3, 0, List.of(), 3L));
+        given(gutendexService.importCatalogPage("page2", 2))
+                .willThrow(new InterruptedException())
+                .willReturn(page("page3", 2, 0, List.of(), 5L));
+
+        ImportJobResponse interrupted = importJobService.startImport(new ImportJobCreateRequest(5, null));
+        assertThat(Thread.interrupted()).isTrue(); // 다음 단계를 위해 인터럽트 플래그 정리
+        given(importJobRepository.findByStatusOrderByImportJobIdAsc(ImportJobStatus.RUNNING))
+                .willReturn(List.of(storedJob.get()));
+
+        // When
+        importJobService.resumeInterruptedJobs();
+
+        // Then
+        assertThat(interrupted.getStatus()).isEqualTo("RUNNING");
+        assertThat(storedJob.get().getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(storedJob.get().getProcessedCount()).isEqualTo(5);
+        verify(gutendexService, times(1)).importCatalogPage("page1", 5);
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 재개할 수 없음")
+    void resumeCompletedImportTest() throws Exception {
+        // Given
+        given(gutendexService.importCatalogPage("page1", 1)).willReturn(page(null, 1, 0, List.of(), 1L));
+        importJobService.startImport(new ImportJobCreateRequest(1, null));
+
+        // When & Then
+        assertThatThrownBy(() -> importJobService.resumeImport(JOB_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMPORT_JOB_NOT_RESUMABLE);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 작업 조회 시 예외")
+    void getImportJobNotFoundTest() {
+        // Given
+        given(importJobRepository.findById(99L)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> importJobService.getImportJob(99L))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IMPORT_JOB_NOT_FOUND);
+    }
+}
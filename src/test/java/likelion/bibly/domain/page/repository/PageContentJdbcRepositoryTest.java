@@ -0,0 +1,139 @@
+package likelion.bibly.domain.page.repository;
+
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PageContentJdbcRepository 배치 저장 테스트
+ */
+@DataJpaTest
+@Import(PageContentJdbcRepository.class)
+class PageContentJdbcRepositoryTest {
+
+    @Autowired
+    private PageContentJdbcRepository pageContentJdbcRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = bookRepository.saveAndFlush(Book.builder()
+                .title("배치 테스트 책")
+                .author("테스트 저자")
+                .build()).getBookId();
+    }
+
+    @Test
+    @DisplayName("배치 크기보다 많은 페이지도 순서대로 모두 저장")
+    void insertPagesInChunksTest() {
+        // Given - 배치 크기 2, 5페이지 -> 2 + 2 + 1
+        List<String> pages = List.of("p1", "p2", "p3", "p4", "p5");
+
+        // When
+        int saved = pageContentJdbcRepository.insertPages(bookId, pages.iterator(), 2);
+
+        // Then
+        assertThat(saved).isEqualTo(5);
+        List<String> stored = jdbcTemplate.queryForList(
+                "SELECT content FROM page_content WHERE book_id = ? ORDER BY page_number", String.class, bookId);
+        assertThat(stored).containsExactlyElementsOf(pages);
+        List<Integer> pageNumbers = jdbcTemplate.queryForList(
+                "SELECT page_number FROM page_content WHERE book_id = ? ORDER BY page_number", Integer.class, bookId);
+        assertThat(pageNumbers).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("페이지 수가 아닌 배치 수만큼만 INSERT 실행 (2,000페이지 = 배치 4번)")
+    void insertPagesBatchCountTest() {
+        // Given
+        AtomicInteger batches = new AtomicInteger();
+        JdbcTemplate countingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                batches.incrementAndGet();
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        PageContentJdbcRepository repository = new PageContentJdbcRepository(countingTemplate, false);
+
+        // When
+        int saved = repository.insertPages(bookId, Collections.nCopies(2_000, "page").iterator());
+
+        // Then
+        assertThat(saved).isEqualTo(2_000);
+        assertThat(batches.get()).isEqualTo(2_000 / PageContentJdbcRepository.DEFAULT_BATCH_SIZE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM page_content WHERE book_id = ?", Long.class, bookId)).isEqualTo(2_000L);
+    }
+
+    @Test
+    @DisplayName("책 ID로 페이지 전체 삭제")
+    void deleteByBookIdTest() {
+        // Given
+        pageContentJdbcRepository.insertPages(bookId, List.of("p1", "p2", "p3").iterator());
+
+        // When
+        int deleted = pageContentJdbcRepository.deleteByBookId(bookId);
+
+        // Then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM page_content WHERE book_id = ?", Long.class, bookId)).isZero();
+    }
+
+    @Test
+    @DisplayName("압축 저장 시 content는 비우고 압축 데이터로 저장하며 조회 시 원문으로 복원")
+    void insertCompressedPagesTest() {
+        // Given
+        PageContentJdbcRepository compressing = new PageContentJdbcRepository(jdbcTemplate, true);
+        List<String> pages = List.of("It was the best of times,", "it was the worst of times,", "한글 페이지");
+
+        // When
+        compressing.insertPages(bookId, pages.iterator(), 2);
+
+        // Then
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT content FROM page_content WHERE book_id = ?", String.class, bookId)).containsOnly("");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM page_dictionary WHERE book_id = ?", Long.class, bookId)).isEqualTo(1L);
+        assertThat(compressing.findContents(bookId, 1, 3).values()).containsExactlyElementsOf(pages);
+        // 사전 캐시가 없는 다른 인스턴스도 page_dictionary에서 사전을 읽어 복원
+        assertThat(pageContentJdbcRepository.findContent(bookId, 2)).isEqualTo("it was the worst of times,");
+    }
+
+    @Test
+    @DisplayName("압축을 켜도 압축 전에 저장된 페이지를 그대로 읽음")
+    void readUncompressedPagesWithCompressionEnabledTest() {
+        // Given
+        pageContentJdbcRepository.insertPages(bookId, List.of("p1", "p2").iterator());
+        PageContentJdbcRepository compressing = new PageContentJdbcRepository(jdbcTemplate, true);
+
+        // When
+        List<String> read = new ArrayList<>();
+        compressing.forEachContent(bookId, read::add);
+
+        // Then
+        assertThat(read).containsExactly("p1", "p2");
+        assertThat(compressing.findContent(bookId, 3)).isNull();
+    }
+}
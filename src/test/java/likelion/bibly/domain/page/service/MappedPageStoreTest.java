@@ -0,0 +1,74 @@
+package likelion.bibly.domain.page.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MappedPageStore 파일 저장/조회 테스트
+ */
+class MappedPageStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private MappedPageStore pageStore;
+
+    @BeforeEach
+    void setUp() {
+        pageStore = new MappedPageStore(directory.toString(), false, null);
+    }
+
+    @Test
+    @DisplayName("저장한 페이지를 번호로 조회 (멀티바이트 포함)")
+    void writeAndReadTest() {
+        // Given
+        List<String> pages = List.of("첫 페이지", "second page", "", "마지막 😀");
+
+        // When
+        int saved = pageStore.write(1L, pages.iterator());
+
+        // Then
+        assertThat(saved).isEqualTo(4);
+        assertThat(pageStore.read(1L, 1)).contains("첫 페이지");
+        assertThat(pageStore.read(1L, 2)).contains("second page");
+        assertThat(pageStore.read(1L, 3)).contains("");
+        assertThat(pageStore.read(1L, 4)).contains("마지막 😀");
+        assertThat(Files.exists(directory.resolve("1.pages"))).isTrue();
+        assertThat(Files.size(directory.resolve("1.idx"))).isEqualTo(5 * Long.BYTES);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 페이지나 없는 책은 empty")
+    void readOutOfRangeTest() {
+        // Given
+        pageStore.write(1L, List.of("only").iterator());
+
+        // When & Then
+        assertThat(pageStore.read(1L, 0)).isEmpty();
+        assertThat(pageStore.read(1L, 2)).isEmpty();
+        assertThat(pageStore.read(2L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 저장하면 새 내용으로 조회")
+    void overwriteTest() {
+        // Given
+        pageStore.write(1L, List.of("old 1", "old 2").iterator());
+        assertThat(pageStore.read(1L, 2)).contains("old 2");
+
+        // When
+        pageStore.write(1L, List.of("new 1").iterator());
+
+        // Then
+        assertThat(pageStore.read(1L, 1)).contains("new 1");
+        assertThat(pageStore.read(1L, 2)).isEmpty();
+    }
+}
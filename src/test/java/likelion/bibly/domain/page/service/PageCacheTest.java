@@ -0,0 +1,209 @@
+package likelion.bibly.domain.page.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * PageCache 단위 테스트
+ * 미리 읽기는 호출 스레드에서 바로 실행되도록 구성합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PageCacheTest {
+
+    @Mock
+    private PageContentReader pageContentReader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private PageCache newCache(DataSize maxSize, int readAhead) {
+        return new PageCache(pageContentReader, meterRegistry, maxSize, readAhead, Runnable::run);
+    }
+
+    private double count(String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환")
+    void hitAfterMissTest() {
+        // Given
+        PageCache pageCache = newCache(DataSize.ofMegabytes(1), 0);
+        given(pageContentReader.read(1L, 1)).willReturn(Optional.of("page 1"));
+
+        // When
+        Optional<String> first = pageCache.get(1L, 1);
+        Optional<String> second = pageCache.get(1L, 1);
+
+        // Then
+        assertThat(first).contains("page 1");
+        assertThat(second).contains("page 1");
+        verify(pageContentReader, times(1)).read(1L, 1);
+        assertThat(count("bibly.page.cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("bibly.page.cache.gets", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("N페이지 조회 시 N+1 ~ N+k를 한 번의 구간 조회로 미리 읽음")
+    void readAheadTest() {
+        // Given
+        PageCache pageCache = newCache(DataSize.ofMegabytes(1), 3);
+        given(pageContentReader.read(1L, 1)).willReturn(Optional.of("page 1"));
+        given(pageContentReader.readRange(1L, 2, 4)).willReturn(Map.of(2, "page 2", 3, "page 3", 4, "page 4"));
+        given(pageContentReader.readRange(1L, 5, 5)).willReturn(Map.of(5, "page 5"));
+
+        // When
+        pageCache.get(1L, 1);
+        Optional<String> second = pageCache.get(1L, 2);
+
+        // Then - 2페이지는 미리 읽은 캐시에서, 이어서 5페이지만 추가로 미리 읽음
+        assertThat(second).contains("page 2");
+        verify(pageContentReader, never()).read(1L, 2);
+        verify(pageContentReader).readRange(1L, 2, 4);
+        verify(pageContentReader).readRange(1L, 5, 5);
+        assertThat(pageCache.size()).isEqualTo(5);
+        assertThat(count("bibly.page.cache.prefetch", "loaded")).isEqualTo(4);
+        assertThat(count("bibly.page.cache.prefetch", "used")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바이트 용량을 넘으면 가장 오래 안 쓴 페이지부터 제거")
+    void evictLeastRecentlyUsedByBytesTest() {
+        // Given - 항목 하나 약 96 + 200바이트, 두 개까지만 들어감
+        PageCache pageCache = newCache(DataSize.ofBytes(700), 0);
+        given(pageContentReader.read(eq(1L), anyInt()))
+                .willAnswer(invocation -> Optional.of("x".repeat(100)));
+
+        // When
+        pageCache.get(1L, 1);
+        pageCache.get(1L, 2);
+        pageCache.get(1L, 1); // 1페이지를 최근 사용으로
+        pageCache.get(1L, 3); // 2페이지 제거
+
+        // Then
+        assertThat(pageCache.size()).isEqualTo(2);
+        assertThat(pageCache.bytes()).isLessThanOrEqualTo(700);
+        assertThat(count("bibly.page.cache.gets", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("bibly.page.cache.evictions").counter().count()).isEqualTo(1);
+
+        pageCache.get(1L, 1);
+        pageCache.get(1L, 2);
+        verify(pageContentReader, times(1)).read(1L, 1);
+        verify(pageContentReader, times(2)).read(1L, 2);
+    }
+
+    @Test
+    @DisplayName("책의 캐시 항목만 제거")
+    void evictBookTest() {
+        // Given
+        PageCache pageCache = newCache(DataSize.ofMegabytes(1), 0);
+        given(pageContentReader.read(anyLong(), eq(1))).willReturn(Optional.of("page"));
+        pageCache.get(1L, 1);
+        pageCache.get(2L, 1);
+
+        // When
+        pageCache.evictBook(1L);
+
+        // Then
+        assertThat(pageCache.size()).isEqualTo(1);
+        pageCache.get(1L, 1);
+        verify(pageContentReader, times(2)).read(1L, 1);
+    }
+
+    @Test
+    @DisplayName("evictBook 전에 시작한 미리 읽기는 이전 페이지를 캐시에 넣지 않음")
+    void staleReadAheadIsDroppedTest() {
+        // Given - 미리 읽기 작업을 모아 두었다가 나중에 실행
+        List<Runnable> prefetchTasks = new ArrayList<>();
+        PageCache pageCache = new PageCache(pageContentReader, meterRegistry, DataSize.ofMegabytes(1), 2,
+                prefetchTasks::add);
+        given(pageContentReader.read(1L, 1)).willReturn(Optional.of("old page 1"));
+        given(pageContentReader.readRange(1L, 2, 3)).willReturn(Map.of(2, "old page 2", 3, "old page 3"));
+        pageCache.get(1L, 1);
+
+        // When - 페이지가 다시 저장되어 캐시를 비운 뒤 이전 세대의 미리 읽기가 끝남
+        pageCache.evictBook(1L);
+        prefetchTasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(pageCache.size()).isZero();
+        assertThat(count("bibly.page.cache.prefetch", "loaded")).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 페이지는 캐시하지 않음")
+    void missingPageIsNotCachedTest() {
+        // Given
+        PageCache pageCache = newCache(DataSize.ofMegabytes(1), 4);
+        given(pageContentReader.read(1L, 999)).willReturn(Optional.empty());
+
+        // When
+        Optional<String> result = pageCache.get(1L, 999);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(pageCache.size()).isZero();
+        verify(pageContentReader, never()).readRange(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("콘텐츠 버전은 한 번만 조회하고, evictBook 후에는 새로 저장한 버전을 반환")
+    void contentVersionIsCachedUntilEvictedTest() {
+        // Given
+        PageCache pageCache = newCache(DataSize.ofMegabytes(1), 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        Optional<String> first = pageCache.getContentVersion(1L, () -> {
+            loads.incrementAndGet();
+            return Optional.of("v1");
+        });
+        Optional<String> second = pageCache.getContentVersion(1L, Optional::empty);
+        pageCache.evictBook(1L);
+        pageCache.putContentVersion(1L, "v2");
+        Optional<String> third = pageCache.getContentVersion(1L, Optional::empty);
+
+        // Then
+        assertThat(first).contains("v1");
+        assertThat(second).contains("v1");
+        assertThat(third).contains("v2");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 evictBook이 실행되면 이전 콘텐츠 버전은 저장하지 않음")
+    void staleContentVersionIsDroppedTest() {
+        // Given
+        PageCache pageCache = newCache(DataSize.ofMegabytes(1), 0);
+
+        // When - DB에서 이전 버전을 읽는 사이에 페이지가 다시 저장됨
+        Optional<String> loaded = pageCache.getContentVersion(1L, () -> {
+            pageCache.evictBook(1L);
+            return Optional.of("old");
+        });
+
+        // Then
+        assertThat(loaded).contains("old");
+        assertThat(pageCache.getContentVersion(1L, () -> Optional.of("new"))).contains("new");
+    }
+}
@@ -0,0 +1,173 @@
+package likelion.bibly.domain.page.service;
+
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import likelion.bibly.domain.page.service.VirtualPageService.TextRange;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import likelion.bibly.global.util.PageSplitter;
+import likelion.bibly.global.util.PaginationUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * VirtualPageService 단위 테스트
+ * page_content에는 기본 프로필로 나눈 페이지가 저장되어 있다고 가정합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class VirtualPageServiceTest {
+
+    private static final Long BOOK_ID = 1L;
+    private static final int TABLET_CHARS = 1128;
+    private static final int TABLET_BYTES = 1986;
+
+    @Mock
+    private PageContentJdbcRepository pageContentJdbcRepository;
+
+    private VirtualPageService virtualPageService;
+    private String text;
+
+    @BeforeEach
+    void setUp() {
+        virtualPageService = new VirtualPageService(pageContentJdbcRepository,
+                new String[] {"tablet:" + TABLET_CHARS + ":" + TABLET_BYTES}, DataSize.ofMegabytes(1));
+
+        text = randomText(new Random(7), 20_000);
+        List<String> defaultPages = split(text, PaginationUtil.MAX_CHAR_PER_PAGE, PaginationUtil.MAX_BYTE_PER_PAGE);
+        lenient().doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            defaultPages.forEach(consumer);
+            return null;
+        }).when(pageContentJdbcRepository).forEachContent(eq(BOOK_ID), any());
+    }
+
+    private static List<String> split(String text, int maxChars, int maxBytes) {
+        List<String> pages = new ArrayList<>();
+        new PageSplitter(text, maxChars, maxBytes).forEachRemaining(pages::add);
+        return pages;
+    }
+
+    private static String randomText(Random random, int length) {
+        String alphabet = "abcdefg hijk lmnop,.\n가나다라 마바사";
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    @DisplayName("태블릿 프로필 페이지는 원문을 태블릿 크기로 분할한 페이지와 같음")
+    void tabletPagesMatchSplitterTest() {
+        // Given
+        List<String> expected = split(text, TABLET_CHARS, TABLET_BYTES);
+
+        // When
+        int pageCount = virtualPageService.getPageCount(BOOK_ID, "tablet");
+        List<String> pages = new ArrayList<>();
+        for (int pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+            pages.add(virtualPageService.getPage(BOOK_ID, "tablet", pageNumber).orElseThrow());
+        }
+
+        // Then
+        assertThat(pages).isEqualTo(expected);
+        assertThat(virtualPageService.getPage(BOOK_ID, "tablet", pageCount + 1)).isEmpty();
+        // 원문은 한 번만 복원
+        verify(pageContentJdbcRepository, times(1)).forEachContent(eq(BOOK_ID), any());
+    }
+
+    @Test
+    @DisplayName("기본 프로필 하이라이트 위치를 태블릿 위치로 변환하면 같은 글자를 가리키고 되돌리면 원래 위치")
+    void translateHighlightBetweenProfilesTest() {
+        // Given - 기본 프로필 5페이지의 10 ~ 40
+        String highlighted = virtualPageService.getPage(BOOK_ID, "default", 5).orElseThrow().substring(10, 40);
+
+        // When
+        TextRange tablet = virtualPageService.translate(BOOK_ID, "default", 5, 10, 40, "tablet");
+        TextRange back = virtualPageService.translate(BOOK_ID, "tablet", tablet.pageNumber(),
+                tablet.startOffset(), tablet.endOffset(), "default");
+
+        // Then
+        String tabletPage = virtualPageService.getPage(BOOK_ID, "tablet", tablet.pageNumber()).orElseThrow();
+        assertThat(tabletPage.substring(tablet.startOffset(), tablet.endOffset())).isEqualTo(highlighted);
+        assertThat(back).isEqualTo(new TextRange(5, 10, 40));
+    }
+
+    @Test
+    @DisplayName("페이지 경계를 넘는 구간은 시작 페이지 기준으로 끝 위치가 페이지 길이를 넘음")
+    void translateRangeAcrossPagesTest() {
+        // Given - 태블릿 1페이지 전체 (기본 프로필 2페이지 이상에 걸침)
+        int tabletPageLength = virtualPageService.getPage(BOOK_ID, "tablet", 1).orElseThrow().length();
+
+        // When
+        TextRange range = virtualPageService.translate(BOOK_ID, "tablet", 1, 0, tabletPageLength, "default");
+
+        // Then
+        int defaultPageLength = virtualPageService.getPage(BOOK_ID, "default", 1).orElseThrow().length();
+        assertThat(range.pageNumber()).isEqualTo(1);
+        assertThat(range.startOffset()).isZero();
+        assertThat(range.endOffset()).isEqualTo(tabletPageLength).isGreaterThan(defaultPageLength);
+    }
+
+    @Test
+    @DisplayName("책이 다시 분할되면 복원한 원문을 버리고 다시 읽음")
+    void evictBookTest() {
+        // Given
+        virtualPageService.getPage(BOOK_ID, "tablet", 1);
+
+        // When
+        virtualPageService.evictBook(BOOK_ID);
+        virtualPageService.getPage(BOOK_ID, "tablet", 1);
+
+        // Then
+        verify(pageContentJdbcRepository, times(2)).forEachContent(eq(BOOK_ID), any());
+    }
+
+    @Test
+    @DisplayName("원문을 읽는 중에 책이 다시 분할되면 읽은 이전 원문은 캐시에 넣지 않음")
+    void staleTextIsNotCachedTest() {
+        // Given - 이전 원문을 읽는 사이에 재분할이 커밋되어 evictBook이 먼저 실행됨
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            consumer.accept("old text");
+            virtualPageService.evictBook(BOOK_ID);
+            return null;
+        }).willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            consumer.accept("new text");
+            return null;
+        }).given(pageContentJdbcRepository).forEachContent(eq(BOOK_ID), any());
+
+        // When
+        String stale = virtualPageService.getPage(BOOK_ID, "tablet", 1).orElseThrow();
+        String fresh = virtualPageService.getPage(BOOK_ID, "tablet", 1).orElseThrow();
+
+        // Then
+        assertThat(stale).isEqualTo("old text");
+        assertThat(fresh).isEqualTo("new text");
+        assertThat(virtualPageService.bytes()).isPositive();
+        verify(pageContentJdbcRepository, times(2)).forEachContent(eq(BOOK_ID), any());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 프로필은 예외")
+    void unknownProfileTest() {
+        // When & Then
+        assertThatThrownBy(() -> virtualPageService.getPage(BOOK_ID, "phone", 1))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PAGE_PROFILE);
+    }
+}
@@ -0,0 +1,117 @@
+package likelion.bibly.domain.search.service;
+
+import likelion.bibly.domain.book.dto.BookContentVersion;
+import likelion.bibly.domain.book.repository.BookRepository;
+import likelion.bibly.domain.page.repository.PageContentJdbcRepository;
+import likelion.bibly.global.util.InvertedIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * SearchIndexStore 사이드카 파일 저장/검증 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchIndexStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private PageContentJdbcRepository pageContentJdbcRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private SearchIndexStore newStore() {
+        return new SearchIndexStore(directory.toString(), true, pageContentJdbcRepository, bookRepository);
+    }
+
+    private static InvertedIndex index(String... pages) {
+        InvertedIndex.Builder builder = InvertedIndex.builder();
+        for (String page : pages) {
+            builder.addPage(page);
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("콘텐츠 해시와 페이지 수가 같으면 사이드카 파일을 그대로 읽음")
+    void loadMatchingSidecarTest() {
+        // Given
+        newStore().put(1L, "hash-a", index("first page", "second page"));
+        given(pageContentJdbcRepository.findBookIds()).willReturn(List.of(1L));
+        given(bookRepository.findContentVersions()).willReturn(List.of(new BookContentVersion(1L, "hash-a", 2)));
+        SearchIndexStore store = newStore();
+
+        // When
+        store.loadOnStartup();
+
+        // Then
+        assertThat(store.get(1L)).get().extracting(InvertedIndex::pageCount).isEqualTo(2);
+        verify(pageContentJdbcRepository, never()).forEachContent(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("책의 콘텐츠 해시와 다른 사이드카 파일은 page_content로 다시 만듦")
+    void rebuildStaleSidecarTest() {
+        // Given - 파일은 이전 원문(hash-a)으로 만들어졌고 DB에는 새 원문(hash-b)이 반영됨
+        newStore().put(1L, "hash-a", index("old page"));
+        given(pageContentJdbcRepository.findBookIds()).willReturn(List.of(1L));
+        given(bookRepository.findContentVersions()).willReturn(List.of(new BookContentVersion(1L, "hash-b", 3)));
+        given(bookRepository.findContentHashByBookId(1L)).willReturn(Optional.of("hash-b"));
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            List.of("new page 1", "new page 2", "new page 3").forEach(consumer);
+            return null;
+        }).given(pageContentJdbcRepository).forEachContent(eq(1L), any());
+        SearchIndexStore store = newStore();
+
+        // When
+        store.loadOnStartup();
+
+        // Then
+        assertThat(store.get(1L)).get().extracting(InvertedIndex::pageCount).isEqualTo(3);
+
+        // 다시 만든 파일은 새 해시로 저장되어 다음 시작 때 그대로 읽힘
+        SearchIndexStore restarted = newStore();
+        restarted.loadOnStartup();
+        assertThat(restarted.get(1L)).get().extracting(InvertedIndex::pageCount).isEqualTo(3);
+        verify(pageContentJdbcRepository, times(1)).forEachContent(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("머리말이 없는 이전 형식 파일은 다시 만듦")
+    void rebuildLegacySidecarTest() throws Exception {
+        // Given
+        Files.write(directory.resolve("1.sidx"), new byte[]{0x42, 0x53, 0x49, 0x58, 0, 0, 0, 1});
+        given(pageContentJdbcRepository.findBookIds()).willReturn(List.of(1L));
+        given(bookRepository.findContentVersions()).willReturn(List.of(new BookContentVersion(1L, null, 1)));
+        given(bookRepository.findContentHashByBookId(1L)).willReturn(Optional.empty());
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            consumer.accept("only page");
+            return null;
+        }).given(pageContentJdbcRepository).forEachContent(eq(1L), any());
+        SearchIndexStore store = newStore();
+
+        // When
+        store.loadOnStartup();
+
+        // Then
+        assertThat(store.get(1L)).get().extracting(InvertedIndex::pageCount).isEqualTo(1);
+    }
+}
@@ -0,0 +1,125 @@
+package likelion.bibly.domain.search.service;
+
+import likelion.bibly.domain.book.entity.Book;
+import likelion.bibly.domain.book.repository.BookRepository;
+import likelion.bibly.domain.search.dto.response.BookSearchResponse;
+import likelion.bibly.domain.search.dto.response.CatalogSearchResponse;
+import likelion.bibly.domain.search.dto.response.PageMatchResponse;
+import likelion.bibly.global.exception.BusinessException;
+import likelion.bibly.global.exception.ErrorCode;
+import likelion.bibly.global.util.InvertedIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * SearchService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Mock
+    private SearchIndexStore searchIndexStore;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private static InvertedIndex index(String... pages) {
+        InvertedIndex.Builder builder = InvertedIndex.builder();
+        for (String page : pages) {
+            builder.addPage(page);
+        }
+        return builder.build();
+    }
+
+    private static Book book(Long bookId, String title) {
+        Book book = Book.builder()
+                .title(title)
+                .author("테스트 저자")
+                .build();
+        ReflectionTestUtils.setField(book, "bookId", bookId);
+        return book;
+    }
+
+    @Test
+    @DisplayName("책 본문 검색 성공 테스트")
+    void searchBookSuccessTest() {
+        // Given
+        Long bookId = 1L;
+        given(bookRepository.existsById(bookId)).willReturn(true);
+        given(searchIndexStore.get(bookId)).willReturn(Optional.of(
+                index("Elizabeth read the letter.", "No letter came.", "Elizabeth smiled at the letter.")));
+
+        // When
+        BookSearchResponse response = searchService.searchBook(bookId, "Elizabeth LETTER", 20);
+
+        // Then
+        assertThat(response.matchedPageCount()).isEqualTo(2);
+        assertThat(response.pages()).extracting(PageMatchResponse::pageNumber).containsExactly(1, 3);
+        assertThat(response.pages().get(0).matches()).containsExactly(
+                new PageMatchResponse.MatchRange(0, 9), new PageMatchResponse.MatchRange(19, 25));
+    }
+
+    @Test
+    @DisplayName("아직 색인이 없는 책은 빈 결과")
+    void searchBookWithoutIndexTest() {
+        // Given
+        given(bookRepository.existsById(1L)).willReturn(true);
+        given(searchIndexStore.get(1L)).willReturn(Optional.empty());
+
+        // When
+        BookSearchResponse response = searchService.searchBook(1L, "letter", 20);
+
+        // Then
+        assertThat(response.matchedPageCount()).isZero();
+        assertThat(response.pages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어에 단어가 없으면 예외")
+    void searchBookFailEmptyQueryTest() {
+        // When & Then
+        assertThatThrownBy(() -> searchService.searchBook(1L, " ?! ", 20))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SEARCH_QUERY);
+        verifyNoInteractions(searchIndexStore);
+    }
+
+    @Test
+    @DisplayName("전체 검색은 일치하는 페이지가 많은 책 순으로 책 정보와 함께 반환")
+    void searchCatalogTest() {
+        // Given
+        given(searchIndexStore.getAll()).willReturn(Map.of(
+                1L, index("a letter", "nothing"),
+                2L, index("letter one", "letter two", "letter three", "letter four"),
+                3L, index("no match here")));
+        given(bookRepository.findAllById(List.of(2L, 1L)))
+                .willReturn(List.of(book(1L, "첫 번째 책"), book(2L, "두 번째 책")));
+
+        // When
+        List<CatalogSearchResponse> response = searchService.searchCatalog("letter", 20);
+
+        // Then
+        assertThat(response).extracting(CatalogSearchResponse::bookId).containsExactly(2L, 1L);
+        assertThat(response).extracting(CatalogSearchResponse::matchedPageCount).containsExactly(4, 1);
+        assertThat(response.get(0).title()).isEqualTo("두 번째 책");
+        // 책마다 앞쪽 일치 페이지 몇 개만
+        assertThat(response.get(0).pages()).hasSize(SearchService.PAGES_PER_BOOK);
+        verify(bookRepository, never()).existsById(any());
+    }
+}
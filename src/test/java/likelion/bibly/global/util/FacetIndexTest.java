@@ -0,0 +1,80 @@
+package likelion.bibly.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FacetIndex 단위 테스트
+ */
+class FacetIndexTest {
+
+    private record Entry(String title, List<String> genres) {
+    }
+
+    // 순위 순
+    private static final List<Entry> ENTRIES = List.of(
+            new Entry("Frankenstein", List.of("Gothic Fiction", "Science Fiction")),
+            new Entry("Dracula", List.of("Gothic Fiction", "Horror")),
+            new Entry("The Time Machine", List.of("science  fiction")),
+            new Entry("Emma", List.of()),
+            new Entry("Carmilla", List.of("Horror", "Gothic Fiction")));
+
+    private static final FacetIndex<Entry> INDEX = FacetIndex.build(ENTRIES, Entry::genres);
+
+    private static List<String> titles(BitSet selection) {
+        return INDEX.items(selection, 0, 10).stream().map(Entry::title).toList();
+    }
+
+    @Test
+    @DisplayName("AND는 모든 값을 가진 항목, OR는 하나라도 가진 항목을 순위 순으로 반환")
+    void filterTest() {
+        assertThat(titles(INDEX.filter(List.of("Gothic Fiction", "Horror"), true)))
+                .containsExactly("Dracula", "Carmilla");
+        assertThat(titles(INDEX.filter(List.of("Science Fiction", "Horror"), false)))
+                .containsExactly("Frankenstein", "Dracula", "The Time Machine", "Carmilla");
+        assertThat(titles(INDEX.filter(List.of(), true))).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("대소문자/공백만 다른 값은 같은 값이며 표시 이름은 처음 나온 형태")
+    void normalizeTest() {
+        assertThat(titles(INDEX.filter(List.of("SCIENCE FICTION"), true)))
+                .containsExactly("Frankenstein", "The Time Machine");
+        assertThat(INDEX.counts(INDEX.filter(List.of(), true)))
+                .extracting(FacetIndex.FacetCount::name)
+                .containsExactly("Gothic Fiction", "Horror", "Science Fiction");
+    }
+
+    @Test
+    @DisplayName("없는 값은 AND면 결과 없음, OR면 무시")
+    void unknownFacetTest() {
+        assertThat(INDEX.filter(List.of("Horror", "Poetry"), true).isEmpty()).isTrue();
+        assertThat(titles(INDEX.filter(List.of("Horror", "Poetry"), false)))
+                .containsExactly("Dracula", "Carmilla");
+    }
+
+    @Test
+    @DisplayName("선택 안의 값별 개수를 많은 순으로 반환하고 0인 값은 제외")
+    void countsTest() {
+        List<FacetIndex.FacetCount> counts = INDEX.counts(INDEX.filter(List.of("Horror"), true));
+
+        assertThat(counts).containsExactly(
+                new FacetIndex.FacetCount("Gothic Fiction", 2),
+                new FacetIndex.FacetCount("Horror", 2));
+    }
+
+    @Test
+    @DisplayName("offset/limit로 선택 항목을 나누어 꺼냄")
+    void pagingTest() {
+        BitSet all = INDEX.filter(List.of(), true);
+
+        assertThat(INDEX.items(all, 1, 2)).extracting(Entry::title).containsExactly("Dracula", "The Time Machine");
+        assertThat(INDEX.items(all, 4, 2)).extracting(Entry::title).containsExactly("Carmilla");
+        assertThat(INDEX.items(all, 10, 2)).isEmpty();
+    }
+}
@@ -0,0 +1,150 @@
+package likelion.bibly.global.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HttpDiskCache 단위 테스트
+ * 로컬 HTTP 서버로 조건부 재검증, 오프라인 모드, 같은 본문 공유 저장을 검증합니다.
+ */
+class HttpDiskCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private HttpServer server;
+    private String baseUrl;
+
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private final List<String> receivedIfNoneMatch = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        server.createContext("/", this::serve);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    // 경로와 상관없이 같은 본문, If-None-Match가 맞으면 304
+    private void serve(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            receivedIfNoneMatch.add(ifNoneMatch);
+        }
+
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        if (ETAG.equals(ifNoneMatch)) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        fullResponses.incrementAndGet();
+        byte[] bytes = "Text of book".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private RestTemplate newRestTemplate(boolean offline) {
+        RestTemplate restTemplate = new RestTemplate(new JdkClientHttpRequestFactory());
+        restTemplate.getInterceptors().add(new HttpDiskCache(cacheDirectory, offline));
+        return restTemplate;
+    }
+
+    private long countBlobs() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDirectory.resolve("blobs"))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 URL은 ETag로 재검증하고 304면 디스크의 본문을 돌려줌")
+    void revalidateWithEtagTest() {
+        // Given
+        RestTemplate restTemplate = newRestTemplate(false);
+        String first = restTemplate.getForObject(baseUrl + "/files/1.txt", String.class);
+
+        // When
+        String second = restTemplate.getForObject(baseUrl + "/files/1.txt", String.class);
+
+        // Then
+        assertThat(first).isEqualTo("Text of book");
+        assertThat(second).isEqualTo("Text of book");
+        assertThat(fullResponses).hasValue(1);
+        assertThat(notModifiedResponses).hasValue(1);
+        assertThat(receivedIfNoneMatch).containsExactly(ETAG);
+    }
+
+    @Test
+    @DisplayName("오프라인 모드에서는 서버 없이 캐시된 본문을 돌려줌")
+    void offlineServesFromCacheTest() {
+        // Given
+        newRestTemplate(false).getForObject(baseUrl + "/files/1.txt", String.class);
+        server.stop(0);
+
+        // When
+        String body = newRestTemplate(true).getForObject(baseUrl + "/files/1.txt", String.class);
+
+        // Then
+        assertThat(body).isEqualTo("Text of book");
+        assertThat(fullResponses).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("오프라인 모드에서 캐시에 없는 요청은 예외")
+    void offlineCacheMissTest() {
+        // When & Then
+        assertThatThrownBy(() -> newRestTemplate(true).getForObject(baseUrl + "/files/2.txt", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(fullResponses).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("본문이 같은 URL들은 디스크에 한 번만 저장")
+    void sameBodySharesBlobTest() throws IOException {
+        // Given
+        RestTemplate restTemplate = newRestTemplate(false);
+
+        // When
+        restTemplate.getForObject(baseUrl + "/files/1.txt", String.class);
+        restTemplate.getForObject(baseUrl + "/files/2.txt", String.class);
+
+        // Then
+        assertThat(fullResponses).hasValue(2);
+        assertThat(countBlobs()).isEqualTo(1);
+    }
+}
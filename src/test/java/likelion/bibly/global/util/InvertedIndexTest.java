@@ -0,0 +1,129 @@
+package likelion.bibly.global.util;
+
+import likelion.bibly.global.util.InvertedIndex.Match;
+import likelion.bibly.global.util.InvertedIndex.PageMatch;
+import likelion.bibly.global.util.InvertedIndex.SearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * InvertedIndex 단위 테스트
+ */
+class InvertedIndexTest {
+
+    private static final List<String> PAGES = List.of(
+            "It is a truth universally acknowledged, that a single man",
+            "in possession of a good fortune, must be in want of a wife. The tru",
+            "th is 사랑은 모든 것을 견딥니다. Truth!");
+
+    private static InvertedIndex build(List<String> pages) {
+        InvertedIndex.Builder builder = InvertedIndex.builder();
+        pages.forEach(builder::addPage);
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("단어가 나오는 페이지와 페이지 내 위치를 대소문자 구분 없이 검색")
+    void searchSingleTermTest() {
+        // Given
+        InvertedIndex index = build(PAGES);
+
+        // When
+        SearchResult result = index.search(InvertedIndex.tokenize("A"), 10);
+
+        // Then
+        assertThat(result.matchedPageCount()).isEqualTo(2);
+        assertThat(result.pages()).containsExactly(
+                new PageMatch(1, List.of(new Match(6, 7), new Match(45, 46))),
+                new PageMatch(2, List.of(new Match(17, 18), new Match(52, 53))));
+    }
+
+    @Test
+    @DisplayName("여러 단어는 모든 단어가 나오는 페이지만 반환")
+    void searchAllTermsTest() {
+        // When
+        SearchResult result = build(PAGES).search(InvertedIndex.tokenize("사랑은 truth"), 10);
+
+        // Then
+        assertThat(result.matchedPageCount()).isEqualTo(1);
+        PageMatch page = result.pages().get(0);
+        assertThat(page.pageNumber()).isEqualTo(3);
+        assertThat(PAGES.get(2).substring(page.matches().get(0).startOffset(), page.matches().get(0).endOffset()))
+                .isEqualTo("사랑은");
+        assertThat(PAGES.get(2).substring(page.matches().get(1).startOffset(), page.matches().get(1).endOffset()))
+                .isEqualTo("Truth");
+    }
+
+    @Test
+    @DisplayName("페이지 경계에 걸친 단어는 시작한 페이지에 속하고 끝 위치가 페이지 길이를 넘음")
+    void termAcrossPagesTest() {
+        // When - 2페이지 끝 "tru" + 3페이지 시작 "th"
+        SearchResult result = build(PAGES).search(List.of("truth"), 10);
+
+        // Then
+        assertThat(result.pages()).extracting(PageMatch::pageNumber).containsExactly(1, 2, 3);
+        Match acrossPages = result.pages().get(1).matches().get(0);
+        assertThat(acrossPages.startOffset()).isEqualTo(PAGES.get(1).length() - 3);
+        assertThat(acrossPages.endOffset()).isEqualTo(PAGES.get(1).length() + 2);
+    }
+
+    @Test
+    @DisplayName("maxPages만큼만 위치를 반환하고 전체 일치 페이지 수는 그대로")
+    void searchLimitTest() {
+        // When
+        SearchResult result = build(PAGES).search(List.of("truth"), 1);
+
+        // Then
+        assertThat(result.matchedPageCount()).isEqualTo(3);
+        assertThat(result.pages()).extracting(PageMatch::pageNumber).containsExactly(1);
+        assertThat(build(PAGES).search(List.of("없는단어"), 10).matchedPageCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("사이드카 파일 형식으로 저장한 색인을 읽으면 같은 결과")
+    void writeAndReadTest() throws IOException {
+        // Given
+        InvertedIndex index = build(PAGES);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        // When
+        InvertedIndex loaded = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertThat(loaded.pageCount()).isEqualTo(3);
+        assertThat(loaded.termCount()).isEqualTo(index.termCount());
+        for (String query : List.of("a", "truth", "사랑은 것을", "wife fortune")) {
+            List<String> terms = InvertedIndex.tokenize(query);
+            assertThat(loaded.search(terms, 10)).isEqualTo(index.search(terms, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일은 예외")
+    void readInvalidFileTest() {
+        // Given
+        byte[] invalid = {0, 1, 2, 3, 4, 5, 6, 7};
+
+        // When & Then
+        assertThatThrownBy(() -> InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(invalid))))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("검색어는 색인과 같은 규칙으로 나누고 중복 제거")
+    void tokenizeTest() {
+        assertThat(InvertedIndex.tokenize("  Don't, don't STOP 2024! ")).containsExactly("don", "t", "stop", "2024");
+        assertThat(InvertedIndex.tokenize(" ,.! ")).isEmpty();
+        assertThat(InvertedIndex.tokenize("x".repeat(InvertedIndex.MAX_TERM_LENGTH + 1))).isEmpty();
+    }
+}
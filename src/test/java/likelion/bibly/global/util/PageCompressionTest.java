@@ -0,0 +1,81 @@
+package likelion.bibly.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PageCompression 단위 테스트
+ */
+class PageCompressionTest {
+
+    private static final List<String> PAGES = List.of(
+            "It is a truth universally acknowledged, that a single man in possession of a good fortune, "
+                    + "must be in want of a wife.",
+            "However little known the feelings or views of such a man may be on his first entering a neighbourhood, "
+                    + "this truth is so well fixed in the minds of the surrounding families.",
+            "한글과 이모지 😀 가 섞인 페이지도 그대로 복원되어야 합니다.");
+
+    @Test
+    @DisplayName("책 사전으로 압축한 페이지를 같은 사전으로 복원")
+    void roundTripWithDictionaryTest() {
+        // Given
+        byte[] dictionary = PageCompression.buildDictionary(PAGES, 1024);
+
+        // When & Then
+        for (String page : PAGES) {
+            byte[] compressed = PageCompression.compress(page, dictionary);
+            assertThat(compressed[0]).isEqualTo(PageCompression.FORMAT_DEFLATE_DICTIONARY);
+            assertThat(PageCompression.requiredDictionaryId(compressed))
+                    .isEqualTo(PageCompression.dictionaryId(dictionary));
+            assertThat(PageCompression.decompress(compressed, dictionary)).isEqualTo(page);
+        }
+    }
+
+    @Test
+    @DisplayName("사전에 있는 문장은 사전 없이 압축할 때보다 작게 저장")
+    void dictionaryShrinksPageTest() {
+        // Given
+        byte[] dictionary = PageCompression.buildDictionary(PAGES, 1024);
+
+        // When
+        byte[] withDictionary = PageCompression.compress(PAGES.get(1), dictionary);
+        byte[] withoutDictionary = PageCompression.compress(PAGES.get(1), new byte[0]);
+
+        // Then
+        assertThat(withDictionary.length).isLessThan(withoutDictionary.length);
+        assertThat(PageCompression.requiredDictionaryId(withoutDictionary)).isEqualTo(-1);
+        assertThat(PageCompression.decompress(withoutDictionary, new byte[0])).isEqualTo(PAGES.get(1));
+    }
+
+    @Test
+    @DisplayName("사전 크기는 최대 크기를 넘지 않음")
+    void dictionarySizeLimitTest() {
+        // When
+        byte[] dictionary = PageCompression.buildDictionary(PAGES, 100);
+
+        // Then
+        assertThat(dictionary).hasSize(100);
+        assertThat(PageCompression.buildDictionary(List.of(), 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 사전이나 알 수 없는 형식 버전이면 예외")
+    void rejectWrongDictionaryOrFormatTest() {
+        // Given
+        byte[] compressed = PageCompression.compress(PAGES.get(0), PageCompression.buildDictionary(PAGES, 1024));
+        byte[] otherDictionary = "another book".getBytes(StandardCharsets.UTF_8);
+        byte[] unknownFormat = compressed.clone();
+        unknownFormat[0] = 99;
+
+        // When & Then
+        assertThatThrownBy(() -> PageCompression.decompress(compressed, otherDictionary))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCompression.decompress(unknownFormat, otherDictionary))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
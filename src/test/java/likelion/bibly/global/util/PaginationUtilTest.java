@@ -0,0 +1,210 @@
+package likelion.bibly.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PaginationUtil / PageSplitter 단위 테스트
+ * 기존 substring 기반 분할 로직과 결과가 같은지 검증합니다.
+ */
+class PaginationUtilTest {
+
+    @Test
+    @DisplayName("영문 원문 분할 결과가 기존 로직과 동일")
+    void asciiTextMatchesLegacySplitterTest() {
+        // Given
+        String text = randomText(new Random(1), 50_000, "abcdefghij klmnop,.\n\r\"'");
+
+        // When & Then
+        assertThat(PaginationUtil.splitTextByDualLimit(text)).isEqualTo(legacySplit(text));
+    }
+
+    @Test
+    @DisplayName("한글/영문 혼합 원문 분할 결과가 기존 로직과 동일")
+    void mixedTextMatchesLegacySplitterTest() {
+        // Given
+        String text = randomText(new Random(2), 50_000, "가나다라마바사 abc.\néü—“”");
+
+        // When & Then
+        assertThat(PaginationUtil.splitTextByDualLimit(text)).isEqualTo(legacySplit(text));
+    }
+
+    @Test
+    @DisplayName("모든 페이지가 564자 / 993바이트 제한을 지킴")
+    void everyPageRespectsDualLimitTest() {
+        // Given
+        String text = randomText(new Random(3), 30_000, "가a😀b\n");
+
+        // When
+        List<String> pages = PaginationUtil.splitTextByDualLimit(text);
+
+        // Then
+        assertThat(String.join("", pages)).isEqualTo(text);
+        for (String page : pages) {
+            assertThat(page.length()).isLessThanOrEqualTo(PaginationUtil.MAX_CHAR_PER_PAGE);
+            assertThat(page.getBytes(StandardCharsets.UTF_8).length)
+                    .isLessThanOrEqualTo(PaginationUtil.MAX_BYTE_PER_PAGE);
+        }
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍은 페이지 경계에서 쪼개지지 않음")
+    void surrogatePairIsNeverSplitTest() {
+        // Given - 563자 뒤에 이모지(2 char)가 오면 564자 제한을 넘으므로 통째로 다음 페이지로
+        String text = "a".repeat(563) + "😀" + "b";
+
+        // When
+        List<String> pages = PaginationUtil.splitTextByDualLimit(text);
+
+        // Then
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0)).isEqualTo("a".repeat(563));
+        assertThat(pages.get(1)).isEqualTo("😀b");
+    }
+
+    @Test
+    @DisplayName("Iterator는 호출할 때마다 한 페이지씩 생성")
+    void iteratePagesLazilyTest() {
+        // Given
+        String text = "가".repeat(700);
+
+        // When
+        Iterator<String> pages = PaginationUtil.iteratePages(text);
+
+        // Then
+        assertThat(pages.next()).hasSize(331);
+        assertThat(pages.next()).hasSize(331);
+        assertThat(pages.next()).hasSize(38);
+        assertThat(pages.hasNext()).isFalse();
+        assertThatThrownBy(pages::next).isInstanceOf(java.util.NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("빈 원문은 페이지가 없음")
+    void emptyTextTest() {
+        assertThat(PaginationUtil.splitTextByDualLimit("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("콘텐츠 해시는 같은 원문이면 같고 원문이 바뀌면 달라짐")
+    void contentHashTest() {
+        // When
+        String hash = PaginationUtil.contentHash("가나다 abc");
+
+        // Then
+        assertThat(hash).hasSize(64).matches("[0-9a-f]+");
+        assertThat(PaginationUtil.contentHash("가나다 abc")).isEqualTo(hash);
+        assertThat(PaginationUtil.contentHash("가나다 abd")).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("Reader 분할은 조각 크기와 관계없이 원문 전체 분할과 같은 페이지를 만듦")
+    void readerSplitterMatchesStringSplitterTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            // Given: 한글/영문/이모지(서로게이트 쌍) 혼합, 조각 경계가 임의 위치에 오도록 1~700자씩 읽는 Reader
+            String text = randomText(random, random.nextInt(20_000), "가나다 abc😀\n");
+            Reader reader = new ChunkedReader(text, random);
+
+            // When
+            List<String> pages = new ArrayList<>();
+            PaginationUtil.iteratePages(reader).forEachRemaining(pages::add);
+
+            // Then
+            assertThat(pages).isEqualTo(PaginationUtil.splitTextByDualLimit(text));
+        }
+    }
+
+    @Test
+    @DisplayName("페이지를 순서대로 해시하면 원문 전체의 콘텐츠 해시와 같음")
+    void contentHashFromPagesTest() {
+        // Given
+        String text = randomText(new Random(7), 5_000, "가a😀 ");
+        MessageDigest digest = PaginationUtil.newContentDigest();
+
+        // When
+        PaginationUtil.iteratePages(new StringReader(text))
+                .forEachRemaining(page -> digest.update(page.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(PaginationUtil.formatContentHash(digest)).isEqualTo(PaginationUtil.contentHash(text));
+    }
+
+    private static String randomText(Random random, int length, String alphabet) {
+        int[] codePoints = alphabet.codePoints().toArray();
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 기존 PaginationUtil.splitTextByDualLimit 구현 (비교 기준)
+     */
+    private static List<String> legacySplit(String originalText) {
+        List<String> pages = new ArrayList<>();
+        int startIndex = 0;
+
+        while (startIndex < originalText.length()) {
+            int pageEndIndex = startIndex;
+
+            for (int i = startIndex; i < originalText.length(); i++) {
+                if (i - startIndex + 1 > PaginationUtil.MAX_CHAR_PER_PAGE) {
+                    break;
+                }
+                String sub = originalText.substring(startIndex, i + 1);
+                if (sub.getBytes(StandardCharsets.UTF_8).length <= PaginationUtil.MAX_BYTE_PER_PAGE) {
+                    pageEndIndex = i + 1;
+                } else {
+                    break;
+                }
+            }
+
+            pages.add(originalText.substring(startIndex, pageEndIndex));
+            startIndex = pageEndIndex;
+        }
+
+        return pages;
+    }
+
+    /**
+     * 한 번에 임의 길이(1~700자)만 돌려주는 Reader (네트워크 스트림 흉내)
+     */
+    private static class ChunkedReader extends Reader {
+        private final String text;
+        private final Random random;
+        private int position;
+
+        ChunkedReader(String text, Random random) {
+            this.text = text;
+            this.random = random;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position >= text.length()) {
+                return -1;
+            }
+            int count = Math.min(Math.min(length, 1 + random.nextInt(700)), text.length() - position);
+            text.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package likelion.bibly.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PrefixIndex 단위 테스트
+ */
+class PrefixIndexTest {
+
+    private record Entry(String title, String author) {
+    }
+
+    // 순위 순
+    private static final List<Entry> ENTRIES = List.of(
+            new Entry("Pride and Prejudice", "Austen, Jane"),
+            new Entry("Jane Eyre: An Autobiography", "Brontë, Charlotte"),
+            new Entry("Wuthering Heights", "Brontë, Emily"),
+            new Entry("어린 왕자", "생텍쥐페리"),
+            new Entry("Emma", "Austen, Jane"));
+
+    private static final PrefixIndex<Entry> INDEX =
+            PrefixIndex.build(ENTRIES, entry -> Arrays.asList(entry.title(), entry.author()));
+
+    private static List<String> titles(List<Entry> entries) {
+        return entries.stream().map(Entry::title).toList();
+    }
+
+    @Test
+    @DisplayName("제목/저자의 모든 단어 시작 위치에서 대소문자 구분 없이 찾고 순위 순으로 반환")
+    void searchWordPrefixTest() {
+        assertThat(titles(INDEX.search("PREJ", 10))).containsExactly("Pride and Prejudice");
+        assertThat(titles(INDEX.search("jane", 10)))
+                .containsExactly("Pride and Prejudice", "Jane Eyre: An Autobiography", "Emma");
+        assertThat(titles(INDEX.search("austen j", 10))).containsExactly("Pride and Prejudice", "Emma");
+        assertThat(titles(INDEX.search("왕", 10))).containsExactly("어린 왕자");
+        assertThat(INDEX.search("heights w", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("악센트와 문장 부호는 무시")
+    void normalizeTest() {
+        assertThat(titles(INDEX.search("bronte ch", 10))).containsExactly("Jane Eyre: An Autobiography");
+        assertThat(titles(INDEX.search("Eyre:  an", 10))).containsExactly("Jane Eyre: An Autobiography");
+        assertThat(PrefixIndex.normalize("  Jane  Eyre: An—Autobiography! ")).isEqualTo("jane eyre an autobiography");
+        assertThat(INDEX.search(" ?! ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("짧은 접두어의 미리 계산한 결과는 구간을 훑은 결과와 같음")
+    void shortPrefixTest() {
+        // Given - 세 권에 한 권꼴로 abc가 들어간 항목 90개
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 90; i++) {
+            entries.add(new Entry("book " + i + (i % 3 == 0 ? " abc" : " xyz"), "author " + i));
+        }
+        PrefixIndex<Entry> index = PrefixIndex.build(entries, entry -> List.of(entry.title(), entry.author()));
+
+        // When
+        List<Entry> shortPrefix = index.search("ab", PrefixIndex.SHORT_PREFIX_TOP);
+        List<Entry> scanned = index.search("abc", PrefixIndex.SHORT_PREFIX_TOP);
+
+        // Then
+        assertThat(shortPrefix).hasSize(PrefixIndex.SHORT_PREFIX_TOP).isEqualTo(scanned);
+        assertThat(index.search("a", 5)).extracting(Entry::title)
+                .containsExactly("book 0 abc", "book 1 xyz", "book 2 xyz", "book 3 abc", "book 4 xyz");
+    }
+}